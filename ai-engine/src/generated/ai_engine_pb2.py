@@ -24,7 +24,7 @@ _sym_db = _symbol_database.Default()
 
 
 
-DESCRIPTOR = _descriptor_pool.Default().AddSerializedFile(b'\n\x0f\x61i_engine.proto\x12\x08\x63vibe.ai\"P\n\x12ParseResumeRequest\x12\x14\n\x0c\x66ile_content\x18\x01 \x01(\x0c\x12\x11\n\tfile_name\x18\x02 \x01(\t\x12\x11\n\tfile_type\x18\x03 \x01(\t\"a\n\x13ParseResumeResponse\x12\x0f\n\x07success\x18\x01 \x01(\x08\x12\"\n\x04\x64\x61ta\x18\x02 \x01(\x0b\x32\x14.cvibe.ai.ResumeData\x12\x15\n\rerror_message\x18\x03 \x01(\t\"\xd2\x03\n\nResumeData\x12\x0c\n\x04name\x18\x01 \x01(\t\x12\r\n\x05\x65mail\x18\x02 \x01(\t\x12\r\n\x05phone\x18\x03 \x01(\t\x12\x10\n\x08linkedin\x18\x04 \x01(\t\x12\x0e\n\x06github\x18\x05 \x01(\t\x12\x0f\n\x07website\x18\x06 \x01(\t\x12\x10\n\x08location\x18\x07 \x01(\t\x12\x10\n\x08headline\x18\x08 \x01(\t\x12\x0f\n\x07summary\x18\t \x01(\t\x12-\n\x0b\x65xperiences\x18\n \x03(\x0b\x32\x18.cvibe.ai.ExperienceData\x12+\n\neducations\x18\x0b \x03(\x0b\x32\x17.cvibe.ai.EducationData\x12\'\n\x08projects\x18\x0c \x03(\x0b\x32\x15.cvibe.ai.ProjectData\x12#\n\x06skills\x18\r \x03(\x0b\x32\x13.cvibe.ai.SkillData\x12\x33\n\x0e\x63\x65rtifications\x18\x0e \x03(\x0b\x32\x1b.cvibe.ai.CertificationData\x12\x14\n\x0c\x61\x63hievements\x18\x0f \x03(\t\x12)\n\tlanguages\x18\x10 \x03(\x0b\x32\x16.cvibe.ai.LanguageData\x12\x10\n\x08raw_text\x18\x11 \x01(\t\"\xd6\x01\n\x0e\x45xperienceData\x12\x0f\n\x07\x63ompany\x18\x01 \x01(\t\x12\r\n\x05title\x18\x02 \x01(\t\x12\x10\n\x08location\x18\x03 \x01(\t\x12\x17\n\x0f\x65mployment_type\x18\x04 \x01(\t\x12\x12\n\nstart_date\x18\x05 \x01(\t\x12\x10\n\x08\x65nd_date\x18\x06 \x01(\t\x12\x12\n\nis_current\x18\x07 \x01(\x08\x12\x13\n\x0b\x64\x65scription\x18\x08 \x01(\t\x12\x14\n\x0c\x61\x63hievements\x18\t \x03(\t\x12\x14\n\x0ctechnologies\x18\n \x03(\t\"\xbc\x01\n\rEducationData\x12\x0e\n\x06school\x18\x01 \x01(\t\x12\x0e\n\x06\x64\x65gree\x18\x02 \x01(\t\x12\r\n\x05\x66ield\x18\x03 \x01(\t\x12\x10\n\x08location\x18\x04 \x01(\t\x12\x12\n\nstart_date\x18\x05 \x01(\t\x12\x10\n\x08\x65nd_date\x18\x06 \x01(\t\x12\x0b\n\x03gpa\x18\x07 \x01(\t\x12\x13\n\x0b\x64\x65scription\x18\x08 \x01(\t\x12\x12\n\nactivities\x18\t \x03(\t\x12\x0e\n\x06honors\x18\n \x03(\t\"\x9f\x01\n\x0bProjectData\x12\x0c\n\x04name\x18\x01 \x01(\t\x12\x13\n\x0b\x64\x65scription\x18\x02 \x01(\t\x12\x0b\n\x03url\x18\x03 \x01(\t\x12\x10\n\x08repo_url\x18\x04 \x01(\t\x12\x14\n\x0ctechnologies\x18\x05 \x03(\t\x12\x12\n\nstart_date\x18\x06 \x01(\t\x12\x10\n\x08\x65nd_date\x18\x07 \x01(\t\x12\x12\n\nhighlights\x18\x08 \x03(\t\":\n\tSkillData\x12\x0c\n\x04name\x18\x01 \x01(\t\x12\r\n\x05level\x18\x02 \x01(\t\x12\x10\n\x08\x63\x61tegory\x18\x03 \x01(\t\"L\n\x11\x43\x65rtificationData\x12\x0c\n\x04name\x18\x01 \x01(\t\x12\x0e\n\x06issuer\x18\x02 \x01(\t\x12\x0c\n\x04\x64\x61te\x18\x03 \x01(\t\x12\x0b\n\x03url\x18\x04 \x01(\t\"5\n\x0cLanguageData\x12\x10\n\x08language\x18\x01 \x01(\t\x12\x13\n\x0bproficiency\x18\x02 \x01(\t\"\x8b\x01\n\x12\x42uildResumeRequest\x12\x0f\n\x07user_id\x18\x01 \x01(\t\x12\x11\n\tjob_title\x18\x02 \x01(\t\x12\x17\n\x0fjob_description\x18\x03 \x01(\t\x12&\n\x07profile\x18\x04 \x01(\x0b\x32\x15.cvibe.ai.ProfileData\x12\x10\n\x08language\x18\x05 \x01(\t\"\xa7\x01\n\x0bProfileData\x12\x0c\n\x04name\x18\x01 \x01(\t\x12\r\n\x05title\x18\x02 \x01(\t\x12\x0f\n\x07summary\x18\x03 \x01(\t\x12-\n\x0b\x65xperiences\x18\x04 \x03(\x0b\x32\x18.cvibe.ai.ExperienceData\x12+\n\neducations\x18\x05 \x03(\x0b\x32\x17.cvibe.ai.EducationData\x12\x0e\n\x06skills\x18\x06 \x03(\t\"F\n\x10\x42uildResumeChunk\x12\x0f\n\x07section\x18\x01 \x01(\t\x12\x0f\n\x07\x63ontent\x18\x02 \x01(\t\x12\x10\n\x08is_final\x18\x03 \x01(\x08\"\xab\x01\n\x15StartInterviewRequest\x12\x0f\n\x07user_id\x18\x01 \x01(\t\x12\x12\n\nsession_id\x18\x02 \x01(\t\x12\x11\n\tjob_title\x18\x03 \x01(\t\x12\x17\n\x0fjob_description\x18\x04 \x01(\t\x12\x16\n\x0eresume_content\x18\x05 \x01(\t\x12)\n\x06\x63onfig\x18\x06 \x01(\x0b\x32\x19.cvibe.ai.InterviewConfig\"L\n\x0fInterviewConfig\x12\x10\n\x08language\x18\x01 \x01(\t\x12\x12\n\ndifficulty\x18\x02 \x01(\t\x12\x13\n\x0b\x66ocus_areas\x18\x03 \x03(\t\"Z\n\x16StartInterviewResponse\x12\x0f\n\x07success\x18\x01 \x01(\x08\x12\x17\n\x0fwelcome_message\x18\x02 \x01(\t\x12\x16\n\x0e\x66irst_question\x18\x03 \x01(\t\"f\n\x12SendMessageRequest\x12\x12\n\nsession_id\x18\x01 \x01(\t\x12\x14\n\x0cuser_message\x18\x02 \x01(\t\x12&\n\x07history\x18\x03 \x03(\x0b\x32\x15.cvibe.ai.ChatMessage\",\n\x0b\x43hatMessage\x12\x0c\n\x04role\x18\x01 \x01(\t\x12\x0f\n\x07\x63ontent\x18\x02 \x01(\t\"H\n\x0cMessageChunk\x12\x0f\n\x07\x63ontent\x18\x01 \x01(\t\x12\x10\n\x08is_final\x18\x02 \x01(\x08\x12\x15\n\rnext_question\x18\x03 \x01(\t\"\x8c\x01\n\x10StartMockRequest\x12\x0f\n\x07user_id\x18\x01 \x01(\t\x12\x12\n\nsession_id\x18\x02 \x01(\t\x12\x11\n\tjob_title\x18\x03 \x01(\t\x12\x16\n\x0einterview_type\x18\x04 \x01(\t\x12\x16\n\x0equestion_count\x18\x05 \x01(\x05\x12\x10\n\x08language\x18\x06 \x01(\t\"Q\n\x11StartMockResponse\x12\x0f\n\x07success\x18\x01 \x01(\x08\x12\x12\n\nsession_id\x18\x02 \x01(\t\x12\x17\n\x0ftotal_questions\x18\x03 \x01(\x05\"@\n\x12GetQuestionRequest\x12\x12\n\nsession_id\x18\x01 \x01(\t\x12\x16\n\x0equestion_index\x18\x02 \x01(\x05\"j\n\x10QuestionResponse\x12\x16\n\x0equestion_index\x18\x01 \x01(\x05\x12\x10\n\x08question\x18\x02 \x01(\t\x12\x10\n\x08\x63\x61tegory\x18\x03 \x01(\t\x12\x1a\n\x12time_limit_seconds\x18\x04 \x01(\x05\"\x84\x01\n\x15\x45valuateAnswerRequest\x12\x12\n\nsession_id\x18\x01 \x01(\t\x12\x16\n\x0equestion_index\x18\x02 \x01(\x05\x12\x10\n\x08question\x18\x03 \x01(\t\x12\x13\n\x0b\x61nswer_text\x18\x04 \x01(\t\x12\x18\n\x10\x61nswer_audio_url\x18\x05 \x01(\t\"^\n\x12\x45valuationResponse\x12\r\n\x05score\x18\x01 \x01(\x05\x12\x10\n\x08\x66\x65\x65\x64\x62\x61\x63k\x18\x02 \x01(\t\x12\x11\n\tstrengths\x18\x03 \x03(\t\x12\x14\n\x0cimprovements\x18\x04 \x03(\t\"\'\n\x11\x46inishMockRequest\x12\x12\n\nsession_id\x18\x01 \x01(\t\"\x89\x01\n\x12MockReportResponse\x12\x15\n\roverall_score\x18\x01 \x01(\x05\x12\x18\n\x10overall_feedback\x18\x02 \x01(\t\x12)\n\x07results\x18\x03 \x03(\x0b\x32\x18.cvibe.ai.QuestionResult\x12\x17\n\x0frecommendations\x18\x04 \x03(\t\"b\n\x0eQuestionResult\x12\r\n\x05index\x18\x01 \x01(\x05\x12\x10\n\x08question\x18\x02 \x01(\t\x12\x0e\n\x06\x61nswer\x18\x03 \x01(\t\x12\r\n\x05score\x18\x04 \x01(\x05\x12\x10\n\x08\x66\x65\x65\x64\x62\x61\x63k\x18\x05 \x01(\t\"~\n\x12GapAnalysisRequest\x12\x0f\n\x07user_id\x18\x01 \x01(\t\x12\x12\n\ngoal_title\x18\x02 \x01(\t\x12\x13\n\x0btarget_date\x18\x03 \x01(\t\x12.\n\x0f\x63urrent_profile\x18\x04 \x01(\x0b\x32\x15.cvibe.ai.ProfileData\"h\n\x13GapAnalysisResponse\x12\x1f\n\x04gaps\x18\x01 \x03(\x0b\x32\x11.cvibe.ai.GapItem\x12\x17\n\x0frecommendations\x18\x02 \x03(\t\x12\x17\n\x0freadiness_score\x18\x03 \x01(\x05\"Y\n\x07GapItem\x12\r\n\x05skill\x18\x01 \x01(\t\x12\x15\n\rcurrent_level\x18\x02 \x01(\t\x12\x16\n\x0erequired_level\x18\x03 \x01(\t\x12\x10\n\x08priority\x18\x04 \x01(\x05\"q\n\x13LearningPathRequest\x12\x0f\n\x07user_id\x18\x01 \x01(\t\x12\x0f\n\x07goal_id\x18\x02 \x01(\t\x12\x1f\n\x04gaps\x18\x03 \x03(\x0b\x32\x11.cvibe.ai.GapItem\x12\x17\n\x0fpreferred_style\x18\x04 \x01(\t\"E\n\x11LearningPathChunk\x12\r\n\x05phase\x18\x01 \x01(\t\x12\x0f\n\x07\x63ontent\x18\x02 \x01(\t\x12\x10\n\x08is_final\x18\x03 \x01(\x08\"`\n\x11\x41nalyzeJobRequest\x12\x0e\n\x06job_id\x18\x01 \x01(\t\x12\x11\n\tjob_title\x18\x02 \x01(\t\x12\x17\n\x0fjob_description\x18\x03 \x01(\t\x12\x0f\n\x07\x63ompany\x18\x04 \x01(\t\"\x96\x01\n\x13JobAnalysisResponse\x12\x17\n\x0frequired_skills\x18\x01 \x03(\t\x12\x1b\n\x13nice_to_have_skills\x18\x02 \x03(\t\x12\x18\n\x10\x65xperience_level\x18\x03 \x01(\t\x12\x17\n\x0fsalary_estimate\x18\x04 \x01(\t\x12\x16\n\x0einterview_tips\x18\x05 \x03(\t\"o\n\x1cStartProfileInterviewRequest\x12\x0f\n\x07user_id\x18\x01 \x01(\t\x12\x12\n\nsession_id\x18\x02 \x01(\t\x12\x10\n\x08language\x18\x03 \x01(\t\x12\x18\n\x10\x65xisting_profile\x18\x04 \x01(\t\"s\n\x18ProfileInterviewResponse\x12\x0f\n\x07success\x18\x01 \x01(\x08\x12\x17\n\x0fwelcome_message\x18\x02 \x01(\t\x12\x16\n\x0e\x66irst_question\x18\x03 \x01(\t\x12\x15\n\rcurrent_phase\x18\x04 \x01(\t\"J\n\x1eProfileInterviewMessageRequest\x12\x12\n\nsession_id\x18\x01 \x01(\t\x12\x14\n\x0cuser_message\x18\x02 \x01(\t\"I\n\x15ProfileInterviewChunk\x12\x0f\n\x07\x63ontent\x18\x01 \x01(\t\x12\x10\n\x08is_final\x18\x02 \x01(\x08\x12\r\n\x05phase\x18\x03 \x01(\t\"5\n\x1fGetProfileInterviewStateRequest\x12\x12\n\nsession_id\x18\x01 \x01(\t\"\xbe\x01\n\x1dProfileInterviewStateResponse\x12\x0f\n\x07success\x18\x01 \x01(\x08\x12\x12\n\nsession_id\x18\x02 \x01(\t\x12\x0f\n\x07user_id\x18\x03 \x01(\t\x12\x15\n\rcurrent_phase\x18\x04 \x01(\t\x12\x12\n\nphase_name\x18\x05 \x01(\t\x12\x12\n\nturn_count\x18\x06 \x01(\x05\x12\x0e\n\x06status\x18\x07 \x01(\t\x12\x18\n\x10portrait_summary\x18\x08 \x01(\t\"3\n\x1d\x46inishProfileInterviewRequest\x12\x12\n\nsession_id\x18\x01 \x01(\t\"\x8e\x01\n\x18\x43ollectedProfileResponse\x12\x0f\n\x07success\x18\x01 \x01(\x08\x12\x14\n\x0cprofile_json\x18\x02 \x01(\t\x12\x1a\n\x12\x63ompleteness_score\x18\x03 \x01(\x05\x12\x18\n\x10missing_sections\x18\x04 \x03(\t\x12\x15\n\rerror_message\x18\x05 \x01(\t2\x98\n\n\x08\x41IEngine\x12J\n\x0bParseResume\x12\x1c.cvibe.ai.ParseResumeRequest\x1a\x1d.cvibe.ai.ParseResumeResponse\x12I\n\x0b\x42uildResume\x12\x1c.cvibe.ai.BuildResumeRequest\x1a\x1a.cvibe.ai.BuildResumeChunk0\x01\x12S\n\x0eStartInterview\x12\x1f.cvibe.ai.StartInterviewRequest\x1a .cvibe.ai.StartInterviewResponse\x12N\n\x14SendInterviewMessage\x12\x1c.cvibe.ai.SendMessageRequest\x1a\x16.cvibe.ai.MessageChunk0\x01\x12\x63\n\x15StartProfileInterview\x12&.cvibe.ai.StartProfileInterviewRequest\x1a\".cvibe.ai.ProfileInterviewResponse\x12j\n\x1bSendProfileInterviewMessage\x12(.cvibe.ai.ProfileInterviewMessageRequest\x1a\x1f.cvibe.ai.ProfileInterviewChunk0\x01\x12n\n\x18GetProfileInterviewState\x12).cvibe.ai.GetProfileInterviewStateRequest\x1a\'.cvibe.ai.ProfileInterviewStateResponse\x12\x65\n\x16\x46inishProfileInterview\x12\'.cvibe.ai.FinishProfileInterviewRequest\x1a\".cvibe.ai.CollectedProfileResponse\x12M\n\x12StartMockInterview\x12\x1a.cvibe.ai.StartMockRequest\x1a\x1b.cvibe.ai.StartMockResponse\x12K\n\x0fGetNextQuestion\x12\x1c.cvibe.ai.GetQuestionRequest\x1a\x1a.cvibe.ai.QuestionResponse\x12O\n\x0e\x45valuateAnswer\x12\x1f.cvibe.ai.EvaluateAnswerRequest\x1a\x1c.cvibe.ai.EvaluationResponse\x12P\n\x13\x46inishMockInterview\x12\x1b.cvibe.ai.FinishMockRequest\x1a\x1c.cvibe.ai.MockReportResponse\x12I\n\nAnalyzeGap\x12\x1c.cvibe.ai.GapAnalysisRequest\x1a\x1d.cvibe.ai.GapAnalysisResponse\x12T\n\x14GenerateLearningPath\x12\x1d.cvibe.ai.LearningPathRequest\x1a\x1b.cvibe.ai.LearningPathChunk0\x01\x12H\n\nAnalyzeJob\x12\x1b.cvibe.ai.AnalyzeJobRequest\x1a\x1d.cvibe.ai.JobAnalysisResponseB$\n\x11\x63om.cvibe.grpc.aiB\rAIEngineProtoP\x01\x62\x06proto3')
+DESCRIPTOR = _descriptor_pool.Default().AddSerializedFile(b'\n\x0f\x61i_engine.proto\x12\x08\x63vibe.ai\"h\n\x12ParseResumeRequest\x12\x14\n\x0c\x66ile_content\x18\x01 \x01(\x0c\x12\x11\n\tfile_name\x18\x02 \x01(\t\x12\x11\n\tfile_type\x18\x03 \x01(\t\x12\x16\n\x0e\x65xtracted_text\x18\x04 \x01(\t\"a\n\x13ParseResumeResponse\x12\x0f\n\x07success\x18\x01 \x01(\x08\x12\"\n\x04\x64\x61ta\x18\x02 \x01(\x0b\x32\x14.cvibe.ai.ResumeData\x12\x15\n\rerror_message\x18\x03 \x01(\t\"`\n\x10ParseResumeChunk\x12\x31\n\x08metadata\x18\x01 \x01(\x0b\x32\x1d.cvibe.ai.ParseResumeMetadataH\x00\x12\x0e\n\x04\x64\x61ta\x18\x02 \x01(\x0cH\x00\x42\t\n\x07payload\"N\n\x13ParseResumeMetadata\x12\x11\n\tfile_name\x18\x01 \x01(\t\x12\x11\n\tfile_type\x18\x02 \x01(\t\x12\x11\n\tfile_size\x18\x03 \x01(\x03\"\xd2\x03\n\nResumeData\x12\x0c\n\x04name\x18\x01 \x01(\t\x12\r\n\x05\x65mail\x18\x02 \x01(\t\x12\r\n\x05phone\x18\x03 \x01(\t\x12\x10\n\x08linkedin\x18\x04 \x01(\t\x12\x0e\n\x06github\x18\x05 \x01(\t\x12\x0f\n\x07website\x18\x06 \x01(\t\x12\x10\n\x08location\x18\x07 \x01(\t\x12\x10\n\x08headline\x18\x08 \x01(\t\x12\x0f\n\x07summary\x18\t \x01(\t\x12-\n\x0b\x65xperiences\x18\n \x03(\x0b\x32\x18.cvibe.ai.ExperienceData\x12+\n\neducations\x18\x0b \x03(\x0b\x32\x17.cvibe.ai.EducationData\x12\'\n\x08projects\x18\x0c \x03(\x0b\x32\x15.cvibe.ai.ProjectData\x12#\n\x06skills\x18\r \x03(\x0b\x32\x13.cvibe.ai.SkillData\x12\x33\n\x0e\x63\x65rtifications\x18\x0e \x03(\x0b\x32\x1b.cvibe.ai.CertificationData\x12\x14\n\x0c\x61\x63hievements\x18\x0f \x03(\t\x12)\n\tlanguages\x18\x10 \x03(\x0b\x32\x16.cvibe.ai.LanguageData\x12\x10\n\x08raw_text\x18\x11 \x01(\t\"\xd6\x01\n\x0e\x45xperienceData\x12\x0f\n\x07\x63ompany\x18\x01 \x01(\t\x12\r\n\x05title\x18\x02 \x01(\t\x12\x10\n\x08location\x18\x03 \x01(\t\x12\x17\n\x0f\x65mployment_type\x18\x04 \x01(\t\x12\x12\n\nstart_date\x18\x05 \x01(\t\x12\x10\n\x08\x65nd_date\x18\x06 \x01(\t\x12\x12\n\nis_current\x18\x07 \x01(\x08\x12\x13\n\x0b\x64\x65scription\x18\x08 \x01(\t\x12\x14\n\x0c\x61\x63hievements\x18\t \x03(\t\x12\x14\n\x0ctechnologies\x18\n \x03(\t\"\xbc\x01\n\rEducationData\x12\x0e\n\x06school\x18\x01 \x01(\t\x12\x0e\n\x06\x64\x65gree\x18\x02 \x01(\t\x12\r\n\x05\x66ield\x18\x03 \x01(\t\x12\x10\n\x08location\x18\x04 \x01(\t\x12\x12\n\nstart_date\x18\x05 \x01(\t\x12\x10\n\x08\x65nd_date\x18\x06 \x01(\t\x12\x0b\n\x03gpa\x18\x07 \x01(\t\x12\x13\n\x0b\x64\x65scription\x18\x08 \x01(\t\x12\x12\n\nactivities\x18\t \x03(\t\x12\x0e\n\x06honors\x18\n \x03(\t\"\x9f\x01\n\x0bProjectData\x12\x0c\n\x04name\x18\x01 \x01(\t\x12\x13\n\x0b\x64\x65scription\x18\x02 \x01(\t\x12\x0b\n\x03url\x18\x03 \x01(\t\x12\x10\n\x08repo_url\x18\x04 \x01(\t\x12\x14\n\x0ctechnologies\x18\x05 \x03(\t\x12\x12\n\nstart_date\x18\x06 \x01(\t\x12\x10\n\x08\x65nd_date\x18\x07 \x01(\t\x12\x12\n\nhighlights\x18\x08 \x03(\t\":\n\tSkillData\x12\x0c\n\x04name\x18\x01 \x01(\t\x12\r\n\x05level\x18\x02 \x01(\t\x12\x10\n\x08\x63\x61tegory\x18\x03 \x01(\t\"L\n\x11\x43\x65rtificationData\x12\x0c\n\x04name\x18\x01 \x01(\t\x12\x0e\n\x06issuer\x18\x02 \x01(\t\x12\x0c\n\x04\x64\x61te\x18\x03 \x01(\t\x12\x0b\n\x03url\x18\x04 \x01(\t\"5\n\x0cLanguageData\x12\x10\n\x08language\x18\x01 \x01(\t\x12\x13\n\x0bproficiency\x18\x02 \x01(\t\"\x8b\x01\n\x12\x42uildResumeRequest\x12\x0f\n\x07user_id\x18\x01 \x01(\t\x12\x11\n\tjob_title\x18\x02 \x01(\t\x12\x17\n\x0fjob_description\x18\x03 \x01(\t\x12&\n\x07profile\x18\x04 \x01(\x0b\x32\x15.cvibe.ai.ProfileData\x12\x10\n\x08language\x18\x05 \x01(\t\"\xa7\x01\n\x0bProfileData\x12\x0c\n\x04name\x18\x01 \x01(\t\x12\r\n\x05title\x18\x02 \x01(\t\x12\x0f\n\x07summary\x18\x03 \x01(\t\x12-\n\x0b\x65xperiences\x18\x04 \x03(\x0b\x32\x18.cvibe.ai.ExperienceData\x12+\n\neducations\x18\x05 \x03(\x0b\x32\x17.cvibe.ai.EducationData\x12\x0e\n\x06skills\x18\x06 \x03(\t\"F\n\x10\x42uildResumeChunk\x12\x0f\n\x07section\x18\x01 \x01(\t\x12\x0f\n\x07\x63ontent\x18\x02 \x01(\t\x12\x10\n\x08is_final\x18\x03 \x01(\x08\"\xab\x01\n\x15StartInterviewRequest\x12\x0f\n\x07user_id\x18\x01 \x01(\t\x12\x12\n\nsession_id\x18\x02 \x01(\t\x12\x11\n\tjob_title\x18\x03 \x01(\t\x12\x17\n\x0fjob_description\x18\x04 \x01(\t\x12\x16\n\x0eresume_content\x18\x05 \x01(\t\x12)\n\x06\x63onfig\x18\x06 \x01(\x0b\x32\x19.cvibe.ai.InterviewConfig\"L\n\x0fInterviewConfig\x12\x10\n\x08language\x18\x01 \x01(\t\x12\x12\n\ndifficulty\x18\x02 \x01(\t\x12\x13\n\x0b\x66ocus_areas\x18\x03 \x03(\t\"Z\n\x16StartInterviewResponse\x12\x0f\n\x07success\x18\x01 \x01(\x08\x12\x17\n\x0fwelcome_message\x18\x02 \x01(\t\x12\x16\n\x0e\x66irst_question\x18\x03 \x01(\t\"f\n\x12SendMessageRequest\x12\x12\n\nsession_id\x18\x01 \x01(\t\x12\x14\n\x0cuser_message\x18\x02 \x01(\t\x12&\n\x07history\x18\x03 \x03(\x0b\x32\x15.cvibe.ai.ChatMessage\",\n\x0b\x43hatMessage\x12\x0c\n\x04role\x18\x01 \x01(\t\x12\x0f\n\x07\x63ontent\x18\x02 \x01(\t\"H\n\x0cMessageChunk\x12\x0f\n\x07\x63ontent\x18\x01 \x01(\t\x12\x10\n\x08is_final\x18\x02 \x01(\x08\x12\x15\n\rnext_question\x18\x03 \x01(\t\"\x8c\x01\n\x10StartMockRequest\x12\x0f\n\x07user_id\x18\x01 \x01(\t\x12\x12\n\nsession_id\x18\x02 \x01(\t\x12\x11\n\tjob_title\x18\x03 \x01(\t\x12\x16\n\x0einterview_type\x18\x04 \x01(\t\x12\x16\n\x0equestion_count\x18\x05 \x01(\x05\x12\x10\n\x08language\x18\x06 \x01(\t\"Q\n\x11StartMockResponse\x12\x0f\n\x07success\x18\x01 \x01(\x08\x12\x12\n\nsession_id\x18\x02 \x01(\t\x12\x17\n\x0ftotal_questions\x18\x03 \x01(\x05\"@\n\x12GetQuestionRequest\x12\x12\n\nsession_id\x18\x01 \x01(\t\x12\x16\n\x0equestion_index\x18\x02 \x01(\x05\"j\n\x10QuestionResponse\x12\x16\n\x0equestion_index\x18\x01 \x01(\x05\x12\x10\n\x08question\x18\x02 \x01(\t\x12\x10\n\x08\x63\x61tegory\x18\x03 \x01(\t\x12\x1a\n\x12time_limit_seconds\x18\x04 \x01(\x05\"\x84\x01\n\x15\x45valuateAnswerRequest\x12\x12\n\nsession_id\x18\x01 \x01(\t\x12\x16\n\x0equestion_index\x18\x02 \x01(\x05\x12\x10\n\x08question\x18\x03 \x01(\t\x12\x13\n\x0b\x61nswer_text\x18\x04 \x01(\t\x12\x18\n\x10\x61nswer_audio_url\x18\x05 \x01(\t\"^\n\x12\x45valuationResponse\x12\r\n\x05score\x18\x01 \x01(\x05\x12\x10\n\x08\x66\x65\x65\x64\x62\x61\x63k\x18\x02 \x01(\t\x12\x11\n\tstrengths\x18\x03 \x03(\t\x12\x14\n\x0cimprovements\x18\x04 \x03(\t\"\'\n\x11\x46inishMockRequest\x12\x12\n\nsession_id\x18\x01 \x01(\t\"\x89\x01\n\x12MockReportResponse\x12\x15\n\roverall_score\x18\x01 \x01(\x05\x12\x18\n\x10overall_feedback\x18\x02 \x01(\t\x12)\n\x07results\x18\x03 \x03(\x0b\x32\x18.cvibe.ai.QuestionResult\x12\x17\n\x0frecommendations\x18\x04 \x03(\t\"b\n\x0eQuestionResult\x12\r\n\x05index\x18\x01 \x01(\x05\x12\x10\n\x08question\x18\x02 \x01(\t\x12\x0e\n\x06\x61nswer\x18\x03 \x01(\t\x12\r\n\x05score\x18\x04 \x01(\x05\x12\x10\n\x08\x66\x65\x65\x64\x62\x61\x63k\x18\x05 \x01(\t\"~\n\x12GapAnalysisRequest\x12\x0f\n\x07user_id\x18\x01 \x01(\t\x12\x12\n\ngoal_title\x18\x02 \x01(\t\x12\x13\n\x0btarget_date\x18\x03 \x01(\t\x12.\n\x0f\x63urrent_profile\x18\x04 \x01(\x0b\x32\x15.cvibe.ai.ProfileData\"h\n\x13GapAnalysisResponse\x12\x1f\n\x04gaps\x18\x01 \x03(\x0b\x32\x11.cvibe.ai.GapItem\x12\x17\n\x0frecommendations\x18\x02 \x03(\t\x12\x17\n\x0freadiness_score\x18\x03 \x01(\x05\"Y\n\x07GapItem\x12\r\n\x05skill\x18\x01 \x01(\t\x12\x15\n\rcurrent_level\x18\x02 \x01(\t\x12\x16\n\x0erequired_level\x18\x03 \x01(\t\x12\x10\n\x08priority\x18\x04 \x01(\x05\"q\n\x13LearningPathRequest\x12\x0f\n\x07user_id\x18\x01 \x01(\t\x12\x0f\n\x07goal_id\x18\x02 \x01(\t\x12\x1f\n\x04gaps\x18\x03 \x03(\x0b\x32\x11.cvibe.ai.GapItem\x12\x17\n\x0fpreferred_style\x18\x04 \x01(\t\"E\n\x11LearningPathChunk\x12\r\n\x05phase\x18\x01 \x01(\t\x12\x0f\n\x07\x63ontent\x18\x02 \x01(\t\x12\x10\n\x08is_final\x18\x03 \x01(\x08\"`\n\x11\x41nalyzeJobRequest\x12\x0e\n\x06job_id\x18\x01 \x01(\t\x12\x11\n\tjob_title\x18\x02 \x01(\t\x12\x17\n\x0fjob_description\x18\x03 \x01(\t\x12\x0f\n\x07\x63ompany\x18\x04 \x01(\t\"\x96\x01\n\x13JobAnalysisResponse\x12\x17\n\x0frequired_skills\x18\x01 \x03(\t\x12\x1b\n\x13nice_to_have_skills\x18\x02 \x03(\t\x12\x18\n\x10\x65xperience_level\x18\x03 \x01(\t\x12\x17\n\x0fsalary_estimate\x18\x04 \x01(\t\x12\x16\n\x0einterview_tips\x18\x05 \x03(\t\"o\n\x1cStartProfileInterviewRequest\x12\x0f\n\x07user_id\x18\x01 \x01(\t\x12\x12\n\nsession_id\x18\x02 \x01(\t\x12\x10\n\x08language\x18\x03 \x01(\t\x12\x18\n\x10\x65xisting_profile\x18\x04 \x01(\t\"s\n\x18ProfileInterviewResponse\x12\x0f\n\x07success\x18\x01 \x01(\x08\x12\x17\n\x0fwelcome_message\x18\x02 \x01(\t\x12\x16\n\x0e\x66irst_question\x18\x03 \x01(\t\x12\x15\n\rcurrent_phase\x18\x04 \x01(\t\"J\n\x1eProfileInterviewMessageRequest\x12\x12\n\nsession_id\x18\x01 \x01(\t\x12\x14\n\x0cuser_message\x18\x02 \x01(\t\"I\n\x15ProfileInterviewChunk\x12\x0f\n\x07\x63ontent\x18\x01 \x01(\t\x12\x10\n\x08is_final\x18\x02 \x01(\x08\x12\r\n\x05phase\x18\x03 \x01(\t\"5\n\x1fGetProfileInterviewStateRequest\x12\x12\n\nsession_id\x18\x01 \x01(\t\"\xbe\x01\n\x1dProfileInterviewStateResponse\x12\x0f\n\x07success\x18\x01 \x01(\x08\x12\x12\n\nsession_id\x18\x02 \x01(\t\x12\x0f\n\x07user_id\x18\x03 \x01(\t\x12\x15\n\rcurrent_phase\x18\x04 \x01(\t\x12\x12\n\nphase_name\x18\x05 \x01(\t\x12\x12\n\nturn_count\x18\x06 \x01(\x05\x12\x0e\n\x06status\x18\x07 \x01(\t\x12\x18\n\x10portrait_summary\x18\x08 \x01(\t\"3\n\x1d\x46inishProfileInterviewRequest\x12\x12\n\nsession_id\x18\x01 \x01(\t\"\x8e\x01\n\x18\x43ollectedProfileResponse\x12\x0f\n\x07success\x18\x01 \x01(\x08\x12\x14\n\x0cprofile_json\x18\x02 \x01(\t\x12\x1a\n\x12\x63ompleteness_score\x18\x03 \x01(\x05\x12\x18\n\x10missing_sections\x18\x04 \x03(\t\x12\x15\n\rerror_message\x18\x05 \x01(\t2\xea\n\n\x08\x41IEngine\x12J\n\x0bParseResume\x12\x1c.cvibe.ai.ParseResumeRequest\x1a\x1d.cvibe.ai.ParseResumeResponse\x12P\n\x11ParseResumeStream\x12\x1a.cvibe.ai.ParseResumeChunk\x1a\x1d.cvibe.ai.ParseResumeResponse(\x01\x12I\n\x0b\x42uildResume\x12\x1c.cvibe.ai.BuildResumeRequest\x1a\x1a.cvibe.ai.BuildResumeChunk0\x01\x12S\n\x0eStartInterview\x12\x1f.cvibe.ai.StartInterviewRequest\x1a .cvibe.ai.StartInterviewResponse\x12N\n\x14SendInterviewMessage\x12\x1c.cvibe.ai.SendMessageRequest\x1a\x16.cvibe.ai.MessageChunk0\x01\x12\x63\n\x15StartProfileInterview\x12&.cvibe.ai.StartProfileInterviewRequest\x1a\".cvibe.ai.ProfileInterviewResponse\x12j\n\x1bSendProfileInterviewMessage\x12(.cvibe.ai.ProfileInterviewMessageRequest\x1a\x1f.cvibe.ai.ProfileInterviewChunk0\x01\x12n\n\x18GetProfileInterviewState\x12).cvibe.ai.GetProfileInterviewStateRequest\x1a\'.cvibe.ai.ProfileInterviewStateResponse\x12\x65\n\x16\x46inishProfileInterview\x12\'.cvibe.ai.FinishProfileInterviewRequest\x1a\".cvibe.ai.CollectedProfileResponse\x12M\n\x12StartMockInterview\x12\x1a.cvibe.ai.StartMockRequest\x1a\x1b.cvibe.ai.StartMockResponse\x12K\n\x0fGetNextQuestion\x12\x1c.cvibe.ai.GetQuestionRequest\x1a\x1a.cvibe.ai.QuestionResponse\x12O\n\x0e\x45valuateAnswer\x12\x1f.cvibe.ai.EvaluateAnswerRequest\x1a\x1c.cvibe.ai.EvaluationResponse\x12P\n\x13\x46inishMockInterview\x12\x1b.cvibe.ai.FinishMockRequest\x1a\x1c.cvibe.ai.MockReportResponse\x12I\n\nAnalyzeGap\x12\x1c.cvibe.ai.GapAnalysisRequest\x1a\x1d.cvibe.ai.GapAnalysisResponse\x12T\n\x14GenerateLearningPath\x12\x1d.cvibe.ai.LearningPathRequest\x1a\x1b.cvibe.ai.LearningPathChunk0\x01\x12H\n\nAnalyzeJob\x12\x1b.cvibe.ai.AnalyzeJobRequest\x1a\x1d.cvibe.ai.JobAnalysisResponseB$\n\x11\x63om.cvibe.grpc.aiB\rAIEngineProtoP\x01\x62\x06proto3')
 
 _globals = globals()
 _builder.BuildMessageAndEnumDescriptors(DESCRIPTOR, _globals)
@@ -33,89 +33,93 @@ if not _descriptor._USE_C_DESCRIPTORS:
   _globals['DESCRIPTOR']._loaded_options = None
   _globals['DESCRIPTOR']._serialized_options = b'\n\021com.cvibe.grpc.aiB\rAIEngineProtoP\001'
   _globals['_PARSERESUMEREQUEST']._serialized_start=29
-  _globals['_PARSERESUMEREQUEST']._serialized_end=109
-  _globals['_PARSERESUMERESPONSE']._serialized_start=111
-  _globals['_PARSERESUMERESPONSE']._serialized_end=208
-  _globals['_RESUMEDATA']._serialized_start=211
-  _globals['_RESUMEDATA']._serialized_end=677
-  _globals['_EXPERIENCEDATA']._serialized_start=680
-  _globals['_EXPERIENCEDATA']._serialized_end=894
-  _globals['_EDUCATIONDATA']._serialized_start=897
-  _globals['_EDUCATIONDATA']._serialized_end=1085
-  _globals['_PROJECTDATA']._serialized_start=1088
-  _globals['_PROJECTDATA']._serialized_end=1247
-  _globals['_SKILLDATA']._serialized_start=1249
-  _globals['_SKILLDATA']._serialized_end=1307
-  _globals['_CERTIFICATIONDATA']._serialized_start=1309
-  _globals['_CERTIFICATIONDATA']._serialized_end=1385
-  _globals['_LANGUAGEDATA']._serialized_start=1387
-  _globals['_LANGUAGEDATA']._serialized_end=1440
-  _globals['_BUILDRESUMEREQUEST']._serialized_start=1443
-  _globals['_BUILDRESUMEREQUEST']._serialized_end=1582
-  _globals['_PROFILEDATA']._serialized_start=1585
-  _globals['_PROFILEDATA']._serialized_end=1752
-  _globals['_BUILDRESUMECHUNK']._serialized_start=1754
-  _globals['_BUILDRESUMECHUNK']._serialized_end=1824
-  _globals['_STARTINTERVIEWREQUEST']._serialized_start=1827
-  _globals['_STARTINTERVIEWREQUEST']._serialized_end=1998
-  _globals['_INTERVIEWCONFIG']._serialized_start=2000
-  _globals['_INTERVIEWCONFIG']._serialized_end=2076
-  _globals['_STARTINTERVIEWRESPONSE']._serialized_start=2078
-  _globals['_STARTINTERVIEWRESPONSE']._serialized_end=2168
-  _globals['_SENDMESSAGEREQUEST']._serialized_start=2170
-  _globals['_SENDMESSAGEREQUEST']._serialized_end=2272
-  _globals['_CHATMESSAGE']._serialized_start=2274
-  _globals['_CHATMESSAGE']._serialized_end=2318
-  _globals['_MESSAGECHUNK']._serialized_start=2320
-  _globals['_MESSAGECHUNK']._serialized_end=2392
-  _globals['_STARTMOCKREQUEST']._serialized_start=2395
-  _globals['_STARTMOCKREQUEST']._serialized_end=2535
-  _globals['_STARTMOCKRESPONSE']._serialized_start=2537
-  _globals['_STARTMOCKRESPONSE']._serialized_end=2618
-  _globals['_GETQUESTIONREQUEST']._serialized_start=2620
-  _globals['_GETQUESTIONREQUEST']._serialized_end=2684
-  _globals['_QUESTIONRESPONSE']._serialized_start=2686
-  _globals['_QUESTIONRESPONSE']._serialized_end=2792
-  _globals['_EVALUATEANSWERREQUEST']._serialized_start=2795
-  _globals['_EVALUATEANSWERREQUEST']._serialized_end=2927
-  _globals['_EVALUATIONRESPONSE']._serialized_start=2929
-  _globals['_EVALUATIONRESPONSE']._serialized_end=3023
-  _globals['_FINISHMOCKREQUEST']._serialized_start=3025
-  _globals['_FINISHMOCKREQUEST']._serialized_end=3064
-  _globals['_MOCKREPORTRESPONSE']._serialized_start=3067
-  _globals['_MOCKREPORTRESPONSE']._serialized_end=3204
-  _globals['_QUESTIONRESULT']._serialized_start=3206
-  _globals['_QUESTIONRESULT']._serialized_end=3304
-  _globals['_GAPANALYSISREQUEST']._serialized_start=3306
-  _globals['_GAPANALYSISREQUEST']._serialized_end=3432
-  _globals['_GAPANALYSISRESPONSE']._serialized_start=3434
-  _globals['_GAPANALYSISRESPONSE']._serialized_end=3538
-  _globals['_GAPITEM']._serialized_start=3540
-  _globals['_GAPITEM']._serialized_end=3629
-  _globals['_LEARNINGPATHREQUEST']._serialized_start=3631
-  _globals['_LEARNINGPATHREQUEST']._serialized_end=3744
-  _globals['_LEARNINGPATHCHUNK']._serialized_start=3746
-  _globals['_LEARNINGPATHCHUNK']._serialized_end=3815
-  _globals['_ANALYZEJOBREQUEST']._serialized_start=3817
-  _globals['_ANALYZEJOBREQUEST']._serialized_end=3913
-  _globals['_JOBANALYSISRESPONSE']._serialized_start=3916
-  _globals['_JOBANALYSISRESPONSE']._serialized_end=4066
-  _globals['_STARTPROFILEINTERVIEWREQUEST']._serialized_start=4068
-  _globals['_STARTPROFILEINTERVIEWREQUEST']._serialized_end=4179
-  _globals['_PROFILEINTERVIEWRESPONSE']._serialized_start=4181
-  _globals['_PROFILEINTERVIEWRESPONSE']._serialized_end=4296
-  _globals['_PROFILEINTERVIEWMESSAGEREQUEST']._serialized_start=4298
-  _globals['_PROFILEINTERVIEWMESSAGEREQUEST']._serialized_end=4372
-  _globals['_PROFILEINTERVIEWCHUNK']._serialized_start=4374
-  _globals['_PROFILEINTERVIEWCHUNK']._serialized_end=4447
-  _globals['_GETPROFILEINTERVIEWSTATEREQUEST']._serialized_start=4449
-  _globals['_GETPROFILEINTERVIEWSTATEREQUEST']._serialized_end=4502
-  _globals['_PROFILEINTERVIEWSTATERESPONSE']._serialized_start=4505
-  _globals['_PROFILEINTERVIEWSTATERESPONSE']._serialized_end=4695
-  _globals['_FINISHPROFILEINTERVIEWREQUEST']._serialized_start=4697
-  _globals['_FINISHPROFILEINTERVIEWREQUEST']._serialized_end=4748
-  _globals['_COLLECTEDPROFILERESPONSE']._serialized_start=4751
-  _globals['_COLLECTEDPROFILERESPONSE']._serialized_end=4893
-  _globals['_AIENGINE']._serialized_start=4896
-  _globals['_AIENGINE']._serialized_end=6200
+  _globals['_PARSERESUMEREQUEST']._serialized_end=133
+  _globals['_PARSERESUMERESPONSE']._serialized_start=135
+  _globals['_PARSERESUMERESPONSE']._serialized_end=232
+  _globals['_PARSERESUMECHUNK']._serialized_start=234
+  _globals['_PARSERESUMECHUNK']._serialized_end=330
+  _globals['_PARSERESUMEMETADATA']._serialized_start=332
+  _globals['_PARSERESUMEMETADATA']._serialized_end=410
+  _globals['_RESUMEDATA']._serialized_start=413
+  _globals['_RESUMEDATA']._serialized_end=879
+  _globals['_EXPERIENCEDATA']._serialized_start=882
+  _globals['_EXPERIENCEDATA']._serialized_end=1096
+  _globals['_EDUCATIONDATA']._serialized_start=1099
+  _globals['_EDUCATIONDATA']._serialized_end=1287
+  _globals['_PROJECTDATA']._serialized_start=1290
+  _globals['_PROJECTDATA']._serialized_end=1449
+  _globals['_SKILLDATA']._serialized_start=1451
+  _globals['_SKILLDATA']._serialized_end=1509
+  _globals['_CERTIFICATIONDATA']._serialized_start=1511
+  _globals['_CERTIFICATIONDATA']._serialized_end=1587
+  _globals['_LANGUAGEDATA']._serialized_start=1589
+  _globals['_LANGUAGEDATA']._serialized_end=1642
+  _globals['_BUILDRESUMEREQUEST']._serialized_start=1645
+  _globals['_BUILDRESUMEREQUEST']._serialized_end=1784
+  _globals['_PROFILEDATA']._serialized_start=1787
+  _globals['_PROFILEDATA']._serialized_end=1954
+  _globals['_BUILDRESUMECHUNK']._serialized_start=1956
+  _globals['_BUILDRESUMECHUNK']._serialized_end=2026
+  _globals['_STARTINTERVIEWREQUEST']._serialized_start=2029
+  _globals['_STARTINTERVIEWREQUEST']._serialized_end=2200
+  _globals['_INTERVIEWCONFIG']._serialized_start=2202
+  _globals['_INTERVIEWCONFIG']._serialized_end=2278
+  _globals['_STARTINTERVIEWRESPONSE']._serialized_start=2280
+  _globals['_STARTINTERVIEWRESPONSE']._serialized_end=2370
+  _globals['_SENDMESSAGEREQUEST']._serialized_start=2372
+  _globals['_SENDMESSAGEREQUEST']._serialized_end=2474
+  _globals['_CHATMESSAGE']._serialized_start=2476
+  _globals['_CHATMESSAGE']._serialized_end=2520
+  _globals['_MESSAGECHUNK']._serialized_start=2522
+  _globals['_MESSAGECHUNK']._serialized_end=2594
+  _globals['_STARTMOCKREQUEST']._serialized_start=2597
+  _globals['_STARTMOCKREQUEST']._serialized_end=2737
+  _globals['_STARTMOCKRESPONSE']._serialized_start=2739
+  _globals['_STARTMOCKRESPONSE']._serialized_end=2820
+  _globals['_GETQUESTIONREQUEST']._serialized_start=2822
+  _globals['_GETQUESTIONREQUEST']._serialized_end=2886
+  _globals['_QUESTIONRESPONSE']._serialized_start=2888
+  _globals['_QUESTIONRESPONSE']._serialized_end=2994
+  _globals['_EVALUATEANSWERREQUEST']._serialized_start=2997
+  _globals['_EVALUATEANSWERREQUEST']._serialized_end=3129
+  _globals['_EVALUATIONRESPONSE']._serialized_start=3131
+  _globals['_EVALUATIONRESPONSE']._serialized_end=3225
+  _globals['_FINISHMOCKREQUEST']._serialized_start=3227
+  _globals['_FINISHMOCKREQUEST']._serialized_end=3266
+  _globals['_MOCKREPORTRESPONSE']._serialized_start=3269
+  _globals['_MOCKREPORTRESPONSE']._serialized_end=3406
+  _globals['_QUESTIONRESULT']._serialized_start=3408
+  _globals['_QUESTIONRESULT']._serialized_end=3506
+  _globals['_GAPANALYSISREQUEST']._serialized_start=3508
+  _globals['_GAPANALYSISREQUEST']._serialized_end=3634
+  _globals['_GAPANALYSISRESPONSE']._serialized_start=3636
+  _globals['_GAPANALYSISRESPONSE']._serialized_end=3740
+  _globals['_GAPITEM']._serialized_start=3742
+  _globals['_GAPITEM']._serialized_end=3831
+  _globals['_LEARNINGPATHREQUEST']._serialized_start=3833
+  _globals['_LEARNINGPATHREQUEST']._serialized_end=3946
+  _globals['_LEARNINGPATHCHUNK']._serialized_start=3948
+  _globals['_LEARNINGPATHCHUNK']._serialized_end=4017
+  _globals['_ANALYZEJOBREQUEST']._serialized_start=4019
+  _globals['_ANALYZEJOBREQUEST']._serialized_end=4115
+  _globals['_JOBANALYSISRESPONSE']._serialized_start=4118
+  _globals['_JOBANALYSISRESPONSE']._serialized_end=4268
+  _globals['_STARTPROFILEINTERVIEWREQUEST']._serialized_start=4270
+  _globals['_STARTPROFILEINTERVIEWREQUEST']._serialized_end=4381
+  _globals['_PROFILEINTERVIEWRESPONSE']._serialized_start=4383
+  _globals['_PROFILEINTERVIEWRESPONSE']._serialized_end=4498
+  _globals['_PROFILEINTERVIEWMESSAGEREQUEST']._serialized_start=4500
+  _globals['_PROFILEINTERVIEWMESSAGEREQUEST']._serialized_end=4574
+  _globals['_PROFILEINTERVIEWCHUNK']._serialized_start=4576
+  _globals['_PROFILEINTERVIEWCHUNK']._serialized_end=4649
+  _globals['_GETPROFILEINTERVIEWSTATEREQUEST']._serialized_start=4651
+  _globals['_GETPROFILEINTERVIEWSTATEREQUEST']._serialized_end=4704
+  _globals['_PROFILEINTERVIEWSTATERESPONSE']._serialized_start=4707
+  _globals['_PROFILEINTERVIEWSTATERESPONSE']._serialized_end=4897
+  _globals['_FINISHPROFILEINTERVIEWREQUEST']._serialized_start=4899
+  _globals['_FINISHPROFILEINTERVIEWREQUEST']._serialized_end=4950
+  _globals['_COLLECTEDPROFILERESPONSE']._serialized_start=4953
+  _globals['_COLLECTEDPROFILERESPONSE']._serialized_end=5095
+  _globals['_AIENGINE']._serialized_start=5098
+  _globals['_AIENGINE']._serialized_end=6484
 # @@protoc_insertion_point(module_scope)
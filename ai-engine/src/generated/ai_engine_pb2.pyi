@@ -7,14 +7,16 @@ from typing import ClassVar as _ClassVar, Optional as _Optional, Union as _Union
 DESCRIPTOR: _descriptor.FileDescriptor
 
 class ParseResumeRequest(_message.Message):
-    __slots__ = ("file_content", "file_name", "file_type")
+    __slots__ = ("file_content", "file_name", "file_type", "extracted_text")
     FILE_CONTENT_FIELD_NUMBER: _ClassVar[int]
     FILE_NAME_FIELD_NUMBER: _ClassVar[int]
     FILE_TYPE_FIELD_NUMBER: _ClassVar[int]
+    EXTRACTED_TEXT_FIELD_NUMBER: _ClassVar[int]
     file_content: bytes
     file_name: str
     file_type: str
-    def __init__(self, file_content: _Optional[bytes] = ..., file_name: _Optional[str] = ..., file_type: _Optional[str] = ...) -> None: ...
+    extracted_text: str
+    def __init__(self, file_content: _Optional[bytes] = ..., file_name: _Optional[str] = ..., file_type: _Optional[str] = ..., extracted_text: _Optional[str] = ...) -> None: ...
 
 class ParseResumeResponse(_message.Message):
     __slots__ = ("success", "data", "error_message")
@@ -26,6 +28,24 @@ class ParseResumeResponse(_message.Message):
     error_message: str
     def __init__(self, success: bool = ..., data: _Optional[_Union[ResumeData, _Mapping]] = ..., error_message: _Optional[str] = ...) -> None: ...
 
+class ParseResumeChunk(_message.Message):
+    __slots__ = ("metadata", "data")
+    METADATA_FIELD_NUMBER: _ClassVar[int]
+    DATA_FIELD_NUMBER: _ClassVar[int]
+    metadata: ParseResumeMetadata
+    data: bytes
+    def __init__(self, metadata: _Optional[_Union[ParseResumeMetadata, _Mapping]] = ..., data: _Optional[bytes] = ...) -> None: ...
+
+class ParseResumeMetadata(_message.Message):
+    __slots__ = ("file_name", "file_type", "file_size")
+    FILE_NAME_FIELD_NUMBER: _ClassVar[int]
+    FILE_TYPE_FIELD_NUMBER: _ClassVar[int]
+    FILE_SIZE_FIELD_NUMBER: _ClassVar[int]
+    file_name: str
+    file_type: str
+    file_size: int
+    def __init__(self, file_name: _Optional[str] = ..., file_type: _Optional[str] = ..., file_size: _Optional[int] = ...) -> None: ...
+
 class ResumeData(_message.Message):
     __slots__ = ("name", "email", "phone", "linkedin", "github", "website", "location", "headline", "summary", "experiences", "educations", "projects", "skills", "certifications", "achievements", "languages", "raw_text")
     NAME_FIELD_NUMBER: _ClassVar[int]
@@ -41,6 +41,11 @@ class AIEngineStub(object):
                 request_serializer=ai__engine__pb2.ParseResumeRequest.SerializeToString,
                 response_deserializer=ai__engine__pb2.ParseResumeResponse.FromString,
                 _registered_method=True)
+        self.ParseResumeStream = channel.stream_unary(
+                '/cvibe.ai.AIEngine/ParseResumeStream',
+                request_serializer=ai__engine__pb2.ParseResumeChunk.SerializeToString,
+                response_deserializer=ai__engine__pb2.ParseResumeResponse.FromString,
+                _registered_method=True)
         self.BuildResume = channel.unary_stream(
                 '/cvibe.ai.AIEngine/BuildResume',
                 request_serializer=ai__engine__pb2.BuildResumeRequest.SerializeToString,
@@ -125,6 +130,13 @@ class AIEngineServicer(object):
         context.set_details('Method not implemented!')
         raise NotImplementedError('Method not implemented!')
 
+    def ParseResumeStream(self, request_iterator, context):
+        """Resume Parsing (client streaming) - metadata first, then the file content in chunks
+        """
+        context.set_code(grpc.StatusCode.UNIMPLEMENTED)
+        context.set_details('Method not implemented!')
+        raise NotImplementedError('Method not implemented!')
+
     def BuildResume(self, request, context):
         """Resume Building - AI-powered resume generation
         """
@@ -231,6 +243,11 @@ def add_AIEngineServicer_to_server(servicer, server):
                     request_deserializer=ai__engine__pb2.ParseResumeRequest.FromString,
                     response_serializer=ai__engine__pb2.ParseResumeResponse.SerializeToString,
             ),
+            'ParseResumeStream': grpc.stream_unary_rpc_method_handler(
+                    servicer.ParseResumeStream,
+                    request_deserializer=ai__engine__pb2.ParseResumeChunk.FromString,
+                    response_serializer=ai__engine__pb2.ParseResumeResponse.SerializeToString,
+            ),
             'BuildResume': grpc.unary_stream_rpc_method_handler(
                     servicer.BuildResume,
                     request_deserializer=ai__engine__pb2.BuildResumeRequest.FromString,
@@ -341,6 +358,33 @@ class AIEngine(object):
             metadata,
             _registered_method=True)
 
+    @staticmethod
+    def ParseResumeStream(request_iterator,
+            target,
+            options=(),
+            channel_credentials=None,
+            call_credentials=None,
+            insecure=False,
+            compression=None,
+            wait_for_ready=None,
+            timeout=None,
+            metadata=None):
+        return grpc.experimental.stream_unary(
+            request_iterator,
+            target,
+            '/cvibe.ai.AIEngine/ParseResumeStream',
+            ai__engine__pb2.ParseResumeChunk.SerializeToString,
+            ai__engine__pb2.ParseResumeResponse.FromString,
+            options,
+            channel_credentials,
+            insecure,
+            call_credentials,
+            compression,
+            wait_for_ready,
+            timeout,
+            metadata,
+            _registered_method=True)
+
     @staticmethod
     def BuildResume(request,
             target,
@@ -40,6 +40,9 @@ from ..agents.interview.orchestrator import ProfileInterviewOrchestrator
 logging.basicConfig(level=logging.INFO)
 logger = logging.getLogger(__name__)
 
+# 流式上传的简历文件大小上限（biz-service 限制上传为 10MB）
+MAX_RESUME_FILE_BYTES = 20 * 1024 * 1024
+
 
 # ================== Session Store ==================
 
@@ -143,8 +146,37 @@ class AIEngineServicer:
 
     def ParseResume(self, request, context):
         """解析简历文件 - 使用 Reasoning LLM (DeepSeek-R1) 提取详细结构化数据"""
-        logger.info(f"ParseResume: file={request.file_name}, type={request.file_type}")
+        logger.info(
+            f"ParseResume: file={request.file_name}, type={request.file_type}, "
+            f"extracted_text={len(request.extracted_text)} chars"
+        )
+        return self._parse_resume(bytes(request.file_content), request.file_type, request.extracted_text)
+
+    def ParseResumeStream(self, request_iterator, context):
+        """解析简历文件（客户端流式上传）- 首条消息为元数据，之后按顺序拼接文件分块"""
+        file_name = ""
+        file_type = ""
+        buffer = bytearray()
+        for chunk in request_iterator:
+            payload = chunk.WhichOneof("payload")
+            if payload == "metadata":
+                file_name = chunk.metadata.file_name
+                file_type = chunk.metadata.file_type
+                logger.info(
+                    f"ParseResumeStream: file={file_name}, type={file_type}, size={chunk.metadata.file_size}"
+                )
+            elif payload == "data":
+                buffer.extend(chunk.data)
+                if len(buffer) > MAX_RESUME_FILE_BYTES:
+                    logger.warning(f"ParseResumeStream rejected: file={file_name} exceeds {MAX_RESUME_FILE_BYTES} bytes")
+                    return pb.ParseResumeResponse(
+                        success=False,
+                        error_message=f"File exceeds {MAX_RESUME_FILE_BYTES} bytes",
+                    )
+        return self._parse_resume(bytes(buffer), file_type)
 
+    def _parse_resume(self, file_bytes: bytes, file_type: str, extracted_text: str = ""):
+        """按文件类型解析简历并构建响应；调用方已提取文本时只走文本 LLM，不调用视觉模型"""
         try:
             # Use reasoning LLM for deep resume analysis, fallback to default LLM
             llm_for_parsing = self._reasoning_llm or self._default_llm
@@ -154,10 +186,11 @@ class AIEngineServicer:
                 vision_client=self._default_vision
             )
             
-            file_bytes = bytes(request.file_content)
-            file_type = request.file_type.lower()
+            file_type = file_type.lower()
             
-            if "pdf" in file_type:
+            if extracted_text:
+                result = parser.parse_text(extracted_text)
+            elif "pdf" in file_type:
                 result = parser.parse_pdf_bytes(file_bytes)
             elif "image" in file_type or file_type in ["jpg", "jpeg", "png", "webp"]:
                 result = parser.parse_image(file_bytes)
@@ -75,9 +75,12 @@ public class AuthController {
      * POST /api/auth/logout
      */
     @PostMapping("/logout")
-    public ApiResponse<Void> logout() {
-        // Frontend clears tokens - no server-side action needed
+    public ApiResponse<Void> logout(@AuthenticationPrincipal UserPrincipal principal) {
+        // Frontend clears tokens; server side only drops the cached principal
         // If blacklist mechanism needed, implement here
+        if (principal != null) {
+            authService.logout(principal.getUserId());
+        }
         return ApiResponse.success();
     }
 }
@@ -7,6 +7,8 @@ import com.cvibe.auth.repository.UserRepository;
 import com.cvibe.common.exception.BusinessException;
 import com.cvibe.common.exception.ErrorCode;
 import com.cvibe.common.security.JwtTokenProvider;
+import com.cvibe.common.security.PrincipalCache;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -27,6 +29,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final PrincipalCache principalCache;
 
     /**
      * Register a new user.
@@ -110,18 +113,19 @@ public class AuthService {
      */
     @Transactional
     public AuthResponse refreshToken(String refreshToken) {
-        // 1. Validate token
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
+        // 1. Validate token (single parse)
+        Claims claims = jwtTokenProvider.parseClaims(refreshToken);
+        if (claims == null) {
             throw new BusinessException(ErrorCode.TOKEN_INVALID);
         }
 
         // 2. Check if it's a refresh token
-        if (!jwtTokenProvider.isRefreshToken(refreshToken)) {
+        if (!"refresh".equals(claims.get("type", String.class))) {
             throw new BusinessException(ErrorCode.TOKEN_INVALID, "Not a refresh token");
         }
 
         // 3. Get user
-        UUID userId = jwtTokenProvider.getUserIdFromToken(refreshToken);
+        UUID userId = UUID.fromString(claims.getSubject());
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
@@ -133,6 +137,14 @@ public class AuthService {
         return generateAuthResponse(user);
     }
 
+    /**
+     * Logout: tokens are cleared client-side, but drop the cached principal
+     * so the next request re-reads the account state.
+     */
+    public void logout(UUID userId) {
+        principalCache.invalidate(userId);
+    }
+
     /**
      * Get current user info.
      */
@@ -1,6 +1,7 @@
 package com.cvibe.common.config;
 
 import com.cvibe.common.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -46,6 +47,9 @@ public class SecurityConfig {
                 
                 // Authorization rules
                 .authorizeHttpRequests(auth -> auth
+                        // Async/error re-dispatches of already authorized requests (DeferredResult, SSE)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+
                         // Public endpoints - support both /api/auth and /api/v1/auth
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/api/v1/auth/**").permitAll()
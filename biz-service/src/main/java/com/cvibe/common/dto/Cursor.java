@@ -0,0 +1,104 @@
+package com.cvibe.common.dto;
+
+import com.cvibe.common.exception.BusinessException;
+import com.cvibe.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Opaque keyset pagination cursor: the sort key(s) and id of the last row of a page.
+ *
+ * Clients pass {@code nextCursor} back unchanged; queries then return the rows strictly
+ * after it in (sort key, id) order, so every page costs the same however deep it is.
+ * The id breaks ties between equal sort keys.
+ */
+public record Cursor(List<String> sortKeys, UUID id) {
+
+    /**
+     * Sorts after every real timestamp (first page of a newest-first listing)
+     */
+    public static final Instant MAX_INSTANT = Instant.parse("9999-12-31T00:00:00Z");
+
+    /**
+     * Sorts before every real timestamp (first page of an oldest-first listing)
+     */
+    public static final Instant MIN_INSTANT = Instant.parse("0001-01-01T00:00:00Z");
+
+    public static final UUID MAX_ID = new UUID(-1L, -1L);
+    public static final UUID MIN_ID = new UUID(0L, 0L);
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Encode the position of a row
+     */
+    public static String encode(UUID id, Object... sortKeys) {
+        StringBuilder raw = new StringBuilder();
+        for (Object key : sortKeys) {
+            raw.append(key).append(SEPARATOR);
+        }
+        raw.append(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor with the given number of sort keys, or null if none was sent
+     *
+     * @throws BusinessException INVALID_REQUEST if the cursor is malformed
+     */
+    public static Cursor decode(String cursor, int sortKeyCount) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != sortKeyCount + 1) {
+                throw invalid();
+            }
+            return new Cursor(List.of(parts).subList(0, sortKeyCount), UUID.fromString(parts[sortKeyCount]));
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+    }
+
+    public Instant instantKey(int index) {
+        try {
+            return Instant.parse(sortKeys.get(index));
+        } catch (RuntimeException e) {
+            throw invalid();
+        }
+    }
+
+    public double doubleKey(int index) {
+        try {
+            return Double.parseDouble(sortKeys.get(index));
+        } catch (RuntimeException e) {
+            throw invalid();
+        }
+    }
+
+    public float floatKey(int index) {
+        try {
+            return Float.parseFloat(sortKeys.get(index));
+        } catch (RuntimeException e) {
+            throw invalid();
+        }
+    }
+
+    public int intKey(int index) {
+        try {
+            return Integer.parseInt(sortKeys.get(index));
+        } catch (RuntimeException e) {
+            throw invalid();
+        }
+    }
+
+    private static BusinessException invalid() {
+        return new BusinessException(ErrorCode.INVALID_REQUEST, "Invalid cursor");
+    }
+}
@@ -0,0 +1,44 @@
+package com.cvibe.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keyset-paginated response for infinite-scroll listings (see {@link Cursor}).
+ * Unlike a paged response it has no totals: computing them would cost a count per request.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorResponse<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+
+    /**
+     * Cursor for the next page; null on the last page
+     */
+    private String nextCursor;
+
+    /**
+     * Create from a keyset Slice, mapping rows to DTOs and encoding the position of the last row
+     */
+    public static <E, T> CursorResponse<T> of(Slice<E> slice, Function<E, T> mapper, Function<E, String> cursorOf) {
+        List<E> rows = slice.getContent();
+        return CursorResponse.<T>builder()
+                .content(rows.stream().map(mapper).collect(Collectors.toList()))
+                .size(slice.getSize())
+                .hasNext(slice.hasNext())
+                .nextCursor(slice.hasNext() && !rows.isEmpty() ? cursorOf.apply(rows.get(rows.size() - 1)) : null)
+                .build();
+    }
+}
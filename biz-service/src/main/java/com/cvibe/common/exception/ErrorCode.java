@@ -68,6 +68,9 @@ public enum ErrorCode {
     RESUME_PARSE_FAILED(40006, HttpStatus.INTERNAL_SERVER_ERROR, "Resume parsing failed"),
     RESUME_NOT_PARSED(40007, HttpStatus.BAD_REQUEST, "Resume has not been parsed yet"),
     RESUME_SYNC_FAILED(40008, HttpStatus.INTERNAL_SERVER_ERROR, "Failed to sync resume to profile"),
+    RESUME_IMPORT_NOT_FOUND(40009, HttpStatus.NOT_FOUND, "Resume import batch not found"),
+    RESUME_IMPORT_EMPTY(40010, HttpStatus.BAD_REQUEST, "No importable resume files"),
+    RESUME_PARSE_IN_PROGRESS(40011, HttpStatus.BAD_REQUEST, "Resume is already being parsed"),
 
     // ==================== Resume Builder Errors (50000-50999) ====================
     TEMPLATE_NOT_FOUND(50001, HttpStatus.NOT_FOUND, "Template not found"),
@@ -109,6 +112,7 @@ public enum ErrorCode {
     // ==================== Notification Errors (110000-110999) ====================
     NOTIFICATION_NOT_FOUND(110001, HttpStatus.NOT_FOUND, "Notification not found"),
     INVALID_NOTIFICATION_TYPE(110002, HttpStatus.BAD_REQUEST, "Invalid notification type"),
+    BROADCAST_NOT_FOUND(110003, HttpStatus.NOT_FOUND, "Broadcast not found"),
 
     // ==================== Settings Errors (120000-120999) ====================
     INVALID_PASSWORD(120001, HttpStatus.BAD_REQUEST, "Invalid current password"),
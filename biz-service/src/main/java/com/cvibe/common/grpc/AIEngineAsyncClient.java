@@ -0,0 +1,533 @@
+package com.cvibe.common.grpc;
+
+import com.cvibe.grpc.ai.AIEngineGrpc;
+import com.google.protobuf.UnsafeByteOperations;
+import io.grpc.ManagedChannel;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * AI Engine 非阻塞 gRPC 客户端
+ *
+ * 与 {@link AIEngineClient} 一一对应，基于 {@link AIEngineGrpc.AIEngineStub}：
+ * - unary RPC 返回 {@link CompletableFuture}，cancel(true) 会取消底层 gRPC 调用
+ * - server-streaming RPC 返回 {@link Flow.Publisher}，支持背压和取消
+ * - 每次调用单独设置 deadline，可通过 {@link #withDeadline(Duration)} 覆盖默认值
+ * - 未完成调用数受 grpc.ai-engine.max-outstanding-calls 限制，超出时立即失败而不是排队占用线程
+ *
+ * 与同步客户端不同，AI Engine 不可用时不返回 Mock 数据，而是以 {@link GrpcException} 失败，
+ * 由调用方决定降级策略（可先检查 {@link #isAvailable()}）。
+ */
+@Slf4j
+@Component
+public class AIEngineAsyncClient {
+
+    private final AIEngineGrpc.AIEngineStub asyncStub;
+    private final Semaphore outstandingCalls;
+    private final int maxOutstandingCalls;
+    private final Duration deadline;
+
+    @Autowired
+    public AIEngineAsyncClient(
+            GrpcConfig grpcConfig,
+            @Value("${grpc.ai-engine.deadline-ms:300000}") long deadlineMs,
+            @Value("${grpc.ai-engine.max-outstanding-calls:256}") int maxOutstandingCalls) {
+        ManagedChannel channel = grpcConfig.aiEngineChannel();
+        this.asyncStub = channel != null ? AIEngineGrpc.newStub(channel) : null;
+        this.maxOutstandingCalls = maxOutstandingCalls;
+        this.outstandingCalls = new Semaphore(maxOutstandingCalls);
+        this.deadline = Duration.ofMillis(deadlineMs);
+        if (asyncStub != null) {
+            log.info("AI Engine async stub initialized: deadline={}ms, maxOutstandingCalls={}",
+                    deadlineMs, maxOutstandingCalls);
+        }
+    }
+
+    private AIEngineAsyncClient(AIEngineAsyncClient source, Duration deadline) {
+        this.asyncStub = source.asyncStub;
+        this.outstandingCalls = source.outstandingCalls;
+        this.maxOutstandingCalls = source.maxOutstandingCalls;
+        this.deadline = deadline;
+    }
+
+    /**
+     * 返回使用指定 deadline 的客户端视图（共享通道与并发配额）
+     */
+    public AIEngineAsyncClient withDeadline(Duration deadline) {
+        return new AIEngineAsyncClient(this, deadline);
+    }
+
+    public boolean isAvailable() {
+        return asyncStub != null;
+    }
+
+    public Duration getDeadline() {
+        return deadline;
+    }
+
+    /**
+     * 当前未完成的调用数（包括进行中的流）
+     */
+    public int getOutstandingCalls() {
+        return maxOutstandingCalls - outstandingCalls.availablePermits();
+    }
+
+    // ==================== Resume ====================
+
+    /**
+     * 解析简历
+     *
+     * 文件内容零拷贝包装进请求，调用方在返回的 future 完成之前不能修改 fileContent。
+     */
+    public CompletableFuture<AIEngineClient.ResumeParseResult> parseResume(
+            byte[] fileContent, String fileName, String fileType) {
+        com.cvibe.grpc.ai.ParseResumeRequest request = com.cvibe.grpc.ai.ParseResumeRequest.newBuilder()
+                .setFileContent(UnsafeByteOperations.unsafeWrap(fileContent))
+                .setFileName(fileName)
+                .setFileType(fileType)
+                .build();
+        return unary("ParseResume", request, AIEngineGrpc.AIEngineStub::parseResume,
+                AIEngineClient::toResumeParseResult);
+    }
+
+    /**
+     * 生成简历（流式）
+     */
+    public Flow.Publisher<com.cvibe.grpc.ai.BuildResumeChunk> buildResume(
+            com.cvibe.grpc.ai.BuildResumeRequest request) {
+        return serverStreaming("BuildResume", request, AIEngineGrpc.AIEngineStub::buildResume);
+    }
+
+    // ==================== AI Interview ====================
+
+    /**
+     * 开始 AI 面试
+     */
+    public CompletableFuture<AIEngineClient.StartInterviewResult> startInterview(
+            String userId,
+            String sessionId,
+            String jobTitle,
+            String jobDescription,
+            String resumeContent,
+            String language,
+            String difficulty
+    ) {
+        com.cvibe.grpc.ai.StartInterviewRequest request = com.cvibe.grpc.ai.StartInterviewRequest.newBuilder()
+                .setUserId(userId)
+                .setSessionId(sessionId)
+                .setJobTitle(jobTitle)
+                .setJobDescription(jobDescription != null ? jobDescription : "")
+                .setResumeContent(resumeContent != null ? resumeContent : "")
+                .setConfig(com.cvibe.grpc.ai.InterviewConfig.newBuilder()
+                        .setLanguage(language != null ? language : "zh")
+                        .setDifficulty(difficulty != null ? difficulty : "medium")
+                        .build())
+                .build();
+        return unary("StartInterview", request, AIEngineGrpc.AIEngineStub::startInterview,
+                response -> AIEngineClient.StartInterviewResult.builder()
+                        .success(response.getSuccess())
+                        .welcomeMessage(response.getWelcomeMessage())
+                        .firstQuestion(response.getFirstQuestion())
+                        .build());
+    }
+
+    /**
+     * 发送面试消息（流式）
+     */
+    public Flow.Publisher<com.cvibe.grpc.ai.MessageChunk> sendInterviewMessage(String sessionId, String userMessage) {
+        com.cvibe.grpc.ai.SendMessageRequest request = com.cvibe.grpc.ai.SendMessageRequest.newBuilder()
+                .setSessionId(sessionId)
+                .setUserMessage(userMessage)
+                .build();
+        return serverStreaming("SendInterviewMessage", request, AIEngineGrpc.AIEngineStub::sendInterviewMessage);
+    }
+
+    // ==================== Profile Interview ====================
+
+    /**
+     * 开始信息收集面试
+     */
+    public CompletableFuture<AIEngineClient.StartProfileInterviewResult> startProfileInterview(
+            String userId,
+            String sessionId,
+            String language,
+            String existingProfile
+    ) {
+        com.cvibe.grpc.ai.StartProfileInterviewRequest.Builder requestBuilder =
+                com.cvibe.grpc.ai.StartProfileInterviewRequest.newBuilder()
+                        .setUserId(userId)
+                        .setSessionId(sessionId)
+                        .setLanguage(language != null ? language : "zh");
+        if (existingProfile != null) {
+            requestBuilder.setExistingProfile(existingProfile);
+        }
+        return unary("StartProfileInterview", requestBuilder.build(),
+                AIEngineGrpc.AIEngineStub::startProfileInterview,
+                response -> AIEngineClient.StartProfileInterviewResult.builder()
+                        .success(response.getSuccess())
+                        .welcomeMessage(response.getWelcomeMessage())
+                        .firstQuestion(response.getFirstQuestion())
+                        .currentPhase(response.getCurrentPhase())
+                        .build());
+    }
+
+    /**
+     * 发送信息收集面试消息（流式，包含 [THINKING] 心跳块）
+     */
+    public Flow.Publisher<com.cvibe.grpc.ai.ProfileInterviewChunk> sendProfileInterviewMessage(
+            String sessionId, String userMessage) {
+        com.cvibe.grpc.ai.ProfileInterviewMessageRequest request =
+                com.cvibe.grpc.ai.ProfileInterviewMessageRequest.newBuilder()
+                        .setSessionId(sessionId)
+                        .setUserMessage(userMessage)
+                        .build();
+        return serverStreaming("SendProfileInterviewMessage", request,
+                AIEngineGrpc.AIEngineStub::sendProfileInterviewMessage);
+    }
+
+    /**
+     * 获取信息收集面试状态
+     */
+    public CompletableFuture<AIEngineClient.ProfileInterviewStateResult> getProfileInterviewState(String sessionId) {
+        com.cvibe.grpc.ai.GetProfileInterviewStateRequest request =
+                com.cvibe.grpc.ai.GetProfileInterviewStateRequest.newBuilder()
+                        .setSessionId(sessionId)
+                        .build();
+        return unary("GetProfileInterviewState", request, AIEngineGrpc.AIEngineStub::getProfileInterviewState,
+                response -> AIEngineClient.ProfileInterviewStateResult.builder()
+                        .success(response.getSuccess())
+                        .sessionId(response.getSessionId())
+                        .userId(response.getUserId())
+                        .currentPhase(response.getCurrentPhase())
+                        .phaseName(response.getPhaseName())
+                        .turnCount(response.getTurnCount())
+                        .status(response.getStatus())
+                        .portraitSummary(response.getPortraitSummary())
+                        .build());
+    }
+
+    /**
+     * 结束信息收集面试并提取结构化 Profile
+     */
+    public CompletableFuture<AIEngineClient.CollectedProfileResult> finishProfileInterview(String sessionId) {
+        com.cvibe.grpc.ai.FinishProfileInterviewRequest request =
+                com.cvibe.grpc.ai.FinishProfileInterviewRequest.newBuilder()
+                        .setSessionId(sessionId)
+                        .build();
+        return unary("FinishProfileInterview", request, AIEngineGrpc.AIEngineStub::finishProfileInterview,
+                response -> AIEngineClient.CollectedProfileResult.builder()
+                        .success(response.getSuccess())
+                        .profileJson(response.getProfileJson())
+                        .completenessScore(response.getCompletenessScore())
+                        .missingSections(new ArrayList<>(response.getMissingSectionsList()))
+                        .errorMessage(response.getErrorMessage())
+                        .build());
+    }
+
+    // ==================== Mock Interview ====================
+
+    /**
+     * 开始模拟面试
+     */
+    public CompletableFuture<AIEngineClient.StartMockResult> startMockInterview(
+            String userId,
+            String sessionId,
+            String jobTitle,
+            String interviewType,
+            int questionCount,
+            String language
+    ) {
+        com.cvibe.grpc.ai.StartMockRequest request = com.cvibe.grpc.ai.StartMockRequest.newBuilder()
+                .setUserId(userId)
+                .setSessionId(sessionId)
+                .setJobTitle(jobTitle)
+                .setInterviewType(interviewType != null ? interviewType : "MIXED")
+                .setQuestionCount(questionCount)
+                .setLanguage(language != null ? language : "zh")
+                .build();
+        return unary("StartMockInterview", request, AIEngineGrpc.AIEngineStub::startMockInterview,
+                response -> AIEngineClient.StartMockResult.builder()
+                        .success(response.getSuccess())
+                        .sessionId(response.getSessionId())
+                        .totalQuestions(response.getTotalQuestions())
+                        .build());
+    }
+
+    /**
+     * 获取模拟面试下一题
+     */
+    public CompletableFuture<com.cvibe.grpc.ai.QuestionResponse> getNextQuestion(String sessionId, int questionIndex) {
+        com.cvibe.grpc.ai.GetQuestionRequest request = com.cvibe.grpc.ai.GetQuestionRequest.newBuilder()
+                .setSessionId(sessionId)
+                .setQuestionIndex(questionIndex)
+                .build();
+        return unary("GetNextQuestion", request, AIEngineGrpc.AIEngineStub::getNextQuestion);
+    }
+
+    /**
+     * 评估模拟面试答案
+     */
+    public CompletableFuture<AIEngineClient.EvaluationResult> evaluateAnswer(
+            String sessionId,
+            int questionIndex,
+            String question,
+            String answerText
+    ) {
+        com.cvibe.grpc.ai.EvaluateAnswerRequest request = com.cvibe.grpc.ai.EvaluateAnswerRequest.newBuilder()
+                .setSessionId(sessionId)
+                .setQuestionIndex(questionIndex)
+                .setQuestion(question)
+                .setAnswerText(answerText)
+                .build();
+        return unary("EvaluateAnswer", request, AIEngineGrpc.AIEngineStub::evaluateAnswer,
+                response -> AIEngineClient.EvaluationResult.builder()
+                        .score(response.getScore())
+                        .feedback(response.getFeedback())
+                        .strengths(new ArrayList<>(response.getStrengthsList()))
+                        .improvements(new ArrayList<>(response.getImprovementsList()))
+                        .build());
+    }
+
+    /**
+     * 结束模拟面试并生成报告
+     */
+    public CompletableFuture<com.cvibe.grpc.ai.MockReportResponse> finishMockInterview(String sessionId) {
+        com.cvibe.grpc.ai.FinishMockRequest request = com.cvibe.grpc.ai.FinishMockRequest.newBuilder()
+                .setSessionId(sessionId)
+                .build();
+        return unary("FinishMockInterview", request, AIEngineGrpc.AIEngineStub::finishMockInterview);
+    }
+
+    // ==================== Growth ====================
+
+    /**
+     * 差距分析
+     */
+    public CompletableFuture<AIEngineClient.GapAnalysisResult> analyzeGap(
+            String userId,
+            String goalTitle,
+            String targetDate,
+            AIEngineClient.ProfileDataDto profile
+    ) {
+        com.cvibe.grpc.ai.GapAnalysisRequest request =
+                AIEngineClient.buildGapAnalysisRequest(userId, goalTitle, targetDate, profile);
+        return unary("AnalyzeGap", request, AIEngineGrpc.AIEngineStub::analyzeGap,
+                AIEngineClient::toGapAnalysisResult);
+    }
+
+    /**
+     * 生成学习路径（流式）
+     */
+    public Flow.Publisher<com.cvibe.grpc.ai.LearningPathChunk> generateLearningPath(
+            String userId,
+            String goalId,
+            List<AIEngineClient.GapItem> gaps,
+            String preferredStyle
+    ) {
+        com.cvibe.grpc.ai.LearningPathRequest.Builder requestBuilder =
+                com.cvibe.grpc.ai.LearningPathRequest.newBuilder()
+                        .setUserId(userId)
+                        .setGoalId(goalId)
+                        .setPreferredStyle(preferredStyle != null ? preferredStyle : "MIXED");
+        for (AIEngineClient.GapItem gap : gaps) {
+            requestBuilder.addGaps(com.cvibe.grpc.ai.GapItem.newBuilder()
+                    .setSkill(gap.getSkill())
+                    .setCurrentLevel(gap.getCurrentLevel())
+                    .setRequiredLevel(gap.getRequiredLevel())
+                    .setPriority(gap.getPriority())
+                    .build());
+        }
+        return serverStreaming("GenerateLearningPath", requestBuilder.build(),
+                AIEngineGrpc.AIEngineStub::generateLearningPath);
+    }
+
+    // ==================== Job ====================
+
+    /**
+     * 职位分析
+     */
+    public CompletableFuture<com.cvibe.grpc.ai.JobAnalysisResponse> analyzeJob(
+            String jobId, String jobTitle, String jobDescription, String company) {
+        com.cvibe.grpc.ai.AnalyzeJobRequest request = com.cvibe.grpc.ai.AnalyzeJobRequest.newBuilder()
+                .setJobId(jobId != null ? jobId : "")
+                .setJobTitle(jobTitle != null ? jobTitle : "")
+                .setJobDescription(jobDescription != null ? jobDescription : "")
+                .setCompany(company != null ? company : "")
+                .build();
+        return unary("AnalyzeJob", request, AIEngineGrpc.AIEngineStub::analyzeJob);
+    }
+
+    // ==================== Servlet integration ====================
+
+    /**
+     * 将 future 绑定到 Spring MVC 异步请求
+     *
+     * 请求超时、出错或客户端断开时取消 future，进而取消底层 gRPC 调用，
+     * 避免客户端已经离开后仍然占用 AI Engine 资源。异步请求超时与调用 deadline 保持一致。
+     */
+    public <T> DeferredResult<T> toDeferredResult(CompletableFuture<T> future) {
+        DeferredResult<T> result = new DeferredResult<>(deadline.toMillis());
+        future.whenComplete((value, error) -> {
+            if (error != null) {
+                result.setErrorResult(unwrap(error));
+            } else {
+                result.setResult(value);
+            }
+        });
+        result.onTimeout(() -> future.cancel(true));
+        result.onError(error -> future.cancel(true));
+        result.onCompletion(() -> future.cancel(true));
+        return result;
+    }
+
+    /**
+     * 与 {@link CompletableFuture#handle} 相同，但派生 future 被取消时会同时取消 source，
+     * 让 {@link #toDeferredResult} 的取消能一直传递到 gRPC 调用
+     */
+    public static <T, R> CompletableFuture<R> handle(
+            CompletableFuture<T> source, BiFunction<? super T, Throwable, ? extends R> fn) {
+        CompletableFuture<R> derived = source.handle(fn);
+        derived.whenComplete((value, error) -> {
+            if (derived.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+        return derived;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        if (error instanceof java.util.concurrent.CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+
+    // ==================== Call plumbing ====================
+
+    /**
+     * 在 stub 上发起一次调用，例如 {@code AIEngineGrpc.AIEngineStub::parseResume}
+     */
+    @FunctionalInterface
+    private interface StubCall<ReqT, RespT> {
+        void start(AIEngineGrpc.AIEngineStub stub, ReqT request, StreamObserver<RespT> observer);
+    }
+
+    private AIEngineGrpc.AIEngineStub stubWithDeadline() {
+        return asyncStub.withDeadlineAfter(deadline.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 获取一个调用配额，失败时返回对应的异常
+     */
+    private GrpcException tryAcquire(String method) {
+        if (asyncStub == null) {
+            return new GrpcException("AI Engine not available");
+        }
+        if (!outstandingCalls.tryAcquire()) {
+            log.warn("AI Engine {} rejected: {} outstanding calls", method, maxOutstandingCalls);
+            return new GrpcException("AI Engine is busy, too many outstanding calls");
+        }
+        return null;
+    }
+
+    private <ReqT, RespT> CompletableFuture<RespT> unary(String method, ReqT request, StubCall<ReqT, RespT> call) {
+        return unary(method, request, call, Function.identity());
+    }
+
+    /**
+     * 发起 unary 调用，响应转换在 gRPC 回调中完成，
+     * 保证调用方拿到的 future 被取消时能直接取消底层调用（thenApply 派生的 future 做不到这一点）
+     */
+    private <ReqT, RespT, R> CompletableFuture<R> unary(
+            String method, ReqT request, StubCall<ReqT, RespT> call, Function<RespT, R> mapper) {
+        GrpcException rejected = tryAcquire(method);
+        if (rejected != null) {
+            return CompletableFuture.failedFuture(rejected);
+        }
+
+        CompletableFuture<R> future = new CompletableFuture<>();
+        ClientResponseObserver<ReqT, RespT> observer = new ClientResponseObserver<>() {
+            @Override
+            public void beforeStart(ClientCallStreamObserver<ReqT> requestStream) {
+                // 调用方取消 future 时取消 gRPC 调用
+                future.whenComplete((value, error) -> {
+                    if (future.isCancelled()) {
+                        requestStream.cancel("Cancelled by caller", null);
+                    }
+                });
+            }
+
+            @Override
+            public void onNext(RespT value) {
+                try {
+                    future.complete(mapper.apply(value));
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                log.error("AI Engine {} error: {}", method, t.getMessage());
+                future.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+                if (!future.isDone()) {
+                    future.completeExceptionally(new GrpcException("AI Engine " + method + " returned no response"));
+                }
+            }
+        };
+
+        future.whenComplete((value, error) -> outstandingCalls.release());
+        try {
+            call.start(stubWithDeadline(), request, observer);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private <ReqT, RespT> Flow.Publisher<RespT> serverStreaming(
+            String method, ReqT request, StubCall<ReqT, RespT> call) {
+        return subscriber -> {
+            GrpcException rejected = tryAcquire(method);
+            if (rejected != null) {
+                subscriber.onSubscribe(new Flow.Subscription() {
+                    @Override
+                    public void request(long n) {
+                    }
+
+                    @Override
+                    public void cancel() {
+                    }
+                });
+                subscriber.onError(rejected);
+                return;
+            }
+            new GrpcStreamPublisher<ReqT, RespT>(
+                    method,
+                    request,
+                    (req, observer) -> call.start(stubWithDeadline(), req, observer),
+                    outstandingCalls::release
+            ).subscribe(subscriber);
+        };
+    }
+}
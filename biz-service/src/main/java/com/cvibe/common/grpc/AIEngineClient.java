@@ -1,17 +1,27 @@
 package com.cvibe.common.grpc;
 
-import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import io.grpc.ManagedChannel;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
 import lombok.Data;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 import lombok.Builder;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 
 /**
@@ -24,12 +34,18 @@ import java.util.function.Consumer;
 @Component
 public class AIEngineClient {
 
+    // 流式上传简历的分块大小
+    private static final int PARSE_CHUNK_SIZE = 64 * 1024;
+
     private final GrpcConfig grpcConfig;
+    private final long deadlineMs;
     private com.cvibe.grpc.ai.AIEngineGrpc.AIEngineBlockingStub blockingStub;
     private com.cvibe.grpc.ai.AIEngineGrpc.AIEngineStub asyncStub;
 
-    public AIEngineClient(GrpcConfig grpcConfig) {
+    public AIEngineClient(GrpcConfig grpcConfig,
+                          @Value("${grpc.ai-engine.deadline-ms:300000}") long deadlineMs) {
         this.grpcConfig = grpcConfig;
+        this.deadlineMs = deadlineMs;
         initStubs();
     }
 
@@ -52,164 +68,203 @@ public class AIEngineClient {
         return blockingStub != null;
     }
 
-    // 获取带有超时设置的 stub (5 minutes for slow models like DeepSeek-R1)
+    // 获取带有超时设置的 stub (grpc.ai-engine.deadline-ms，默认 5 分钟以适配 DeepSeek-R1 等慢模型)
     private com.cvibe.grpc.ai.AIEngineGrpc.AIEngineBlockingStub getStubWithDeadline() {
-        return blockingStub.withDeadlineAfter(300, TimeUnit.SECONDS);
+        return blockingStub.withDeadlineAfter(deadlineMs, TimeUnit.MILLISECONDS);
     }
 
     /**
-     * 解析简历 - 使用 VLM 提取详细结构化数据
+     * 解析简历 - 只发送本地提取的文本层
+     *
+     * 请求不携带文件内容，AI Engine 直接走文本 LLM，不调用视觉模型。
+     * AI Engine 未配置时返回占位数据；调用失败时抛出 {@link GrpcException}，不返回占位数据。
+     *
+     * @throws InterruptedException 调用线程被中断，调用已取消
      */
-    public ResumeParseResult parseResume(byte[] fileContent, String fileName, String fileType) {
-        log.info("AI Engine: ParseResume for file: {}, type: {}, size: {} bytes", 
-                fileName, fileType, fileContent.length);
-        
+    public ResumeParseResult parseResumeText(String extractedText, String fileName, String fileType)
+            throws InterruptedException {
+        log.info("AI Engine: ParseResume (text) for file: {}, type: {}, chars: {}",
+                fileName, fileType, extractedText.length());
+
         if (!isAvailable()) {
             log.warn("AI Engine not available, returning mock data");
             return mockParseResume(fileName);
         }
 
         try {
-            // 构建请求
             com.cvibe.grpc.ai.ParseResumeRequest request = com.cvibe.grpc.ai.ParseResumeRequest.newBuilder()
-                    .setFileContent(ByteString.copyFrom(fileContent))
-                    .setFileName(fileName)
-                    .setFileType(fileType)
+                    .setExtractedText(extractedText)
+                    .setFileName(fileName != null ? fileName : "")
+                    .setFileType(fileType != null ? fileType : "")
                     .build();
 
-            // 调用 gRPC - 每次调用时设置新的 deadline
             com.cvibe.grpc.ai.ParseResumeResponse response = getStubWithDeadline().parseResume(request);
 
-            if (!response.getSuccess()) {
-                log.error("AI Engine ParseResume failed: {}", response.getErrorMessage());
-                return ResumeParseResult.builder()
-                        .success(false)
-                        .errorMessage(response.getErrorMessage())
-                        .build();
+            ResumeParseResult result = toResumeParseResult(response);
+            if (result.isSuccess()) {
+                log.info("AI Engine ParseResume (text) success: name={}, skills={}, exp={}, edu={}, projects={}",
+                        result.getName(),
+                        result.getSkills().size(),
+                        result.getExperiences().size(),
+                        result.getEducations().size(),
+                        result.getProjects().size());
             }
 
-            // 转换响应
-            com.cvibe.grpc.ai.ResumeData data = response.getData();
-            
-            ResumeParseResult result = ResumeParseResult.builder()
-                    .success(true)
-                    // 个人信息
-                    .name(data.getName())
-                    .email(data.getEmail())
-                    .phone(data.getPhone())
-                    .linkedin(data.getLinkedin())
-                    .github(data.getGithub())
-                    .website(data.getWebsite())
-                    .location(data.getLocation())
-                    // 概要
-                    .headline(data.getHeadline())
-                    .summary(data.getSummary())
-                    .rawText(data.getRawText())
-                    .build();
+            return result;
 
-            // 转换技能
-            List<SkillData> skills = new ArrayList<>();
-            for (com.cvibe.grpc.ai.SkillData skill : data.getSkillsList()) {
-                skills.add(SkillData.builder()
-                        .name(skill.getName())
-                        .level(skill.getLevel())
-                        .category(skill.getCategory())
-                        .build());
-            }
-            result.setSkills(skills);
-
-            // 转换工作经历
-            List<ExperienceData> experiences = new ArrayList<>();
-            for (com.cvibe.grpc.ai.ExperienceData exp : data.getExperiencesList()) {
-                experiences.add(ExperienceData.builder()
-                        .company(exp.getCompany())
-                        .title(exp.getTitle())
-                        .location(exp.getLocation())
-                        .employmentType(exp.getEmploymentType())
-                        .startDate(exp.getStartDate())
-                        .endDate(exp.getEndDate())
-                        .isCurrent(exp.getIsCurrent())
-                        .description(exp.getDescription())
-                        .achievements(new ArrayList<>(exp.getAchievementsList()))
-                        .technologies(new ArrayList<>(exp.getTechnologiesList()))
-                        .build());
-            }
-            result.setExperiences(experiences);
-
-            // 转换教育经历
-            List<EducationData> educations = new ArrayList<>();
-            for (com.cvibe.grpc.ai.EducationData edu : data.getEducationsList()) {
-                educations.add(EducationData.builder()
-                        .school(edu.getSchool())
-                        .degree(edu.getDegree())
-                        .field(edu.getField())
-                        .location(edu.getLocation())
-                        .startDate(edu.getStartDate())
-                        .endDate(edu.getEndDate())
-                        .gpa(edu.getGpa())
-                        .description(edu.getDescription())
-                        .activities(new ArrayList<>(edu.getActivitiesList()))
-                        .honors(new ArrayList<>(edu.getHonorsList()))
-                        .build());
+        } catch (StatusRuntimeException e) {
+            // 阻塞调用被中断时 gRPC 已取消调用并恢复中断标志
+            if (Thread.interrupted()) {
+                throw new InterruptedException("AI Engine ParseResume (text) interrupted");
             }
-            result.setEducations(educations);
-
-            // 转换项目经历
-            List<ProjectData> projects = new ArrayList<>();
-            for (com.cvibe.grpc.ai.ProjectData proj : data.getProjectsList()) {
-                projects.add(ProjectData.builder()
-                        .name(proj.getName())
-                        .description(proj.getDescription())
-                        .url(proj.getUrl())
-                        .repoUrl(proj.getRepoUrl())
-                        .technologies(new ArrayList<>(proj.getTechnologiesList()))
-                        .startDate(proj.getStartDate())
-                        .endDate(proj.getEndDate())
-                        .highlights(new ArrayList<>(proj.getHighlightsList()))
+            throw new GrpcException("AI Engine ParseResume (text) failed: " + e.getStatus(), e);
+        }
+    }
+
+    /**
+     * 解析简历 - 客户端流式上传
+     *
+     * 文件按 {@link #PARSE_CHUNK_SIZE} 分块从输入流直接发送，不在内存中拼出完整文件；
+     * 发送受 gRPC 流控约束（等待 isReady），每次上传的堆占用与文件大小无关。
+     * 调用方负责关闭输入流。
+     * AI Engine 未配置时返回占位数据；上传或调用失败时抛出 {@link GrpcException}，不返回占位数据。
+     * 在收到响应之前退出（失败或被中断）时取消调用，AI Engine 端的解析随之停止。
+     *
+     * @param fileSize 文件总字节数，未知时传 0
+     * @throws InterruptedException 调用线程被中断，调用已取消
+     */
+    public ResumeParseResult parseResume(InputStream content, long fileSize, String fileName, String fileType)
+            throws InterruptedException {
+        log.info("AI Engine: ParseResumeStream for file: {}, type: {}, size: {} bytes",
+                fileName, fileType, fileSize);
+
+        if (!isAvailable()) {
+            log.warn("AI Engine not available, returning mock data");
+            return mockParseResume(fileName);
+        }
+
+        CompletableFuture<com.cvibe.grpc.ai.ParseResumeResponse> responseFuture = new CompletableFuture<>();
+        ReadySignal ready = new ReadySignal();
+        ClientResponseObserver<com.cvibe.grpc.ai.ParseResumeChunk, com.cvibe.grpc.ai.ParseResumeResponse> observer =
+                new ClientResponseObserver<>() {
+                    @Override
+                    public void beforeStart(ClientCallStreamObserver<com.cvibe.grpc.ai.ParseResumeChunk> requestStream) {
+                        requestStream.setOnReadyHandler(ready::signal);
+                    }
+
+                    @Override
+                    public void onNext(com.cvibe.grpc.ai.ParseResumeResponse value) {
+                        responseFuture.complete(value);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        responseFuture.completeExceptionally(t);
+                        ready.signal();
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        responseFuture.completeExceptionally(new GrpcException("AI Engine ParseResumeStream returned no response"));
+                        ready.signal();
+                    }
+                };
+
+        ClientCallStreamObserver<com.cvibe.grpc.ai.ParseResumeChunk> requests =
+                (ClientCallStreamObserver<com.cvibe.grpc.ai.ParseResumeChunk>)
+                        asyncStub.withDeadlineAfter(deadlineMs, TimeUnit.MILLISECONDS).parseResumeStream(observer);
+        Throwable failure = null;
+        try {
+            requests.onNext(com.cvibe.grpc.ai.ParseResumeChunk.newBuilder()
+                    .setMetadata(com.cvibe.grpc.ai.ParseResumeMetadata.newBuilder()
+                            .setFileName(fileName != null ? fileName : "")
+                            .setFileType(fileType != null ? fileType : "")
+                            .setFileSize(Math.max(fileSize, 0))
+                            .build())
+                    .build());
+
+            long sent = 0;
+            while (true) {
+                // 每块使用新数组并零拷贝包装：已发送的消息可能仍被通道的重试缓冲引用，复用数组会改写其内容
+                byte[] chunk = new byte[PARSE_CHUNK_SIZE];
+                int read = content.readNBytes(chunk, 0, chunk.length);
+                if (read == 0) {
+                    break;
+                }
+                ready.await(() -> requests.isReady() || responseFuture.isDone());
+                if (responseFuture.isDone()) {
+                    // 服务端已提前结束调用
+                    break;
+                }
+                requests.onNext(com.cvibe.grpc.ai.ParseResumeChunk.newBuilder()
+                        .setData(UnsafeByteOperations.unsafeWrap(chunk, 0, read))
                         .build());
+                sent += read;
             }
-            result.setProjects(projects);
-
-            // 转换证书
-            List<CertificationData> certifications = new ArrayList<>();
-            for (com.cvibe.grpc.ai.CertificationData cert : data.getCertificationsList()) {
-                certifications.add(CertificationData.builder()
-                        .name(cert.getName())
-                        .issuer(cert.getIssuer())
-                        .date(cert.getDate())
-                        .url(cert.getUrl())
-                        .build());
+            requests.onCompleted();
+            log.debug("ParseResumeStream sent {} bytes for file: {}", sent, fileName);
+
+            ResumeParseResult result = toResumeParseResult(responseFuture.get());
+            if (result.isSuccess()) {
+                log.info("AI Engine ParseResumeStream success: name={}, skills={}, exp={}, edu={}, projects={}",
+                        result.getName(),
+                        result.getSkills().size(),
+                        result.getExperiences().size(),
+                        result.getEducations().size(),
+                        result.getProjects().size());
             }
-            result.setCertifications(certifications);
-
-            // 转换语言能力
-            List<LanguageData> languages = new ArrayList<>();
-            for (com.cvibe.grpc.ai.LanguageData lang : data.getLanguagesList()) {
-                languages.add(LanguageData.builder()
-                        .language(lang.getLanguage())
-                        .proficiency(lang.getProficiency())
-                        .build());
+            return result;
+
+        } catch (InterruptedException e) {
+            failure = e;
+            log.warn("AI Engine ParseResumeStream interrupted, cancelling call for file: {}", fileName);
+            throw e;
+        } catch (ExecutionException e) {
+            failure = e.getCause();
+            throw new GrpcException("AI Engine ParseResumeStream failed: " + e.getCause().getMessage(), e.getCause());
+        } catch (IOException e) {
+            failure = e;
+            throw new GrpcException("AI Engine ParseResumeStream upload failed: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            // 没有等到响应就退出时取消调用，否则 AI Engine 会一直解析到 deadline
+            if (!responseFuture.isDone()) {
+                requests.cancel("client gave up", failure);
             }
-            result.setLanguages(languages);
+        }
+    }
 
-            // 成就
-            result.setAchievements(new ArrayList<>(data.getAchievementsList()));
+    /**
+     * 流式上传的可写信号：onReady 回调唤醒等待中的发送线程
+     *
+     * 使用 Lock 而不是 synchronized，避免在虚拟线程中等待时占住载体线程。
+     */
+    private static final class ReadySignal {
 
-            log.info("AI Engine ParseResume success: name={}, skills={}, exp={}, edu={}, projects={}",
-                    result.getName(), 
-                    result.getSkills().size(),
-                    result.getExperiences().size(),
-                    result.getEducations().size(),
-                    result.getProjects().size());
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition changed = lock.newCondition();
 
-            return result;
+        void signal() {
+            lock.lock();
+            try {
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
 
-        } catch (StatusRuntimeException e) {
-            log.error("AI Engine gRPC call failed: {}", e.getStatus(), e);
-            return mockParseResume(fileName);
-        } catch (Exception e) {
-            log.error("AI Engine ParseResume error", e);
-            return mockParseResume(fileName);
+        void await(BooleanSupplier condition) throws InterruptedException {
+            lock.lock();
+            try {
+                while (!condition.getAsBoolean()) {
+                    // 超时兜底：isReady 变化与 onReady 回调之间存在竞态
+                    changed.await(100, TimeUnit.MILLISECONDS);
+                }
+            } finally {
+                lock.unlock();
+            }
         }
     }
 
@@ -332,39 +387,10 @@ public class AIEngineClient {
         }
 
         try {
-            com.cvibe.grpc.ai.ProfileData.Builder profileBuilder = com.cvibe.grpc.ai.ProfileData.newBuilder()
-                    .setName(profile.getName() != null ? profile.getName() : "")
-                    .setTitle(profile.getTitle() != null ? profile.getTitle() : "")
-                    .setSummary(profile.getSummary() != null ? profile.getSummary() : "");
-            
-            if (profile.getSkills() != null) {
-                profileBuilder.addAllSkills(profile.getSkills());
-            }
-
-            com.cvibe.grpc.ai.GapAnalysisRequest request = com.cvibe.grpc.ai.GapAnalysisRequest.newBuilder()
-                    .setUserId(userId)
-                    .setGoalTitle(goalTitle)
-                    .setTargetDate(targetDate != null ? targetDate : "")
-                    .setCurrentProfile(profileBuilder.build())
-                    .build();
-
-            com.cvibe.grpc.ai.GapAnalysisResponse response = getStubWithDeadline().analyzeGap(request);
+            com.cvibe.grpc.ai.GapAnalysisResponse response =
+                    getStubWithDeadline().analyzeGap(buildGapAnalysisRequest(userId, goalTitle, targetDate, profile));
 
-            GapAnalysisResult result = new GapAnalysisResult();
-            result.setReadinessScore(response.getReadinessScore());
-            result.setRecommendations(new ArrayList<>(response.getRecommendationsList()));
-
-            List<GapItem> gaps = new ArrayList<>();
-            for (com.cvibe.grpc.ai.GapItem gap : response.getGapsList()) {
-                gaps.add(new GapItem(
-                        gap.getSkill(),
-                        gap.getCurrentLevel(),
-                        gap.getRequiredLevel(),
-                        gap.getPriority()));
-            }
-            result.setGaps(gaps);
-
-            return result;
+            return toGapAnalysisResult(response);
 
         } catch (Exception e) {
             log.error("AI Engine AnalyzeGap error", e);
@@ -723,6 +749,171 @@ public class AIEngineClient {
         }
     }
 
+    // ==================== Converters ====================
+
+    /**
+     * 将 ParseResume 响应转换为 ResumeParseResult（同步/异步客户端共用）
+     */
+    static ResumeParseResult toResumeParseResult(com.cvibe.grpc.ai.ParseResumeResponse response) {
+        if (!response.getSuccess()) {
+            log.error("AI Engine ParseResume failed: {}", response.getErrorMessage());
+            return ResumeParseResult.builder()
+                    .success(false)
+                    .errorMessage(response.getErrorMessage())
+                    .build();
+        }
+
+        com.cvibe.grpc.ai.ResumeData data = response.getData();
+        
+        ResumeParseResult result = ResumeParseResult.builder()
+                .success(true)
+                // 个人信息
+                .name(data.getName())
+                .email(data.getEmail())
+                .phone(data.getPhone())
+                .linkedin(data.getLinkedin())
+                .github(data.getGithub())
+                .website(data.getWebsite())
+                .location(data.getLocation())
+                // 概要
+                .headline(data.getHeadline())
+                .summary(data.getSummary())
+                .rawText(data.getRawText())
+                .build();
+
+        // 转换技能
+        List<SkillData> skills = new ArrayList<>();
+        for (com.cvibe.grpc.ai.SkillData skill : data.getSkillsList()) {
+            skills.add(SkillData.builder()
+                    .name(skill.getName())
+                    .level(skill.getLevel())
+                    .category(skill.getCategory())
+                    .build());
+        }
+        result.setSkills(skills);
+
+        // 转换工作经历
+        List<ExperienceData> experiences = new ArrayList<>();
+        for (com.cvibe.grpc.ai.ExperienceData exp : data.getExperiencesList()) {
+            experiences.add(ExperienceData.builder()
+                    .company(exp.getCompany())
+                    .title(exp.getTitle())
+                    .location(exp.getLocation())
+                    .employmentType(exp.getEmploymentType())
+                    .startDate(exp.getStartDate())
+                    .endDate(exp.getEndDate())
+                    .isCurrent(exp.getIsCurrent())
+                    .description(exp.getDescription())
+                    .achievements(new ArrayList<>(exp.getAchievementsList()))
+                    .technologies(new ArrayList<>(exp.getTechnologiesList()))
+                    .build());
+        }
+        result.setExperiences(experiences);
+
+        // 转换教育经历
+        List<EducationData> educations = new ArrayList<>();
+        for (com.cvibe.grpc.ai.EducationData edu : data.getEducationsList()) {
+            educations.add(EducationData.builder()
+                    .school(edu.getSchool())
+                    .degree(edu.getDegree())
+                    .field(edu.getField())
+                    .location(edu.getLocation())
+                    .startDate(edu.getStartDate())
+                    .endDate(edu.getEndDate())
+                    .gpa(edu.getGpa())
+                    .description(edu.getDescription())
+                    .activities(new ArrayList<>(edu.getActivitiesList()))
+                    .honors(new ArrayList<>(edu.getHonorsList()))
+                    .build());
+        }
+        result.setEducations(educations);
+
+        // 转换项目经历
+        List<ProjectData> projects = new ArrayList<>();
+        for (com.cvibe.grpc.ai.ProjectData proj : data.getProjectsList()) {
+            projects.add(ProjectData.builder()
+                    .name(proj.getName())
+                    .description(proj.getDescription())
+                    .url(proj.getUrl())
+                    .repoUrl(proj.getRepoUrl())
+                    .technologies(new ArrayList<>(proj.getTechnologiesList()))
+                    .startDate(proj.getStartDate())
+                    .endDate(proj.getEndDate())
+                    .highlights(new ArrayList<>(proj.getHighlightsList()))
+                    .build());
+        }
+        result.setProjects(projects);
+
+        // 转换证书
+        List<CertificationData> certifications = new ArrayList<>();
+        for (com.cvibe.grpc.ai.CertificationData cert : data.getCertificationsList()) {
+            certifications.add(CertificationData.builder()
+                    .name(cert.getName())
+                    .issuer(cert.getIssuer())
+                    .date(cert.getDate())
+                    .url(cert.getUrl())
+                    .build());
+        }
+        result.setCertifications(certifications);
+
+        // 转换语言能力
+        List<LanguageData> languages = new ArrayList<>();
+        for (com.cvibe.grpc.ai.LanguageData lang : data.getLanguagesList()) {
+            languages.add(LanguageData.builder()
+                    .language(lang.getLanguage())
+                    .proficiency(lang.getProficiency())
+                    .build());
+        }
+        result.setLanguages(languages);
+
+        // 成就
+        result.setAchievements(new ArrayList<>(data.getAchievementsList()));
+
+        return result;
+    }
+
+    /**
+     * 构建差距分析请求（同步/异步客户端共用）
+     */
+    static com.cvibe.grpc.ai.GapAnalysisRequest buildGapAnalysisRequest(
+            String userId, String goalTitle, String targetDate, ProfileDataDto profile) {
+        com.cvibe.grpc.ai.ProfileData.Builder profileBuilder = com.cvibe.grpc.ai.ProfileData.newBuilder()
+                .setName(profile.getName() != null ? profile.getName() : "")
+                .setTitle(profile.getTitle() != null ? profile.getTitle() : "")
+                .setSummary(profile.getSummary() != null ? profile.getSummary() : "");
+
+        if (profile.getSkills() != null) {
+            profileBuilder.addAllSkills(profile.getSkills());
+        }
+
+        return com.cvibe.grpc.ai.GapAnalysisRequest.newBuilder()
+                .setUserId(userId)
+                .setGoalTitle(goalTitle)
+                .setTargetDate(targetDate != null ? targetDate : "")
+                .setCurrentProfile(profileBuilder.build())
+                .build();
+    }
+
+    /**
+     * 将差距分析响应转换为 GapAnalysisResult（同步/异步客户端共用）
+     */
+    static GapAnalysisResult toGapAnalysisResult(com.cvibe.grpc.ai.GapAnalysisResponse response) {
+        GapAnalysisResult result = new GapAnalysisResult();
+        result.setReadinessScore(response.getReadinessScore());
+        result.setRecommendations(new ArrayList<>(response.getRecommendationsList()));
+
+        List<GapItem> gaps = new ArrayList<>();
+        for (com.cvibe.grpc.ai.GapItem gap : response.getGapsList()) {
+            gaps.add(new GapItem(
+                    gap.getSkill(),
+                    gap.getCurrentLevel(),
+                    gap.getRequiredLevel(),
+                    gap.getPriority()));
+        }
+        result.setGaps(gaps);
+        return result;
+    }
+
     // ==================== Mock implementations ====================
 
     private ResumeParseResult mockParseResume(String fileName) {
@@ -730,6 +921,7 @@ public class AIEngineClient {
         
         ResumeParseResult result = ResumeParseResult.builder()
                 .success(true)
+                .mock(true)
                 .name("待解析")
                 .email("")
                 .phone("")
@@ -820,6 +1012,8 @@ public class AIEngineClient {
     @NoArgsConstructor
     public static class ResumeParseResult {
         private boolean success;
+        // AI Engine 不可用时返回的占位数据，不能缓存
+        private boolean mock;
         private String errorMessage;
         // 个人信息
         private String name;
@@ -7,6 +7,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -35,8 +37,13 @@ public class GrpcConfig {
     @Value("${grpc.search-service.enabled:false}")
     private boolean searchServiceEnabled;
 
+    // 0 表示按 CPU 核数建立连接
+    @Value("${grpc.search-service.pool-size:0}")
+    private int searchServicePoolSize;
+
     private ManagedChannel aiEngineChannel;
     private ManagedChannel searchServiceChannel;
+    private List<ManagedChannel> searchServiceChannelPool;
 
     @Bean
     public ManagedChannel aiEngineChannel() {
@@ -64,6 +71,35 @@ public class GrpcConfig {
         return searchServiceChannel;
     }
 
+    /**
+     * search-service 通道池
+     *
+     * 单个 HTTP/2 连接上的并发流数量受服务端限制，高并发检索时按核数建立多个连接分摊。
+     * 第一个通道即 {@link #searchServiceChannel()}，未启用时返回空列表。
+     */
+    public synchronized List<ManagedChannel> searchServiceChannels() {
+        if (searchServiceChannelPool != null) {
+            return searchServiceChannelPool;
+        }
+        ManagedChannel primary = searchServiceChannel();
+        if (primary == null) {
+            searchServiceChannelPool = List.of();
+            return searchServiceChannelPool;
+        }
+        int size = searchServicePoolSize > 0 ? searchServicePoolSize : Runtime.getRuntime().availableProcessors();
+        List<ManagedChannel> pool = new ArrayList<>(size);
+        pool.add(primary);
+        for (int i = 1; i < size; i++) {
+            pool.add(ManagedChannelBuilder
+                    .forAddress(searchServiceHost, searchServicePort)
+                    .usePlaintext()
+                    .maxInboundMessageSize(50 * 1024 * 1024)
+                    .build());
+        }
+        searchServiceChannelPool = List.copyOf(pool);
+        return searchServiceChannelPool;
+    }
+
     @PreDestroy
     public void shutdown() {
         try {
@@ -73,6 +109,13 @@ public class GrpcConfig {
             if (searchServiceChannel != null) {
                 searchServiceChannel.shutdown().awaitTermination(5, TimeUnit.SECONDS);
             }
+            if (searchServiceChannelPool != null) {
+                for (ManagedChannel channel : searchServiceChannelPool) {
+                    if (channel != searchServiceChannel) {
+                        channel.shutdown().awaitTermination(5, TimeUnit.SECONDS);
+                    }
+                }
+            }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
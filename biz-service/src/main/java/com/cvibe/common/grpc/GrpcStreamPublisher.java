@@ -0,0 +1,200 @@
+package com.cvibe.common.grpc;
+
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 将 gRPC server-streaming 调用适配为 {@link Flow.Publisher}
+ *
+ * - 单订阅者：调用在 subscribe 时才真正发起
+ * - 背压：关闭 gRPC 自动 request，按订阅者的 request(n) 向服务端拉取消息
+ * - 取消：订阅者 cancel 时取消底层 gRPC 调用
+ * - 调用真正结束时（onCompleted/onError，取消后 gRPC 同样以 onError 结束）回调一次 onTerminate，用于释放并发配额；
+ *   调用还未发起就被取消时在 subscribe 中回调
+ */
+@Slf4j
+final class GrpcStreamPublisher<ReqT, RespT> implements Flow.Publisher<RespT> {
+
+    /**
+     * 发起 server-streaming 调用的函数，例如 {@code stub::sendProfileInterviewMessage}
+     */
+    @FunctionalInterface
+    interface StreamingCall<ReqT, RespT> {
+        void start(ReqT request, ClientResponseObserver<ReqT, RespT> observer);
+    }
+
+    private final String method;
+    private final ReqT request;
+    private final StreamingCall<ReqT, RespT> call;
+    private final Runnable onTerminate;
+    private final AtomicBoolean subscribed = new AtomicBoolean(false);
+
+    GrpcStreamPublisher(String method, ReqT request, StreamingCall<ReqT, RespT> call, Runnable onTerminate) {
+        this.method = method;
+        this.request = request;
+        this.call = call;
+        this.onTerminate = onTerminate;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super RespT> subscriber) {
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException(method + " publisher supports a single subscriber"));
+            return;
+        }
+
+        StreamSubscription subscription = new StreamSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        if (subscription.isCancelled()) {
+            subscription.terminate();
+            return;
+        }
+
+        try {
+            call.start(request, subscription);
+        } catch (RuntimeException e) {
+            subscription.onError(e);
+            return;
+        }
+        subscription.started();
+    }
+
+    private final class StreamSubscription implements Flow.Subscription, ClientResponseObserver<ReqT, RespT> {
+
+        private final Flow.Subscriber<? super RespT> subscriber;
+        private final AtomicBoolean terminated = new AtomicBoolean(false);
+        private volatile boolean cancelled;
+        private ClientCallStreamObserver<ReqT> requestStream;
+        private boolean callStarted;
+        private long pendingDemand;
+
+        StreamSubscription(Flow.Subscriber<? super RespT> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        boolean isCancelled() {
+            return cancelled;
+        }
+
+        // ==================== Flow.Subscription ====================
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                if (!cancelled) {
+                    cancel();
+                    subscriber.onError(new IllegalArgumentException("request(n) must be positive, got " + n));
+                }
+                return;
+            }
+            ClientCallStreamObserver<ReqT> stream;
+            synchronized (this) {
+                if (!callStarted) {
+                    pendingDemand = addCapped(pendingDemand, n);
+                    return;
+                }
+                stream = requestStream;
+            }
+            stream.request(toInt(n));
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            ClientCallStreamObserver<ReqT> stream;
+            synchronized (this) {
+                stream = callStarted ? requestStream : null;
+            }
+            // 配额在调用以 onError 结束时释放，不在这里释放，否则反复取消的客户端可以超出并发上限；
+            // 调用尚未发起时由 subscribe/started 处理
+            if (stream != null) {
+                stream.cancel("Cancelled by subscriber", null);
+            }
+        }
+
+        /**
+         * 调用已发起：补发启动前累计的 demand
+         */
+        void started() {
+            long demand;
+            synchronized (this) {
+                callStarted = true;
+                demand = pendingDemand;
+                pendingDemand = 0;
+            }
+            if (cancelled) {
+                requestStream.cancel("Cancelled by subscriber", null);
+                return;
+            }
+            if (demand > 0) {
+                requestStream.request(toInt(demand));
+            }
+        }
+
+        /**
+         * 只执行一次，返回是否为首次终止
+         */
+        boolean terminate() {
+            if (terminated.compareAndSet(false, true)) {
+                onTerminate.run();
+                return true;
+            }
+            return false;
+        }
+
+        // ==================== ClientResponseObserver ====================
+
+        @Override
+        public void beforeStart(ClientCallStreamObserver<ReqT> requestStream) {
+            this.requestStream = requestStream;
+            requestStream.disableAutoRequestWithInitial(0);
+        }
+
+        @Override
+        public void onNext(RespT value) {
+            if (!cancelled) {
+                subscriber.onNext(value);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (terminate() && !cancelled) {
+                log.debug("gRPC {} stream failed: {}", method, t.getMessage());
+                subscriber.onError(t);
+            }
+        }
+
+        @Override
+        public void onCompleted() {
+            if (terminate() && !cancelled) {
+                subscriber.onComplete();
+            }
+        }
+
+        private long addCapped(long a, long b) {
+            long sum = a + b;
+            return sum < 0 ? Long.MAX_VALUE : sum;
+        }
+
+        private int toInt(long n) {
+            return n >= Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) n;
+        }
+    }
+}
@@ -0,0 +1,558 @@
+package com.cvibe.common.grpc;
+
+import com.cvibe.common.dto.Cursor;
+import com.cvibe.job.dto.JobDto;
+import com.cvibe.job.entity.ExperienceLevel;
+import com.cvibe.job.entity.Job;
+import com.cvibe.job.repository.JobRepository;
+import com.cvibe.job.service.MatchScoringEngine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * search-service 不可用时的进程内降级索引
+ *
+ * 基于 jobs 表最近发布的若干条职位构建倒排索引。启动时不构建（search-service 正常时索引用不到），
+ * 由第一次降级查询同步构建，其余同时到达的查询等待同一次构建，不会各自构建或返回空结果；
+ * 之后访问时发现超过 TTL 则在后台重建，查询始终使用现有索引。
+ * 构建时按 (postedAt, id) 游标分页读取，不做 COUNT 查询。
+ * 只覆盖 {@link SearchServiceClient} 的查询类接口，结果质量低于 search-service，
+ * 但保证返回的是真实职位而不是固定数据。
+ */
+@Slf4j
+@Component
+class LocalJobSearchIndex {
+
+    private static final int LOAD_PAGE_SIZE = 500;
+    private static final Pattern SALARY_PATTERN = Pattern.compile("(\\d{1,9})\\s*(k)?");
+
+    private final JobRepository jobRepository;
+    private final MatchScoringEngine scoringEngine;
+    private final int maxDocuments;
+    private final Duration refreshInterval;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    private final ReentrantLock buildLock = new ReentrantLock();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private ExecutorService refresher;
+
+    LocalJobSearchIndex(
+            JobRepository jobRepository,
+            MatchScoringEngine scoringEngine,
+            @Value("${grpc.search-service.fallback.max-documents:5000}") int maxDocuments,
+            @Value("${grpc.search-service.fallback.refresh-interval-seconds:300}") long refreshIntervalSeconds) {
+        this.jobRepository = jobRepository;
+        this.scoringEngine = scoringEngine;
+        this.maxDocuments = maxDocuments;
+        this.refreshInterval = Duration.ofSeconds(refreshIntervalSeconds);
+    }
+
+    @PostConstruct
+    void start() {
+        refresher = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("local-job-index").factory());
+    }
+
+    @PreDestroy
+    void stop() {
+        refresher.shutdownNow();
+    }
+
+    // ==================== 查询 ====================
+
+    SearchServiceClient.SearchJobsResult search(
+            String query,
+            List<String> locations,
+            String experienceLevel,
+            int page,
+            int pageSize,
+            String sortBy
+    ) {
+        Snapshot current = current();
+        Set<String> terms = tokenize(query);
+        List<String> locationFilters = normalize(locations);
+        ExperienceLevel level = parseLevel(experienceLevel);
+
+        List<Scored> hits = new ArrayList<>();
+        for (Document doc : candidates(current, terms)) {
+            if (level != null && doc.level != level) {
+                continue;
+            }
+            if (!locationFilters.isEmpty() && !matchesLocation(doc, locationFilters)) {
+                continue;
+            }
+            double score = terms.isEmpty() ? 0 : relevance(doc, terms);
+            if (!terms.isEmpty() && score <= 0) {
+                continue;
+            }
+            hits.add(new Scored(doc, score));
+        }
+
+        Comparator<Scored> byDate = Comparator.comparing((Scored s) -> s.doc.postedAt,
+                Comparator.nullsLast(Comparator.reverseOrder()));
+        if ("date".equals(sortBy) || terms.isEmpty()) {
+            hits.sort(byDate);
+        } else if ("salary".equals(sortBy)) {
+            hits.sort(Comparator.comparing((Scored s) -> s.doc.salaryMax,
+                    Comparator.nullsLast(Comparator.reverseOrder())));
+        } else {
+            hits.sort(Comparator.comparingDouble((Scored s) -> s.score).reversed().thenComparing(byDate));
+        }
+
+        int size = Math.max(1, Math.min(pageSize, 50));
+        int pageNumber = Math.max(1, page);
+        int from = Math.min((pageNumber - 1) * size, hits.size());
+        int to = Math.min(from + size, hits.size());
+
+        SearchServiceClient.SearchJobsResult result = new SearchServiceClient.SearchJobsResult();
+        for (Scored hit : hits.subList(from, to)) {
+            result.getJobs().add(hit.doc.job);
+        }
+        result.setTotal(hits.size());
+        result.setPage(pageNumber);
+        result.setTotalPages((hits.size() + size - 1) / size);
+        result.setFacets(locationFacet(hits));
+        return result;
+    }
+
+    SearchServiceClient.MatchResult match(SearchServiceClient.ResumeProfile resume, SearchServiceClient.JobData job) {
+        Document doc = job.getId() != null ? current().byId.get(job.getId()) : null;
+        SearchServiceClient.MatchDetails details = details(candidate(resume), resume, doc != null ? doc : toDocument(job));
+
+        SearchServiceClient.MatchResult result = new SearchServiceClient.MatchResult();
+        result.setOverallScore(overall(details));
+        result.setDetails(details);
+        if (details.getSkillMatch() >= 60) {
+            result.getMatchReasons().add("Strong skill match");
+        } else {
+            result.getGapReasons().add("Missing some required skills");
+        }
+        if (details.getExperienceMatch() >= 70) {
+            result.getMatchReasons().add("Experience level fits");
+        } else {
+            result.getGapReasons().add("Experience level differs");
+        }
+        if (details.getLocationMatch() < 50) {
+            result.getGapReasons().add("Location preference differs");
+        }
+        return result;
+    }
+
+    SearchServiceClient.BatchMatchResult batchMatch(SearchServiceClient.ResumeProfile resume, List<String> jobIds) {
+        Snapshot current = current();
+        MatchScoringEngine.Candidate candidate = candidate(resume);
+        SearchServiceClient.BatchMatchResult result = new SearchServiceClient.BatchMatchResult();
+        int failed = 0;
+        for (String jobId : jobIds) {
+            Document doc = jobId != null ? current.byId.get(jobId) : null;
+            if (doc == null) {
+                failed++;
+                continue;
+            }
+            SearchServiceClient.MatchDetails details = details(candidate, resume, doc);
+            result.getMatches().add(new SearchServiceClient.JobMatchItem(jobId, overall(details), details));
+        }
+        result.setProcessed(jobIds.size() - failed);
+        result.setFailed(failed);
+        return result;
+    }
+
+    SearchServiceClient.RecommendResult recommend(
+            SearchServiceClient.ResumeProfile resume,
+            int limit,
+            List<String> excludeJobIds
+    ) {
+        Snapshot current = current();
+        MatchScoringEngine.Candidate candidate = candidate(resume);
+        Set<String> exclude = excludeJobIds != null ? new HashSet<>(excludeJobIds) : Set.of();
+        Set<String> terms = new HashSet<>(tokenize(resume.getTitle()));
+        normalize(resume.getSkills()).forEach(skill -> terms.addAll(tokenize(skill)));
+
+        List<SearchServiceClient.RecommendedJob> ranked = new ArrayList<>();
+        for (Document doc : candidates(current, terms)) {
+            if (exclude.contains(doc.job.getId())) {
+                continue;
+            }
+            SearchServiceClient.MatchDetails details = details(candidate, resume, doc);
+            ranked.add(new SearchServiceClient.RecommendedJob(doc.job, overall(details), recommendReason(details)));
+        }
+        ranked.sort(Comparator.comparingDouble(SearchServiceClient.RecommendedJob::getMatchScore).reversed());
+
+        SearchServiceClient.RecommendResult result = new SearchServiceClient.RecommendResult();
+        result.setRecommendations(new ArrayList<>(ranked.subList(0, Math.min(Math.max(limit, 0), ranked.size()))));
+        return result;
+    }
+
+    SearchServiceClient.SuggestionResult suggest(String prefix, int limit) {
+        SearchServiceClient.SuggestionResult result = new SearchServiceClient.SuggestionResult();
+        if (prefix == null || prefix.isBlank()) {
+            return result;
+        }
+        String key = prefix.trim().toLowerCase(Locale.ROOT);
+        current().suggestions.stream()
+                .filter(s -> s.getText().toLowerCase(Locale.ROOT).startsWith(key))
+                .limit(Math.max(limit, 0))
+                .forEach(result.getSuggestions()::add);
+        return result;
+    }
+
+    // ==================== 索引构建 ====================
+
+    /**
+     * 返回当前快照；尚未构建时同步构建，过期时提交一次后台重建并继续返回旧快照
+     */
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current.builtAt == null) {
+            // 冷启动：等待正在进行的构建（或自己构建一次），构建失败时返回空索引，下一次查询再试
+            rebuild();
+            return snapshot;
+        }
+        if (current.builtAt.plus(refreshInterval).isBefore(Instant.now())) {
+            refreshInBackground();
+        }
+        return current;
+    }
+
+    private void refreshInBackground() {
+        if (refreshing.compareAndSet(false, true)) {
+            refresher.execute(() -> {
+                try {
+                    rebuild();
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * 同一时间只有一次构建；等待锁的冷启动查询拿到锁时如果索引已建好则直接返回
+     */
+    private void rebuild() {
+        buildLock.lock();
+        try {
+            Snapshot current = snapshot;
+            boolean fresh = current.builtAt != null && current.builtAt.plus(refreshInterval).isAfter(Instant.now());
+            if (fresh) {
+                return;
+            }
+            snapshot = build();
+        } catch (Exception e) {
+            log.warn("重建本地职位索引失败，继续使用旧索引: {}", e.getMessage());
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    private Snapshot build() {
+        long start = System.currentTimeMillis();
+        Map<String, Document> byId = new LinkedHashMap<>();
+        Map<String, List<Document>> postings = new HashMap<>();
+        Map<String, Integer> titleCounts = new HashMap<>();
+        Map<String, Integer> companyCounts = new HashMap<>();
+        Map<String, Integer> skillCounts = new HashMap<>();
+
+        Instant cursorPostedAt = Cursor.MAX_INSTANT;
+        UUID cursorId = Cursor.MAX_ID;
+        while (byId.size() < maxDocuments) {
+            int size = Math.min(LOAD_PAGE_SIZE, maxDocuments - byId.size());
+            Slice<Job> page = jobRepository.findLatestAfter(cursorPostedAt, cursorId, PageRequest.of(0, size));
+            for (Job job : page.getContent()) {
+                Document doc = toDocument(job);
+                byId.put(doc.job.getId(), doc);
+                for (String term : doc.terms.keySet()) {
+                    postings.computeIfAbsent(term, k -> new ArrayList<>()).add(doc);
+                }
+                titleCounts.merge(job.getTitle(), 1, Integer::sum);
+                companyCounts.merge(job.getCompany(), 1, Integer::sum);
+                doc.skills.forEach(skill -> skillCounts.merge(skill, 1, Integer::sum));
+            }
+            if (!page.hasNext()) {
+                break;
+            }
+            Job last = page.getContent().get(page.getNumberOfElements() - 1);
+            cursorPostedAt = last.getPostedAt();
+            cursorId = last.getId();
+        }
+
+        List<SearchServiceClient.Suggestion> suggestions = new ArrayList<>();
+        titleCounts.forEach((text, count) -> suggestions.add(new SearchServiceClient.Suggestion(text, "job_title", count)));
+        companyCounts.forEach((text, count) -> suggestions.add(new SearchServiceClient.Suggestion(text, "company", count)));
+        skillCounts.forEach((text, count) -> suggestions.add(new SearchServiceClient.Suggestion(text, "skill", count)));
+        suggestions.sort(Comparator.comparingInt(SearchServiceClient.Suggestion::getCount).reversed());
+
+        log.info("本地职位索引已重建: documents={}, terms={}, elapsed={}ms",
+                byId.size(), postings.size(), System.currentTimeMillis() - start);
+        return new Snapshot(Instant.now(), byId, postings, suggestions);
+    }
+
+    private Document toDocument(Job job) {
+        JobDto dto = JobDto.fromEntity(job);
+
+        SearchServiceClient.JobData data = new SearchServiceClient.JobData();
+        data.setId(job.getId().toString());
+        data.setTitle(job.getTitle());
+        data.setCompany(job.getCompany());
+        data.setCompanyLogo(job.getCompanyLogo());
+        data.setLocation(job.getLocation());
+        data.setSalaryRange(dto.getSalary() != null ? dto.getSalary().getFormatted() : null);
+        data.setExperience(job.getExperienceLevel() != null ? job.getExperienceLevel().name() : null);
+        data.setEmploymentType(job.getType() != null ? job.getType().name() : null);
+        data.setDescription(job.getDescription());
+        data.setRequirements(dto.getRequirements() != null ? dto.getRequirements() : new ArrayList<>());
+        data.setBenefits(dto.getBenefits() != null ? dto.getBenefits() : new ArrayList<>());
+        data.setPostedAt(job.getPostedAt() != null ? job.getPostedAt().toString() : null);
+        data.setSource(job.getSource());
+        data.setSourceUrl(job.getSourceUrl());
+
+        List<String> skills = dto.getSkills() != null ? dto.getSkills() : List.of();
+        return new Document(data, scoringEngine.vectorize(job), job.getExperienceLevel(), job.getPostedAt(),
+                job.getSalaryMax(), skills, job.getDescription());
+    }
+
+    /**
+     * 调用方传入、不在索引中的职位
+     */
+    private Document toDocument(SearchServiceClient.JobData job) {
+        ExperienceLevel level = parseLevel(job.getExperience());
+        MatchScoringEngine.JobVector vector = scoringEngine.vectorize(
+                job.getRequirements(), null, level, job.getLocation(), false, null, null);
+        return new Document(job, vector, level, null, null, job.getRequirements(), job.getDescription());
+    }
+
+    // ==================== 打分 ====================
+
+    private Collection<Document> candidates(Snapshot current, Set<String> terms) {
+        if (terms.isEmpty()) {
+            return current.byId.values();
+        }
+        Set<Document> result = new LinkedHashSet<>();
+        for (String term : terms) {
+            result.addAll(current.postings.getOrDefault(term, List.of()));
+        }
+        return result;
+    }
+
+    private double relevance(Document doc, Set<String> terms) {
+        double score = 0;
+        for (String term : terms) {
+            score += doc.terms.getOrDefault(term, 0);
+        }
+        return score;
+    }
+
+    private MatchScoringEngine.Candidate candidate(SearchServiceClient.ResumeProfile resume) {
+        return scoringEngine.candidate(resume.getSkills(), resume.getYearsExperience(),
+                resume.getPreferredLocations(), parseSalary(resume.getExpectedSalary()));
+    }
+
+    /**
+     * 技能/经验/地点/薪资由 {@link MatchScoringEngine} 计算，标题相关度在本地按词项重合度计算
+     */
+    private SearchServiceClient.MatchDetails details(
+            MatchScoringEngine.Candidate candidate, SearchServiceClient.ResumeProfile resume, Document doc) {
+        MatchScoringEngine.Score score = scoringEngine.score(candidate, doc.vector);
+
+        Set<String> titleTerms = tokenize(resume.getTitle());
+        double titleMatch = 50;
+        if (!titleTerms.isEmpty()) {
+            Set<String> jobTitle = tokenize(doc.job.getTitle());
+            long overlap = titleTerms.stream().filter(jobTitle::contains).count();
+            titleMatch = 100.0 * overlap / titleTerms.size();
+        }
+
+        // 任一方没有薪资信息时给中性分
+        double salaryMatch = score.salaryMatch() != null ? score.salaryMatch() : 50;
+
+        return new SearchServiceClient.MatchDetails(
+                score.skillMatch(), score.experienceMatch(), score.locationMatch(), salaryMatch, round(titleMatch));
+    }
+
+    private double overall(SearchServiceClient.MatchDetails d) {
+        return round(d.getSkillMatch() * 0.4
+                + d.getExperienceMatch() * 0.2
+                + d.getTitleMatch() * 0.15
+                + d.getLocationMatch() * 0.15
+                + d.getSalaryMatch() * 0.1);
+    }
+
+    private String recommendReason(SearchServiceClient.MatchDetails d) {
+        if (d.getSkillMatch() >= d.getTitleMatch() && d.getSkillMatch() >= d.getExperienceMatch()) {
+            return "Your skills match well with this position";
+        }
+        if (d.getTitleMatch() >= d.getExperienceMatch()) {
+            return "Similar to your current role";
+        }
+        return "Great experience match";
+    }
+
+    private List<SearchServiceClient.Facet> locationFacet(List<Scored> hits) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (Scored hit : hits) {
+            if (hit.doc.job.getLocation() != null) {
+                counts.merge(hit.doc.job.getLocation(), 1, Integer::sum);
+            }
+        }
+        SearchServiceClient.Facet facet = new SearchServiceClient.Facet();
+        facet.setName("location");
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(10)
+                .forEach(e -> facet.getItems().add(new SearchServiceClient.FacetItem(e.getKey(), e.getValue())));
+        return List.of(facet);
+    }
+
+    // ==================== 工具方法 ====================
+
+    private static boolean matchesLocation(Document doc, List<String> locations) {
+        String location = doc.job.getLocation();
+        if (location == null) {
+            return false;
+        }
+        String normalized = location.toLowerCase(Locale.ROOT);
+        return locations.stream().anyMatch(normalized::contains);
+    }
+
+    private static ExperienceLevel parseLevel(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return ExperienceLevel.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static List<String> normalize(List<String> values) {
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream()
+                .filter(v -> v != null && !v.isBlank())
+                .map(v -> v.trim().toLowerCase(Locale.ROOT))
+                .toList();
+    }
+
+    /**
+     * 拉丁字符按单词切分；中文按相邻两字切分（单字查询保留单字）
+     */
+    static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        StringBuilder word = new StringBuilder();
+        StringBuilder cjk = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            if (Character.UnicodeScript.of(c) == Character.UnicodeScript.HAN) {
+                flushWord(word, tokens);
+                cjk.append(c);
+            } else if (Character.isLetterOrDigit(c) || c == '+' || c == '#') {
+                flushCjk(cjk, tokens);
+                word.append(c);
+            } else {
+                flushWord(word, tokens);
+                flushCjk(cjk, tokens);
+            }
+        }
+        flushWord(word, tokens);
+        flushCjk(cjk, tokens);
+        return tokens;
+    }
+
+    private static void flushWord(StringBuilder word, Set<String> tokens) {
+        if (!word.isEmpty()) {
+            tokens.add(word.toString());
+            word.setLength(0);
+        }
+    }
+
+    private static void flushCjk(StringBuilder cjk, Set<String> tokens) {
+        if (cjk.length() == 1) {
+            tokens.add(cjk.toString());
+        }
+        for (int i = 0; i + 1 < cjk.length(); i++) {
+            tokens.add(cjk.substring(i, i + 2));
+        }
+        cjk.setLength(0);
+    }
+
+    /**
+     * "25000" / "25k" / "20k-30k" -> 25000 / 25000 / 20000；无法解析时返回 null
+     */
+    private static Integer parseSalary(String value) {
+        if (value == null) {
+            return null;
+        }
+        Matcher m = SALARY_PATTERN.matcher(value.toLowerCase(Locale.ROOT));
+        if (!m.find()) {
+            return null;
+        }
+        try {
+            int amount = Integer.parseInt(m.group(1));
+            return m.group(2) != null ? amount * 1000 : amount;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+
+    // ==================== 内部结构 ====================
+
+    private record Snapshot(
+            Instant builtAt,
+            Map<String, Document> byId,
+            Map<String, List<Document>> postings,
+            List<SearchServiceClient.Suggestion> suggestions
+    ) {
+        static final Snapshot EMPTY = new Snapshot(null, Map.of(), Map.of(), List.of());
+    }
+
+    private record Scored(Document doc, double score) {
+    }
+
+    private static final class Document {
+        final SearchServiceClient.JobData job;
+        final MatchScoringEngine.JobVector vector;
+        final ExperienceLevel level;
+        final Instant postedAt;
+        final Integer salaryMax;
+        final List<String> skills;
+        // 词项 -> 权重（标题 3，技能/公司 2，描述 1）
+        final Map<String, Integer> terms = new HashMap<>();
+
+        Document(SearchServiceClient.JobData job, MatchScoringEngine.JobVector vector, ExperienceLevel level,
+                 Instant postedAt, Integer salaryMax, List<String> skills, String description) {
+            this.job = job;
+            this.vector = vector;
+            this.level = level;
+            this.postedAt = postedAt;
+            this.salaryMax = salaryMax;
+            this.skills = skills != null ? skills : List.of();
+            tokenize(description).forEach(t -> terms.merge(t, 1, Math::max));
+            tokenize(job.getCompany()).forEach(t -> terms.merge(t, 2, Math::max));
+            this.skills.forEach(skill -> tokenize(skill).forEach(t -> terms.merge(t, 2, Math::max)));
+            tokenize(job.getTitle()).forEach(t -> terms.merge(t, 3, Math::max));
+        }
+    }
+}
@@ -1,36 +1,63 @@
 package com.cvibe.common.grpc;
 
+import com.cvibe.grpc.search.SearchServiceGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
 import lombok.Data;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Search Service gRPC 客户端
  * 
  * 封装对 search-service 的调用。
- * 当 gRPC 服务不可用时，返回 Mock 数据。
+ * - 通道池按 CPU 核数建立多条连接，调用轮询分配
+ * - 每次调用单独设置 deadline，并限制同时进行中的调用数
+ * - search-service 不可达、超时或调用数已满时，降级到基于 jobs 表的进程内索引
  */
 @Slf4j
 @Component
 public class SearchServiceClient {
 
-    private final GrpcConfig grpcConfig;
+    private final List<SearchServiceGrpc.SearchServiceBlockingStub> stubs;
+    private final AtomicInteger nextStub = new AtomicInteger();
+    private final LocalJobSearchIndex fallbackIndex;
+    private final long deadlineMs;
+    private final Semaphore inFlight;
 
-    public SearchServiceClient(GrpcConfig grpcConfig) {
-        this.grpcConfig = grpcConfig;
+    public SearchServiceClient(
+            GrpcConfig grpcConfig,
+            LocalJobSearchIndex fallbackIndex,
+            @Value("${grpc.search-service.deadline-ms:3000}") long deadlineMs,
+            @Value("${grpc.search-service.max-in-flight:256}") int maxInFlight) {
+        this.fallbackIndex = fallbackIndex;
+        this.deadlineMs = deadlineMs;
+        this.inFlight = new Semaphore(maxInFlight);
+
+        List<SearchServiceGrpc.SearchServiceBlockingStub> created = new ArrayList<>();
+        for (ManagedChannel channel : grpcConfig.searchServiceChannels()) {
+            created.add(SearchServiceGrpc.newBlockingStub(channel));
+        }
+        this.stubs = List.copyOf(created);
+        if (!stubs.isEmpty()) {
+            log.info("Search Service stubs initialized: channels={}, deadline={}ms, maxInFlight={}",
+                    stubs.size(), deadlineMs, maxInFlight);
+        }
     }
 
     private boolean isAvailable() {
-        try {
-            var channel = grpcConfig.searchServiceChannel();
-            return channel != null;
-        } catch (Exception e) {
-            return false;
-        }
+        return !stubs.isEmpty();
     }
 
     /**
@@ -47,13 +74,26 @@ public class SearchServiceClient {
             String sortBy
     ) {
         log.info("Search Service: SearchJobs query={}", query);
-        
-        if (!isAvailable()) {
-            return mockSearchJobs(query, page, pageSize);
-        }
 
-        // TODO: 实际调用 gRPC 服务
-        return mockSearchJobs(query, page, pageSize);
+        return call("SearchJobs",
+                stub -> {
+                    com.cvibe.grpc.search.SearchJobsRequest.Builder request =
+                            com.cvibe.grpc.search.SearchJobsRequest.newBuilder()
+                                    .setQuery(nullToEmpty(query))
+                                    .setExperienceLevel(nullToEmpty(experienceLevel))
+                                    .setSalaryRange(nullToEmpty(salaryRange))
+                                    .setPage(page)
+                                    .setPageSize(pageSize)
+                                    .setSortBy(nullToEmpty(sortBy));
+                    if (locations != null) {
+                        request.addAllLocations(locations);
+                    }
+                    if (industries != null) {
+                        request.addAllIndustries(industries);
+                    }
+                    return toSearchJobsResult(stub.searchJobs(request.build()));
+                },
+                () -> fallbackIndex.search(query, locations, experienceLevel, page, pageSize, sortBy));
     }
 
     /**
@@ -61,21 +101,22 @@ public class SearchServiceClient {
      */
     public MatchResult matchResumeToJob(ResumeProfile resume, JobData job) {
         log.info("Search Service: MatchResumeToJob user={}", resume.getUserId());
-        
-        MatchResult result = new MatchResult();
-        result.setOverallScore(78.5);
-        result.setDetails(new MatchDetails(85.0, 70.0, 80.0, 75.0, 82.0));
-        
-        List<String> matchReasons = new ArrayList<>();
-        matchReasons.add("Strong skill match");
-        matchReasons.add("Experience level fits");
-        result.setMatchReasons(matchReasons);
-        
-        List<String> gapReasons = new ArrayList<>();
-        gapReasons.add("Location preference differs");
-        result.setGapReasons(gapReasons);
-        
-        return result;
+
+        return call("MatchResumeToJob",
+                stub -> {
+                    com.cvibe.grpc.search.MatchResponse response = stub.matchResumeToJob(
+                            com.cvibe.grpc.search.MatchRequest.newBuilder()
+                                    .setResume(toProto(resume))
+                                    .setJob(toProto(job))
+                                    .build());
+                    MatchResult result = new MatchResult();
+                    result.setOverallScore(response.getOverallScore());
+                    result.setDetails(toMatchDetails(response.getDetails()));
+                    result.setMatchReasons(new ArrayList<>(response.getMatchReasonsList()));
+                    result.setGapReasons(new ArrayList<>(response.getGapReasonsList()));
+                    return result;
+                },
+                () -> fallbackIndex.match(resume, job));
     }
 
     /**
@@ -83,22 +124,24 @@ public class SearchServiceClient {
      */
     public BatchMatchResult batchMatch(ResumeProfile resume, List<String> jobIds) {
         log.info("Search Service: BatchMatch jobs={}", jobIds.size());
-        
-        BatchMatchResult result = new BatchMatchResult();
-        
-        List<JobMatchItem> matches = new ArrayList<>();
-        for (int i = 0; i < jobIds.size(); i++) {
-            matches.add(new JobMatchItem(
-                jobIds.get(i),
-                85.0 - i * 5,
-                new MatchDetails(80.0, 75.0, 70.0, 65.0, 60.0)
-            ));
-        }
-        result.setMatches(matches);
-        result.setProcessed(jobIds.size());
-        result.setFailed(0);
-        
-        return result;
+
+        return call("BatchMatch",
+                stub -> {
+                    com.cvibe.grpc.search.BatchMatchResponse response = stub.batchMatch(
+                            com.cvibe.grpc.search.BatchMatchRequest.newBuilder()
+                                    .setResume(toProto(resume))
+                                    .addAllJobIds(jobIds)
+                                    .build());
+                    BatchMatchResult result = new BatchMatchResult();
+                    for (com.cvibe.grpc.search.JobMatch match : response.getMatchesList()) {
+                        result.getMatches().add(new JobMatchItem(
+                                match.getJobId(), match.getScore(), toMatchDetails(match.getDetails())));
+                    }
+                    result.setProcessed(response.getProcessed());
+                    result.setFailed(response.getFailed());
+                    return result;
+                },
+                () -> fallbackIndex.batchMatch(resume, jobIds));
     }
 
     /**
@@ -111,28 +154,26 @@ public class SearchServiceClient {
             List<String> excludeJobIds
     ) {
         log.info("Search Service: GetRecommendations user={}", userId);
-        
-        RecommendResult result = new RecommendResult();
-        
-        List<RecommendedJob> recommendations = new ArrayList<>();
-        recommendations.add(new RecommendedJob(
-            createMockJob("job-001", "Senior Software Engineer", "Google"),
-            92.5,
-            "Your skills match well with this position"
-        ));
-        recommendations.add(new RecommendedJob(
-            createMockJob("job-002", "Backend Developer", "ByteDance"),
-            88.0,
-            "Great experience match"
-        ));
-        recommendations.add(new RecommendedJob(
-            createMockJob("job-003", "Full Stack Developer", "Alibaba"),
-            85.0,
-            "Location and skills match"
-        ));
-        
-        result.setRecommendations(recommendations);
-        return result;
+
+        return call("GetJobRecommendations",
+                stub -> {
+                    com.cvibe.grpc.search.RecommendRequest.Builder request =
+                            com.cvibe.grpc.search.RecommendRequest.newBuilder()
+                                    .setUserId(nullToEmpty(userId))
+                                    .setResume(toProto(resume))
+                                    .setLimit(limit);
+                    if (excludeJobIds != null) {
+                        request.addAllExcludeJobIds(excludeJobIds);
+                    }
+                    RecommendResult result = new RecommendResult();
+                    for (com.cvibe.grpc.search.RecommendedJob rec :
+                            stub.getJobRecommendations(request.build()).getRecommendationsList()) {
+                        result.getRecommendations().add(new RecommendedJob(
+                                toJobData(rec.getJob()), rec.getMatchScore(), rec.getRecommendReason()));
+                    }
+                    return result;
+                },
+                () -> fallbackIndex.recommend(resume, limit, excludeJobIds));
     }
 
     /**
@@ -140,65 +181,147 @@ public class SearchServiceClient {
      */
     public SuggestionResult getSuggestions(String prefix, int limit) {
         log.info("Search Service: GetSuggestions prefix={}", prefix);
-        
-        SuggestionResult result = new SuggestionResult();
-        
-        List<Suggestion> suggestions = new ArrayList<>();
-        suggestions.add(new Suggestion("Software Engineer", "job_title", 150));
-        suggestions.add(new Suggestion("Senior Developer", "job_title", 120));
-        suggestions.add(new Suggestion("Google", "company", 80));
-        
-        result.setSuggestions(suggestions);
-        return result;
+
+        return call("GetSearchSuggestions",
+                stub -> {
+                    SuggestionResult result = new SuggestionResult();
+                    for (com.cvibe.grpc.search.Suggestion suggestion : stub.getSearchSuggestions(
+                            com.cvibe.grpc.search.SuggestionRequest.newBuilder()
+                                    .setPrefix(nullToEmpty(prefix))
+                                    .setLimit(limit)
+                                    .build()).getSuggestionsList()) {
+                        result.getSuggestions().add(new Suggestion(
+                                suggestion.getText(), suggestion.getType(), suggestion.getCount()));
+                    }
+                    return result;
+                },
+                () -> fallbackIndex.suggest(prefix, limit));
     }
 
-    // ==================== Mock implementations ====================
+    // ==================== 调用封装 ====================
 
-    private SearchJobsResult mockSearchJobs(String query, int page, int pageSize) {
+    /**
+     * 在通道池中轮询选取一个 stub 发起调用
+     *
+     * 未启用、并发已满、服务不可达或超时时走本地索引；其他 gRPC 错误视为调用失败。
+     */
+    private <T> T call(
+            String method,
+            Function<SearchServiceGrpc.SearchServiceBlockingStub, T> rpc,
+            Supplier<T> fallback
+    ) {
+        if (!isAvailable()) {
+            return fallback.get();
+        }
+        if (!inFlight.tryAcquire()) {
+            log.warn("Search Service {} 并发调用已达上限，使用本地索引", method);
+            return fallback.get();
+        }
+        try {
+            SearchServiceGrpc.SearchServiceBlockingStub stub = stubs.get(
+                    Math.floorMod(nextStub.getAndIncrement(), stubs.size()));
+            return rpc.apply(stub.withDeadlineAfter(deadlineMs, TimeUnit.MILLISECONDS));
+        } catch (StatusRuntimeException e) {
+            Status.Code code = e.getStatus().getCode();
+            if (code != Status.Code.UNAVAILABLE
+                    && code != Status.Code.DEADLINE_EXCEEDED
+                    && code != Status.Code.RESOURCE_EXHAUSTED) {
+                log.error("Search Service {} 调用失败: {}", method, e.getStatus());
+                throw new GrpcException("Search Service " + method + " 调用失败: " + e.getStatus(), e);
+            }
+            log.warn("Search Service {} 不可用 ({})，使用本地索引", method, code);
+        } finally {
+            inFlight.release();
+        }
+        // 释放调用名额后再查本地索引，降级查询（包括冷启动时等待索引构建）不占用 search-service 的并发名额
+        return fallback.get();
+    }
+
+    // ==================== Converters ====================
+
+    private SearchJobsResult toSearchJobsResult(com.cvibe.grpc.search.SearchJobsResponse response) {
         SearchJobsResult result = new SearchJobsResult();
-        
-        List<JobData> jobs = new ArrayList<>();
-        jobs.add(createMockJob("job-001", "Senior Software Engineer", "Google"));
-        jobs.add(createMockJob("job-002", "Backend Developer", "ByteDance"));
-        jobs.add(createMockJob("job-003", "Full Stack Developer", "Alibaba"));
-        jobs.add(createMockJob("job-004", "Frontend Engineer", "Tencent"));
-        jobs.add(createMockJob("job-005", "Data Scientist", "Huawei"));
-        
-        result.setJobs(jobs);
-        result.setTotal(jobs.size());
-        result.setPage(page);
-        result.setTotalPages(1);
-        
+        for (com.cvibe.grpc.search.Job job : response.getJobsList()) {
+            result.getJobs().add(toJobData(job));
+        }
+        result.setTotal(response.getTotal());
+        result.setPage(response.getPage());
+        result.setTotalPages(response.getTotalPages());
+        for (com.cvibe.grpc.search.Facet facet : response.getFacetsList()) {
+            Facet converted = new Facet();
+            converted.setName(facet.getName());
+            for (com.cvibe.grpc.search.FacetItem item : facet.getItemsList()) {
+                converted.getItems().add(new FacetItem(item.getValue(), item.getCount()));
+            }
+            result.getFacets().add(converted);
+        }
         return result;
     }
 
-    private JobData createMockJob(String id, String title, String company) {
-        JobData job = new JobData();
-        job.setId(id);
-        job.setTitle(title);
-        job.setCompany(company);
-        job.setCompanyLogo("https://logo.clearbit.com/" + company.toLowerCase() + ".com");
-        job.setLocation("Beijing, China");
-        job.setSalaryRange("$100,000 - $150,000");
-        job.setExperience("3-5 years");
-        job.setEmploymentType("full-time");
-        job.setDescription("Join our team to build amazing products...");
-        
-        List<String> requirements = new ArrayList<>();
-        requirements.add("5+ years experience");
-        requirements.add("Strong programming skills");
-        job.setRequirements(requirements);
-        
-        List<String> benefits = new ArrayList<>();
-        benefits.add("Competitive salary");
-        benefits.add("Health insurance");
-        job.setBenefits(benefits);
-        
-        job.setPostedAt("2026-01-15T00:00:00Z");
-        job.setSource("direct");
-        job.setSourceUrl("https://careers." + company.toLowerCase() + ".com/jobs/" + id);
-        
-        return job;
+    private JobData toJobData(com.cvibe.grpc.search.Job job) {
+        JobData data = new JobData();
+        data.setId(job.getId());
+        data.setTitle(job.getTitle());
+        data.setCompany(job.getCompany());
+        data.setCompanyLogo(job.getCompanyLogo());
+        data.setLocation(job.getLocation());
+        data.setSalaryRange(job.getSalaryRange());
+        data.setExperience(job.getExperience());
+        data.setEmploymentType(job.getEmploymentType());
+        data.setDescription(job.getDescription());
+        data.setRequirements(new ArrayList<>(job.getRequirementsList()));
+        data.setBenefits(new ArrayList<>(job.getBenefitsList()));
+        data.setPostedAt(job.getPostedAt());
+        data.setSource(job.getSource());
+        data.setSourceUrl(job.getSourceUrl());
+        data.setMatchScore(job.getMatchScore());
+        return data;
+    }
+
+    private com.cvibe.grpc.search.Job toProto(JobData job) {
+        return com.cvibe.grpc.search.Job.newBuilder()
+                .setId(nullToEmpty(job.getId()))
+                .setTitle(nullToEmpty(job.getTitle()))
+                .setCompany(nullToEmpty(job.getCompany()))
+                .setCompanyLogo(nullToEmpty(job.getCompanyLogo()))
+                .setLocation(nullToEmpty(job.getLocation()))
+                .setSalaryRange(nullToEmpty(job.getSalaryRange()))
+                .setExperience(nullToEmpty(job.getExperience()))
+                .setEmploymentType(nullToEmpty(job.getEmploymentType()))
+                .setDescription(nullToEmpty(job.getDescription()))
+                .addAllRequirements(job.getRequirements() != null ? job.getRequirements() : List.of())
+                .addAllBenefits(job.getBenefits() != null ? job.getBenefits() : List.of())
+                .setPostedAt(nullToEmpty(job.getPostedAt()))
+                .setSource(nullToEmpty(job.getSource()))
+                .setSourceUrl(nullToEmpty(job.getSourceUrl()))
+                .setMatchScore(job.getMatchScore())
+                .build();
+    }
+
+    private com.cvibe.grpc.search.ResumeProfile toProto(ResumeProfile resume) {
+        return com.cvibe.grpc.search.ResumeProfile.newBuilder()
+                .setUserId(nullToEmpty(resume.getUserId()))
+                .setTitle(nullToEmpty(resume.getTitle()))
+                .addAllSkills(resume.getSkills() != null ? resume.getSkills() : List.of())
+                .setYearsExperience(resume.getYearsExperience())
+                .addAllPreferredLocations(
+                        resume.getPreferredLocations() != null ? resume.getPreferredLocations() : List.of())
+                .setExpectedSalary(nullToEmpty(resume.getExpectedSalary()))
+                .build();
+    }
+
+    private MatchDetails toMatchDetails(com.cvibe.grpc.search.MatchDetails details) {
+        return new MatchDetails(
+                details.getSkillMatch(),
+                details.getExperienceMatch(),
+                details.getLocationMatch(),
+                details.getSalaryMatch(),
+                details.getTitleMatch()
+        );
+    }
+
+    private String nullToEmpty(String value) {
+        return value != null ? value : "";
     }
 
     // ==================== DTOs ====================
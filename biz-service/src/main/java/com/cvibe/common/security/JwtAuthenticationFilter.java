@@ -2,6 +2,7 @@ package com.cvibe.common.security;
 
 import com.cvibe.auth.entity.User;
 import com.cvibe.auth.repository.UserRepository;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,6 +22,7 @@ import java.util.UUID;
 /**
  * JWT authentication filter.
  * Intercepts requests and validates JWT tokens.
+ * Principals are served from {@link PrincipalCache}, so most requests do no database lookup.
  */
 @Slf4j
 @Component
@@ -29,6 +31,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
     @Override
     protected void doFilterInternal(
@@ -39,19 +42,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                UUID userId = tokenProvider.getUserIdFromToken(jwt);
+            Claims claims = StringUtils.hasText(jwt) ? tokenProvider.parseClaims(jwt) : null;
 
-                User user = userRepository.findById(userId).orElse(null);
-                if (user != null && user.getEnabled()) {
-                    UserPrincipal principal = UserPrincipal.builder()
-                            .id(user.getId())
-                            .email(user.getEmail())
-                            .nickname(user.getNickname())
-                            .role(user.getRole().name())
-                            .enabled(user.getEnabled())
-                            .build();
+            if (claims != null) {
+                UUID userId = UUID.fromString(claims.getSubject());
 
+                UserPrincipal principal = principalCache.get(userId, this::loadPrincipal);
+                if (principal != null && principal.isEnabled()) {
                     UsernamePasswordAuthenticationToken authentication =
                             new UsernamePasswordAuthenticationToken(
                                     principal, null, principal.getAuthorities());
@@ -68,6 +65,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Build the principal from the database; only called on a principal cache miss
+     */
+    private UserPrincipal loadPrincipal(UUID userId) {
+        User user = userRepository.findById(userId).orElse(null);
+        if (user == null) {
+            return null;
+        }
+        return UserPrincipal.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .nickname(user.getNickname())
+                .role(user.getRole().name())
+                .enabled(Boolean.TRUE.equals(user.getEnabled()))
+                .build();
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
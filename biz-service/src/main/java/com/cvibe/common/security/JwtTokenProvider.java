@@ -75,12 +75,15 @@ public class JwtTokenProvider {
      * Validate token and return true if valid
      */
     public boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
+
+    /**
+     * Verify the token and return its claims in a single parse, or null if invalid
+     */
+    public Claims parseClaims(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return getClaims(token);
         } catch (ExpiredJwtException e) {
             log.warn("Token expired: {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
@@ -92,7 +95,7 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.warn("JWT claims string is empty: {}", e.getMessage());
         }
-        return false;
+        return null;
     }
 
     /**
@@ -0,0 +1,130 @@
+package com.cvibe.common.security;
+
+import com.cvibe.common.util.LruMaps;
+import com.cvibe.common.util.TransactionUtils;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL-evicting cache of authenticated principals keyed by user id.
+ *
+ * Saves the user lookup on every authenticated request. Entries are evicted LRU once
+ * the cache is full and expire after the TTL, which also bounds how long another
+ * instance can serve a stale principal (invalidation is local to this JVM).
+ * Code that changes password, role or enabled state must call {@link #invalidate(UUID)}.
+ * Hit rate is exported as principal.cache.requests (result=hit/miss) and principal.cache.hit.ratio.
+ */
+@Slf4j
+@Component
+public class PrincipalCache {
+
+    private final long ttlNanos;
+    private final Map<UUID, Entry> entries;
+
+    // Bumped on every invalidation; a load that raced with one is not cached
+    private final AtomicLong epoch = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PrincipalCache(
+            MeterRegistry meterRegistry,
+            @Value("${security.principal-cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${security.principal-cache.max-size:10000}") int maxSize) {
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.entries = LruMaps.create(maxSize);
+
+        FunctionCounter.builder("principal.cache.requests", hits, AtomicLong::get)
+                .tag("result", "hit")
+                .description("Principal cache lookups")
+                .register(meterRegistry);
+        FunctionCounter.builder("principal.cache.requests", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .description("Principal cache lookups")
+                .register(meterRegistry);
+        FunctionCounter.builder("principal.cache.invalidations", invalidations, AtomicLong::get)
+                .description("Principals dropped after a password, role or enabled change")
+                .register(meterRegistry);
+        Gauge.builder("principal.cache.hit.ratio", this, cache -> cache.getStats().hitRatio())
+                .description("Share of authenticated requests served without a user lookup")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Cached principal for the user, loading (and caching) it on a miss.
+     * The loader may return null (e.g. user deleted); null is not cached.
+     */
+    public UserPrincipal get(UUID userId, Function<UUID, UserPrincipal> loader) {
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry entry = entries.get(userId);
+            if (entry != null && now - entry.loadedAt < ttlNanos) {
+                hits.incrementAndGet();
+                return entry.principal;
+            }
+        }
+
+        misses.incrementAndGet();
+        long loadEpoch = epoch.get();
+        UserPrincipal principal = loader.apply(userId);
+        if (principal != null) {
+            synchronized (entries) {
+                if (epoch.get() == loadEpoch) {
+                    entries.put(userId, new Entry(principal, now));
+                }
+            }
+        }
+        return principal;
+    }
+
+    /**
+     * Drop the cached principal so the next request reloads it
+     */
+    public void invalidate(UUID userId) {
+        epoch.incrementAndGet();
+        invalidations.incrementAndGet();
+        synchronized (entries) {
+            entries.remove(userId);
+        }
+        log.debug("Principal cache invalidated for user {}", userId);
+    }
+
+    /**
+     * Invalidate once the current transaction commits (immediately if there is none),
+     * so a concurrent request cannot re-cache the pre-commit state
+     */
+    public void invalidateAfterCommit(UUID userId) {
+        TransactionUtils.afterCommit(() -> invalidate(userId));
+    }
+
+    public Stats getStats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new Stats(hits.get(), misses.get(), invalidations.get(), size);
+    }
+
+    /**
+     * Hit/miss counters since startup
+     */
+    public record Stats(long hits, long misses, long invalidations, int size) {
+        public double hitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+
+    private record Entry(UserPrincipal principal, long loadedAt) {
+    }
+}
@@ -0,0 +1,129 @@
+package com.cvibe.common.util;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Invalidation of one in-process cache, on this node and over Redis pub/sub on the others.
+ *
+ * - Messages are tagged with this node's id, so a node does not act on its own invalidations twice
+ * - {@link #load} keeps a load that raced with an invalidation of the same key out of the cache
+ * - The owning cache's TTL bounds staleness when Redis is disabled or a publish fails
+ *
+ * The evictor and the store callbacks of {@link #load} run under the same lock, so an eviction
+ * never interleaves with storing a loaded value.
+ */
+@Slf4j
+public final class CrossNodeInvalidation<K> {
+
+    private final String channel;
+    private final JavaType messageType;
+    private final Consumer<K> evictor;
+    private final ObjectMapper objectMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final boolean redisEnabled;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    // Loads in flight per key; an eviction removes the key's ticket so that load is not stored
+    private final Map<K, Object> loading = new ConcurrentHashMap<>();
+
+    /**
+     * @param evictor drops the key from the local cache
+     * @param redisEnabled when false, invalidations stay local and nothing is subscribed
+     */
+    public CrossNodeInvalidation(String channel, Class<K> keyType, Consumer<K> evictor,
+                                 ObjectMapper objectMapper, StringRedisTemplate redisTemplate,
+                                 RedisMessageListenerContainer listenerContainer, boolean redisEnabled) {
+        this.channel = channel;
+        this.messageType = objectMapper.getTypeFactory().constructParametricType(Invalidation.class, keyType);
+        this.evictor = evictor;
+        this.objectMapper = objectMapper;
+        this.redisTemplate = redisTemplate;
+        this.redisEnabled = redisEnabled;
+        if (redisEnabled) {
+            listenerContainer.addMessageListener(
+                    (message, pattern) -> onRemoteMessage(message.getBody()), new ChannelTopic(channel));
+        }
+    }
+
+    /**
+     * Load the value and hand it to store, unless the key was evicted while loading
+     */
+    public <V> V load(K key, Supplier<V> loader, Consumer<V> store) {
+        // A later load of the same key replaces the ticket, so only the newest one is stored
+        Object ticket = new Object();
+        loading.put(key, ticket);
+        try {
+            V value = loader.get();
+            synchronized (this) {
+                if (loading.get(key) == ticket) {
+                    store.accept(value);
+                }
+            }
+            return value;
+        } finally {
+            loading.remove(key, ticket);
+        }
+    }
+
+    /**
+     * Evict the key once the current transaction commits (immediately if there is none)
+     * and tell the other nodes to evict theirs
+     */
+    public void invalidateAfterCommit(K key) {
+        TransactionUtils.afterCommit(() -> {
+            evict(key);
+            publish(key);
+        });
+    }
+
+    /**
+     * Tell the other nodes to evict the key, for caches that update their own entry instead
+     */
+    public void publish(K key) {
+        if (!redisEnabled) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(new Invalidation<>(nodeId, key)));
+        } catch (Exception e) {
+            log.warn("Cache invalidation over Redis failed on {} for {}: {}", channel, key, e.getMessage());
+        }
+    }
+
+    private void evict(K key) {
+        synchronized (this) {
+            loading.remove(key);
+            evictor.accept(key);
+        }
+    }
+
+    private void onRemoteMessage(byte[] body) {
+        try {
+            Invalidation<K> invalidation = objectMapper.readValue(new String(body, StandardCharsets.UTF_8), messageType);
+            if (!nodeId.equals(invalidation.origin())) {
+                evict(invalidation.key());
+            }
+        } catch (IOException e) {
+            log.warn("Ignoring malformed cache invalidation on {}: {}", channel, e.getMessage());
+        }
+    }
+
+    /**
+     * Invalidation notice exchanged between nodes
+     */
+    record Invalidation<K>(String origin, K key) {
+    }
+}
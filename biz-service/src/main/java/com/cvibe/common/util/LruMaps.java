@@ -0,0 +1,46 @@
+package com.cvibe.common.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * Bounded access-order maps for the in-process caches, and LRU trimming for concurrent maps.
+ */
+public final class LruMaps {
+
+    private LruMaps() {
+    }
+
+    /**
+     * Access-order map evicting the least recently used entry once it holds more than maxSize entries.
+     * Not thread-safe; callers synchronize access (a get() reorders entries).
+     */
+    public static <K, V> Map<K, V> create(int maxSize) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Remove the least recently used entries of a concurrent map until at most retain are left.
+     * Each entry's last access is read once, as it keeps changing under concurrent reads.
+     * Sorts the whole map; callers trim to well below their limit so this runs rarely.
+     */
+    public static <K, V> void trim(Map<K, V> map, int retain, ToLongFunction<V> lastAccess) {
+        int excess = map.size() - retain;
+        if (excess <= 0) {
+            return;
+        }
+        map.entrySet().stream()
+                .map(e -> Map.entry(lastAccess.applyAsLong(e.getValue()), e))
+                .sorted(Map.Entry.comparingByKey())
+                .limit(excess)
+                .map(Map.Entry::getValue)
+                .toList()
+                .forEach(e -> map.remove(e.getKey(), e.getValue()));
+    }
+}
@@ -0,0 +1,33 @@
+package com.cvibe.common.util;
+
+/**
+ * Helpers for routing user search keywords to the right query.
+ *
+ * The 'simple' text search configuration behind the tsvector columns splits on whitespace and
+ * punctuation only, so a run of Chinese, Japanese or Korean text becomes a single token and a CJK
+ * keyword only matches when it happens to equal that whole run. Keywords containing CJK characters
+ * therefore use substring matching. Trigram indexes cannot serve the typical two-character CJK
+ * keyword, so on PostgreSQL the candidates come from a GIN index over the CJK characters and
+ * character pairs of the text (cjk_grams, V30/V31) and LIKE only re-checks them.
+ */
+public final class SearchKeywords {
+
+    private SearchKeywords() {
+    }
+
+    /**
+     * Whether the keyword contains Han, Hiragana, Katakana or Hangul characters
+     */
+    public static boolean containsCjk(String keyword) {
+        if (keyword == null) {
+            return false;
+        }
+        return keyword.codePoints().anyMatch(codePoint -> {
+            Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+            return script == Character.UnicodeScript.HAN
+                    || script == Character.UnicodeScript.HIRAGANA
+                    || script == Character.UnicodeScript.KATAKANA
+                    || script == Character.UnicodeScript.HANGUL;
+        });
+    }
+}
@@ -1,6 +1,7 @@
 package com.cvibe.community.controller;
 
 import com.cvibe.common.dto.ApiResponse;
+import com.cvibe.common.dto.CursorResponse;
 import com.cvibe.common.security.UserPrincipal;
 import com.cvibe.community.dto.*;
 import com.cvibe.community.entity.PostCategory;
@@ -12,6 +13,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -97,6 +99,22 @@ public class CommunityController {
         return ResponseEntity.ok(ApiResponse.success(feed));
     }
 
+    /**
+     * Get feed by cursor (infinite scroll).
+     * GET /api/v1/community/feed?cursor=
+     * Selected by the cursor parameter; send it empty for the first page, then the returned nextCursor.
+     */
+    @GetMapping(value = "/feed", params = "cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<PostDto>>> getFeedAfter(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) PostCategory category) {
+        UUID userId = principal != null ? principal.getId() : null;
+        CursorResponse<PostDto> feed = communityService.getFeedAfter(userId, cursor, size, category);
+        return ResponseEntity.ok(ApiResponse.success(feed));
+    }
+
     /**
      * Get trending posts.
      * GET /api/v1/community/posts/trending
@@ -112,20 +130,33 @@ public class CommunityController {
     }
 
     /**
-     * Search posts by keyword.
+     * Search posts by keyword and/or tag (ranked, cursor-paginated).
      * GET /api/v1/community/posts/search
      */
     @GetMapping("/posts/search")
     public ResponseEntity<ApiResponse<PagedResponse<PostDto>>> searchPosts(
             @AuthenticationPrincipal UserPrincipal principal,
-            @RequestParam String keyword,
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String tag,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "20") int size) {
         UUID userId = principal != null ? principal.getId() : null;
-        PagedResponse<PostDto> posts = communityService.searchPosts(userId, keyword, page, size);
+        PagedResponse<PostDto> posts = communityService.searchPosts(userId, keyword, tag, cursor, size);
         return ResponseEntity.ok(ApiResponse.success(posts));
     }
 
+    /**
+     * Autocomplete tags by prefix.
+     * GET /api/v1/community/tags/suggest
+     */
+    @GetMapping("/tags/suggest")
+    public ResponseEntity<ApiResponse<List<TagSuggestionDto>>> suggestTags(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<TagSuggestionDto> tags = communityService.suggestTags(prefix, limit);
+        return ResponseEntity.ok(ApiResponse.success(tags));
+    }
+
     // ==================== Like Endpoints ====================
 
     /**
@@ -183,6 +214,19 @@ public class CommunityController {
         return ResponseEntity.ok(ApiResponse.success(comments));
     }
 
+    /**
+     * Get more replies to a comment.
+     * GET /api/v1/community/comments/{commentId}/replies
+     */
+    @GetMapping("/comments/{commentId}/replies")
+    public ResponseEntity<ApiResponse<PagedResponse<CommentDto>>> getReplies(
+            @PathVariable UUID commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        PagedResponse<CommentDto> replies = communityService.getReplies(commentId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(replies));
+    }
+
     /**
      * Delete a comment.
      * DELETE /api/v1/community/comments/{commentId}
@@ -24,6 +24,11 @@ public class CommentDto {
     private String parentId;
     private Integer repliesCount;
     private List<CommentDto> replies;
+
+    /**
+     * Cursor for loading the remaining replies, when only the first ones are included
+     */
+    private String nextRepliesCursor;
     private String createdAt;
 
     /**
@@ -24,6 +24,11 @@ public class PagedResponse<T> {
     private boolean first;
     private boolean last;
 
+    /**
+     * Keyset cursor for the next page, when the listing supports it
+     */
+    private String nextCursor;
+
     /**
      * Create PagedResponse from Spring Page.
      */
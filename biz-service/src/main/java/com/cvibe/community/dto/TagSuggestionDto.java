@@ -0,0 +1,19 @@
+package com.cvibe.community.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for tag autocomplete suggestions.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TagSuggestionDto {
+
+    private String tag;
+    private long postCount;
+}
@@ -8,6 +8,8 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -17,7 +19,10 @@ import java.util.UUID;
 @Table(name = "community_posts", indexes = {
     @Index(name = "idx_post_author", columnList = "author_id"),
     @Index(name = "idx_post_category", columnList = "category"),
-    @Index(name = "idx_post_created_at", columnList = "created_at DESC")
+    @Index(name = "idx_post_created_at", columnList = "created_at DESC"),
+    @Index(name = "idx_post_created_id", columnList = "created_at DESC, id DESC"),
+    @Index(name = "idx_post_category_created_id", columnList = "category, created_at DESC, id DESC"),
+    @Index(name = "idx_post_trending", columnList = "trending_score DESC, created_at DESC")
 })
 @EntityListeners(AuditingEntityListener.class)
 @Getter
@@ -45,23 +50,47 @@ public class Post {
     private String images;
 
     /**
-     * JSON array of tags
+     * JSON array of tags as entered, for display
      */
     @Column(columnDefinition = "TEXT")
     private String tags;
 
+    /**
+     * Normalized tags (lowercase, no '#'), indexed for exact tag filters and autocomplete
+     */
+    @ElementCollection
+    @CollectionTable(name = "community_post_tags",
+            joinColumns = @JoinColumn(name = "post_id"),
+            indexes = @Index(name = "idx_post_tag_tag", columnList = "tag, post_id"))
+    @Column(name = "tag", nullable = false, length = 50)
+    @Builder.Default
+    private Set<String> normalizedTags = new HashSet<>();
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 30)
     private PostCategory category;
 
-    @Column(name = "likes_count", nullable = false)
+    /**
+     * Maintained by {@link com.cvibe.community.service.PostCounterStore}; never written through the entity
+     */
+    @Column(name = "likes_count", nullable = false, updatable = false)
     @Builder.Default
     private Integer likesCount = 0;
 
-    @Column(name = "comments_count", nullable = false)
+    /**
+     * Maintained by {@link com.cvibe.community.service.PostCounterStore}; never written through the entity
+     */
+    @Column(name = "comments_count", nullable = false, updatable = false)
     @Builder.Default
     private Integer commentsCount = 0;
 
+    /**
+     * Time-decayed popularity; maintained by {@link com.cvibe.community.service.TrendingPostIndex}
+     */
+    @Column(name = "trending_score", nullable = false, updatable = false)
+    @Builder.Default
+    private Double trendingScore = 0.0;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
@@ -69,32 +98,4 @@ public class Post {
     @LastModifiedDate
     @Column(name = "updated_at")
     private Instant updatedAt;
-
-    /**
-     * Increment likes count
-     */
-    public void incrementLikes() {
-        this.likesCount = (this.likesCount == null ? 0 : this.likesCount) + 1;
-    }
-
-    /**
-     * Decrement likes count
-     */
-    public void decrementLikes() {
-        this.likesCount = Math.max(0, (this.likesCount == null ? 0 : this.likesCount) - 1);
-    }
-
-    /**
-     * Increment comments count
-     */
-    public void incrementComments() {
-        this.commentsCount = (this.commentsCount == null ? 0 : this.commentsCount) + 1;
-    }
-
-    /**
-     * Decrement comments count
-     */
-    public void decrementComments() {
-        this.commentsCount = Math.max(0, (this.commentsCount == null ? 0 : this.commentsCount) - 1);
-    }
 }
@@ -9,6 +9,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -19,16 +21,46 @@ import java.util.UUID;
 public interface CommentRepository extends JpaRepository<Comment, UUID> {
 
     /**
-     * Find top-level comments for a post (parent is null).
+     * Find top-level comments for a post (parent is null), with authors.
      */
-    @Query("SELECT c FROM Comment c WHERE c.post.id = :postId AND c.parent IS NULL ORDER BY c.createdAt ASC")
+    @Query(value = "SELECT c FROM Comment c JOIN FETCH c.author " +
+                   "WHERE c.post.id = :postId AND c.parent IS NULL ORDER BY c.createdAt ASC, c.id ASC",
+           countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.post.id = :postId AND c.parent IS NULL")
     Page<Comment> findByPostIdAndParentIsNull(@Param("postId") UUID postId, Pageable pageable);
 
     /**
-     * Find replies to a comment.
+     * Find all replies to the given comments, with authors, oldest first.
      */
-    @Query("SELECT c FROM Comment c WHERE c.parent.id = :parentId ORDER BY c.createdAt ASC")
-    List<Comment> findByParentId(@Param("parentId") UUID parentId);
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author " +
+           "WHERE c.parent.id IN :parentIds ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findRepliesWithAuthor(@Param("parentIds") Collection<UUID> parentIds);
+
+    /**
+     * IDs of the first {@code limit} replies (oldest first) of each of the given comments.
+     */
+    @Query(value = "SELECT r.id FROM (" +
+                   "SELECT c.id, ROW_NUMBER() OVER (PARTITION BY c.parent_id ORDER BY c.created_at, c.id) AS rn " +
+                   "FROM community_comments c WHERE c.parent_id IN (:parentIds)) r " +
+                   "WHERE r.rn <= :limit", nativeQuery = true)
+    List<UUID> findFirstReplyIds(@Param("parentIds") Collection<UUID> parentIds, @Param("limit") int limit);
+
+    /**
+     * Find comments by IDs, with authors, oldest first.
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.id IN :ids ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findByIdInWithAuthor(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Keyset page of replies to a comment: replies strictly after the (createdAt, id) cursor, oldest first.
+     */
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.parent.id = :parentId " +
+           "AND (c.createdAt > :cursorCreatedAt OR (c.createdAt = :cursorCreatedAt AND c.id > :cursorId)) " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findRepliesAfter(
+            @Param("parentId") UUID parentId,
+            @Param("cursorCreatedAt") Instant cursorCreatedAt,
+            @Param("cursorId") UUID cursorId,
+            Pageable pageable);
 
     /**
      * Delete all comments for a post.
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -28,17 +29,32 @@ public interface PostLikeRepository extends JpaRepository<PostLike, UUID> {
     Optional<PostLike> findByUserIdAndPostId(UUID userId, UUID postId);
 
     /**
-     * Find all post IDs liked by a user.
+     * Insert a like unless the user already liked the post.
+     * The conflict target is left out so the statement also runs on H2 in PostgreSQL mode;
+     * (user_id, post_id) is the only unique constraint besides the generated id.
+     *
+     * @return 1 if inserted, 0 if the like already existed
      */
-    @Query("SELECT pl.post.id FROM PostLike pl WHERE pl.user.id = :userId")
-    List<UUID> findLikedPostIdsByUserId(@Param("userId") UUID userId);
+    @Modifying
+    @Query(value = "INSERT INTO community_post_likes (id, user_id, post_id, created_at) " +
+                   "VALUES (:id, :userId, :postId, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id, @Param("userId") UUID userId, @Param("postId") UUID postId);
+
+    /**
+     * Find which of the given posts a user has liked.
+     */
+    @Query("SELECT pl.post.id FROM PostLike pl WHERE pl.user.id = :userId AND pl.post.id IN :postIds")
+    List<UUID> findLikedPostIds(@Param("userId") UUID userId, @Param("postIds") Collection<UUID> postIds);
 
     /**
      * Delete like by user and post.
+     *
+     * @return number of deleted likes (0 or 1)
      */
     @Modifying
     @Query("DELETE FROM PostLike pl WHERE pl.user.id = :userId AND pl.post.id = :postId")
-    void deleteByUserIdAndPostId(@Param("userId") UUID userId, @Param("postId") UUID postId);
+    int deleteByUserIdAndPostId(@Param("userId") UUID userId, @Param("postId") UUID postId);
 
     /**
      * Delete all likes for a post.
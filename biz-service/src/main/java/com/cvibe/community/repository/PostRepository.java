@@ -4,11 +4,14 @@ import com.cvibe.community.entity.Post;
 import com.cvibe.community.entity.PostCategory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -29,25 +32,122 @@ public interface PostRepository extends JpaRepository<Post, UUID> {
      */
     Page<Post> findAllByOrderByCreatedAtDesc(Pageable pageable);
 
+    /**
+     * Keyset page of the feed: posts strictly after the (createdAt, id) cursor, newest first,
+     * optionally in one category. No count query.
+     */
+    @Query("SELECT p FROM Post p LEFT JOIN FETCH p.author WHERE (:category IS NULL OR p.category = :category) " +
+           "AND (p.createdAt < :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findFeedAfter(
+            @Param("category") PostCategory category,
+            @Param("cursorCreatedAt") Instant cursorCreatedAt,
+            @Param("cursorId") UUID cursorId,
+            Pageable pageable);
+
     /**
      * Find posts by author ID.
      */
     Page<Post> findByAuthorIdOrderByCreatedAtDesc(UUID authorId, Pageable pageable);
 
     /**
-     * Find trending posts (ordered by likes count).
+     * Find trending posts (ordered by time-decayed trending score).
      */
-    @Query("SELECT p FROM Post p ORDER BY p.likesCount DESC, p.createdAt DESC")
+    @Query("SELECT p FROM Post p ORDER BY p.trendingScore DESC, p.createdAt DESC")
     Page<Post> findTrendingPosts(Pageable pageable);
 
     /**
-     * Search posts by content or tags containing keyword.
+     * Ranked full-text search over the GIN-indexed search_vector column (PostgreSQL only, see V21),
+     * also matching posts tagged with the keyword itself, optionally restricted to a normalized tag.
+     * Candidates come from a UNION of the two index lookups; tag-only matches rank last.
+     * Keyset on (rank, createdAt, id); returns (id, rank) rows, best first.
+     */
+    @Query(value = "SELECT p.id, ts_rank(p.search_vector, q) AS rank " +
+           "FROM community_posts p, websearch_to_tsquery('simple', :keyword) q " +
+           "WHERE p.id IN (SELECT c.id FROM community_posts c " +
+           "WHERE c.search_vector @@ websearch_to_tsquery('simple', :keyword) " +
+           "UNION SELECT kt.post_id FROM community_post_tags kt WHERE kt.tag = CAST(:keywordTag AS VARCHAR)) " +
+           "AND (CAST(:tag AS VARCHAR) IS NULL OR EXISTS (SELECT 1 FROM community_post_tags t " +
+           "WHERE t.post_id = p.id AND t.tag = CAST(:tag AS VARCHAR))) " +
+           "AND (ts_rank(p.search_vector, q), p.created_at, p.id) < " +
+           "(CAST(:cursorRank AS REAL), :cursorCreatedAt, :cursorId) " +
+           "ORDER BY rank DESC, p.created_at DESC, p.id DESC " +
+           "LIMIT :limit",
+           nativeQuery = true)
+    List<Object[]> fullTextSearchAfter(
+            @Param("keyword") String keyword,
+            @Param("keywordTag") String keywordTag,
+            @Param("tag") String tag,
+            @Param("cursorRank") float cursorRank,
+            @Param("cursorCreatedAt") Instant cursorCreatedAt,
+            @Param("cursorId") UUID cursorId,
+            @Param("limit") int limit);
+
+    /**
+     * Search for keywords containing CJK text, which the tsvector does not segment (PostgreSQL only, see V31),
+     * also matching posts tagged with the keyword itself, optionally restricted to a normalized tag.
+     * Content candidates come from the GIN-indexed gram containment and are confirmed with LIKE.
+     * Keyset on (createdAt, id), newest first; returns post ids.
+     */
+    @Query(value = "SELECT p.id FROM community_posts p " +
+           "WHERE p.id IN (SELECT c.id FROM community_posts c " +
+           "WHERE c.cjk_grams @> cjk_grams(CAST(:keyword AS TEXT)) " +
+           "AND LOWER(c.content) LIKE CONCAT('%', LOWER(CAST(:keyword AS TEXT)), '%') " +
+           "UNION SELECT kt.post_id FROM community_post_tags kt WHERE kt.tag = CAST(:keywordTag AS VARCHAR)) " +
+           "AND (CAST(:tag AS VARCHAR) IS NULL OR EXISTS (SELECT 1 FROM community_post_tags t " +
+           "WHERE t.post_id = p.id AND t.tag = CAST(:tag AS VARCHAR))) " +
+           "AND (p.created_at, p.id) < (:cursorCreatedAt, :cursorId) " +
+           "ORDER BY p.created_at DESC, p.id DESC " +
+           "LIMIT :limit",
+           nativeQuery = true)
+    List<UUID> cjkSearchAfter(
+            @Param("keyword") String keyword,
+            @Param("keywordTag") String keywordTag,
+            @Param("tag") String tag,
+            @Param("cursorCreatedAt") Instant cursorCreatedAt,
+            @Param("cursorId") UUID cursorId,
+            @Param("limit") int limit);
+
+    /**
+     * Substring search over content (a table scan), or posts tagged with the keyword itself;
+     * used where full-text search is disabled. Optionally restricted to a normalized tag.
+     * Keyset on (createdAt, id), newest first.
      */
-    @Query("SELECT p FROM Post p WHERE " +
-           "LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(p.tags) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "ORDER BY p.createdAt DESC")
-    Page<Post> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    @Query("SELECT p FROM Post p LEFT JOIN FETCH p.author WHERE " +
+           "(LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+           "OR (:keywordTag IS NOT NULL AND :keywordTag MEMBER OF p.normalizedTags)) " +
+           "AND (:tag IS NULL OR :tag MEMBER OF p.normalizedTags) " +
+           "AND (p.createdAt < :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> searchByKeywordAfter(
+            @Param("keyword") String keyword,
+            @Param("keywordTag") String keywordTag,
+            @Param("tag") String tag,
+            @Param("cursorCreatedAt") Instant cursorCreatedAt,
+            @Param("cursorId") UUID cursorId,
+            Pageable pageable);
+
+    /**
+     * Posts with a normalized tag, driven by the tag index. Keyset on (createdAt, id), newest first.
+     */
+    @Query("SELECT p FROM Post p JOIN p.normalizedTags t LEFT JOIN FETCH p.author WHERE t = :tag " +
+           "AND (p.createdAt < :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findByTagAfter(
+            @Param("tag") String tag,
+            @Param("cursorCreatedAt") Instant cursorCreatedAt,
+            @Param("cursorId") UUID cursorId,
+            Pageable pageable);
+
+    /**
+     * Most used tags starting with a (LIKE-escaped) prefix; returns (tag, post count) rows.
+     */
+    @Query(value = "SELECT t.tag, COUNT(*) AS posts FROM community_post_tags t " +
+           "WHERE t.tag LIKE CONCAT(:prefix, '%') " +
+           "GROUP BY t.tag ORDER BY posts DESC, t.tag " +
+           "LIMIT :limit",
+           nativeQuery = true)
+    List<Object[]> suggestTags(@Param("prefix") String prefix, @Param("limit") int limit);
 
     /**
      * Find post with author eagerly loaded.
@@ -59,4 +159,10 @@ public interface PostRepository extends JpaRepository<Post, UUID> {
      * Find posts by multiple IDs.
      */
     List<Post> findByIdIn(List<UUID> ids);
+
+    /**
+     * Find posts by multiple IDs with authors eagerly loaded.
+     */
+    @Query("SELECT p FROM Post p LEFT JOIN FETCH p.author WHERE p.id IN :ids")
+    List<Post> findByIdInWithAuthor(@Param("ids") Collection<UUID> ids);
 }
@@ -0,0 +1,91 @@
+package com.cvibe.community.service;
+
+import com.cvibe.common.util.CrossNodeInvalidation;
+import com.cvibe.common.util.LruMaps;
+import com.cvibe.community.dto.CommentDto;
+import com.cvibe.community.dto.PagedResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the first comment page of recently viewed posts.
+ *
+ * Only the first page is cached: it is what almost every reader of a popular post loads.
+ * Entries are evicted LRU and expire after the TTL; adding or deleting a comment must call
+ * {@link #invalidate(UUID)}, which other nodes apply too (see {@link CrossNodeInvalidation}).
+ * Cached pages are shared between callers and must be treated as read-only.
+ */
+@Component
+public class CommentPageCache {
+
+    private static final String CHANNEL = "community:comment-cache";
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final Map<UUID, CachedPage> pages;
+    private final CrossNodeInvalidation<UUID> invalidation;
+
+    public CommentPageCache(
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper,
+            @Value("${community.comment-cache.enabled:true}") boolean enabled,
+            @Value("${community.comment-cache.redis-enabled:true}") boolean redisEnabled,
+            @Value("${community.comment-cache.max-posts:1000}") int maxPosts,
+            @Value("${community.comment-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.pages = LruMaps.create(maxPosts);
+        this.invalidation = new CrossNodeInvalidation<>(CHANNEL, UUID.class, this::evict,
+                objectMapper, redisTemplate, listenerContainer, enabled && redisEnabled);
+    }
+
+    /**
+     * Cached first page of the post for the given page size, loading (and caching) it on a miss
+     */
+    public PagedResponse<CommentDto> firstPage(UUID postId, int size, Supplier<PagedResponse<CommentDto>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        long now = System.nanoTime();
+        synchronized (pages) {
+            CachedPage cached = pages.get(postId);
+            if (cached != null && cached.size == size && now - cached.loadedAt < ttlNanos) {
+                return cached.page;
+            }
+        }
+
+        return invalidation.load(postId, loader, page -> {
+            synchronized (pages) {
+                pages.put(postId, new CachedPage(page, size, now));
+            }
+        });
+    }
+
+    /**
+     * Drop the cached page once the current transaction commits (immediately if there is none)
+     * and tell the other nodes to drop theirs
+     */
+    public void invalidate(UUID postId) {
+        if (!enabled) {
+            return;
+        }
+        invalidation.invalidateAfterCommit(postId);
+    }
+
+    private void evict(UUID postId) {
+        synchronized (pages) {
+            pages.remove(postId);
+        }
+    }
+
+    private record CachedPage(PagedResponse<CommentDto> page, int size, long loadedAt) {
+    }
+}
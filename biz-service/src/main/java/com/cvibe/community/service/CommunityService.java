@@ -2,13 +2,15 @@ package com.cvibe.community.service;
 
 import com.cvibe.auth.entity.User;
 import com.cvibe.auth.repository.UserRepository;
+import com.cvibe.common.dto.Cursor;
+import com.cvibe.common.dto.CursorResponse;
 import com.cvibe.common.exception.BusinessException;
 import com.cvibe.common.exception.ErrorCode;
+import com.cvibe.common.util.SearchKeywords;
 import com.cvibe.community.dto.*;
 import com.cvibe.community.entity.Comment;
 import com.cvibe.community.entity.Post;
 import com.cvibe.community.entity.PostCategory;
-import com.cvibe.community.entity.PostLike;
 import com.cvibe.community.repository.CommentRepository;
 import com.cvibe.community.repository.PostLikeRepository;
 import com.cvibe.community.repository.PostRepository;
@@ -16,12 +18,16 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -33,11 +39,24 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CommunityService {
 
+    private static final int MAX_TAG_LENGTH = 50;
+    private static final int MAX_TAG_SUGGESTIONS = 20;
+
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final PostLikeRepository postLikeRepository;
     private final UserRepository userRepository;
     private final ObjectMapper objectMapper;
+    private final PostCounterStore postCounterStore;
+    private final LikedPostCache likedPostCache;
+    private final CommentPageCache commentPageCache;
+    private final TrendingPostIndex trendingPostIndex;
+
+    @Value("${community.comments.replies-per-thread:3}")
+    private int repliesPerThread;
+
+    @Value("${community.search.full-text:true}")
+    private boolean fullTextSearchEnabled;
 
     // ==================== Post Operations ====================
 
@@ -53,6 +72,7 @@ public class CommunityService {
                 .content(request.getContent())
                 .images(toJsonArray(request.getImages()))
                 .tags(toJsonArray(request.getTags()))
+                .normalizedTags(normalizeTags(request.getTags()))
                 .category(request.getCategory())
                 .build();
 
@@ -69,8 +89,8 @@ public class CommunityService {
         Post post = postRepository.findByIdWithAuthor(postId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
 
-        boolean liked = userId != null && postLikeRepository.existsByUserIdAndPostId(userId, postId);
-        return PostDto.fromEntity(post, liked);
+        boolean liked = likedPostCache.isLiked(userId, postId);
+        return toDto(post, liked);
     }
 
     /**
@@ -94,6 +114,8 @@ public class CommunityService {
         }
         if (request.getTags() != null) {
             post.setTags(toJsonArray(request.getTags()));
+            post.getNormalizedTags().clear();
+            post.getNormalizedTags().addAll(normalizeTags(request.getTags()));
         }
         if (request.getCategory() != null) {
             post.setCategory(request.getCategory());
@@ -102,8 +124,8 @@ public class CommunityService {
         post = postRepository.save(post);
         log.info("Updated post {}", postId);
 
-        boolean liked = postLikeRepository.existsByUserIdAndPostId(userId, postId);
-        return PostDto.fromEntity(post, liked);
+        boolean liked = likedPostCache.isLiked(userId, postId);
+        return toDto(post, liked);
     }
 
     /**
@@ -123,6 +145,9 @@ public class CommunityService {
         postLikeRepository.deleteByPostId(postId);
         commentRepository.deleteByPostId(postId);
         postRepository.delete(post);
+        postCounterStore.discard(postId);
+        commentPageCache.invalidate(postId);
+        trendingPostIndex.remove(postId);
 
         log.info("Deleted post {} by user {}", postId, userId);
     }
@@ -143,72 +168,150 @@ public class CommunityService {
 
         Set<UUID> likedPostIds = getUserLikedPostIds(userId, posts.getContent());
         List<PostDto> postDtos = posts.getContent().stream()
-                .map(post -> PostDto.fromEntity(post, likedPostIds.contains(post.getId())))
+                .map(post -> toDto(post, likedPostIds.contains(post.getId())))
                 .collect(Collectors.toList());
 
         return PagedResponse.of(posts, postDtos);
     }
 
     /**
-     * Get trending posts (ordered by likes).
+     * Get feed by cursor (newest first, infinite scroll; no totals).
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<PostDto> getFeedAfter(UUID userId, String cursor, int size, PostCategory category) {
+        Cursor position = Cursor.decode(cursor, 1);
+        Slice<Post> posts = postRepository.findFeedAfter(
+                category,
+                position != null ? position.instantKey(0) : Cursor.MAX_INSTANT,
+                position != null ? position.id() : Cursor.MAX_ID,
+                PageRequest.of(0, size));
+
+        Set<UUID> likedPostIds = getUserLikedPostIds(userId, posts.getContent());
+        return CursorResponse.of(posts,
+                post -> toDto(post, likedPostIds.contains(post.getId())),
+                post -> Cursor.encode(post.getId(), post.getCreatedAt()));
+    }
+
+    /**
+     * Get trending posts (ordered by time-decayed trending score).
+     * Pages within the top N are served from the Redis sorted set, the rest from the score index.
      */
     @Transactional(readOnly = true)
     public PagedResponse<PostDto> getTrendingPosts(UUID userId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Post> posts = postRepository.findTrendingPosts(pageable);
+        Page<Post> posts = trendingPostIndex.findPage(pageable)
+                .<Page<Post>>map(top -> new PageImpl<>(findPostsInOrder(top.postIds()), pageable, top.total()))
+                .orElseGet(() -> postRepository.findTrendingPosts(pageable));
 
         Set<UUID> likedPostIds = getUserLikedPostIds(userId, posts.getContent());
         List<PostDto> postDtos = posts.getContent().stream()
-                .map(post -> PostDto.fromEntity(post, likedPostIds.contains(post.getId())))
+                .map(post -> toDto(post, likedPostIds.contains(post.getId())))
                 .collect(Collectors.toList());
 
         return PagedResponse.of(posts, postDtos);
     }
 
     /**
-     * Search posts by keyword.
+     * Search posts by keyword and/or tag, best match first, with keyset pagination.
+     * Ranked full-text search when available, gram-indexed substring matching for CJK keywords;
+     * otherwise substring matching, newest first.
      */
     @Transactional(readOnly = true)
-    public PagedResponse<PostDto> searchPosts(UUID userId, String keyword, int page, int size) {
-        if (keyword == null || keyword.trim().isEmpty()) {
-            return getFeed(userId, page, size, null);
+    public PagedResponse<PostDto> searchPosts(UUID userId, String keyword, String tag, String cursor, int size) {
+        String query = keyword != null && !keyword.isBlank() ? keyword.trim() : null;
+        String normalizedTag = tag != null ? normalizeTag(tag) : null;
+        if (query == null && normalizedTag == null) {
+            return getFeed(userId, 0, size, null);
         }
 
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Post> posts = postRepository.searchByKeyword(keyword.trim(), pageable);
+        SearchCursor after = cursor != null && !cursor.isBlank() ? decodeSearchCursor(cursor) : SearchCursor.FIRST;
+        // Fetch one extra row to know whether there is a next page
+        List<Post> posts;
+        Map<UUID, Float> ranks = new HashMap<>();
+        // Keyword search also matches posts tagged with the keyword
+        String keywordTag = query != null ? normalizeTag(query) : null;
+        // The tsvector does not segment CJK text; CJK keywords use the gram-indexed substring query (V31)
+        boolean cjk = query != null && SearchKeywords.containsCjk(query);
+        if (query != null && fullTextSearchEnabled && !cjk) {
+            List<UUID> ids = new ArrayList<>();
+            for (Object[] row : postRepository.fullTextSearchAfter(
+                    query, keywordTag, normalizedTag, after.rank(), after.createdAt(), after.id(), size + 1)) {
+                UUID id = (UUID) row[0];
+                ids.add(id);
+                ranks.put(id, ((Number) row[1]).floatValue());
+            }
+            posts = findPostsInOrder(ids);
+        } else if (query != null && fullTextSearchEnabled) {
+            posts = findPostsInOrder(postRepository.cjkSearchAfter(
+                    query, keywordTag, normalizedTag, after.createdAt(), after.id(), size + 1));
+        } else if (query != null) {
+            posts = postRepository.searchByKeywordAfter(
+                    query, keywordTag, normalizedTag, after.createdAt(), after.id(), PageRequest.of(0, size + 1));
+        } else {
+            posts = postRepository.findByTagAfter(
+                    normalizedTag, after.createdAt(), after.id(), PageRequest.of(0, size + 1));
+        }
 
-        Set<UUID> likedPostIds = getUserLikedPostIds(userId, posts.getContent());
-        List<PostDto> postDtos = posts.getContent().stream()
-                .map(post -> PostDto.fromEntity(post, likedPostIds.contains(post.getId())))
+        boolean hasNext = posts.size() > size;
+        List<Post> pagePosts = hasNext ? posts.subList(0, size) : posts;
+
+        Set<UUID> likedPostIds = getUserLikedPostIds(userId, pagePosts);
+        List<PostDto> postDtos = pagePosts.stream()
+                .map(post -> toDto(post, likedPostIds.contains(post.getId())))
                 .collect(Collectors.toList());
 
-        return PagedResponse.of(posts, postDtos);
+        String nextCursor = null;
+        if (hasNext) {
+            Post last = pagePosts.get(pagePosts.size() - 1);
+            nextCursor = encodeSearchCursor(ranks.getOrDefault(last.getId(), 0f), last);
+        }
+
+        // Totals are not computed in keyset mode; counting would defeat the purpose
+        return PagedResponse.<PostDto>builder()
+                .content(postDtos)
+                .size(size)
+                .first(after == SearchCursor.FIRST)
+                .last(!hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * Suggest existing tags starting with the prefix, most used first.
+     */
+    @Transactional(readOnly = true)
+    public List<TagSuggestionDto> suggestTags(String prefix, int limit) {
+        String normalized = prefix != null ? normalizeTag(prefix) : null;
+        if (normalized == null) {
+            return List.of();
+        }
+        String escaped = normalized.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return postRepository.suggestTags(escaped, Math.min(Math.max(limit, 1), MAX_TAG_SUGGESTIONS)).stream()
+                .map(row -> TagSuggestionDto.builder()
+                        .tag((String) row[0])
+                        .postCount(((Number) row[1]).longValue())
+                        .build())
+                .collect(Collectors.toList());
     }
 
     // ==================== Like Operations ====================
 
     /**
-     * Like a post.
+     * Like a post. Idempotent: the unique (user, post) constraint absorbs repeated likes.
      */
     @Transactional
     public void likePost(UUID userId, UUID postId) {
-        if (postLikeRepository.existsByUserIdAndPostId(userId, postId)) {
+        if (!postRepository.existsById(postId)) {
+            throw new BusinessException(ErrorCode.POST_NOT_FOUND);
+        }
+
+        boolean inserted = postLikeRepository.insertIfAbsent(UUID.randomUUID(), userId, postId) == 1;
+        likedPostCache.recordAfterCommit(userId, postId, true);
+        if (!inserted) {
             log.debug("User {} already liked post {}", userId, postId);
             return;
         }
-
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
-        User user = findUserById(userId);
-
-        PostLike like = PostLike.builder()
-                .user(user)
-                .post(post)
-                .build();
-
-        postLikeRepository.save(like);
-        post.incrementLikes();
-        postRepository.save(post);
+        postCounterStore.adjustLikes(postId, 1);
 
         log.info("User {} liked post {}", userId, postId);
     }
@@ -218,17 +321,13 @@ public class CommunityService {
      */
     @Transactional
     public void unlikePost(UUID userId, UUID postId) {
-        if (!postLikeRepository.existsByUserIdAndPostId(userId, postId)) {
+        boolean deleted = postLikeRepository.deleteByUserIdAndPostId(userId, postId) == 1;
+        likedPostCache.recordAfterCommit(userId, postId, false);
+        if (!deleted) {
             log.debug("User {} has not liked post {}", userId, postId);
             return;
         }
-
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.POST_NOT_FOUND));
-
-        postLikeRepository.deleteByUserIdAndPostId(userId, postId);
-        post.decrementLikes();
-        postRepository.save(post);
+        postCounterStore.adjustLikes(postId, -1);
 
         log.info("User {} unliked post {}", userId, postId);
     }
@@ -263,36 +362,92 @@ public class CommunityService {
                 .build();
 
         comment = commentRepository.save(comment);
-
-        // Increment post's comment count
-        post.incrementComments();
-        postRepository.save(post);
+        postCounterStore.adjustComments(postId, 1);
+        commentPageCache.invalidate(postId);
 
         log.info("User {} added comment {} to post {}", userId, comment.getId(), postId);
         return CommentDto.fromEntity(comment);
     }
 
     /**
-     * Get comments for a post (top-level comments with replies).
+     * Get comments for a post (top-level comments with their first replies).
+     *
+     * Not transactional: every query join-fetches the authors, so the mapping needs no session.
      */
-    @Transactional(readOnly = true)
     public PagedResponse<CommentDto> getComments(UUID postId, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Comment> comments = commentRepository.findByPostIdAndParentIsNull(postId, pageable);
+        if (page == 0) {
+            return commentPageCache.firstPage(postId, size, () -> loadComments(postId, 0, size));
+        }
+        return loadComments(postId, page, size);
+    }
+
+    /**
+     * Get further replies to a comment after the cursor from a previous response.
+     */
+    public PagedResponse<CommentDto> getReplies(UUID commentId, String cursor, int size) {
+        ReplyCursor after = cursor != null && !cursor.isBlank() ? decodeReplyCursor(cursor) : ReplyCursor.FIRST;
+
+        // Fetch one extra row to know whether there is a next page
+        List<Comment> replies = commentRepository.findRepliesAfter(
+                commentId, after.createdAt(), after.id(), PageRequest.of(0, size + 1));
+        boolean hasNext = replies.size() > size;
+        List<Comment> pageReplies = hasNext ? replies.subList(0, size) : replies;
+
+        List<CommentDto> replyDtos = pageReplies.stream()
+                .map(CommentDto::fromEntity)
+                .collect(Collectors.toList());
+
+        return PagedResponse.<CommentDto>builder()
+                .content(replyDtos)
+                .size(size)
+                .first(after == ReplyCursor.FIRST)
+                .last(!hasNext)
+                .nextCursor(hasNext ? encodeReplyCursor(pageReplies.get(pageReplies.size() - 1)) : null)
+                .build();
+    }
+
+    private PagedResponse<CommentDto> loadComments(UUID postId, int page, int size) {
+        Page<Comment> comments = commentRepository.findByPostIdAndParentIsNull(postId, PageRequest.of(page, size));
+        if (comments.isEmpty()) {
+            return PagedResponse.of(comments, List.of());
+        }
+
+        // Replies of the whole page in one query, grouped by thread in creation order
+        List<UUID> parentIds = comments.getContent().stream()
+                .map(Comment::getId)
+                .collect(Collectors.toList());
+        Map<UUID, List<Comment>> repliesByParent = loadReplies(parentIds).stream()
+                .collect(Collectors.groupingBy(reply -> reply.getParent().getId(),
+                        LinkedHashMap::new, Collectors.toList()));
 
         List<CommentDto> commentDtos = comments.getContent().stream()
                 .map(comment -> {
-                    List<CommentDto> replies = commentRepository.findByParentId(comment.getId())
-                            .stream()
+                    List<Comment> thread = repliesByParent.getOrDefault(comment.getId(), List.of());
+                    // One extra reply is loaded per thread to detect "load more"
+                    boolean hasMore = repliesPerThread > 0 && thread.size() > repliesPerThread;
+                    List<Comment> shown = hasMore ? thread.subList(0, repliesPerThread) : thread;
+
+                    CommentDto dto = CommentDto.fromEntity(comment, shown.stream()
                             .map(CommentDto::fromEntity)
-                            .collect(Collectors.toList());
-                    return CommentDto.fromEntity(comment, replies);
+                            .collect(Collectors.toList()));
+                    if (hasMore) {
+                        dto.setNextRepliesCursor(encodeReplyCursor(shown.get(shown.size() - 1)));
+                    }
+                    return dto;
                 })
                 .collect(Collectors.toList());
 
         return PagedResponse.of(comments, commentDtos);
     }
 
+    private List<Comment> loadReplies(List<UUID> parentIds) {
+        if (repliesPerThread <= 0) {
+            return commentRepository.findRepliesWithAuthor(parentIds);
+        }
+        List<UUID> replyIds = commentRepository.findFirstReplyIds(parentIds, repliesPerThread + 1);
+        return replyIds.isEmpty() ? List.of() : commentRepository.findByIdInWithAuthor(replyIds);
+    }
+
     /**
      * Delete a comment.
      */
@@ -316,10 +471,8 @@ public class CommunityService {
         }
 
         commentRepository.delete(comment);
-
-        // Decrement post's comment count
-        post.decrementComments();
-        postRepository.save(post);
+        postCounterStore.adjustComments(post.getId(), -1);
+        commentPageCache.invalidate(post.getId());
 
         log.info("User {} deleted comment {}", userId, commentId);
     }
@@ -331,6 +484,23 @@ public class CommunityService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
     }
 
+    private List<Post> findPostsInOrder(List<UUID> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Post> byId = postRepository.findByIdInWithAuthor(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, post -> post));
+        // Posts deleted since the set was built are skipped
+        return postIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private PostDto toDto(Post post, boolean liked) {
+        return postCounterStore.applyPending(PostDto.fromEntity(post, liked));
+    }
+
     private Set<UUID> getUserLikedPostIds(UUID userId, List<Post> posts) {
         if (userId == null || posts.isEmpty()) {
             return Collections.emptySet();
@@ -340,9 +510,64 @@ public class CommunityService {
                 .map(Post::getId)
                 .collect(Collectors.toList());
 
-        return postLikeRepository.findLikedPostIdsByUserId(userId).stream()
-                .filter(postIds::contains)
-                .collect(Collectors.toSet());
+        return likedPostCache.likedAmong(userId, postIds);
+    }
+
+    private record ReplyCursor(Instant createdAt, UUID id) {
+        // Sorts before every real reply
+        static final ReplyCursor FIRST = new ReplyCursor(Cursor.MIN_INSTANT, Cursor.MIN_ID);
+    }
+
+    private String encodeReplyCursor(Comment reply) {
+        return Cursor.encode(reply.getId(), reply.getCreatedAt());
+    }
+
+    private ReplyCursor decodeReplyCursor(String cursor) {
+        Cursor position = Cursor.decode(cursor, 1);
+        return new ReplyCursor(position.instantKey(0), position.id());
+    }
+
+    private record SearchCursor(float rank, Instant createdAt, UUID id) {
+        // Sorts before every real result
+        static final SearchCursor FIRST = new SearchCursor(Float.MAX_VALUE, Cursor.MAX_INSTANT, Cursor.MAX_ID);
+    }
+
+    private String encodeSearchCursor(float rank, Post post) {
+        return Cursor.encode(post.getId(), rank, post.getCreatedAt());
+    }
+
+    private SearchCursor decodeSearchCursor(String cursor) {
+        Cursor position = Cursor.decode(cursor, 2);
+        return new SearchCursor(position.floatKey(0), position.instantKey(1), position.id());
+    }
+
+    /**
+     * Normalized form of a tag: trimmed, without leading '#', lowercase, whitespace as '-'.
+     * Must match the backfill in Flyway V21.
+     */
+    private static String normalizeTag(String tag) {
+        String normalized = tag.trim();
+        while (normalized.startsWith("#")) {
+            normalized = normalized.substring(1);
+        }
+        normalized = normalized.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", "-");
+        if (normalized.length() > MAX_TAG_LENGTH) {
+            normalized = normalized.substring(0, MAX_TAG_LENGTH);
+        }
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    private static Set<String> normalizeTags(List<String> tags) {
+        Set<String> normalized = new HashSet<>();
+        if (tags != null) {
+            for (String tag : tags) {
+                String value = tag != null ? normalizeTag(tag) : null;
+                if (value != null) {
+                    normalized.add(value);
+                }
+            }
+        }
+        return normalized;
     }
 
     private String toJsonArray(List<String> list) {
@@ -0,0 +1,199 @@
+package com.cvibe.community.service;
+
+import com.cvibe.common.util.CrossNodeInvalidation;
+import com.cvibe.common.util.LruMaps;
+import com.cvibe.common.util.TransactionUtils;
+import com.cvibe.community.repository.PostLikeRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Liked state of posts per user, for rendering feed pages.
+ *
+ * Only the posts on the requested page are ever looked up ({@code post_id IN (...)}),
+ * so the cost is independent of how many posts the user has liked. Resolved states
+ * (liked or not) are remembered per user in a bounded LRU, so the most active users
+ * page through feeds without touching the table.
+ * - Users live in a concurrent map and are locked one at a time; once the map grows past
+ *   max-users the least recently used tenth is trimmed by a single thread
+ * - Like/unlike update the cached state after commit; a load that raced with such an
+ *   update is not cached
+ * - Other nodes drop their cached state for that post (see {@link CrossNodeInvalidation})
+ */
+@Component
+public class LikedPostCache {
+
+    private static final String CHANNEL = "community:liked-cache";
+
+    private final PostLikeRepository postLikeRepository;
+    private final boolean enabled;
+    private final int maxUsers;
+    private final int maxPostsPerUser;
+    private final long ttlNanos;
+
+    private final Map<UUID, UserLikes> users = new ConcurrentHashMap<>();
+    private final AtomicBoolean trimming = new AtomicBoolean();
+    private final CrossNodeInvalidation<LikeKey> invalidation;
+
+    public LikedPostCache(
+            PostLikeRepository postLikeRepository,
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper,
+            @Value("${community.liked-cache.enabled:true}") boolean enabled,
+            @Value("${community.liked-cache.redis-enabled:true}") boolean redisEnabled,
+            @Value("${community.liked-cache.max-users:10000}") int maxUsers,
+            @Value("${community.liked-cache.max-posts-per-user:500}") int maxPostsPerUser,
+            @Value("${community.liked-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.postLikeRepository = postLikeRepository;
+        this.enabled = enabled;
+        this.maxUsers = maxUsers;
+        this.maxPostsPerUser = maxPostsPerUser;
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        // Remote likes/unlikes drop the state; the local one is recorded, not evicted
+        this.invalidation = new CrossNodeInvalidation<>(CHANNEL, LikeKey.class,
+                key -> update(key.userId(), key.postId(), null),
+                objectMapper, redisTemplate, listenerContainer, enabled && redisEnabled);
+    }
+
+    /**
+     * The subset of postIds the user has liked
+     */
+    public Set<UUID> likedAmong(UUID userId, Collection<UUID> postIds) {
+        if (userId == null || postIds.isEmpty()) {
+            return Set.of();
+        }
+        if (!enabled) {
+            return new HashSet<>(postLikeRepository.findLikedPostIds(userId, postIds));
+        }
+
+        long now = System.nanoTime();
+        UserLikes entry = users.compute(userId, (id, existing) ->
+                existing == null || now - existing.createdAt >= ttlNanos
+                        ? new UserLikes(now, maxPostsPerUser)
+                        : existing);
+        entry.lastAccess = now;
+        if (users.size() > maxUsers) {
+            trim();
+        }
+
+        Set<UUID> liked = new HashSet<>();
+        List<UUID> unknown = new ArrayList<>();
+        long loadVersion;
+        synchronized (entry) {
+            for (UUID postId : postIds) {
+                Boolean state = entry.states.get(postId);
+                if (state == null) {
+                    unknown.add(postId);
+                } else if (state) {
+                    liked.add(postId);
+                }
+            }
+            loadVersion = entry.version;
+        }
+        if (unknown.isEmpty()) {
+            return liked;
+        }
+
+        Set<UUID> loaded = new HashSet<>(postLikeRepository.findLikedPostIds(userId, unknown));
+        liked.addAll(loaded);
+        synchronized (entry) {
+            // Skip if the entry was replaced or a like/unlike happened meanwhile
+            if (users.get(userId) == entry && entry.version == loadVersion) {
+                unknown.forEach(postId -> entry.states.put(postId, loaded.contains(postId)));
+            }
+        }
+        return liked;
+    }
+
+    /**
+     * Whether the user has liked the post
+     */
+    public boolean isLiked(UUID userId, UUID postId) {
+        return userId != null && likedAmong(userId, List.of(postId)).contains(postId);
+    }
+
+    /**
+     * Record a like/unlike once the current transaction commits (immediately if there is none)
+     * and tell the other nodes to drop their cached state for the post
+     */
+    public void recordAfterCommit(UUID userId, UUID postId, boolean liked) {
+        if (!enabled) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> {
+            update(userId, postId, liked);
+            invalidation.publish(new LikeKey(userId, postId));
+        });
+    }
+
+    // ==================== Internals ====================
+
+    /**
+     * Set the post's state for the user, or forget it when liked is null
+     */
+    private void update(UUID userId, UUID postId, Boolean liked) {
+        UserLikes entry = users.get(userId);
+        if (entry == null) {
+            return;
+        }
+        synchronized (entry) {
+            entry.version++;
+            if (liked != null) {
+                entry.states.put(postId, liked);
+            } else {
+                entry.states.remove(postId);
+            }
+        }
+    }
+
+    /**
+     * Drop the least recently used users down to 90% of max-users; concurrent callers skip
+     */
+    private void trim() {
+        if (!trimming.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            LruMaps.trim(users, maxUsers * 9 / 10, user -> user.lastAccess);
+        } finally {
+            trimming.set(false);
+        }
+    }
+
+    /**
+     * A user's liked state of one post, as invalidated across nodes
+     */
+    record LikeKey(UUID userId, UUID postId) {
+    }
+
+    /**
+     * Known liked states of one user; states and version are guarded by the entry's lock
+     */
+    private static final class UserLikes {
+
+        private final long createdAt;
+        private final Map<UUID, Boolean> states;
+        private long version;
+        private volatile long lastAccess;
+
+        UserLikes(long createdAt, int maxPosts) {
+            this.createdAt = createdAt;
+            this.lastAccess = createdAt;
+            this.states = LruMaps.create(maxPosts);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.cvibe.community.service;
+
+import com.cvibe.common.util.TransactionUtils;
+import com.cvibe.community.dto.PostDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind like and comment counters for posts.
+ *
+ * Likes and comments record a delta in memory once their transaction commits instead of
+ * updating the post row, so a popular post never becomes a hot, lock-contended row.
+ * A scheduled flusher applies the accumulated deltas to community_posts in one JDBC batch,
+ * recomputing the trending score of each touched post in the same statement.
+ * Post rows never write the counter columns themselves (they are not updatable in JPA),
+ * so flushes cannot be overwritten by a stale entity.
+ *
+ * Deltas are per node and visible to reads on that node via {@link #applyPending};
+ * other nodes see them after the next flush. Deltas pending at a crash are lost, so a
+ * reconciliation job periodically recounts likes and comments of recent posts from
+ * community_post_likes/community_comments and repairs the posts whose counters drifted.
+ * Posts with a like or comment inside the grace period are skipped, since another node may
+ * still hold the delta for it; a count that races with an unlike or comment deletion is
+ * corrected by the following run.
+ */
+@Slf4j
+@Component
+public class PostCounterStore {
+
+    private static final String NEW_LIKES = "GREATEST(likes_count + ?, 0)";
+    private static final String NEW_COMMENTS = "GREATEST(comments_count + ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TrendingPostIndex trendingPostIndex;
+    private final int batchSize;
+    private final Duration reconcileWindow;
+    private final Duration reconcileGrace;
+    private final String flushSql;
+    private final String repairSql;
+
+    private final Map<UUID, Delta> pending = new ConcurrentHashMap<>();
+
+    public PostCounterStore(
+            JdbcTemplate jdbcTemplate,
+            TrendingPostIndex trendingPostIndex,
+            @Value("${community.counters.flush-batch-size:500}") int batchSize,
+            @Value("${community.counters.reconcile-window-hours:168}") long reconcileWindowHours,
+            @Value("${community.counters.reconcile-grace-seconds:60}") long reconcileGraceSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.trendingPostIndex = trendingPostIndex;
+        this.batchSize = batchSize;
+        this.reconcileWindow = Duration.ofHours(reconcileWindowHours);
+        this.reconcileGrace = Duration.ofSeconds(reconcileGraceSeconds);
+        // Right-hand sides see the old row, so the new counts are passed to the score again
+        this.flushSql = "UPDATE community_posts SET likes_count = " + NEW_LIKES +
+                ", comments_count = " + NEW_COMMENTS +
+                ", trending_score = " + trendingPostIndex.scoreExpression(NEW_LIKES, NEW_COMMENTS) +
+                " WHERE id = ?";
+        this.repairSql = "UPDATE community_posts SET likes_count = ?, comments_count = ?" +
+                ", trending_score = " + trendingPostIndex.scoreExpression("?", "?") +
+                " WHERE id = ?";
+    }
+
+    /**
+     * Record a like delta once the current transaction commits
+     */
+    public void adjustLikes(UUID postId, int delta) {
+        TransactionUtils.afterCommit(() -> add(postId, new Delta(delta, 0)));
+    }
+
+    /**
+     * Record a comment delta once the current transaction commits
+     */
+    public void adjustComments(UUID postId, int delta) {
+        TransactionUtils.afterCommit(() -> add(postId, new Delta(0, delta)));
+    }
+
+    /**
+     * Forget pending deltas of a deleted post
+     */
+    public void discard(UUID postId) {
+        TransactionUtils.afterCommit(() -> pending.remove(postId));
+    }
+
+    /**
+     * Add this node's unflushed deltas to the counts of the DTO
+     */
+    public PostDto applyPending(PostDto dto) {
+        Delta delta = pending.get(UUID.fromString(dto.getId()));
+        if (delta != null) {
+            dto.setLikesCount(Math.max(0, nullToZero(dto.getLikesCount()) + delta.likes()));
+            dto.setCommentsCount(Math.max(0, nullToZero(dto.getCommentsCount()) + delta.comments()));
+        }
+        return dto;
+    }
+
+    /**
+     * Write all pending deltas to the posts table
+     */
+    @Scheduled(fixedDelayString = "${community.counters.flush-interval-ms:2000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // Removing an entry atomically takes its delta; later deltas start a new entry
+        List<Map.Entry<UUID, Delta>> drained = new ArrayList<>();
+        for (UUID postId : pending.keySet()) {
+            Delta delta = pending.remove(postId);
+            if (delta != null && !delta.isZero()) {
+                drained.add(Map.entry(postId, delta));
+            }
+        }
+
+        for (int from = 0; from < drained.size(); from += batchSize) {
+            List<Map.Entry<UUID, Delta>> batch = drained.subList(from, Math.min(from + batchSize, drained.size()));
+            try {
+                jdbcTemplate.batchUpdate(flushSql, batch.stream()
+                        .map(e -> {
+                            Delta delta = e.getValue();
+                            return new Object[]{delta.likes(), delta.comments(), delta.likes(), delta.comments(), e.getKey()};
+                        })
+                        .toList());
+                trendingPostIndex.scoresChanged(batch.stream().map(Map.Entry::getKey).toList());
+            } catch (RuntimeException e) {
+                // Keep the deltas for the next run
+                log.warn("Post counter flush failed for {} posts, retrying later: {}", batch.size(), e.getMessage());
+                batch.forEach(entry -> add(entry.getKey(), entry.getValue()));
+            }
+        }
+        log.debug("Flushed counter deltas for {} posts", drained.size());
+    }
+
+    /**
+     * Recount likes and comments of recent posts and repair counters that drifted,
+     * e.g. because a node crashed with unflushed deltas
+     */
+    @Scheduled(fixedDelayString = "${community.counters.reconcile-interval-ms:600000}", initialDelay = 60000)
+    public void reconcile() {
+        // This node's own deltas are not a drift
+        flush();
+
+        long start = System.nanoTime();
+        Instant now = Instant.now();
+        Timestamp activeSince = Timestamp.from(now.minus(reconcileGrace));
+        List<Recount> drifted = jdbcTemplate.query(
+                "SELECT id, likes, comments FROM (" +
+                "  SELECT p.id, p.likes_count, p.comments_count," +
+                "    (SELECT COUNT(*) FROM community_post_likes l WHERE l.post_id = p.id) AS likes," +
+                "    (SELECT COUNT(*) FROM community_comments c WHERE c.post_id = p.id) AS comments" +
+                "  FROM community_posts p" +
+                "  WHERE p.created_at >= ?" +
+                "    AND NOT EXISTS (SELECT 1 FROM community_post_likes l WHERE l.post_id = p.id AND l.created_at >= ?)" +
+                "    AND NOT EXISTS (SELECT 1 FROM community_comments c WHERE c.post_id = p.id AND c.created_at >= ?)" +
+                ") counted WHERE likes <> likes_count OR comments <> comments_count",
+                (rs, i) -> new Recount(rs.getObject(1, UUID.class), rs.getInt(2), rs.getInt(3)),
+                Timestamp.from(now.minus(reconcileWindow)), activeSince, activeSince);
+        if (drifted.isEmpty()) {
+            log.debug("Post counters consistent, checked in {}ms", (System.nanoTime() - start) / 1_000_000);
+            return;
+        }
+
+        for (int from = 0; from < drifted.size(); from += batchSize) {
+            List<Recount> batch = drifted.subList(from, Math.min(from + batchSize, drifted.size()));
+            jdbcTemplate.batchUpdate(repairSql, batch.stream()
+                    .map(r -> new Object[]{r.likes(), r.comments(), r.likes(), r.comments(), r.postId()})
+                    .toList());
+            trendingPostIndex.scoresChanged(batch.stream().map(Recount::postId).toList());
+        }
+        log.info("Repaired like/comment counters of {} posts in {}ms",
+                drifted.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    // ==================== Helpers ====================
+
+    private void add(UUID postId, Delta delta) {
+        pending.merge(postId, delta, Delta::plus);
+    }
+
+    private static int nullToZero(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    private record Recount(UUID postId, int likes, int comments) {
+    }
+
+    private record Delta(int likes, int comments) {
+
+        Delta plus(Delta other) {
+            return new Delta(likes + other.likes, comments + other.comments);
+        }
+
+        boolean isZero() {
+            return likes == 0 && comments == 0;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.cvibe.community.service;
+
+import com.cvibe.common.util.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Time-decayed trending score of community posts.
+ *
+ * score = (likes + commentWeight * comments) / (ageHours + 2) ^ gravity
+ *
+ * - The score is materialized in community_posts.trending_score and recomputed in the same
+ *   UPDATE that flushes like/comment deltas ({@link #scoreExpression})
+ * - A background job re-decays posts of the recent window only; older posts have
+ *   negligible scores and keep the last one computed
+ * - The top N posts are mirrored in a Redis sorted set, rebuilt by the job and updated
+ *   after every counter flush, so trending pages inside the top N need no table access
+ *   beyond loading the posts by id. Beyond the top N, or without Redis, the indexed
+ *   trending_score column is scanned instead.
+ * - The page total is the number of posts, counted at each rebuild, so clients can page
+ *   past the top N into the table-backed pages
+ * - With several replicas the job runs on one of them per period: a Redis SET NX PX lock
+ *   is taken and left to expire rather than released
+ */
+@Slf4j
+@Component
+public class TrendingPostIndex {
+
+    private static final String KEY = "community:trending";
+    private static final String REBUILD_KEY = "community:trending:rebuild";
+    private static final String TOTAL_KEY = "community:trending:total";
+    private static final String LOCK_KEY = "community:trending:lock";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final boolean redisEnabled;
+    private final double gravity;
+    private final double commentWeight;
+    private final int topSize;
+    private final Duration window;
+    private final Duration lockTtl;
+    // Lock value, so the holder can be identified in Redis
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public TrendingPostIndex(
+            JdbcTemplate jdbcTemplate,
+            NamedParameterJdbcTemplate namedJdbcTemplate,
+            StringRedisTemplate redisTemplate,
+            @Value("${community.trending.redis-enabled:true}") boolean redisEnabled,
+            @Value("${community.trending.gravity:1.8}") double gravity,
+            @Value("${community.trending.comment-weight:2}") double commentWeight,
+            @Value("${community.trending.top-size:500}") int topSize,
+            @Value("${community.trending.window-hours:168}") long windowHours,
+            @Value("${community.trending.redecay-lock-ms:540000}") long lockMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.redisTemplate = redisTemplate;
+        this.redisEnabled = redisEnabled;
+        this.gravity = gravity;
+        this.commentWeight = commentWeight;
+        this.topSize = topSize;
+        this.window = Duration.ofHours(windowHours);
+        this.lockTtl = Duration.ofMillis(lockMs);
+    }
+
+    /**
+     * SQL expression of the score of a community_posts row for the given likes/comments expressions
+     */
+    public String scoreExpression(String likes, String comments) {
+        return String.format(Locale.ROOT,
+                "((%s) + %s * (%s)) / POWER(GREATEST(EXTRACT(EPOCH FROM (CURRENT_TIMESTAMP - created_at)), 0) / 3600.0 + 2, %s)",
+                likes, commentWeight, comments, gravity);
+    }
+
+    /**
+     * Ids of the requested trending page from the Redis top N, or empty when the page
+     * must be read from the table (Redis disabled or unavailable, not built yet, or past the top N)
+     */
+    public Optional<TrendingPage> findPage(Pageable pageable) {
+        if (!redisEnabled || pageable.getOffset() + pageable.getPageSize() > topSize) {
+            return Optional.empty();
+        }
+        try {
+            String total = redisTemplate.opsForValue().get(TOTAL_KEY);
+            if (total == null || !Boolean.TRUE.equals(redisTemplate.hasKey(KEY))) {
+                return Optional.empty();
+            }
+            long start = pageable.getOffset();
+            Set<String> ids = redisTemplate.opsForZSet().reverseRange(KEY, start, start + pageable.getPageSize() - 1);
+            return Optional.of(new TrendingPage(
+                    ids == null ? List.of() : ids.stream().map(UUID::fromString).toList(), Long.parseLong(total)));
+        } catch (RuntimeException e) {
+            log.warn("Trending read from Redis failed, using database: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Copy the current scores of the given posts into the Redis top N
+     */
+    public void scoresChanged(Collection<UUID> postIds) {
+        if (!redisEnabled || postIds.isEmpty()) {
+            return;
+        }
+        try {
+            // Never start a partial set; the rebuild creates it
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(KEY))) {
+                return;
+            }
+            List<Object[]> scores = namedJdbcTemplate.query(
+                    "SELECT id, trending_score FROM community_posts WHERE id IN (:ids)",
+                    new MapSqlParameterSource("ids", postIds),
+                    (rs, i) -> new Object[]{rs.getObject(1, UUID.class), rs.getDouble(2)});
+            ZSetOperations<String, String> zset = redisTemplate.opsForZSet();
+            for (Object[] row : scores) {
+                zset.add(KEY, row[0].toString(), (Double) row[1]);
+            }
+            zset.removeRange(KEY, 0, -(topSize + 1L));
+        } catch (RuntimeException e) {
+            // The next rebuild repairs the set
+            log.warn("Trending update in Redis failed for {} posts: {}", postIds.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * Remove a deleted post once the current transaction commits
+     */
+    public void remove(UUID postId) {
+        if (!redisEnabled) {
+            return;
+        }
+        Runnable remove = () -> {
+            try {
+                redisTemplate.opsForZSet().remove(KEY, postId.toString());
+            } catch (RuntimeException e) {
+                log.warn("Trending removal in Redis failed for post {}: {}", postId, e.getMessage());
+            }
+        };
+        TransactionUtils.afterCommit(remove);
+    }
+
+    /**
+     * Re-decay the scores of recent posts and rebuild the Redis top N
+     */
+    @Scheduled(fixedDelayString = "${community.trending.redecay-interval-ms:600000}", initialDelay = 15000)
+    public void redecay() {
+        if (!acquireLock()) {
+            log.debug("Trending re-decay skipped, another instance ran it within the last {}s", lockTtl.toSeconds());
+            return;
+        }
+        long start = System.nanoTime();
+        // One extra day so posts leaving the window get a final, fully decayed score
+        Instant since = Instant.now().minus(window).minus(Duration.ofDays(1));
+        int updated = jdbcTemplate.update(
+                "UPDATE community_posts SET trending_score = " + scoreExpression("likes_count", "comments_count") +
+                " WHERE created_at >= ?", Timestamp.from(since));
+
+        if (redisEnabled) {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.warn("Trending rebuild in Redis failed: {}", e.getMessage());
+            }
+        }
+        log.debug("Re-decayed trending scores of {} posts in {}ms", updated, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Take the cluster-wide re-decay lock for lockTtl; always succeeds without Redis.
+     * A Redis failure also lets the run proceed: a duplicate re-decay is only wasted work.
+     */
+    private boolean acquireLock() {
+        if (!redisEnabled) {
+            return true;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, nodeId, lockTtl));
+        } catch (RuntimeException e) {
+            log.warn("Trending re-decay lock unavailable, running anyway: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    private void rebuild() {
+        List<ZSetOperations.TypedTuple<String>> top = jdbcTemplate.query(
+                "SELECT id, trending_score FROM community_posts ORDER BY trending_score DESC, created_at DESC LIMIT ?",
+                (rs, i) -> ZSetOperations.TypedTuple.of(rs.getObject(1, UUID.class).toString(), rs.getDouble(2)),
+                topSize);
+        if (top.isEmpty()) {
+            redisTemplate.delete(List.of(KEY, TOTAL_KEY));
+            return;
+        }
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM community_posts", Long.class);
+        // Build aside and swap in atomically so readers never see a partial set
+        redisTemplate.delete(REBUILD_KEY);
+        redisTemplate.opsForZSet().add(REBUILD_KEY, Set.copyOf(top));
+        redisTemplate.rename(REBUILD_KEY, KEY);
+        redisTemplate.opsForValue().set(TOTAL_KEY, String.valueOf(total != null ? total : top.size()));
+    }
+
+    /**
+     * Post ids of one trending page, best first, and the number of posts as of the last rebuild
+     */
+    public record TrendingPage(List<UUID> postIds, long total) {
+    }
+}
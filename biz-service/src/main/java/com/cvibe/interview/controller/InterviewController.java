@@ -1,6 +1,7 @@
 package com.cvibe.interview.controller;
 
 import com.cvibe.common.dto.ApiResponse;
+import com.cvibe.common.grpc.AIEngineAsyncClient;
 import com.cvibe.common.security.UserPrincipal;
 import com.cvibe.interview.dto.*;
 import com.cvibe.interview.service.InterviewService;
@@ -8,11 +9,16 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Controller for interview sessions
@@ -26,6 +32,7 @@ import java.util.UUID;
 public class InterviewController {
 
     private final InterviewService interviewService;
+    private final AIEngineAsyncClient aiEngineAsyncClient;
 
     /**
      * Create a new interview session
@@ -173,18 +180,41 @@ public class InterviewController {
         return ApiResponse.success(response);
     }
 
+    /**
+     * Send a message in profile interview session, streaming the AI response
+     * POST /api/v1/interviews/profile/{sessionId}/message/stream
+     *
+     * Server-Sent Events: chunk / phase / done / error
+     */
+    @PostMapping(value = "/profile/{sessionId}/message/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamProfileInterviewMessage(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable UUID sessionId,
+            @Valid @RequestBody ProfileInterviewMessageRequest request) {
+        log.info("Streaming profile interview message for session: {}", sessionId);
+        return interviewService.streamProfileInterviewMessage(principal.getId(), sessionId, request);
+    }
+
     /**
      * Get profile interview state
      * GET /api/v1/interviews/profile/{sessionId}/state
+     *
+     * Completed asynchronously; the AI Engine call is cancelled if the client disconnects
      */
     @GetMapping("/profile/{sessionId}/state")
-    public ApiResponse<ProfileInterviewStateResponse> getProfileInterviewState(
+    public DeferredResult<ApiResponse<ProfileInterviewStateResponse>> getProfileInterviewState(
             @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable UUID sessionId) {
         log.info("Getting profile interview state for session: {}", sessionId);
-        ProfileInterviewStateResponse response = interviewService.getProfileInterviewState(
-                principal.getId(), sessionId);
-        return ApiResponse.success(response);
+        CompletableFuture<ApiResponse<ProfileInterviewStateResponse>> response = AIEngineAsyncClient.handle(
+                interviewService.getProfileInterviewState(principal.getId(), sessionId),
+                (state, error) -> {
+                    if (error != null) {
+                        throw new CompletionException(error);
+                    }
+                    return ApiResponse.success(state);
+                });
+        return aiEngineAsyncClient.toDeferredResult(response);
     }
 
     /**
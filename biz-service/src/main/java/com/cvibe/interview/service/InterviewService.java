@@ -4,6 +4,7 @@ import com.cvibe.auth.entity.User;
 import com.cvibe.auth.repository.UserRepository;
 import com.cvibe.common.exception.BusinessException;
 import com.cvibe.common.exception.ErrorCode;
+import com.cvibe.common.grpc.AIEngineAsyncClient;
 import com.cvibe.common.grpc.AIEngineClient;
 import com.cvibe.interview.dto.*;
 import com.cvibe.interview.entity.*;
@@ -18,11 +19,19 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 /**
@@ -38,7 +47,9 @@ public class InterviewService {
     private final UserRepository userRepository;
     private final ObjectMapper objectMapper;
     private final AIEngineClient aiEngineClient;
+    private final AIEngineAsyncClient aiEngineAsyncClient;
     private final ProfileService profileService;
+    private final PlatformTransactionManager transactionManager;
 
     // Mock questions for different focus areas
     private static final Map<FocusArea, List<MockQuestion>> MOCK_QUESTIONS = createMockQuestions();
@@ -357,13 +368,7 @@ public class InterviewService {
         }
 
         // Get AI session ID from stored data
-        String aiSessionId;
-        try {
-            var node = objectMapper.readTree(session.getQuestionsJson());
-            aiSessionId = node.has("aiSessionId") ? node.get("aiSessionId").asText() : sessionId.toString();
-        } catch (Exception e) {
-            aiSessionId = sessionId.toString();
-        }
+        String aiSessionId = getAiSessionId(session, sessionId);
 
         // Collect response from AI Engine
         StringBuilder responseBuilder = new StringBuilder();
@@ -385,12 +390,62 @@ public class InterviewService {
             throw new BusinessException(ErrorCode.AI_ENGINE_ERROR);
         }
 
-        String response = responseBuilder.toString();
-        String phase = currentPhase[0];
+        return recordProfileInterviewTurn(session, request.getMessage(), responseBuilder.toString(), currentPhase[0]);
+    }
 
+    /**
+     * Send a message in profile interview session and stream the AI response as Server-Sent Events
+     *
+     * Events:
+     * - {@code chunk}: a piece of the assistant response, forwarded as soon as it arrives
+     * - {@code phase}: the interview moved to a new phase ({@code {"phase", "phaseName"}})
+     * - {@code done}: the persisted turn, same shape as the non-streaming endpoint
+     * - {@code error}: the AI Engine call failed
+     * [THINKING] heartbeats from slow reasoning models are sent as SSE comments to keep the connection alive.
+     *
+     * The session and answer are persisted in a short transaction once the stream completes,
+     * so no database connection is held while the model is generating.
+     */
+    public SseEmitter streamProfileInterviewMessage(
+            UUID userId,
+            UUID sessionId,
+            ProfileInterviewMessageRequest request
+    ) {
+        InterviewSession session = sessionRepository.findByIdAndUserId(sessionId, userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.SESSION_NOT_FOUND));
+
+        if (session.getStatus() != SessionStatus.IN_PROGRESS) {
+            throw new BusinessException(ErrorCode.SESSION_NOT_ACTIVE);
+        }
+
+        String aiSessionId = getAiSessionId(session, sessionId);
+        SseEmitter emitter = new SseEmitter(aiEngineAsyncClient.getDeadline().toMillis());
+        ProfileInterviewStream stream = new ProfileInterviewStream(emitter, userId, sessionId, request.getMessage());
+
+        if (aiEngineAsyncClient.isAvailable()) {
+            aiEngineAsyncClient.sendProfileInterviewMessage(aiSessionId, request.getMessage()).subscribe(stream);
+        } else {
+            // Mock AI Engine: replay the blocking client's canned chunks off the request thread
+            Thread.ofVirtual().start(() -> aiEngineClient.sendProfileInterviewMessage(
+                    aiSessionId,
+                    request.getMessage(),
+                    stream::onContent,
+                    stream::onPhase,
+                    stream::onComplete,
+                    stream::onError
+            ));
+        }
+        return emitter;
+    }
+
+    /**
+     * Persist one profile interview turn and build the response
+     */
+    private ProfileInterviewMessageResponse recordProfileInterviewTurn(
+            InterviewSession session, String message, String response, String phase) {
         // If response is empty, return a fallback message
         if (response.isEmpty()) {
-            log.warn("Empty response from AI Engine for session {}", sessionId);
+            log.warn("Empty response from AI Engine for session {}", session.getId());
             response = "抱歉，我需要一点时间来处理。请稍后再试，或者您可以继续描述您的背景。";
         }
 
@@ -415,7 +470,7 @@ public class InterviewService {
         InterviewSessionAnswer answer = InterviewSessionAnswer.builder()
                 .session(session)
                 .questionId(UUID.randomUUID())
-                .question(request.getMessage())
+                .question(message)
                 .answer(response)
                 .category(phase.isEmpty() ? "GENERAL" : phase.toUpperCase())
                 .questionOrder(session.getCurrentQuestionIndex())
@@ -436,6 +491,133 @@ public class InterviewService {
                 .build();
     }
 
+    /**
+     * Read the AI Engine session ID stored in the session's questions JSON
+     */
+    private String getAiSessionId(InterviewSession session, UUID sessionId) {
+        try {
+            var node = objectMapper.readTree(session.getQuestionsJson());
+            return node.has("aiSessionId") ? node.get("aiSessionId").asText() : sessionId.toString();
+        } catch (Exception e) {
+            return sessionId.toString();
+        }
+    }
+
+    /**
+     * Forwards a profile interview chunk stream to an SSE emitter and persists the turn on completion
+     */
+    private class ProfileInterviewStream implements Flow.Subscriber<com.cvibe.grpc.ai.ProfileInterviewChunk> {
+
+        private final SseEmitter emitter;
+        private final UUID userId;
+        private final UUID sessionId;
+        private final String message;
+        private final StringBuilder response = new StringBuilder();
+        private final AtomicBoolean finished = new AtomicBoolean(false);
+        private volatile Flow.Subscription subscription;
+        private volatile String phase = "";
+
+        ProfileInterviewStream(SseEmitter emitter, UUID userId, UUID sessionId, String message) {
+            this.emitter = emitter;
+            this.userId = userId;
+            this.sessionId = sessionId;
+            this.message = message;
+            // Client went away: stop generating
+            emitter.onTimeout(this::cancel);
+            emitter.onError(error -> cancel());
+            emitter.onCompletion(this::cancel);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(com.cvibe.grpc.ai.ProfileInterviewChunk chunk) {
+            onContent(chunk.getContent());
+            if (!chunk.getPhase().isEmpty()) {
+                onPhase(chunk.getPhase());
+            }
+            if (chunk.getIsFinal()) {
+                onComplete();
+                cancel();
+                return;
+            }
+            subscription.request(1);
+        }
+
+        void onContent(String content) {
+            if (content.isEmpty() || finished.get()) {
+                return;
+            }
+            if (content.startsWith("[THINKING]")) {
+                send(SseEmitter.event().comment(content));
+                return;
+            }
+            response.append(content);
+            send(SseEmitter.event().name("chunk").data(content));
+        }
+
+        void onPhase(String newPhase) {
+            if (newPhase.equals(phase) || finished.get()) {
+                return;
+            }
+            phase = newPhase;
+            send(SseEmitter.event().name("phase")
+                    .data(Map.of("phase", newPhase, "phaseName", getPhaseName(newPhase)), MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            if (!finished.compareAndSet(false, true)) {
+                return;
+            }
+            log.error("AI Engine profile interview stream error for session {}: {}", sessionId, error.getMessage());
+            send(SseEmitter.event().name("error")
+                    .data(Map.of("message", ErrorCode.AI_ENGINE_ERROR.getMessage()), MediaType.APPLICATION_JSON));
+            emitter.complete();
+        }
+
+        @Override
+        public void onComplete() {
+            if (!finished.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                ProfileInterviewMessageResponse result = new TransactionTemplate(transactionManager).execute(status ->
+                        sessionRepository.findByIdAndUserId(sessionId, userId)
+                                .map(session -> recordProfileInterviewTurn(
+                                        session, message, response.toString().trim(), phase))
+                                .orElseThrow(() -> new BusinessException(ErrorCode.SESSION_NOT_FOUND)));
+                send(SseEmitter.event().name("done").data(result, MediaType.APPLICATION_JSON));
+            } catch (Exception e) {
+                log.error("Failed to persist streamed profile interview turn for session {}", sessionId, e);
+                send(SseEmitter.event().name("error")
+                        .data(Map.of("message", "Failed to save interview turn"), MediaType.APPLICATION_JSON));
+            }
+            emitter.complete();
+        }
+
+        private void cancel() {
+            Flow.Subscription current = subscription;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) {
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                // Client disconnected; cancelling the stream stops the AI Engine call
+                log.debug("SSE send failed for session {}: {}", sessionId, e.getMessage());
+                cancel();
+            }
+        }
+    }
+
     /**
      * Convert phase code to human-readable phase name
      */
@@ -466,9 +648,11 @@ public class InterviewService {
 
     /**
      * Get profile interview state
+     *
+     * The AI Engine lookup runs on the async stub, so the servlet thread is released while waiting
      */
     @Transactional(readOnly = true)
-    public ProfileInterviewStateResponse getProfileInterviewState(UUID userId, UUID sessionId) {
+    public CompletableFuture<ProfileInterviewStateResponse> getProfileInterviewState(UUID userId, UUID sessionId) {
         InterviewSession session = sessionRepository.findByIdAndUserId(sessionId, userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.SESSION_NOT_FOUND));
 
@@ -483,17 +667,27 @@ public class InterviewService {
             aiSessionId = sessionId.toString();
         }
 
-        // Get state from AI Engine
-        var result = aiEngineClient.getProfileInterviewState(aiSessionId);
+        // Capture session fields before the transaction ends
+        String storedPhase = currentPhase;
+        int turnCount = session.getCurrentQuestionIndex();
+        String status = session.getStatus().name();
 
-        return ProfileInterviewStateResponse.builder()
-                .sessionId(sessionId.toString())
-                .currentPhase(result.isSuccess() ? result.getCurrentPhase() : currentPhase)
-                .phaseName(result.isSuccess() ? result.getPhaseName() : "")
-                .turnCount(session.getCurrentQuestionIndex())
-                .status(session.getStatus().name())
-                .portraitSummary(result.isSuccess() ? result.getPortraitSummary() : "")
-                .build();
+        // Get state from AI Engine
+        CompletableFuture<AIEngineClient.ProfileInterviewStateResult> stateFuture = aiEngineAsyncClient.isAvailable()
+                ? aiEngineAsyncClient.getProfileInterviewState(aiSessionId)
+                : CompletableFuture.completedFuture(aiEngineClient.getProfileInterviewState(aiSessionId));
+
+        return AIEngineAsyncClient.handle(stateFuture, (result, error) -> {
+            boolean success = error == null && result.isSuccess();
+            return ProfileInterviewStateResponse.builder()
+                    .sessionId(sessionId.toString())
+                    .currentPhase(success ? result.getCurrentPhase() : storedPhase)
+                    .phaseName(success ? result.getPhaseName() : "")
+                    .turnCount(turnCount)
+                    .status(status)
+                    .portraitSummary(success ? result.getPortraitSummary() : "")
+                    .build();
+        });
     }
 
     /**
@@ -1,6 +1,7 @@
 package com.cvibe.job.controller;
 
 import com.cvibe.common.dto.ApiResponse;
+import com.cvibe.common.dto.CursorResponse;
 import com.cvibe.common.security.UserPrincipal;
 import com.cvibe.job.dto.*;
 import com.cvibe.job.service.JobService;
@@ -38,6 +39,8 @@ public class JobController {
             @RequestParam(required = false) Integer salaryMin,
             @RequestParam(required = false) Integer salaryMax,
             @RequestParam(required = false) List<String> skills,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
         
@@ -51,6 +54,8 @@ public class JobController {
                 .salaryMin(salaryMin)
                 .salaryMax(salaryMax)
                 .skills(skills)
+                .sort(sort)
+                .cursor(cursor)
                 .page(page)
                 .size(size)
                 .build();
@@ -73,6 +78,20 @@ public class JobController {
         return ApiResponse.success(response);
     }
 
+    /**
+     * Get latest jobs by cursor (infinite scroll)
+     * GET /api/v1/jobs/latest?cursor=
+     */
+    @GetMapping(value = "/latest", params = "cursor")
+    public ApiResponse<CursorResponse<JobDto>> getLatestJobsAfter(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.info("Getting latest jobs after cursor: size={}", size);
+        CursorResponse<JobDto> response = jobService.getLatestJobsAfter(cursor, size);
+        return ApiResponse.success(response);
+    }
+
     /**
      * Get remote jobs
      * GET /api/v1/jobs/remote
@@ -87,6 +106,20 @@ public class JobController {
         return ApiResponse.success(response);
     }
 
+    /**
+     * Get remote jobs by cursor (infinite scroll)
+     * GET /api/v1/jobs/remote?cursor=
+     */
+    @GetMapping(value = "/remote", params = "cursor")
+    public ApiResponse<CursorResponse<JobDto>> getRemoteJobsAfter(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.info("Getting remote jobs after cursor: size={}", size);
+        CursorResponse<JobDto> response = jobService.getRemoteJobsAfter(cursor, size);
+        return ApiResponse.success(response);
+    }
+
     /**
      * Get job by ID
      * GET /api/v1/jobs/{jobId}
@@ -126,6 +159,21 @@ public class JobController {
         return ApiResponse.success(response);
     }
 
+    /**
+     * Get user's job matches by cursor (infinite scroll)
+     * GET /api/v1/jobs/matches?cursor=
+     */
+    @GetMapping(value = "/matches", params = "cursor")
+    public ApiResponse<CursorResponse<JobMatchDto>> getMatchesAfter(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        log.info("Getting matches for user after cursor: {}", principal.getId());
+        CursorResponse<JobMatchDto> response = jobService.getMatchesAfter(principal.getId(), cursor, size);
+        return ApiResponse.success(response);
+    }
+
     /**
      * Get match summary for current user
      * GET /api/v1/jobs/matches/summary
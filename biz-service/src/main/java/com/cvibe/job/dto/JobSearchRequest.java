@@ -23,6 +23,16 @@ public class JobSearchRequest {
     private Integer salaryMin;
     private Integer salaryMax;
     private List<String> skills;
+
+    /**
+     * "relevance" (default when a keyword is given) or "recent"
+     */
+    private String sort;
+
+    /**
+     * Opaque keyset cursor from a previous response's nextCursor; takes precedence over page
+     */
+    private String cursor;
     
     @Builder.Default
     private Integer page = 0;
@@ -25,6 +25,11 @@ public class PagedResponse<T> {
     private Boolean last;
     private Boolean empty;
 
+    /**
+     * Keyset cursor for the next page, when the listing supports it
+     */
+    private String nextCursor;
+
     /**
      * Create a paged response from content and pagination info
      */
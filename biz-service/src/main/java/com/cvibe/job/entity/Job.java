@@ -19,6 +19,7 @@ import java.util.UUID;
     @Index(name = "idx_jobs_type", columnList = "type"),
     @Index(name = "idx_jobs_is_remote", columnList = "is_remote"),
     @Index(name = "idx_jobs_posted_at", columnList = "posted_at"),
+    @Index(name = "idx_jobs_posted_at_id", columnList = "posted_at DESC, id DESC"),
     @Index(name = "idx_jobs_source_id", columnList = "source_id")
 })
 @EntityListeners(AuditingEntityListener.class)
@@ -114,4 +115,14 @@ public class Job {
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
+
+    /**
+     * Keyset pagination orders by (posted_at, id), so posted_at must never be null
+     */
+    @PrePersist
+    protected void onCreate() {
+        if (postedAt == null) {
+            postedAt = Instant.now();
+        }
+    }
 }
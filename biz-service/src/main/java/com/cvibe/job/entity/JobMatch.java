@@ -17,6 +17,7 @@ import java.util.UUID;
     @Index(name = "idx_job_matches_user", columnList = "user_id"),
     @Index(name = "idx_job_matches_job", columnList = "job_id"),
     @Index(name = "idx_job_matches_score", columnList = "match_score"),
+    @Index(name = "idx_job_matches_user_score_id", columnList = "user_id, match_score DESC, id DESC"),
     @Index(name = "idx_job_matches_status", columnList = "status")
 }, uniqueConstraints = {
     @UniqueConstraint(name = "uk_job_matches_user_job", columnNames = {"user_id", "job_id"})
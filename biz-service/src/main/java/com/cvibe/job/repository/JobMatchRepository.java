@@ -4,6 +4,7 @@ import com.cvibe.job.entity.JobMatch;
 import com.cvibe.job.entity.MatchStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -24,6 +25,19 @@ public interface JobMatchRepository extends JpaRepository<JobMatch, UUID> {
      */
     Page<JobMatch> findByUserIdOrderByMatchScoreDesc(UUID userId, Pageable pageable);
 
+    /**
+     * Keyset page of the user's matches: strictly after the (matchScore, id) cursor, best first.
+     * No count query.
+     */
+    @Query("SELECT m FROM JobMatch m JOIN FETCH m.job WHERE m.user.id = :userId " +
+           "AND (m.matchScore < :cursorScore OR (m.matchScore = :cursorScore AND m.id < :cursorId)) " +
+           "ORDER BY m.matchScore DESC, m.id DESC")
+    Slice<JobMatch> findByUserIdAfter(
+            @Param("userId") UUID userId,
+            @Param("cursorScore") Integer cursorScore,
+            @Param("cursorId") UUID cursorId,
+            Pageable pageable);
+
     /**
      * Find matches by user ID ordered by match score descending (list)
      */
@@ -39,6 +53,12 @@ public interface JobMatchRepository extends JpaRepository<JobMatch, UUID> {
      */
     boolean existsByUserIdAndJobId(UUID userId, UUID jobId);
 
+    /**
+     * Job IDs the user already has matches for (used to skip them during generation)
+     */
+    @Query("SELECT m.job.id FROM JobMatch m WHERE m.user.id = :userId")
+    List<UUID> findJobIdsByUserId(@Param("userId") UUID userId);
+
     /**
      * Find matches by user ID and status
      */
@@ -5,11 +5,13 @@ import com.cvibe.job.entity.Job;
 import com.cvibe.job.entity.JobType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,7 +22,27 @@ import java.util.UUID;
 public interface JobRepository extends JpaRepository<Job, UUID> {
 
     /**
-     * Search jobs with multiple criteria
+     * Shared filters for the native full-text and CJK queries (null parameter = no filter)
+     */
+    String FULL_TEXT_FILTERS =
+           "AND (CAST(:location AS VARCHAR) IS NULL OR j.location ILIKE CONCAT('%', CAST(:location AS VARCHAR), '%')) " +
+           "AND (CAST(:type AS VARCHAR) IS NULL OR j.type = CAST(:type AS VARCHAR)) " +
+           "AND (CAST(:experienceLevel AS VARCHAR) IS NULL OR j.experience_level = CAST(:experienceLevel AS VARCHAR)) " +
+           "AND (CAST(:salaryMin AS INTEGER) IS NULL OR j.salary_max >= CAST(:salaryMin AS INTEGER)) " +
+           "AND (CAST(:salaryMax AS INTEGER) IS NULL OR j.salary_min <= CAST(:salaryMax AS INTEGER)) ";
+
+    /**
+     * CJK keyword match: the GIN-indexed gram containment narrows the candidates, LIKE confirms them
+     */
+    String CJK_KEYWORD_MATCH =
+           "j.cjk_grams @> cjk_grams(CAST(:keyword AS TEXT)) " +
+           "AND (LOWER(j.title) LIKE CONCAT('%', LOWER(CAST(:keyword AS TEXT)), '%') " +
+           "OR LOWER(j.company) LIKE CONCAT('%', LOWER(CAST(:keyword AS TEXT)), '%') " +
+           "OR LOWER(j.description) LIKE CONCAT('%', LOWER(CAST(:keyword AS TEXT)), '%')) ";
+
+    /**
+     * Search jobs with multiple criteria.
+     * Substring matching (a table scan for keywords); used where full-text search is disabled.
      */
     @Query("SELECT j FROM Job j WHERE " +
            "(:keyword IS NULL OR LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
@@ -31,7 +53,7 @@ public interface JobRepository extends JpaRepository<Job, UUID> {
            "AND (:experienceLevel IS NULL OR j.experienceLevel = :experienceLevel) " +
            "AND (:salaryMin IS NULL OR j.salaryMax >= :salaryMin) " +
            "AND (:salaryMax IS NULL OR j.salaryMin <= :salaryMax) " +
-           "ORDER BY j.postedAt DESC")
+           "ORDER BY j.postedAt DESC, j.id DESC")
     Page<Job> searchJobs(
             @Param("keyword") String keyword,
             @Param("location") String location,
@@ -41,6 +63,143 @@ public interface JobRepository extends JpaRepository<Job, UUID> {
             @Param("salaryMax") Integer salaryMax,
             Pageable pageable);
 
+    /**
+     * Keyset variant of {@link #searchJobs}: jobs strictly after the (postedAt, id) cursor
+     */
+    @Query("SELECT j FROM Job j WHERE " +
+           "(j.postedAt < :cursorPostedAt OR (j.postedAt = :cursorPostedAt AND j.id < :cursorId)) " +
+           "AND (:keyword IS NULL OR LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+           "OR LOWER(j.company) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+           "OR LOWER(j.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+           "AND (:location IS NULL OR LOWER(j.location) LIKE LOWER(CONCAT('%', :location, '%'))) " +
+           "AND (:type IS NULL OR j.type = :type) " +
+           "AND (:experienceLevel IS NULL OR j.experienceLevel = :experienceLevel) " +
+           "AND (:salaryMin IS NULL OR j.salaryMax >= :salaryMin) " +
+           "AND (:salaryMax IS NULL OR j.salaryMin <= :salaryMax) " +
+           "ORDER BY j.postedAt DESC, j.id DESC")
+    List<Job> searchJobsAfter(
+            @Param("keyword") String keyword,
+            @Param("location") String location,
+            @Param("type") JobType type,
+            @Param("experienceLevel") ExperienceLevel experienceLevel,
+            @Param("salaryMin") Integer salaryMin,
+            @Param("salaryMax") Integer salaryMax,
+            @Param("cursorPostedAt") Instant cursorPostedAt,
+            @Param("cursorId") UUID cursorId,
+            Pageable pageable);
+
+    /**
+     * Full-text search over the GIN-indexed search_vector column (PostgreSQL only, see V17).
+     * Ranked by ts_rank, then recency.
+     */
+    @Query(value = "SELECT j.* FROM jobs j, websearch_to_tsquery('simple', :keyword) q " +
+           "WHERE j.search_vector @@ q " +
+           FULL_TEXT_FILTERS +
+           "ORDER BY ts_rank(j.search_vector, q) DESC, j.posted_at DESC, j.id DESC",
+           countQuery = "SELECT count(*) FROM jobs j, websearch_to_tsquery('simple', :keyword) q " +
+           "WHERE j.search_vector @@ q " +
+           FULL_TEXT_FILTERS,
+           nativeQuery = true)
+    Page<Job> fullTextSearch(
+            @Param("keyword") String keyword,
+            @Param("location") String location,
+            @Param("type") String type,
+            @Param("experienceLevel") String experienceLevel,
+            @Param("salaryMin") Integer salaryMin,
+            @Param("salaryMax") Integer salaryMax,
+            Pageable pageable);
+
+    /**
+     * Keyset variant of {@link #fullTextSearch}, ordered by recency so deep pages stay cheap
+     */
+    @Query(value = "SELECT j.* FROM jobs j " +
+           "WHERE j.search_vector @@ websearch_to_tsquery('simple', :keyword) " +
+           "AND (j.posted_at, j.id) < (:cursorPostedAt, :cursorId) " +
+           FULL_TEXT_FILTERS +
+           "ORDER BY j.posted_at DESC, j.id DESC",
+           nativeQuery = true)
+    List<Job> fullTextSearchAfter(
+            @Param("keyword") String keyword,
+            @Param("location") String location,
+            @Param("type") String type,
+            @Param("experienceLevel") String experienceLevel,
+            @Param("salaryMin") Integer salaryMin,
+            @Param("salaryMax") Integer salaryMax,
+            @Param("cursorPostedAt") Instant cursorPostedAt,
+            @Param("cursorId") UUID cursorId,
+            Pageable pageable);
+
+    /**
+     * Search for keywords containing CJK text, which the tsvector does not segment (PostgreSQL only, see V30).
+     * Newest first.
+     */
+    @Query(value = "SELECT j.* FROM jobs j WHERE " + CJK_KEYWORD_MATCH +
+           FULL_TEXT_FILTERS +
+           "ORDER BY j.posted_at DESC, j.id DESC",
+           countQuery = "SELECT count(*) FROM jobs j WHERE " + CJK_KEYWORD_MATCH +
+           FULL_TEXT_FILTERS,
+           nativeQuery = true)
+    Page<Job> cjkSearch(
+            @Param("keyword") String keyword,
+            @Param("location") String location,
+            @Param("type") String type,
+            @Param("experienceLevel") String experienceLevel,
+            @Param("salaryMin") Integer salaryMin,
+            @Param("salaryMax") Integer salaryMax,
+            Pageable pageable);
+
+    /**
+     * Keyset variant of {@link #cjkSearch}
+     */
+    @Query(value = "SELECT j.* FROM jobs j WHERE " + CJK_KEYWORD_MATCH +
+           "AND (j.posted_at, j.id) < (:cursorPostedAt, :cursorId) " +
+           FULL_TEXT_FILTERS +
+           "ORDER BY j.posted_at DESC, j.id DESC",
+           nativeQuery = true)
+    List<Job> cjkSearchAfter(
+            @Param("keyword") String keyword,
+            @Param("location") String location,
+            @Param("type") String type,
+            @Param("experienceLevel") String experienceLevel,
+            @Param("salaryMin") Integer salaryMin,
+            @Param("salaryMax") Integer salaryMax,
+            @Param("cursorPostedAt") Instant cursorPostedAt,
+            @Param("cursorId") UUID cursorId,
+            Pageable pageable);
+
+    /**
+     * Listed skills (JSON arrays) of every job, the corpus of the match scoring vocabulary
+     */
+    @Query("SELECT j.skills FROM Job j WHERE j.skills IS NOT NULL")
+    List<String> findAllSkillLists();
+
+    /**
+     * Whether the table holds any job at all (mock listings are only shown for an empty table)
+     */
+    boolean existsByIdIsNotNull();
+
+    /**
+     * Keyset page of the latest jobs: strictly after the (postedAt, id) cursor. No count query.
+     */
+    @Query("SELECT j FROM Job j WHERE " +
+           "(j.postedAt < :cursorPostedAt OR (j.postedAt = :cursorPostedAt AND j.id < :cursorId)) " +
+           "ORDER BY j.postedAt DESC, j.id DESC")
+    Slice<Job> findLatestAfter(
+            @Param("cursorPostedAt") Instant cursorPostedAt,
+            @Param("cursorId") UUID cursorId,
+            Pageable pageable);
+
+    /**
+     * Keyset page of remote jobs: strictly after the (postedAt, id) cursor. No count query.
+     */
+    @Query("SELECT j FROM Job j WHERE j.isRemote = true " +
+           "AND (j.postedAt < :cursorPostedAt OR (j.postedAt = :cursorPostedAt AND j.id < :cursorId)) " +
+           "ORDER BY j.postedAt DESC, j.id DESC")
+    Slice<Job> findRemoteAfter(
+            @Param("cursorPostedAt") Instant cursorPostedAt,
+            @Param("cursorId") UUID cursorId,
+            Pageable pageable);
+
     /**
      * Find remote jobs
      */
@@ -51,6 +210,16 @@ public interface JobRepository extends JpaRepository<Job, UUID> {
      */
     Page<Job> findAllByOrderByPostedAtDesc(Pageable pageable);
 
+    /**
+     * First page of jobs in id order (keyset scan, see {@link #findByIdGreaterThanOrderByIdAsc})
+     */
+    List<Job> findByOrderByIdAsc(Pageable pageable);
+
+    /**
+     * Next page of jobs in id order after the given id
+     */
+    List<Job> findByIdGreaterThanOrderByIdAsc(UUID id, Pageable pageable);
+
     /**
      * Find jobs by company
      */
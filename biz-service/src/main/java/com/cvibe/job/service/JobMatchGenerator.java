@@ -0,0 +1,291 @@
+package com.cvibe.job.service;
+
+import com.cvibe.job.entity.Job;
+import com.cvibe.job.entity.JobMatch;
+import com.cvibe.job.entity.MatchStatus;
+import com.cvibe.job.repository.JobMatchRepository;
+import com.cvibe.job.repository.JobRepository;
+import com.cvibe.profile.repository.ProfileExperienceRepository;
+import com.cvibe.profile.repository.UserProfileRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams the jobs table in id order and creates the missing job matches for one user.
+ *
+ * - Existing matches are loaded once into a compact UUID set instead of one exists-query per job
+ * - Jobs are read page by page with a keyset cursor, so the table is never fully materialized
+ * - Each page is scored in parallel by {@link MatchScoringEngine} and inserted with one JDBC batch;
+ *   ON CONFLICT DO NOTHING skips matches a concurrent run for the same user has already created, and
+ *   the per-row update counts report which rows this run inserted, so only those are returned and counted.
+ *   The conflict target is left out so the statement also runs on H2 in PostgreSQL mode
+ * - No transaction spans the whole run: every batch commits on its own
+ * Run time and volume are exported as job.match.generation (timer), job.match.scanned and job.match.generated.
+ */
+@Slf4j
+@Component
+public class JobMatchGenerator {
+
+    private static final String INSERT_MATCH_SQL =
+            "INSERT INTO job_matches (id, user_id, job_id, match_score, match_reasons_json, status, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?) ON CONFLICT DO NOTHING";
+
+    private final JobRepository jobRepository;
+    private final JobMatchRepository jobMatchRepository;
+    private final UserProfileRepository userProfileRepository;
+    private final ProfileExperienceRepository experienceRepository;
+    private final MatchScoringEngine scoringEngine;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final Timer generationTimer;
+    private final Counter scannedCounter;
+    private final Counter generatedCounter;
+
+    public JobMatchGenerator(
+            JobRepository jobRepository,
+            JobMatchRepository jobMatchRepository,
+            UserProfileRepository userProfileRepository,
+            ProfileExperienceRepository experienceRepository,
+            MatchScoringEngine scoringEngine,
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${job.match.chunk-size:500}") int chunkSize) {
+        this.jobRepository = jobRepository;
+        this.jobMatchRepository = jobMatchRepository;
+        this.userProfileRepository = userProfileRepository;
+        this.experienceRepository = experienceRepository;
+        this.scoringEngine = scoringEngine;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.generationTimer = Timer.builder("job.match.generation")
+                .description("Time to generate the missing job matches for one user")
+                .register(meterRegistry);
+        this.scannedCounter = Counter.builder("job.match.scanned")
+                .description("Jobs read while generating matches")
+                .register(meterRegistry);
+        this.generatedCounter = Counter.builder("job.match.generated")
+                .description("Job matches inserted")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Generate matches for every job the user has not been matched with yet
+     *
+     * @return the newly created matches (detached, with their job loaded)
+     */
+    public List<JobMatch> generate(UUID userId) {
+        long start = System.nanoTime();
+
+        MatchScoringEngine.Candidate candidate = loadCandidate(userId);
+
+        CompactUuidSet existing = new CompactUuidSet(jobMatchRepository.countByUserId(userId));
+        jobMatchRepository.findJobIdsByUserId(userId).forEach(existing::add);
+
+        List<JobMatch> created = new ArrayList<>();
+        Pageable page = PageRequest.of(0, chunkSize);
+        long scanned = 0;
+        int batches = 0;
+        UUID cursor = null;
+
+        while (true) {
+            List<Job> jobs = cursor == null
+                    ? jobRepository.findByOrderByIdAsc(page)
+                    : jobRepository.findByIdGreaterThanOrderByIdAsc(cursor, page);
+            if (jobs.isEmpty()) {
+                break;
+            }
+            scanned += jobs.size();
+            cursor = jobs.get(jobs.size() - 1).getId();
+
+            List<JobMatch> scored = jobs.parallelStream()
+                    .filter(job -> !existing.contains(job.getId()))
+                    .map(job -> score(candidate, job))
+                    .toList();
+            if (!scored.isEmpty()) {
+                created.addAll(insert(userId, scored));
+                batches++;
+            }
+
+            if (jobs.size() < chunkSize) {
+                break;
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        generationTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        scannedCounter.increment(scanned);
+        generatedCounter.increment(created.size());
+
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        log.info("Match generation for user {}: scanned={}, existing={}, inserted={}, batches={}, " +
+                        "elapsed={}ms, throughput={} jobs/s",
+                userId, scanned, existing.size(), created.size(), batches,
+                Math.round(seconds * 1000), seconds > 0 ? Math.round(scanned / seconds) : scanned);
+        return created;
+    }
+
+    /**
+     * Insert one page of matches as a JDBC batch, returning the rows that were actually inserted
+     */
+    private List<JobMatch> insert(UUID userId, List<JobMatch> matches) {
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(matches.size());
+        for (JobMatch match : matches) {
+            match.setCreatedAt(now.toInstant());
+            rows.add(new Object[]{
+                    match.getId(),
+                    userId,
+                    match.getJob().getId(),
+                    match.getMatchScore(),
+                    match.getMatchReasonsJson(),
+                    match.getStatus().name(),
+                    now
+            });
+        }
+
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_MATCH_SQL, rows);
+        List<JobMatch> inserted = new ArrayList<>(matches.size());
+        for (int i = 0; i < counts.length; i++) {
+            // 0 means a concurrent run already created the match; drivers that rewrite batches
+            // report SUCCESS_NO_INFO, which is counted as inserted
+            if (counts[i] != 0) {
+                inserted.add(matches.get(i));
+            }
+        }
+        return inserted;
+    }
+
+    // ==================== Scoring ====================
+
+    private MatchScoringEngine.Candidate loadCandidate(UUID userId) {
+        return userProfileRepository.findByUserIdWithSkills(userId)
+                .map(profile -> scoringEngine.candidate(
+                        profile.getSkills(),
+                        experienceRepository.findByProfileIdOrderByStartDateDesc(profile.getId()),
+                        profile.getLocation(),
+                        profile.getExpectedSalary()))
+                .orElseGet(() -> scoringEngine.candidate(List.of(), List.of(), null, null));
+    }
+
+    /**
+     * Deterministic scoring, safe to call from parallel streams
+     */
+    private JobMatch score(MatchScoringEngine.Candidate candidate, Job job) {
+        MatchScoringEngine.Score score = scoringEngine.score(candidate, scoringEngine.vectorize(job));
+        String reasonsJson = toJson(scoringEngine.toDetails(score, Boolean.TRUE.equals(job.getIsRemote())));
+
+        return JobMatch.builder()
+                .id(UUID.randomUUID())
+                .job(job)
+                .matchScore(score.overall())
+                .matchReasonsJson(reasonsJson)
+                .status(MatchStatus.NEW)
+                .build();
+    }
+
+    private String toJson(Object obj) {
+        try {
+            return objectMapper.writeValueAsString(obj);
+        } catch (Exception e) {
+            log.error("Failed to serialize to JSON", e);
+            return "[]";
+        }
+    }
+
+    /**
+     * Open-addressing set of UUIDs stored as two longs per entry (no per-element objects)
+     */
+    static final class CompactUuidSet {
+
+        private long[] most;
+        private long[] least;
+        private boolean[] used;
+        private int size;
+
+        CompactUuidSet(long expected) {
+            int capacity = Integer.highestOneBit((int) Math.max(16, Math.min(expected * 2, 1 << 30)) - 1) << 1;
+            most = new long[capacity];
+            least = new long[capacity];
+            used = new boolean[capacity];
+        }
+
+        int size() {
+            return size;
+        }
+
+        void add(UUID id) {
+            if ((size + 1) * 2 > used.length) {
+                resize();
+            }
+            insert(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        }
+
+        boolean contains(UUID id) {
+            long hi = id.getMostSignificantBits();
+            long lo = id.getLeastSignificantBits();
+            int mask = used.length - 1;
+            for (int i = slot(hi, lo, mask); used[i]; i = (i + 1) & mask) {
+                if (most[i] == hi && least[i] == lo) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void insert(long hi, long lo) {
+            int mask = used.length - 1;
+            int i = slot(hi, lo, mask);
+            while (used[i]) {
+                if (most[i] == hi && least[i] == lo) {
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            used[i] = true;
+            most[i] = hi;
+            least[i] = lo;
+            size++;
+        }
+
+        private void resize() {
+            long[] oldMost = most;
+            long[] oldLeast = least;
+            boolean[] oldUsed = used;
+            most = new long[oldUsed.length * 2];
+            least = new long[oldUsed.length * 2];
+            used = new boolean[oldUsed.length * 2];
+            size = 0;
+            for (int i = 0; i < oldUsed.length; i++) {
+                if (oldUsed[i]) {
+                    insert(oldMost[i], oldLeast[i]);
+                }
+            }
+        }
+
+        private static int slot(long hi, long lo, int mask) {
+            long h = hi ^ lo;
+            h ^= (h >>> 33);
+            h *= 0xff51afd7ed558ccdL;
+            h ^= (h >>> 33);
+            return (int) h & mask;
+        }
+    }
+}
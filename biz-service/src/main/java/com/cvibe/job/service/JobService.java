@@ -2,8 +2,11 @@ package com.cvibe.job.service;
 
 import com.cvibe.auth.entity.User;
 import com.cvibe.auth.repository.UserRepository;
+import com.cvibe.common.dto.Cursor;
+import com.cvibe.common.dto.CursorResponse;
 import com.cvibe.common.exception.BusinessException;
 import com.cvibe.common.exception.ErrorCode;
+import com.cvibe.common.util.SearchKeywords;
 import com.cvibe.job.dto.*;
 import com.cvibe.job.entity.*;
 import com.cvibe.job.repository.JobMatchRepository;
@@ -12,9 +15,11 @@ import com.cvibe.job.repository.JobSaveRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,6 +41,11 @@ public class JobService {
     private final JobSaveRepository jobSaveRepository;
     private final UserRepository userRepository;
     private final ObjectMapper objectMapper;
+    private final JobMatchGenerator jobMatchGenerator;
+
+    // Ranked tsvector search and CJK gram search (V17, V30); the H2 local profile keeps LIKE matching
+    @Value("${job.search.full-text:true}")
+    private boolean fullTextSearchEnabled;
 
     // Mock job data for demo purposes
     private static final List<MockJobData> MOCK_JOBS = createMockJobs();
@@ -64,23 +74,52 @@ public class JobService {
             }
         }
 
-        Pageable pageable = PageRequest.of(
-                request.getPage() != null ? request.getPage() : 0,
-                request.getSize() != null ? request.getSize() : 20
-        );
-
-        Page<Job> jobPage = jobRepository.searchJobs(
-                request.getKeyword(),
-                request.getLocation(),
-                jobType,
-                expLevel,
-                request.getSalaryMin(),
-                request.getSalaryMax(),
-                pageable
-        );
+        String keyword = request.getKeyword() != null && !request.getKeyword().isBlank()
+                ? request.getKeyword().trim() : null;
+        int size = request.getSize() != null ? request.getSize() : 20;
 
-        // If no jobs in DB, return mock data
-        if (jobPage.isEmpty()) {
+        // Keyset pagination: jobs after the (postedAt, id) cursor, newest first
+        boolean hasCursor = request.getCursor() != null && !request.getCursor().isBlank();
+        if (hasCursor || "recent".equals(request.getSort())) {
+            return searchJobsAfter(request, Cursor.decode(request.getCursor(), 1), keyword, jobType, expLevel, size);
+        }
+
+        Pageable pageable = PageRequest.of(request.getPage() != null ? request.getPage() : 0, size);
+
+        // Ranked full-text search (PostgreSQL); otherwise newest first
+        boolean ranked = useFullText(keyword);
+        Page<Job> jobPage;
+        if (ranked) {
+            jobPage = jobRepository.fullTextSearch(
+                    keyword,
+                    request.getLocation(),
+                    jobType != null ? jobType.name() : null,
+                    expLevel != null ? expLevel.name() : null,
+                    request.getSalaryMin(),
+                    request.getSalaryMax(),
+                    pageable);
+        } else if (useCjkSearch(keyword)) {
+            jobPage = jobRepository.cjkSearch(
+                    keyword,
+                    request.getLocation(),
+                    jobType != null ? jobType.name() : null,
+                    expLevel != null ? expLevel.name() : null,
+                    request.getSalaryMin(),
+                    request.getSalaryMax(),
+                    pageable);
+        } else {
+            jobPage = jobRepository.searchJobs(
+                    keyword,
+                    request.getLocation(),
+                    jobType,
+                    expLevel,
+                    request.getSalaryMin(),
+                    request.getSalaryMax(),
+                    pageable);
+        }
+
+        // If no jobs in DB, return mock data; a search that simply matches nothing returns an empty page
+        if (jobPage.isEmpty() && !jobRepository.existsByIdIsNotNull()) {
             return getMockJobsPage(request);
         }
 
@@ -88,7 +127,87 @@ public class JobService {
                 .map(JobDto::fromEntity)
                 .collect(Collectors.toList());
 
-        return PagedResponse.of(jobDtos, jobPage.getNumber(), jobPage.getSize(), jobPage.getTotalElements());
+        PagedResponse<JobDto> response =
+                PagedResponse.of(jobDtos, jobPage.getNumber(), jobPage.getSize(), jobPage.getTotalElements());
+        if (!ranked && jobPage.hasNext()) {
+            response.setNextCursor(encodeCursor(jobPage.getContent().get(jobPage.getNumberOfElements() - 1)));
+        }
+        return response;
+    }
+
+    // The tsvector does not segment CJK text; CJK keywords use the gram-indexed substring query (V30)
+    private boolean useFullText(String keyword) {
+        return fullTextSearchEnabled && keyword != null && !SearchKeywords.containsCjk(keyword);
+    }
+
+    private boolean useCjkSearch(String keyword) {
+        return fullTextSearchEnabled && keyword != null && SearchKeywords.containsCjk(keyword);
+    }
+
+    private PagedResponse<JobDto> searchJobsAfter(
+            JobSearchRequest request, Cursor cursor, String keyword, JobType jobType, ExperienceLevel expLevel,
+            int size) {
+        // Fetch one extra row to know whether there is a next page
+        Pageable limit = PageRequest.of(0, size + 1);
+        Instant cursorPostedAt = cursor != null ? cursor.instantKey(0) : Cursor.MAX_INSTANT;
+        UUID cursorId = cursor != null ? cursor.id() : Cursor.MAX_ID;
+
+        List<Job> jobs;
+        if (useFullText(keyword)) {
+            jobs = jobRepository.fullTextSearchAfter(
+                    keyword,
+                    request.getLocation(),
+                    jobType != null ? jobType.name() : null,
+                    expLevel != null ? expLevel.name() : null,
+                    request.getSalaryMin(),
+                    request.getSalaryMax(),
+                    cursorPostedAt,
+                    cursorId,
+                    limit);
+        } else if (useCjkSearch(keyword)) {
+            jobs = jobRepository.cjkSearchAfter(
+                    keyword,
+                    request.getLocation(),
+                    jobType != null ? jobType.name() : null,
+                    expLevel != null ? expLevel.name() : null,
+                    request.getSalaryMin(),
+                    request.getSalaryMax(),
+                    cursorPostedAt,
+                    cursorId,
+                    limit);
+        } else {
+            jobs = jobRepository.searchJobsAfter(
+                    keyword,
+                    request.getLocation(),
+                    jobType,
+                    expLevel,
+                    request.getSalaryMin(),
+                    request.getSalaryMax(),
+                    cursorPostedAt,
+                    cursorId,
+                    limit);
+        }
+
+        boolean hasNext = jobs.size() > size;
+        List<Job> pageJobs = hasNext ? jobs.subList(0, size) : jobs;
+
+        List<JobDto> jobDtos = pageJobs.stream()
+                .map(JobDto::fromEntity)
+                .collect(Collectors.toList());
+
+        // Totals are not computed in keyset mode; counting would defeat the purpose
+        return PagedResponse.<JobDto>builder()
+                .content(jobDtos)
+                .size(size)
+                .first(cursor == null)
+                .last(!hasNext)
+                .empty(jobDtos.isEmpty())
+                .nextCursor(hasNext ? encodeCursor(pageJobs.get(pageJobs.size() - 1)) : null)
+                .build();
+    }
+
+    private static String encodeCursor(Job job) {
+        return Cursor.encode(job.getId(), job.getPostedAt());
     }
 
     /**
@@ -121,6 +240,24 @@ public class JobService {
         return PagedResponse.of(jobDtos, jobPage.getNumber(), jobPage.getSize(), jobPage.getTotalElements());
     }
 
+    /**
+     * Get latest jobs by cursor (infinite scroll; no totals)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<JobDto> getLatestJobsAfter(String cursor, int size) {
+        Cursor position = Cursor.decode(cursor, 1);
+        Slice<Job> slice = jobRepository.findLatestAfter(
+                position != null ? position.instantKey(0) : Cursor.MAX_INSTANT,
+                position != null ? position.id() : Cursor.MAX_ID,
+                PageRequest.of(0, size));
+
+        // If no jobs in DB, return the first mock page
+        if (position == null && slice.isEmpty()) {
+            return mockCursorPage(getMockJobsPage(JobSearchRequest.builder().page(0).size(size).build()).getContent());
+        }
+        return CursorResponse.of(slice, JobDto::fromEntity, JobService::encodeCursor);
+    }
+
     /**
      * Get remote jobs
      */
@@ -149,59 +286,54 @@ public class JobService {
     }
 
     /**
-     * Generate job matches for a user (mock scoring)
+     * Get remote jobs by cursor (infinite scroll; no totals)
      */
-    @Transactional
-    public List<JobMatchDto> generateMatches(UUID userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-
-        // Get all jobs from DB or use mock data
-        List<Job> jobs = jobRepository.findAll();
-        
-        List<JobMatch> matches = new ArrayList<>();
-        Random random = new Random();
-
-        if (jobs.isEmpty()) {
-            // Create mock jobs and save them
-            for (MockJobData mockJob : MOCK_JOBS) {
-                Job job = createJobFromMock(mockJob);
-                job = jobRepository.save(job);
-                jobs.add(job);
-            }
+    @Transactional(readOnly = true)
+    public CursorResponse<JobDto> getRemoteJobsAfter(String cursor, int size) {
+        Cursor position = Cursor.decode(cursor, 1);
+        Slice<Job> slice = jobRepository.findRemoteAfter(
+                position != null ? position.instantKey(0) : Cursor.MAX_INSTANT,
+                position != null ? position.id() : Cursor.MAX_ID,
+                PageRequest.of(0, size));
+
+        // If no jobs in DB, return the first mock remote page
+        if (position == null && slice.isEmpty()) {
+            return mockCursorPage(MOCK_JOBS.stream()
+                    .filter(m -> m.isRemote)
+                    .limit(size)
+                    .map(this::convertMockToDto)
+                    .collect(Collectors.toList()));
         }
+        return CursorResponse.of(slice, JobDto::fromEntity, JobService::encodeCursor);
+    }
 
-        // Generate matches for each job
-        for (Job job : jobs) {
-            // Skip if match already exists
-            if (jobMatchRepository.existsByUserIdAndJobId(userId, job.getId())) {
-                continue;
-            }
+    private static CursorResponse<JobDto> mockCursorPage(List<JobDto> content) {
+        return CursorResponse.<JobDto>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(false)
+                .build();
+    }
 
-            // Generate mock score (60-100)
-            int score = 60 + random.nextInt(41);
-            
-            // Generate mock reasons
-            List<String> reasons = generateMockMatchReasons(job, score);
-            String reasonsJson = toJson(JobMatchDto.MatchDetailsDto.builder()
-                    .reasons(reasons)
-                    .matchingSkills(List.of("Java", "Spring Boot", "React"))
-                    .skillMatchPercentage(score)
-                    .experienceMatchPercentage(Math.min(100, score + random.nextInt(20) - 10))
-                    .locationMatchPercentage(job.getIsRemote() ? 100 : 80 + random.nextInt(21))
-                    .build());
-
-            JobMatch match = JobMatch.builder()
-                    .user(user)
-                    .job(job)
-                    .matchScore(score)
-                    .matchReasonsJson(reasonsJson)
-                    .status(MatchStatus.NEW)
-                    .build();
+    /**
+     * Generate job matches for a user (see {@link MatchScoringEngine})
+     *
+     * Not transactional: the generator streams jobs and commits one batch per page.
+     */
+    public List<JobMatchDto> generateMatches(UUID userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
 
-            matches.add(jobMatchRepository.save(match));
+        // Seed mock jobs when the DB is empty
+        if (jobRepository.count() == 0) {
+            jobRepository.saveAll(MOCK_JOBS.stream()
+                    .map(this::createJobFromMock)
+                    .collect(Collectors.toList()));
         }
 
+        List<JobMatch> matches = jobMatchGenerator.generate(userId);
+
         log.info("Generated {} matches for user {}", matches.size(), userId);
 
         return matches.stream()
@@ -224,6 +356,22 @@ public class JobService {
         return PagedResponse.of(matchDtos, matchPage.getNumber(), matchPage.getSize(), matchPage.getTotalElements());
     }
 
+    /**
+     * Get user's job matches by cursor, best first (infinite scroll; no totals)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<JobMatchDto> getMatchesAfter(UUID userId, String cursor, int size) {
+        Cursor position = Cursor.decode(cursor, 1);
+        Slice<JobMatch> slice = jobMatchRepository.findByUserIdAfter(
+                userId,
+                position != null ? position.intKey(0) : Integer.MAX_VALUE,
+                position != null ? position.id() : Cursor.MAX_ID,
+                PageRequest.of(0, size));
+
+        return CursorResponse.of(slice, JobMatchDto::fromEntity,
+                m -> Cursor.encode(m.getId(), m.getMatchScore()));
+    }
+
     /**
      * Get match summary for user
      */
@@ -432,29 +580,6 @@ public class JobService {
                 .build();
     }
 
-    private List<String> generateMockMatchReasons(Job job, int score) {
-        List<String> reasons = new ArrayList<>();
-        
-        if (score >= 90) {
-            reasons.add("Excellent skill match - your experience aligns perfectly with requirements");
-            reasons.add("Location preference matches");
-        } else if (score >= 80) {
-            reasons.add("Strong skill match with most required technologies");
-            reasons.add("Experience level aligns well");
-        } else if (score >= 70) {
-            reasons.add("Good match on core skills");
-            reasons.add("Opportunity to grow in some areas");
-        } else {
-            reasons.add("Partial skill match - great learning opportunity");
-        }
-
-        if (job.getIsRemote()) {
-            reasons.add("Remote work available - matches your preference");
-        }
-
-        return reasons;
-    }
-
     private String toJson(Object obj) {
         try {
             return objectMapper.writeValueAsString(obj);
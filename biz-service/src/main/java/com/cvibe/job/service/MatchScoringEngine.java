@@ -0,0 +1,570 @@
+package com.cvibe.job.service;
+
+import com.cvibe.common.util.LruMaps;
+import com.cvibe.job.dto.JobMatchDto;
+import com.cvibe.job.entity.ExperienceLevel;
+import com.cvibe.job.entity.Job;
+import com.cvibe.job.repository.JobRepository;
+import com.cvibe.profile.entity.ProfileExperience;
+import com.cvibe.profile.entity.ProfileSkill;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Deterministic job-match scoring.
+ *
+ * Skill names map to int ids in a vocabulary built from the job skill corpus (the most frequent
+ * listed skills, capped at max-vocabulary) and each profile / job is reduced to a bitset over
+ * that vocabulary, so skill overlap is a word-wise AND + popcount. The vocabulary is an immutable,
+ * versioned snapshot rebuilt periodically; user input never adds to it, so results do not depend
+ * on which profiles were scored first. Listed job skills outside the vocabulary are kept by name
+ * and still count. Job vectors are cached per job id in a concurrent map, keyed by a fingerprint of the
+ * scored columns and the vocabulary version, which keeps scoring one profile against a large job
+ * set allocation-free apart from the result objects. Parallel scorers never share a lock; once the
+ * map grows past max-cached-jobs one thread trims the least recently used tenth.
+ * See MatchScoringEngineBenchmark (mvn -Pbenchmark) for scoring throughput.
+ *
+ * Scores are 0-100: skill overlap, experience level fit, location fit and, when both sides
+ * provide one, salary fit.
+ */
+@Slf4j
+@Component
+public class MatchScoringEngine {
+
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {};
+
+    // Longest multi-word skill looked up in free-text requirements, e.g. "spring boot"
+    private static final int MAX_SKILL_WORDS = 3;
+
+    private final JobRepository jobRepository;
+    private final ObjectMapper objectMapper;
+    private final int maxVocabulary;
+
+    private final int maxCachedJobs;
+
+    private volatile Vocabulary vocabulary = Vocabulary.EMPTY;
+    private final Map<UUID, CachedVector> jobVectors = new ConcurrentHashMap<>();
+    private final AtomicBoolean trimming = new AtomicBoolean();
+
+    public MatchScoringEngine(
+            JobRepository jobRepository,
+            ObjectMapper objectMapper,
+            @Value("${job.match.max-cached-jobs:200000}") int maxCachedJobs,
+            @Value("${job.match.max-vocabulary:50000}") int maxVocabulary) {
+        this.jobRepository = jobRepository;
+        this.objectMapper = objectMapper;
+        this.maxVocabulary = maxVocabulary;
+        this.maxCachedJobs = maxCachedJobs;
+    }
+
+    /**
+     * Profile side of a match. Skill bits are over {@code vocabulary}; skillKeys holds every
+     * normalized skill so the candidate can be matched against vectors of another vocabulary.
+     */
+    public record Candidate(Vocabulary vocabulary, long[] skills, Set<String> skillKeys, int yearsExperience,
+                            List<String> locations, Integer expectedSalary) {
+    }
+
+    /**
+     * Job side of a match. Skill bits are over {@code vocabulary}; otherSkills maps the normalized
+     * names of listed skills outside the vocabulary to their display names.
+     */
+    public record JobVector(Vocabulary vocabulary, long[] skills, Map<String, String> otherSkills, int skillCount,
+                            ExperienceLevel level, String location, boolean remote,
+                            Integer salaryMin, Integer salaryMax) {
+    }
+
+    /**
+     * Score breakdown; salaryMatch is null when either side has no salary information
+     */
+    public record Score(int overall, int skillMatch, int experienceMatch, int locationMatch, Integer salaryMatch,
+                        List<String> matchingSkills, int requiredSkills) {
+    }
+
+    // ==================== Candidates ====================
+
+    /**
+     * Build a candidate from profile data: skills plus technologies used in past roles.
+     * expectedSalary may be null, which leaves salary out of the score.
+     */
+    public Candidate candidate(List<ProfileSkill> skills, List<ProfileExperience> experiences, String location,
+                               Integer expectedSalary) {
+        Set<String> names = new LinkedHashSet<>();
+        skills.forEach(skill -> names.add(skill.getName()));
+        List<String> locations = new ArrayList<>();
+        if (location != null && !location.isBlank()) {
+            locations.add(location);
+        }
+        for (ProfileExperience experience : experiences) {
+            names.addAll(parseJsonArray(experience.getTechnologies()));
+            if (Boolean.TRUE.equals(experience.getIsCurrent()) && experience.getLocation() != null) {
+                locations.add(experience.getLocation());
+            }
+        }
+        return candidate(names, yearsOfExperience(experiences), locations, expectedSalary);
+    }
+
+    public Candidate candidate(Collection<String> skills, int yearsExperience, Collection<String> locations,
+                               Integer expectedSalary) {
+        Vocabulary current = vocabulary;
+        Set<String> keys = new HashSet<>();
+        if (skills != null) {
+            for (String skill : skills) {
+                String key = normalize(skill);
+                if (!key.isEmpty()) {
+                    keys.add(key);
+                }
+            }
+        }
+        List<String> normalizedLocations = locations == null ? List.of() : locations.stream()
+                .filter(l -> l != null && !l.isBlank())
+                .map(l -> l.trim().toLowerCase(Locale.ROOT))
+                .toList();
+        return new Candidate(current, current.bits(keys), Set.copyOf(keys), Math.max(0, yearsExperience),
+                normalizedLocations, expectedSalary);
+    }
+
+    // ==================== Jobs ====================
+
+    /**
+     * Vectorize a job, reusing the cached vector while the scored columns and the vocabulary are unchanged
+     */
+    public JobVector vectorize(Job job) {
+        Vocabulary current = vocabulary;
+        int fingerprint = Objects.hash(job.getSkills(), job.getRequirements(), job.getExperienceLevel(),
+                job.getLocation(), job.getIsRemote(), job.getSalaryMin(), job.getSalaryMax());
+        if (job.getId() != null) {
+            CachedVector cached = jobVectors.get(job.getId());
+            if (cached != null && cached.fingerprint == fingerprint
+                    && cached.vocabularyVersion == current.version()) {
+                cached.lastUsed = System.nanoTime();
+                return cached.vector;
+            }
+        }
+
+        JobVector vector = vectorize(current, parseJsonArray(job.getSkills()), parseJsonArray(job.getRequirements()),
+                job.getExperienceLevel(), job.getLocation(), Boolean.TRUE.equals(job.getIsRemote()),
+                job.getSalaryMin(), job.getSalaryMax());
+
+        if (job.getId() != null) {
+            jobVectors.put(job.getId(), new CachedVector(fingerprint, current.version(), vector));
+            if (jobVectors.size() > maxCachedJobs) {
+                trimVectors();
+            }
+        }
+        return vector;
+    }
+
+    /**
+     * Drop the least recently used vectors down to 90% of max-cached-jobs; concurrent callers skip
+     */
+    private void trimVectors() {
+        if (!trimming.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            LruMaps.trim(jobVectors, maxCachedJobs * 9 / 10, cached -> cached.lastUsed);
+        } finally {
+            trimming.set(false);
+        }
+    }
+
+    /**
+     * Vectorize raw job fields. Listed skills always count; free-text requirements only
+     * contribute skills that are in the vocabulary.
+     */
+    public JobVector vectorize(List<String> skills, List<String> requirements, ExperienceLevel level,
+                               String location, boolean remote, Integer salaryMin, Integer salaryMax) {
+        return vectorize(vocabulary, skills, requirements, level, location, remote, salaryMin, salaryMax);
+    }
+
+    private JobVector vectorize(Vocabulary vocab, List<String> skills, List<String> requirements,
+                                ExperienceLevel level, String location, boolean remote,
+                                Integer salaryMin, Integer salaryMax) {
+        long[] bits = new long[0];
+        Map<String, String> otherSkills = new HashMap<>();
+        if (skills != null) {
+            for (String skill : skills) {
+                String key = normalize(skill);
+                if (key.isEmpty()) {
+                    continue;
+                }
+                int id = vocab.id(key);
+                if (id >= 0) {
+                    bits = set(bits, id);
+                } else {
+                    otherSkills.putIfAbsent(key, skill.trim());
+                }
+            }
+        }
+        if (requirements != null) {
+            for (String requirement : requirements) {
+                bits = addKnownSkills(vocab, bits, requirement);
+            }
+        }
+        return new JobVector(vocab, bits, Map.copyOf(otherSkills), cardinality(bits) + otherSkills.size(), level,
+                location != null ? location.toLowerCase(Locale.ROOT) : null, remote, salaryMin, salaryMax);
+    }
+
+    // ==================== Scoring ====================
+
+    public Score score(Candidate candidate, JobVector job) {
+        // Vectors built before a vocabulary refresh use other ids; map the candidate onto the job's vocabulary
+        long[] candidateSkills = candidate.vocabulary() == job.vocabulary()
+                ? candidate.skills() : job.vocabulary().bits(candidate.skillKeys());
+        int matched = intersection(candidateSkills, job.skills());
+        List<String> matchingSkills = matched == 0
+                ? new ArrayList<>() : job.vocabulary().names(candidateSkills, job.skills());
+        for (Map.Entry<String, String> other : job.otherSkills().entrySet()) {
+            if (candidate.skillKeys().contains(other.getKey())) {
+                matched++;
+                matchingSkills.add(other.getValue());
+            }
+        }
+        int skillMatch = job.skillCount() == 0 ? 50 : Math.round(100f * matched / job.skillCount());
+        int experienceMatch = experienceMatch(candidate.yearsExperience(), job.level());
+        int locationMatch = locationMatch(candidate.locations(), job);
+        Integer salaryMatch = salaryMatch(candidate.expectedSalary(), job);
+
+        double weighted = skillMatch * 0.5 + experienceMatch * 0.25 + locationMatch * 0.15;
+        double weights = 0.9;
+        if (salaryMatch != null) {
+            weighted += salaryMatch * 0.1;
+            weights += 0.1;
+        }
+        int overall = (int) Math.round(weighted / weights);
+
+        return new Score(overall, skillMatch, experienceMatch, locationMatch, salaryMatch,
+                matched == 0 ? List.of() : matchingSkills, job.skillCount());
+    }
+
+    /**
+     * Breakdown in the shape stored in job_matches.match_reasons_json
+     */
+    public JobMatchDto.MatchDetailsDto toDetails(Score score, boolean remote) {
+        List<String> reasons = new ArrayList<>();
+        if (score.requiredSkills() == 0) {
+            reasons.add("No specific skills listed for this role");
+        } else if (score.skillMatch() >= 80) {
+            reasons.add("Excellent skill match - you have " + score.matchingSkills().size()
+                    + " of " + score.requiredSkills() + " required skills");
+        } else if (score.skillMatch() >= 50) {
+            reasons.add("Strong skill match with most required technologies");
+        } else if (score.skillMatch() > 0) {
+            reasons.add("Partial skill match - great learning opportunity");
+        } else {
+            reasons.add("None of the listed skills are on your profile yet");
+        }
+
+        if (score.experienceMatch() >= 100) {
+            reasons.add("Experience level aligns well");
+        } else if (score.experienceMatch() < 60) {
+            reasons.add("Experience level differs from the role");
+        }
+
+        if (remote) {
+            reasons.add("Remote work available");
+        } else if (score.locationMatch() >= 100) {
+            reasons.add("Location preference matches");
+        }
+
+        return JobMatchDto.MatchDetailsDto.builder()
+                .reasons(reasons)
+                .matchingSkills(score.matchingSkills())
+                .skillMatchPercentage(score.skillMatch())
+                .experienceMatchPercentage(score.experienceMatch())
+                .locationMatchPercentage(score.locationMatch())
+                .build();
+    }
+
+    /**
+     * Level a candidate with the given years of experience is expected to be at
+     */
+    public static ExperienceLevel levelFor(int years) {
+        if (years < 2) return ExperienceLevel.ENTRY;
+        if (years < 5) return ExperienceLevel.MID;
+        if (years < 8) return ExperienceLevel.SENIOR;
+        if (years < 12) return ExperienceLevel.LEAD;
+        return ExperienceLevel.EXECUTIVE;
+    }
+
+    private int experienceMatch(int years, ExperienceLevel required) {
+        if (required == null) {
+            return 70;
+        }
+        int gap = levelFor(years).ordinal() - required.ordinal();
+        if (gap == 0) {
+            return 100;
+        }
+        // Under-qualified is penalized harder than over-qualified
+        return Math.max(0, gap < 0 ? 100 + gap * 30 : 100 - gap * 15);
+    }
+
+    private int locationMatch(List<String> locations, JobVector job) {
+        if (job.remote()) {
+            return 100;
+        }
+        if (job.location() == null || job.location().isBlank() || locations.isEmpty()) {
+            return 70;
+        }
+        for (String location : locations) {
+            if (job.location().contains(location) || location.contains(job.location())) {
+                return 100;
+            }
+        }
+        return 30;
+    }
+
+    private Integer salaryMatch(Integer expected, JobVector job) {
+        if (expected == null || (job.salaryMin() == null && job.salaryMax() == null)) {
+            return null;
+        }
+        Integer max = job.salaryMax() != null ? job.salaryMax() : job.salaryMin();
+        if (expected <= max) {
+            return 100;
+        }
+        return Math.max(0, 100 - (int) ((expected - max) * 100L / Math.max(max, 1)));
+    }
+
+    // ==================== Vocabulary & bitsets ====================
+
+    /**
+     * Current vocabulary snapshot
+     */
+    public Vocabulary vocabulary() {
+        return vocabulary;
+    }
+
+    @PostConstruct
+    void loadVocabulary() {
+        refreshVocabulary();
+    }
+
+    /**
+     * Rebuild the vocabulary from the job skill corpus; the version only changes when the skill set does,
+     * so cached job vectors survive refreshes that find nothing new
+     */
+    @Scheduled(fixedDelayString = "${job.match.vocabulary-refresh-interval-ms:3600000}",
+            initialDelayString = "${job.match.vocabulary-refresh-interval-ms:3600000}")
+    public void refreshVocabulary() {
+        try {
+            Map<String, Integer> counts = new HashMap<>();
+            Map<String, String> displayNames = new HashMap<>();
+            for (String json : jobRepository.findAllSkillLists()) {
+                for (String skill : parseJsonArray(json)) {
+                    String key = normalize(skill);
+                    if (!key.isEmpty()) {
+                        counts.merge(key, 1, Integer::sum);
+                        // Smallest spelling wins so the display name does not depend on row order
+                        displayNames.merge(key, skill.trim(), (a, b) -> a.compareTo(b) <= 0 ? a : b);
+                    }
+                }
+            }
+            List<String> keys = counts.entrySet().stream()
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .limit(maxVocabulary)
+                    .map(Map.Entry::getKey)
+                    .toList();
+
+            Vocabulary current = vocabulary;
+            if (keys.equals(current.keys)) {
+                return;
+            }
+            vocabulary = new Vocabulary(current.version() + 1, keys,
+                    keys.stream().map(displayNames::get).toList());
+            log.info("Skill vocabulary v{} loaded: {} skills ({} distinct in job corpus)",
+                    current.version() + 1, keys.size(), counts.size());
+        } catch (Exception e) {
+            log.warn("Failed to load skill vocabulary, keeping v{}: {}", vocabulary.version(), e.getMessage());
+        }
+    }
+
+    /**
+     * Immutable skill vocabulary snapshot: ids index into keys / names
+     */
+    public static final class Vocabulary {
+
+        static final Vocabulary EMPTY = new Vocabulary(0, List.of(), List.of());
+
+        private final int version;
+        private final List<String> keys;
+        private final List<String> names;
+        private final Map<String, Integer> ids;
+
+        private Vocabulary(int version, List<String> keys, List<String> names) {
+            this.version = version;
+            this.keys = keys;
+            this.names = names;
+            Map<String, Integer> ids = new HashMap<>(keys.size() * 2);
+            for (int i = 0; i < keys.size(); i++) {
+                ids.put(keys.get(i), i);
+            }
+            this.ids = ids;
+        }
+
+        public int version() {
+            return version;
+        }
+
+        public int size() {
+            return keys.size();
+        }
+
+        int id(String key) {
+            Integer id = ids.get(key);
+            return id != null ? id : -1;
+        }
+
+        long[] bits(Collection<String> keys) {
+            long[] bits = new long[0];
+            for (String key : keys) {
+                int id = id(key);
+                if (id >= 0) {
+                    bits = set(bits, id);
+                }
+            }
+            return bits;
+        }
+
+        List<String> names(long[] a, long[] b) {
+            List<String> result = new ArrayList<>();
+            int words = Math.min(a.length, b.length);
+            for (int w = 0; w < words; w++) {
+                long common = a[w] & b[w];
+                while (common != 0) {
+                    int bit = Long.numberOfTrailingZeros(common);
+                    result.add(names.get(w * 64 + bit));
+                    common &= common - 1;
+                }
+            }
+            return result;
+        }
+    }
+
+    private static long[] addKnownSkills(Vocabulary vocab, long[] bits, String text) {
+        if (text == null || text.isBlank()) {
+            return bits;
+        }
+        String[] words = text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}+#.]+");
+        for (int i = 0; i < words.length; i++) {
+            StringBuilder phrase = new StringBuilder();
+            for (int n = 0; n < MAX_SKILL_WORDS && i + n < words.length; n++) {
+                if (n > 0) {
+                    phrase.append(' ');
+                }
+                phrase.append(stripTrailingDot(words[i + n]));
+                int id = vocab.id(phrase.toString());
+                if (id >= 0) {
+                    bits = set(bits, id);
+                }
+            }
+        }
+        return bits;
+    }
+
+    private static long[] set(long[] bits, int id) {
+        int word = id >>> 6;
+        if (word >= bits.length) {
+            bits = Arrays.copyOf(bits, word + 1);
+        }
+        bits[word] |= 1L << (id & 63);
+        return bits;
+    }
+
+    private static int intersection(long[] a, long[] b) {
+        int count = 0;
+        int words = Math.min(a.length, b.length);
+        for (int w = 0; w < words; w++) {
+            count += Long.bitCount(a[w] & b[w]);
+        }
+        return count;
+    }
+
+    private static int cardinality(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private static String normalize(String skill) {
+        if (skill == null) {
+            return "";
+        }
+        return stripTrailingDot(skill.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " "));
+    }
+
+    private static String stripTrailingDot(String word) {
+        return word.endsWith(".") ? word.substring(0, word.length() - 1) : word;
+    }
+
+    // ==================== Helpers ====================
+
+    /**
+     * Total years of experience, counting overlapping roles once
+     */
+    private static int yearsOfExperience(List<ProfileExperience> experiences) {
+        List<LocalDate[]> ranges = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+        for (ProfileExperience experience : experiences) {
+            if (experience.getStartDate() == null) {
+                continue;
+            }
+            LocalDate end = experience.getEndDate() != null && !Boolean.TRUE.equals(experience.getIsCurrent())
+                    ? experience.getEndDate() : today;
+            if (end.isAfter(experience.getStartDate())) {
+                ranges.add(new LocalDate[]{experience.getStartDate(), end});
+            }
+        }
+        ranges.sort(Comparator.comparing(r -> r[0]));
+
+        long months = 0;
+        LocalDate coveredUntil = null;
+        for (LocalDate[] range : ranges) {
+            LocalDate start = coveredUntil != null && coveredUntil.isAfter(range[0]) ? coveredUntil : range[0];
+            if (range[1].isAfter(start)) {
+                months += ChronoUnit.MONTHS.between(start, range[1]);
+                coveredUntil = range[1];
+            }
+        }
+        return (int) (months / 12);
+    }
+
+    private List<String> parseJsonArray(String json) {
+        if (json == null || json.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return objectMapper.readValue(json, STRING_LIST);
+        } catch (Exception e) {
+            return List.of();
+        }
+    }
+
+    private static final class CachedVector {
+
+        private final int fingerprint;
+        private final int vocabularyVersion;
+        private final JobVector vector;
+        private volatile long lastUsed = System.nanoTime();
+
+        CachedVector(int fingerprint, int vocabularyVersion, JobVector vector) {
+            this.fingerprint = fingerprint;
+            this.vocabularyVersion = vocabularyVersion;
+            this.vector = vector;
+        }
+    }
+}
@@ -1,13 +1,20 @@
 package com.cvibe.notification.controller;
 
 import com.cvibe.common.dto.ApiResponse;
+import com.cvibe.common.dto.CursorResponse;
 import com.cvibe.common.security.UserPrincipal;
 import com.cvibe.notification.dto.*;
 import com.cvibe.notification.service.NotificationService;
+import com.cvibe.notification.service.NotificationStreamHub;
+import com.cvibe.notification.service.UserSelector;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
@@ -25,6 +32,7 @@ import java.util.UUID;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationStreamHub streamHub;
 
     /**
      * Get notifications for current user (paginated)
@@ -43,6 +51,39 @@ public class NotificationController {
         return ApiResponse.success(response);
     }
 
+    /**
+     * Get notifications for current user by cursor (infinite scroll)
+     * GET /api/v1/notifications?cursor=
+     *
+     * Selected by the cursor parameter; send it empty for the first page, then the returned nextCursor.
+     */
+    @GetMapping(params = "cursor")
+    public ApiResponse<CursorResponse<NotificationDto>> getNotificationsAfter(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Boolean unreadOnly) {
+        log.info("Getting notifications for user: {} after cursor, size: {}", principal.getId(), size);
+        CursorResponse<NotificationDto> response = notificationService.getNotificationsAfter(
+                principal.getId(), cursor, size, category, unreadOnly);
+        return ApiResponse.success(response);
+    }
+
+    /**
+     * Stream new notifications as server-sent events
+     * GET /api/v1/notifications/stream
+     *
+     * Events: "notification" (id = notification id), "resync" (refetch the list).
+     * Reconnecting clients send Last-Event-ID to receive what they missed.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotifications(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return streamHub.subscribe(principal.getId(), lastEventId);
+    }
+
     /**
      * Get recent notifications
      * GET /api/v1/notifications/recent
@@ -105,4 +146,30 @@ public class NotificationController {
         notificationService.deleteNotification(principal.getId(), notificationId);
         return ApiResponse.success(null);
     }
+
+    /**
+     * Broadcast a notification to all enabled users or to the given users (admin only)
+     * POST /api/v1/notifications/broadcasts
+     */
+    @PostMapping("/broadcasts")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<BroadcastDto> createBroadcast(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @Valid @RequestBody BroadcastRequest request) {
+        UserSelector selector = request.getUserIds() == null || request.getUserIds().isEmpty()
+                ? UserSelector.allActiveUsers()
+                : UserSelector.users(request.getUserIds());
+        log.info("User {} broadcasting notification '{}'", principal.getId(), request.getTemplate().getTitle());
+        return ApiResponse.success(notificationService.broadcast(request.getTemplate(), selector));
+    }
+
+    /**
+     * Get broadcast progress (admin only)
+     * GET /api/v1/notifications/broadcasts/{broadcastId}
+     */
+    @GetMapping("/broadcasts/{broadcastId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ApiResponse<BroadcastDto> getBroadcast(@PathVariable UUID broadcastId) {
+        return ApiResponse.success(notificationService.getBroadcast(broadcastId));
+    }
 }
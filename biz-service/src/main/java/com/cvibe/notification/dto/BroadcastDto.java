@@ -0,0 +1,58 @@
+package com.cvibe.notification.dto;
+
+import com.cvibe.notification.entity.NotificationBroadcast;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Progress of a notification broadcast job
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BroadcastDto {
+
+    private String id;
+    private String status;
+    private String title;
+    private String audience;
+    private int totalRecipients;
+    private int sentCount;
+
+    /**
+     * Percentage of recipients processed (0-100)
+     */
+    private int progress;
+
+    private String errorMessage;
+    private String createdAt;
+    private String startedAt;
+    private String completedAt;
+
+    public static BroadcastDto fromEntity(NotificationBroadcast entity) {
+        int total = entity.getTotalRecipients() != null ? entity.getTotalRecipients() : 0;
+        int sent = entity.getSentCount() != null ? entity.getSentCount() : 0;
+        return BroadcastDto.builder()
+                .id(entity.getId().toString())
+                .status(entity.getStatus().name())
+                .title(entity.getTitle())
+                .audience(entity.getAudience())
+                .totalRecipients(total)
+                .sentCount(sent)
+                .progress(total > 0 ? Math.min(100, (int) (sent * 100L / total)) : 0)
+                .errorMessage(entity.getErrorMessage())
+                .createdAt(formatInstant(entity.getCreatedAt()))
+                .startedAt(formatInstant(entity.getStartedAt()))
+                .completedAt(formatInstant(entity.getCompletedAt()))
+                .build();
+    }
+
+    private static String formatInstant(Instant instant) {
+        return instant != null ? instant.toString() : null;
+    }
+}
@@ -0,0 +1,30 @@
+package com.cvibe.notification.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request to broadcast a notification
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BroadcastRequest {
+
+    @NotNull
+    @Valid
+    private NotificationTemplate template;
+
+    /**
+     * Recipients; null or empty means all enabled users
+     */
+    private List<UUID> userIds;
+}
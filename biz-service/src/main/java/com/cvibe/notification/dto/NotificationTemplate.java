@@ -0,0 +1,38 @@
+package com.cvibe.notification.dto;
+
+import com.cvibe.notification.entity.NotificationPriority;
+import com.cvibe.notification.entity.NotificationType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Content of a notification sent to many users
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationTemplate {
+
+    @NotNull
+    private NotificationType type;
+
+    @Builder.Default
+    private NotificationPriority priority = NotificationPriority.NORMAL;
+
+    private String category;
+    @NotBlank
+    private String title;
+    private String content;
+    private String actionUrl;
+    private String actionText;
+
+    /**
+     * Additional data as JSON
+     */
+    private String dataJson;
+}
@@ -0,0 +1,11 @@
+package com.cvibe.notification.entity;
+
+/**
+ * Lifecycle of a notification broadcast job
+ */
+public enum BroadcastStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -16,7 +16,8 @@ import java.util.UUID;
 @Table(name = "notifications", indexes = {
     @Index(name = "idx_notification_user", columnList = "user_id"),
     @Index(name = "idx_notification_user_read", columnList = "user_id, is_read"),
-    @Index(name = "idx_notification_created", columnList = "created_at DESC")
+    @Index(name = "idx_notification_created", columnList = "created_at DESC"),
+    @Index(name = "idx_notification_user_created_id", columnList = "user_id, created_at DESC, id DESC")
 })
 @EntityListeners(AuditingEntityListener.class)
 @Getter
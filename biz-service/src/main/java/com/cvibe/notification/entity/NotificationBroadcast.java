@@ -0,0 +1,112 @@
+package com.cvibe.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A notification sent to a set of users by a resumable background job.
+ * The template is stored inline; progress is tracked by a user-id cursor.
+ */
+@Entity
+@Table(name = "notification_broadcasts", indexes = {
+    @Index(name = "idx_notification_broadcast_status", columnList = "status")
+})
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationBroadcast {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    // ==================== Template ====================
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private NotificationType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private NotificationPriority priority;
+
+    @Column(length = 50)
+    private String category;
+
+    @Column(nullable = false, length = 255)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "action_url", length = 500)
+    private String actionUrl;
+
+    @Column(name = "action_text", length = 100)
+    private String actionText;
+
+    @Column(name = "data_json", columnDefinition = "TEXT")
+    private String dataJson;
+
+    // ==================== Audience ====================
+
+    /**
+     * ALL_ACTIVE or USERS
+     */
+    @Column(nullable = false, length = 20)
+    private String audience;
+
+    /**
+     * Recipient ids as a JSON array when audience is USERS
+     */
+    @Column(name = "user_ids_json", columnDefinition = "TEXT")
+    private String userIdsJson;
+
+    // ==================== Progress ====================
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private BroadcastStatus status = BroadcastStatus.PENDING;
+
+    /**
+     * Last user id processed; the job resumes after it
+     */
+    @Column(name = "cursor_user_id")
+    private UUID cursorUserId;
+
+    @Column(name = "total_recipients", nullable = false)
+    @Builder.Default
+    private Integer totalRecipients = 0;
+
+    @Column(name = "sent_count", nullable = false)
+    @Builder.Default
+    private Integer sentCount = 0;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    /**
+     * Touched by every chunk; a RUNNING job that stops updating is resumed elsewhere
+     */
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+}
@@ -0,0 +1,53 @@
+package com.cvibe.notification.repository;
+
+import com.cvibe.notification.entity.BroadcastStatus;
+import com.cvibe.notification.entity.NotificationBroadcast;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository for notification broadcast jobs
+ */
+@Repository
+public interface NotificationBroadcastRepository extends JpaRepository<NotificationBroadcast, UUID> {
+
+    /**
+     * Jobs that still have recipients to process
+     */
+    List<NotificationBroadcast> findByStatusInOrderByCreatedAtAsc(Collection<BroadcastStatus> statuses);
+
+    /**
+     * Claim a job for this node: pending, or running but abandoned (no progress since staleBefore)
+     *
+     * @return 1 if claimed
+     */
+    @Modifying
+    @Query("UPDATE NotificationBroadcast b SET b.status = com.cvibe.notification.entity.BroadcastStatus.RUNNING, " +
+           "b.updatedAt = :now, b.startedAt = COALESCE(b.startedAt, :now) " +
+           "WHERE b.id = :id AND (b.status = com.cvibe.notification.entity.BroadcastStatus.PENDING " +
+           "OR (b.status = com.cvibe.notification.entity.BroadcastStatus.RUNNING " +
+           "AND (b.updatedAt IS NULL OR b.updatedAt < :staleBefore)))")
+    int claim(@Param("id") UUID id, @Param("now") Instant now, @Param("staleBefore") Instant staleBefore);
+
+    /**
+     * Record a processed chunk and move the cursor, only if the cursor is still where this node read it
+     * (compare-and-set). Another node that reclaimed a stalled job and moved the cursor makes this return 0.
+     *
+     * @return 1 if the cursor moved
+     */
+    @Modifying
+    @Query("UPDATE NotificationBroadcast b SET b.cursorUserId = :cursor, b.sentCount = b.sentCount + :sent, " +
+           "b.updatedAt = :now WHERE b.id = :id " +
+           "AND b.status = com.cvibe.notification.entity.BroadcastStatus.RUNNING " +
+           "AND ((:previous IS NULL AND b.cursorUserId IS NULL) OR b.cursorUserId = :previous)")
+    int advance(@Param("id") UUID id, @Param("previous") UUID previous, @Param("cursor") UUID cursor,
+                @Param("sent") int sent, @Param("now") Instant now);
+}
@@ -5,12 +5,15 @@ import com.cvibe.notification.entity.NotificationPriority;
 import com.cvibe.notification.entity.NotificationType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -26,6 +29,23 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
      */
     Page<Notification> findByUserIdOrderByCreatedAtDesc(UUID userId, Pageable pageable);
 
+    /**
+     * Keyset page of a user's notifications: strictly after the (createdAt, id) cursor, newest first,
+     * optionally in one category and/or unread only. No count query.
+     */
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId " +
+           "AND (:category IS NULL OR n.category = :category) " +
+           "AND (:unreadOnly = FALSE OR n.isRead = FALSE) " +
+           "AND (n.createdAt < :cursorCreatedAt OR (n.createdAt = :cursorCreatedAt AND n.id < :cursorId)) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    Slice<Notification> findByUserIdAfter(
+            @Param("userId") UUID userId,
+            @Param("category") String category,
+            @Param("unreadOnly") boolean unreadOnly,
+            @Param("cursorCreatedAt") Instant cursorCreatedAt,
+            @Param("cursorId") UUID cursorId,
+            Pageable pageable);
+
     /**
      * Find notifications by user ID and type
      */
@@ -79,12 +99,34 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
     @Query("SELECT n FROM Notification n WHERE n.user.id = :userId ORDER BY n.createdAt DESC")
     List<Notification> findRecentByUserId(@Param("userId") UUID userId, Pageable pageable);
 
+    /**
+     * Notifications strictly after the (createdAt, id) of a notification, oldest first (stream replay after
+     * reconnect). Rows sharing the cursor's timestamp, e.g. from one broadcast chunk, are ordered by id.
+     */
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId " +
+           "AND (n.createdAt > :afterCreatedAt OR (n.createdAt = :afterCreatedAt AND n.id > :afterId)) " +
+           "ORDER BY n.createdAt ASC, n.id ASC")
+    List<Notification> findCreatedAfter(
+            @Param("userId") UUID userId,
+            @Param("afterCreatedAt") Instant afterCreatedAt,
+            @Param("afterId") UUID afterId,
+            Pageable pageable);
+
     /**
      * Get distinct categories for a user's unread notifications
      */
     @Query("SELECT DISTINCT n.category FROM Notification n WHERE n.user.id = :userId AND n.isRead = false AND n.category IS NOT NULL")
     List<String> findDistinctCategoriesByUserIdAndUnread(@Param("userId") UUID userId);
 
+    /**
+     * Unread counts per (user, category, priority) for a set of users in one aggregate.
+     * Rows: userId, category, priority, count. Served by the partial index idx_notifications_unread_counts.
+     */
+    @Query("SELECT n.user.id, n.category, n.priority, COUNT(n) FROM Notification n " +
+           "WHERE n.user.id IN :userIds AND n.isRead = false " +
+           "GROUP BY n.user.id, n.category, n.priority")
+    List<Object[]> countUnreadGrouped(@Param("userIds") Collection<UUID> userIds);
+
     /**
      * Delete all notifications for a user
      */
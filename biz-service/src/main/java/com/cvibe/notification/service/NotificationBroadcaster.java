@@ -0,0 +1,387 @@
+package com.cvibe.notification.service;
+
+import com.cvibe.common.exception.BusinessException;
+import com.cvibe.common.exception.ErrorCode;
+import com.cvibe.common.util.TransactionUtils;
+import com.cvibe.notification.dto.BroadcastDto;
+import com.cvibe.notification.dto.NotificationTemplate;
+import com.cvibe.notification.entity.BroadcastStatus;
+import com.cvibe.notification.entity.NotificationBroadcast;
+import com.cvibe.notification.entity.NotificationPriority;
+import com.cvibe.notification.repository.NotificationBroadcastRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Sends one notification template to many users as a resumable background job.
+ *
+ * - Recipients are read as bare user ids in id order (keyset paging), never as User entities
+ * - Each chunk is one JDBC batch insert plus the cursor update, in one transaction,
+ *   so a job resumed after a crash continues exactly after the last committed chunk.
+ *   The cursor update is a compare-and-set on the previous cursor: if a stalled node's job was
+ *   reclaimed and moved on, the stalled node's chunk is rolled back and it stops the run
+ * - Jobs run one at a time per node and are throttled to a configured rows/second
+ *   to keep the primary responsive
+ * - Pending jobs and RUNNING jobs whose node stopped making progress are picked up by a
+ *   periodic scan on any node; the claim is an atomic conditional UPDATE. A job interrupted by
+ *   shutdown stays RUNNING, even if the interrupt surfaces as a JDBC error, and is resumed that way.
+ * - Unread counters are bumped per chunk with one pipelined Redis round trip;
+ *   broadcasts are not pushed over the notification stream
+ */
+@Slf4j
+@Component
+public class NotificationBroadcaster {
+
+    static final String AUDIENCE_ALL_ACTIVE = "ALL_ACTIVE";
+    static final String AUDIENCE_USERS = "USERS";
+
+    private static final String INSERT_NOTIFICATION_SQL =
+            "INSERT INTO notifications (id, user_id, type, priority, category, title, content, " +
+            "action_url, action_text, data_json, is_read, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, FALSE, ?)";
+
+    private static final String FIRST_ACTIVE_USERS_SQL =
+            "SELECT id FROM users WHERE enabled = TRUE ORDER BY id LIMIT ?";
+    private static final String NEXT_ACTIVE_USERS_SQL =
+            "SELECT id FROM users WHERE enabled = TRUE AND id > ? ORDER BY id LIMIT ?";
+    private static final String EXISTING_ACTIVE_USERS_SQL =
+            "SELECT id FROM users WHERE enabled = TRUE AND id IN (:ids)";
+
+    private static final TypeReference<List<UUID>> UUID_LIST = new TypeReference<>() {};
+
+    private final NotificationBroadcastRepository broadcastRepository;
+    private final UnreadCounterStore unreadCounterStore;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final int rowsPerSecond;
+    private final Duration staleAfter;
+
+    // Jobs queued or running on this node
+    private final Set<UUID> scheduled = ConcurrentHashMap.newKeySet();
+    private ExecutorService worker;
+    // Set before the worker is interrupted, since JDBC drivers may report the interrupt as an I/O error
+    private volatile boolean stopping;
+
+    public NotificationBroadcaster(
+            NotificationBroadcastRepository broadcastRepository,
+            UnreadCounterStore unreadCounterStore,
+            JdbcTemplate jdbcTemplate,
+            NamedParameterJdbcTemplate namedJdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            @Value("${notification.broadcast.chunk-size:1000}") int chunkSize,
+            @Value("${notification.broadcast.rows-per-second:5000}") int rowsPerSecond,
+            @Value("${notification.broadcast.stale-after-seconds:120}") long staleAfterSeconds) {
+        this.broadcastRepository = broadcastRepository;
+        this.unreadCounterStore = unreadCounterStore;
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.rowsPerSecond = rowsPerSecond;
+        this.staleAfter = Duration.ofSeconds(staleAfterSeconds);
+    }
+
+    @PostConstruct
+    void start() {
+        worker = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("notification-broadcast").factory());
+    }
+
+    @PreDestroy
+    void stop() {
+        // Interrupted jobs stay RUNNING and are resumed once they go stale
+        stopping = true;
+        worker.shutdownNow();
+    }
+
+    /**
+     * Create a broadcast job and start it once the current transaction commits
+     */
+    public BroadcastDto broadcast(NotificationTemplate template, UserSelector selector) {
+        if (template.getType() == null || template.getTitle() == null || template.getTitle().isBlank()) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "Broadcast type and title are required");
+        }
+
+        NotificationBroadcast broadcast = NotificationBroadcast.builder()
+                .type(template.getType())
+                .priority(template.getPriority() != null ? template.getPriority() : NotificationPriority.NORMAL)
+                .category(template.getCategory())
+                .title(template.getTitle())
+                .content(template.getContent())
+                .actionUrl(template.getActionUrl())
+                .actionText(template.getActionText())
+                .dataJson(template.getDataJson())
+                .build();
+
+        switch (selector) {
+            case UserSelector.AllActiveUsers all -> {
+                broadcast.setAudience(AUDIENCE_ALL_ACTIVE);
+                Integer active = jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM users WHERE enabled = TRUE", Integer.class);
+                broadcast.setTotalRecipients(active != null ? active : 0);
+            }
+            case UserSelector.Users users -> {
+                List<UUID> ids = users.userIds().stream().distinct().sorted().toList();
+                broadcast.setAudience(AUDIENCE_USERS);
+                broadcast.setUserIdsJson(toJson(ids));
+                broadcast.setTotalRecipients(ids.size());
+            }
+        }
+
+        broadcast = broadcastRepository.save(broadcast);
+        log.info("Created notification broadcast {} '{}' for {} recipients",
+                broadcast.getId(), broadcast.getTitle(), broadcast.getTotalRecipients());
+
+        UUID broadcastId = broadcast.getId();
+        TransactionUtils.afterCommit(() -> schedule(broadcastId));
+        return BroadcastDto.fromEntity(broadcast);
+    }
+
+    /**
+     * Current progress of a broadcast
+     */
+    public BroadcastDto getBroadcast(UUID broadcastId) {
+        return broadcastRepository.findById(broadcastId)
+                .map(BroadcastDto::fromEntity)
+                .orElseThrow(() -> new BusinessException(ErrorCode.BROADCAST_NOT_FOUND));
+    }
+
+    /**
+     * Pick up pending jobs and jobs abandoned by a stopped node
+     */
+    @Scheduled(fixedDelayString = "${notification.broadcast.scan-interval-ms:60000}", initialDelay = 30000)
+    public void resumePending() {
+        Instant staleBefore = Instant.now().minus(staleAfter);
+        broadcastRepository.findByStatusInOrderByCreatedAtAsc(List.of(BroadcastStatus.PENDING, BroadcastStatus.RUNNING))
+                .stream()
+                .filter(b -> b.getStatus() == BroadcastStatus.PENDING
+                        || b.getUpdatedAt() == null || b.getUpdatedAt().isBefore(staleBefore))
+                .forEach(b -> schedule(b.getId()));
+    }
+
+    // ==================== Job Execution ====================
+
+    private void schedule(UUID broadcastId) {
+        if (scheduled.add(broadcastId)) {
+            worker.execute(() -> {
+                try {
+                    run(broadcastId);
+                } finally {
+                    scheduled.remove(broadcastId);
+                }
+            });
+        }
+    }
+
+    private void run(UUID broadcastId) {
+        Instant now = Instant.now();
+        Integer claimed = transactionTemplate.execute(status ->
+                broadcastRepository.claim(broadcastId, now, now.minus(staleAfter)));
+        if (claimed == null || claimed == 0) {
+            return;
+        }
+
+        NotificationBroadcast broadcast = broadcastRepository.findById(broadcastId).orElse(null);
+        if (broadcast == null) {
+            return;
+        }
+        log.info("Running notification broadcast {} from cursor {} ({} of {} sent)",
+                broadcastId, broadcast.getCursorUserId(), broadcast.getSentCount(), broadcast.getTotalRecipients());
+
+        List<UUID> explicitIds = AUDIENCE_USERS.equals(broadcast.getAudience())
+                ? fromJson(broadcast.getUserIdsJson())
+                : null;
+        UUID cursor = broadcast.getCursorUserId();
+        // Position in the explicit list, found once from the stored cursor and then carried along
+        int offset = explicitIds != null ? firstAfter(explicitIds, cursor) : 0;
+        long start = System.nanoTime();
+        long sent = 0;
+
+        try {
+            while (!isStopping()) {
+                Chunk chunk = explicitIds != null ? nextExplicit(explicitIds, offset) : nextActive(cursor);
+                if (chunk == null) {
+                    break;
+                }
+                insertChunk(broadcast, cursor, chunk);
+                cursor = chunk.cursor();
+                offset += chunk.scanned();
+                sent += chunk.recipients().size();
+                throttle(sent, start);
+            }
+            if (isStopping()) {
+                log.info("Notification broadcast {} interrupted at cursor {}, resumed once stale", broadcastId, cursor);
+                return;
+            }
+            finish(broadcastId, BroadcastStatus.COMPLETED, null);
+            log.info("Notification broadcast {} completed: {} sent in {}ms",
+                    broadcastId, sent, (System.nanoTime() - start) / 1_000_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (CursorMovedException e) {
+            log.warn("Notification broadcast {} was taken over by another node at cursor {}, stopping here",
+                    broadcastId, cursor);
+        } catch (Exception e) {
+            if (isStopping()) {
+                log.info("Notification broadcast {} interrupted at cursor {}, resumed once stale: {}",
+                        broadcastId, cursor, e.getMessage());
+                return;
+            }
+            log.error("Notification broadcast {} failed at cursor {}", broadcastId, cursor, e);
+            finish(broadcastId, BroadcastStatus.FAILED, e.getMessage());
+        }
+    }
+
+    /**
+     * Insert one chunk and advance the cursor atomically; rolls back if the cursor is no longer at previous
+     *
+     * @throws CursorMovedException another node has taken over the job
+     */
+    private void insertChunk(NotificationBroadcast broadcast, UUID previous, Chunk chunk) {
+        Instant now = Instant.now();
+        Timestamp createdAt = Timestamp.from(now);
+        List<Object[]> rows = new ArrayList<>(chunk.recipients().size());
+        for (UUID userId : chunk.recipients()) {
+            rows.add(new Object[]{
+                    UUID.randomUUID(),
+                    userId,
+                    broadcast.getType().name(),
+                    broadcast.getPriority().name(),
+                    broadcast.getCategory(),
+                    broadcast.getTitle(),
+                    broadcast.getContent(),
+                    broadcast.getActionUrl(),
+                    broadcast.getActionText(),
+                    broadcast.getDataJson(),
+                    createdAt
+            });
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_NOTIFICATION_SQL, rows);
+            }
+            int advanced = broadcastRepository.advance(
+                    broadcast.getId(), previous, chunk.cursor(), chunk.recipients().size(), now);
+            if (advanced == 0) {
+                // Thrown inside the transaction so the chunk's inserts roll back
+                throw new CursorMovedException();
+            }
+            unreadCounterStore.adjustAll(chunk.recipients(), broadcast.getCategory(), broadcast.getPriority(), 1);
+        });
+    }
+
+    private Chunk nextActive(UUID cursor) {
+        List<UUID> ids = cursor == null
+                ? jdbcTemplate.queryForList(FIRST_ACTIVE_USERS_SQL, UUID.class, chunkSize)
+                : jdbcTemplate.queryForList(NEXT_ACTIVE_USERS_SQL, UUID.class, cursor, chunkSize);
+        return ids.isEmpty() ? null : new Chunk(ids.get(ids.size() - 1), ids, ids.size());
+    }
+
+    private Chunk nextExplicit(List<UUID> sortedIds, int from) {
+        if (from >= sortedIds.size()) {
+            return null;
+        }
+        List<UUID> candidates = sortedIds.subList(from, Math.min(from + chunkSize, sortedIds.size()));
+        Set<UUID> existing = new HashSet<>(namedJdbcTemplate.queryForList(
+                EXISTING_ACTIVE_USERS_SQL, new MapSqlParameterSource("ids", candidates), UUID.class));
+        List<UUID> recipients = candidates.stream().filter(existing::contains).toList();
+        return new Chunk(candidates.get(candidates.size() - 1), recipients, candidates.size());
+    }
+
+    /**
+     * Index of the first id after the cursor; ids are stored sorted
+     */
+    private static int firstAfter(List<UUID> sortedIds, UUID cursor) {
+        if (cursor == null) {
+            return 0;
+        }
+        int index = Collections.binarySearch(sortedIds, cursor);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    private boolean isStopping() {
+        return stopping || Thread.currentThread().isInterrupted();
+    }
+
+    /**
+     * Sleep as needed to keep the average insert rate at or below rowsPerSecond
+     */
+    private void throttle(long sent, long startNanos) throws InterruptedException {
+        if (rowsPerSecond <= 0) {
+            return;
+        }
+        long expectedNanos = sent * 1_000_000_000L / rowsPerSecond;
+        long aheadNanos = expectedNanos - (System.nanoTime() - startNanos);
+        if (aheadNanos > 0) {
+            Thread.sleep(aheadNanos / 1_000_000, (int) (aheadNanos % 1_000_000));
+        }
+    }
+
+    private void finish(UUID broadcastId, BroadcastStatus status, String errorMessage) {
+        transactionTemplate.executeWithoutResult(tx -> broadcastRepository.findById(broadcastId).ifPresent(b -> {
+            b.setStatus(status);
+            b.setErrorMessage(errorMessage);
+            b.setCompletedAt(Instant.now());
+            b.setUpdatedAt(Instant.now());
+            broadcastRepository.save(b);
+        }));
+    }
+
+    private String toJson(List<UUID> ids) {
+        try {
+            return objectMapper.writeValueAsString(ids);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_ERROR, "Failed to store broadcast recipients");
+        }
+    }
+
+    private List<UUID> fromJson(String json) {
+        try {
+            return json != null ? objectMapper.readValue(json, UUID_LIST) : List.of();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupt broadcast recipient list", e);
+        }
+    }
+
+    /**
+     * The job's cursor is no longer where this node left it: another node reclaimed it
+     */
+    private static final class CursorMovedException extends RuntimeException {
+    }
+
+    /**
+     * Recipients of one chunk, the last id examined and how many ids were examined
+     */
+    private record Chunk(UUID cursor, List<UUID> recipients, int scanned) {
+    }
+}
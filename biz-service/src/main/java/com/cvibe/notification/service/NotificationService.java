@@ -2,6 +2,8 @@ package com.cvibe.notification.service;
 
 import com.cvibe.auth.entity.User;
 import com.cvibe.auth.repository.UserRepository;
+import com.cvibe.common.dto.Cursor;
+import com.cvibe.common.dto.CursorResponse;
 import com.cvibe.common.exception.BusinessException;
 import com.cvibe.common.exception.ErrorCode;
 import com.cvibe.notification.dto.*;
@@ -16,6 +18,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,6 +36,9 @@ public class NotificationService {
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
     private final ObjectMapper objectMapper;
+    private final UnreadCounterStore unreadCounterStore;
+    private final NotificationStreamHub streamHub;
+    private final NotificationBroadcaster broadcaster;
 
     /**
      * Get paginated notifications for a user
@@ -71,6 +77,24 @@ public class NotificationService {
                 .build();
     }
 
+    /**
+     * Get a keyset page of notifications for a user (infinite scroll; no totals)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<NotificationDto> getNotificationsAfter(UUID userId, String cursor, int size,
+                                                                 String category, Boolean unreadOnly) {
+        Cursor position = Cursor.decode(cursor, 1);
+        Slice<Notification> slice = notificationRepository.findByUserIdAfter(
+                userId,
+                category != null && !category.isEmpty() ? category : null,
+                Boolean.TRUE.equals(unreadOnly),
+                position != null ? position.instantKey(0) : Cursor.MAX_INSTANT,
+                position != null ? position.id() : Cursor.MAX_ID,
+                PageRequest.of(0, size));
+
+        return CursorResponse.of(slice, NotificationDto::fromEntity, n -> Cursor.encode(n.getId(), n.getCreatedAt()));
+    }
+
     /**
      * Get recent notifications for a user
      */
@@ -84,27 +108,11 @@ public class NotificationService {
     }
 
     /**
-     * Get unread notification count with category breakdown
+     * Get unread notification count with category breakdown.
+     * Served from the Redis counters; no transaction so a cache hit never touches the database.
      */
-    @Transactional(readOnly = true)
     public UnreadCountDto getUnreadCount(UUID userId) {
-        int total = notificationRepository.countByUserIdAndIsRead(userId, false);
-        int highPriority = notificationRepository.countByUserIdAndPriorityAndIsRead(
-                userId, NotificationPriority.HIGH, false);
-
-        // Get category breakdown
-        Map<String, Integer> byCategory = new HashMap<>();
-        List<String> categories = notificationRepository.findDistinctCategoriesByUserIdAndUnread(userId);
-        for (String category : categories) {
-            int count = notificationRepository.countByUserIdAndCategoryAndIsRead(userId, category, false);
-            byCategory.put(category, count);
-        }
-
-        return UnreadCountDto.builder()
-                .total(total)
-                .byCategory(byCategory)
-                .highPriority(highPriority)
-                .build();
+        return unreadCounterStore.get(userId);
     }
 
     /**
@@ -115,8 +123,11 @@ public class NotificationService {
         Notification notification = notificationRepository.findByIdAndUserId(notificationId, userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOTIFICATION_NOT_FOUND));
 
-        notification.setIsRead(true);
-        notification = notificationRepository.save(notification);
+        if (!Boolean.TRUE.equals(notification.getIsRead())) {
+            notification.setIsRead(true);
+            notification = notificationRepository.save(notification);
+            unreadCounterStore.adjust(userId, notification.getCategory(), notification.getPriority(), -1);
+        }
 
         log.info("Marked notification {} as read for user {}", notificationId, userId);
         return NotificationDto.fromEntity(notification);
@@ -128,6 +139,7 @@ public class NotificationService {
     @Transactional
     public int markAllAsRead(UUID userId) {
         int count = notificationRepository.markAllAsReadByUserId(userId);
+        unreadCounterStore.reset(userId);
         log.info("Marked {} notifications as read for user {}", count, userId);
         return count;
     }
@@ -141,6 +153,9 @@ public class NotificationService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOTIFICATION_NOT_FOUND));
 
         notificationRepository.delete(notification);
+        if (!Boolean.TRUE.equals(notification.getIsRead())) {
+            unreadCounterStore.adjust(userId, notification.getCategory(), notification.getPriority(), -1);
+        }
         log.info("Deleted notification {} for user {}", notificationId, userId);
     }
 
@@ -203,6 +218,65 @@ public class NotificationService {
                 "community", title, content, actionUrl, "View", dataJson);
     }
 
+    /**
+     * Send a resume parse result notification
+     */
+    @Transactional
+    public Notification sendResumeParsedNotification(UUID userId, UUID resumeId, String fileName,
+                                                      boolean success, String errorMessage) {
+        String title = success ? "Resume parsed: " + fileName : "Resume parsing failed: " + fileName;
+        String content = success
+                ? String.format("Your resume '%s' has been parsed and is ready to review.", fileName)
+                : String.format("We couldn't parse your resume '%s': %s", fileName, errorMessage);
+        Map<String, Object> data = new HashMap<>();
+        data.put("resumeId", resumeId.toString());
+        data.put("success", success);
+
+        return createNotification(userId, NotificationType.SYSTEM,
+                success ? NotificationPriority.NORMAL : NotificationPriority.HIGH,
+                "resume", title, content, "/resumes/" + resumeId, "View Resume", toJson(data));
+    }
+
+    /**
+     * Send a single summary notification when a bulk resume import has finished
+     */
+    @Transactional
+    public Notification sendResumeImportNotification(UUID userId, UUID batchId, int parsed, int failed,
+                                                      int skipped) {
+        int total = parsed + failed;
+        String title = failed == 0
+                ? String.format("Resume import finished: %d parsed", parsed)
+                : String.format("Resume import finished: %d parsed, %d failed", parsed, failed);
+        String content = skipped == 0
+                ? String.format("%d of %d imported resumes were parsed successfully.", parsed, total)
+                : String.format("%d of %d imported resumes were parsed successfully; %d files were skipped.",
+                        parsed, total, skipped);
+        Map<String, Object> data = new HashMap<>();
+        data.put("batchId", batchId.toString());
+        data.put("parsed", parsed);
+        data.put("failed", failed);
+        data.put("skipped", skipped);
+
+        return createNotification(userId, NotificationType.SYSTEM,
+                failed == 0 ? NotificationPriority.NORMAL : NotificationPriority.HIGH,
+                "resume", title, content, "/resumes/imports/" + batchId, "View Import", toJson(data));
+    }
+
+    /**
+     * Send the template to every selected user in a background job
+     */
+    @Transactional
+    public BroadcastDto broadcast(NotificationTemplate template, UserSelector selector) {
+        return broadcaster.broadcast(template, selector);
+    }
+
+    /**
+     * Progress of a broadcast job
+     */
+    public BroadcastDto getBroadcast(UUID broadcastId) {
+        return broadcaster.getBroadcast(broadcastId);
+    }
+
     /**
      * Create a notification
      */
@@ -227,6 +301,8 @@ public class NotificationService {
                 .build();
 
         notification = notificationRepository.save(notification);
+        unreadCounterStore.adjust(userId, category, notification.getPriority(), 1);
+        streamHub.publishAfterCommit(userId, NotificationDto.fromEntity(notification));
         log.info("Created {} notification {} for user {}", type, notification.getId(), userId);
 
         return notification;
@@ -0,0 +1,358 @@
+package com.cvibe.notification.service;
+
+import com.cvibe.common.util.TransactionUtils;
+import com.cvibe.notification.dto.NotificationDto;
+import com.cvibe.notification.entity.Notification;
+import com.cvibe.notification.repository.NotificationRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Pushes new notifications to connected clients over SSE.
+ *
+ * - Each node keeps a registry of its own connections per user
+ * - {@link #publishAfterCommit} sends the notification over Redis pub/sub once the
+ *   creating transaction commits; every node delivers it to its local connections
+ *   (local delivery only when Redis is disabled or the publish fails)
+ * - Every connection has a bounded buffer drained on a virtual thread, so a slow client
+ *   never blocks the publisher; on overflow the buffer is replaced by a single "resync" event
+ * - Event ids are notification ids; a reconnect with Last-Event-ID replays what was missed,
+ *   or sends "resync" when the gap is too large. Clients should dedupe by id.
+ * - A heartbeat comment keeps idle connections (and proxies) alive
+ */
+@Slf4j
+@Component
+public class NotificationStreamHub {
+
+    private static final String CHANNEL = "notification:events";
+    private static final Event HEARTBEAT = new Event(null, null, null);
+    // Tells the client its view is stale and it should refetch the notification list
+    private static final Event RESYNC = new Event(null, "resync", Map.of("action", "refetch"));
+
+    private final NotificationRepository notificationRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final boolean redisEnabled;
+    private final long timeoutMs;
+    private final int bufferSize;
+    private final int maxConnectionsPerUser;
+    private final int maxReplay;
+
+    private final Map<UUID, Set<Connection>> connections = new ConcurrentHashMap<>();
+    private final MessageListener listener = (message, pattern) -> onRemoteMessage(message.getBody());
+    private ExecutorService senders;
+
+    public NotificationStreamHub(
+            NotificationRepository notificationRepository,
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper,
+            @Value("${notification.stream.redis-enabled:true}") boolean redisEnabled,
+            @Value("${notification.stream.timeout-ms:1800000}") long timeoutMs,
+            @Value("${notification.stream.buffer-size:64}") int bufferSize,
+            @Value("${notification.stream.max-connections-per-user:5}") int maxConnectionsPerUser,
+            @Value("${notification.stream.max-replay:50}") int maxReplay) {
+        this.notificationRepository = notificationRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.redisEnabled = redisEnabled;
+        this.timeoutMs = timeoutMs;
+        this.bufferSize = bufferSize;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.maxReplay = maxReplay;
+    }
+
+    @PostConstruct
+    void start() {
+        senders = Executors.newVirtualThreadPerTaskExecutor();
+        if (redisEnabled) {
+            listenerContainer.addMessageListener(listener, new ChannelTopic(CHANNEL));
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (redisEnabled) {
+            listenerContainer.removeMessageListener(listener);
+        }
+        connections.values().forEach(set -> set.forEach(Connection::close));
+        senders.shutdownNow();
+    }
+
+    /**
+     * Open a stream for the user, replaying notifications after lastEventId if given
+     */
+    public SseEmitter subscribe(UUID userId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Connection connection = new Connection(userId, emitter);
+        emitter.onCompletion(() -> unregister(connection));
+        emitter.onTimeout(() -> unregister(connection));
+        emitter.onError(e -> unregister(connection));
+
+        // Register before the replay query so nothing published in between is lost;
+        // live events are held until the replay is queued in front of them
+        Set<Connection> userConnections = connections.compute(userId, (id, set) -> {
+            Set<Connection> result = set != null ? set : new CopyOnWriteArraySet<>();
+            result.add(connection);
+            return result;
+        });
+        if (userConnections.size() > maxConnectionsPerUser) {
+            userConnections.stream()
+                    .filter(c -> c != connection)
+                    .findFirst()
+                    .ifPresent(Connection::close);
+        }
+
+        List<Event> replay;
+        try {
+            replay = replay(userId, lastEventId);
+        } catch (RuntimeException e) {
+            log.warn("Notification replay failed for user {}: {}", userId, e.getMessage());
+            replay = List.of(RESYNC);
+        }
+        connection.resume(replay);
+        log.debug("Notification stream opened for user {} ({} replayed)", userId, replay.size());
+        return emitter;
+    }
+
+    /**
+     * Deliver the notification to the user's streams on every node once the current transaction commits
+     */
+    public void publishAfterCommit(UUID userId, NotificationDto notification) {
+        Runnable publish = () -> publish(new StreamMessage(userId, notification));
+        TransactionUtils.afterCommit(publish);
+    }
+
+    /**
+     * Number of open streams on this node
+     */
+    public int getConnectionCount() {
+        return connections.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @Scheduled(fixedRateString = "${notification.stream.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        connections.values().forEach(set -> set.forEach(Connection::offerHeartbeat));
+    }
+
+    // ==================== Delivery ====================
+
+    private void publish(StreamMessage message) {
+        if (redisEnabled) {
+            try {
+                redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(message));
+                return;
+            } catch (Exception e) {
+                log.warn("Notification publish over Redis failed, delivering locally: {}", e.getMessage());
+            }
+        }
+        deliverLocal(message);
+    }
+
+    private void onRemoteMessage(byte[] body) {
+        try {
+            deliverLocal(objectMapper.readValue(new String(body, StandardCharsets.UTF_8), StreamMessage.class));
+        } catch (IOException e) {
+            log.warn("Ignoring malformed notification stream message: {}", e.getMessage());
+        }
+    }
+
+    private void deliverLocal(StreamMessage message) {
+        Set<Connection> userConnections = connections.get(message.userId());
+        if (userConnections == null) {
+            return;
+        }
+        Event event = toEvent(message.notification());
+        userConnections.forEach(c -> c.offer(event));
+    }
+
+    private List<Event> replay(UUID userId, String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return List.of();
+        }
+        Optional<Notification> last;
+        try {
+            last = notificationRepository.findByIdAndUserId(UUID.fromString(lastEventId.trim()), userId);
+        } catch (IllegalArgumentException e) {
+            last = Optional.empty();
+        }
+        if (last.isEmpty() || last.get().getCreatedAt() == null) {
+            return List.of(RESYNC);
+        }
+
+        List<Notification> missed = notificationRepository.findCreatedAfter(
+                userId, last.get().getCreatedAt(), last.get().getId(), PageRequest.of(0, maxReplay + 1));
+        if (missed.size() > maxReplay) {
+            return List.of(RESYNC);
+        }
+        return missed.stream()
+                .map(n -> toEvent(NotificationDto.fromEntity(n)))
+                .toList();
+    }
+
+    private void unregister(Connection connection) {
+        connection.closed();
+        connections.computeIfPresent(connection.userId, (id, set) -> {
+            set.remove(connection);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private static Event toEvent(NotificationDto notification) {
+        return new Event(notification.getId(), "notification", notification);
+    }
+
+    /**
+     * Message exchanged between nodes over Redis pub/sub
+     */
+    record StreamMessage(UUID userId, NotificationDto notification) {
+    }
+
+    private record Event(String id, String name, Object data) {
+    }
+
+    /**
+     * One SSE connection with its bounded send buffer
+     */
+    private final class Connection {
+
+        private final UUID userId;
+        private final SseEmitter emitter;
+        private final Deque<Event> buffer = new ArrayDeque<>();
+        private boolean paused = true;
+        private boolean draining;
+        private boolean closed;
+
+        Connection(UUID userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        void offer(Event event) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (buffer.size() >= bufferSize) {
+                    // Client is too slow: drop everything and let it refetch
+                    buffer.clear();
+                    buffer.add(RESYNC);
+                } else {
+                    buffer.add(event);
+                }
+            }
+            scheduleDrain();
+        }
+
+        void offerHeartbeat() {
+            synchronized (this) {
+                if (closed || !buffer.isEmpty()) {
+                    return;
+                }
+                buffer.add(HEARTBEAT);
+            }
+            scheduleDrain();
+        }
+
+        /**
+         * Queue the replay ahead of any live events received meanwhile and start sending
+         */
+        void resume(List<Event> replay) {
+            synchronized (this) {
+                for (int i = replay.size() - 1; i >= 0; i--) {
+                    Event event = replay.get(i);
+                    if (event.id() == null || buffer.stream().noneMatch(e -> event.id().equals(e.id()))) {
+                        buffer.addFirst(event);
+                    }
+                }
+                if (buffer.size() > bufferSize) {
+                    buffer.clear();
+                    buffer.add(RESYNC);
+                }
+                paused = false;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            synchronized (this) {
+                if (paused || draining || closed || buffer.isEmpty()) {
+                    return;
+                }
+                draining = true;
+            }
+            senders.execute(this::drain);
+        }
+
+        private void drain() {
+            while (true) {
+                Event event;
+                synchronized (this) {
+                    event = closed ? null : buffer.poll();
+                    if (event == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                try {
+                    emitter.send(toSse(event));
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("Notification stream for user {} closed: {}", userId, e.getMessage());
+                    unregister(this);
+                    close();
+                    return;
+                }
+            }
+        }
+
+        private SseEmitter.SseEventBuilder toSse(Event event) {
+            if (event == HEARTBEAT) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            SseEmitter.SseEventBuilder sse = SseEmitter.event().name(event.name()).data(event.data(), MediaType.APPLICATION_JSON);
+            return event.id() != null ? sse.id(event.id()) : sse;
+        }
+
+        void close() {
+            closed();
+            try {
+                emitter.complete();
+            } catch (RuntimeException ignored) {
+                // Already completed
+            }
+        }
+
+        synchronized void closed() {
+            closed = true;
+            buffer.clear();
+        }
+    }
+}
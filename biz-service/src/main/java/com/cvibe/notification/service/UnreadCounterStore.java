@@ -0,0 +1,282 @@
+package com.cvibe.notification.service;
+
+import com.cvibe.common.util.TransactionUtils;
+import com.cvibe.notification.dto.UnreadCountDto;
+import com.cvibe.notification.entity.NotificationPriority;
+import com.cvibe.notification.repository.NotificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Unread notification counters kept in one Redis hash per user.
+ *
+ * Hash fields: "total", "high" and "c:{category}". A hash is loaded from Postgres with a
+ * single GROUP BY on the first read and then maintained with atomic HINCRBY deltas applied
+ * after commit, so the polling endpoint is served from Redis only.
+ * Drift (crashes between commit and delta, races with a load) is repaired by periodic
+ * reconciliation of recently read users. When Redis is disabled or unavailable,
+ * counts come straight from the aggregate query.
+ */
+@Slf4j
+@Component
+public class UnreadCounterStore {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+    private static final String TOTAL = "total";
+    private static final String HIGH = "high";
+    private static final String CATEGORY_PREFIX = "c:";
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    // Deltas only apply to an already loaded hash, so a partial hash is never created
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+            "for i = 1, #ARGV, 2 do redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "return 1", Long.class);
+
+    // ARGV[1] = ttl seconds, then field/value pairs
+    private static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) " +
+            "for i = 2, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1", Long.class);
+
+    private final NotificationRepository notificationRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final boolean redisEnabled;
+    private final long ttlSeconds;
+    private final int maxTrackedUsers;
+
+    // Users whose counters were read since the last reconciliation
+    private final Set<UUID> activeUsers = ConcurrentHashMap.newKeySet();
+
+    public UnreadCounterStore(
+            NotificationRepository notificationRepository,
+            StringRedisTemplate redisTemplate,
+            @Value("${notification.unread-counter.redis-enabled:true}") boolean redisEnabled,
+            @Value("${notification.unread-counter.ttl-seconds:86400}") long ttlSeconds,
+            @Value("${notification.unread-counter.max-tracked-users:50000}") int maxTrackedUsers) {
+        this.notificationRepository = notificationRepository;
+        this.redisTemplate = redisTemplate;
+        this.redisEnabled = redisEnabled;
+        this.ttlSeconds = ttlSeconds;
+        this.maxTrackedUsers = maxTrackedUsers;
+    }
+
+    /**
+     * Current unread counts, from Redis when loaded, otherwise from one aggregate query
+     */
+    public UnreadCountDto get(UUID userId) {
+        if (!redisEnabled) {
+            return count(List.of(userId)).getOrDefault(userId, empty());
+        }
+        if (activeUsers.size() < maxTrackedUsers) {
+            activeUsers.add(userId);
+        }
+
+        try {
+            Map<Object, Object> hash = redisTemplate.opsForHash().entries(key(userId));
+            if (!hash.isEmpty()) {
+                return fromHash(hash);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Unread counter read failed for user {}, using database: {}", userId, e.getMessage());
+            return count(List.of(userId)).getOrDefault(userId, empty());
+        }
+
+        UnreadCountDto counts = count(List.of(userId)).getOrDefault(userId, empty());
+        replace(userId, counts);
+        return counts;
+    }
+
+    /**
+     * Adjust the counters by delta once the current transaction commits
+     */
+    public void adjust(UUID userId, String category, NotificationPriority priority, int delta) {
+        if (!redisEnabled || delta == 0) {
+            return;
+        }
+        Object[] args = deltaArgs(category, priority, delta).toArray();
+        TransactionUtils.afterCommit(() -> {
+            try {
+                redisTemplate.execute(INCREMENT_SCRIPT, List.of(key(userId)), args);
+            } catch (RuntimeException e) {
+                // Reconciliation or the key TTL repairs the counter
+                log.warn("Unread counter update failed for user {}: {}", userId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Apply the same delta to many users in one pipelined round trip once the current transaction commits
+     */
+    public void adjustAll(Collection<UUID> userIds, String category, NotificationPriority priority, int delta) {
+        if (!redisEnabled || delta == 0 || userIds.isEmpty()) {
+            return;
+        }
+        byte[] script = INCREMENT_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        List<byte[]> args = deltaArgs(category, priority, delta).stream()
+                .map(arg -> arg.getBytes(StandardCharsets.UTF_8))
+                .toList();
+        List<UUID> users = List.copyOf(userIds);
+        TransactionUtils.afterCommit(() -> {
+            try {
+                redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    for (UUID userId : users) {
+                        byte[][] keysAndArgs = new byte[args.size() + 1][];
+                        keysAndArgs[0] = key(userId).getBytes(StandardCharsets.UTF_8);
+                        for (int i = 0; i < args.size(); i++) {
+                            keysAndArgs[i + 1] = args.get(i);
+                        }
+                        connection.scriptingCommands().eval(script, ReturnType.INTEGER, 1, keysAndArgs);
+                    }
+                    return null;
+                });
+            } catch (RuntimeException e) {
+                log.warn("Unread counter update failed for {} users: {}", users.size(), e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Set all counters of the user to zero once the current transaction commits
+     */
+    public void reset(UUID userId) {
+        if (!redisEnabled) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> replace(userId, empty()));
+    }
+
+    /**
+     * Recompute the counters of recently read users from the table
+     */
+    @Scheduled(fixedDelayString = "${notification.unread-counter.reconcile-interval-ms:300000}",
+            initialDelayString = "${notification.unread-counter.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        if (!redisEnabled || activeUsers.isEmpty()) {
+            return;
+        }
+
+        List<UUID> batch = new ArrayList<>(RECONCILE_BATCH_SIZE);
+        int reconciled = 0;
+        Iterator<UUID> it = activeUsers.iterator();
+        while (it.hasNext()) {
+            batch.add(it.next());
+            it.remove();
+            if (batch.size() == RECONCILE_BATCH_SIZE || !it.hasNext()) {
+                try {
+                    Map<UUID, UnreadCountDto> counts = count(batch);
+                    for (UUID userId : batch) {
+                        replace(userId, counts.getOrDefault(userId, empty()));
+                    }
+                    reconciled += batch.size();
+                } catch (RuntimeException e) {
+                    log.warn("Unread counter reconciliation failed: {}", e.getMessage());
+                    return;
+                }
+                batch.clear();
+            }
+        }
+        log.debug("Reconciled unread counters for {} users", reconciled);
+    }
+
+    // ==================== Helpers ====================
+
+    private Map<UUID, UnreadCountDto> count(Collection<UUID> userIds) {
+        Map<UUID, UnreadCountDto> counts = new HashMap<>();
+        for (Object[] row : notificationRepository.countUnreadGrouped(userIds)) {
+            UUID userId = (UUID) row[0];
+            String category = (String) row[1];
+            NotificationPriority priority = (NotificationPriority) row[2];
+            int count = ((Number) row[3]).intValue();
+
+            UnreadCountDto dto = counts.computeIfAbsent(userId, id -> empty());
+            dto.setTotal(dto.getTotal() + count);
+            if (priority == NotificationPriority.HIGH) {
+                dto.setHighPriority(dto.getHighPriority() + count);
+            }
+            if (category != null) {
+                dto.getByCategory().merge(category, count, Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    private static List<String> deltaArgs(String category, NotificationPriority priority, int delta) {
+        List<String> args = new ArrayList<>(6);
+        args.add(TOTAL);
+        args.add(Integer.toString(delta));
+        if (priority == NotificationPriority.HIGH) {
+            args.add(HIGH);
+            args.add(Integer.toString(delta));
+        }
+        if (category != null) {
+            args.add(CATEGORY_PREFIX + category);
+            args.add(Integer.toString(delta));
+        }
+        return args;
+    }
+
+    private void replace(UUID userId, UnreadCountDto counts) {
+        List<String> args = new ArrayList<>();
+        args.add(Long.toString(ttlSeconds));
+        args.add(TOTAL);
+        args.add(Integer.toString(counts.getTotal()));
+        args.add(HIGH);
+        args.add(Integer.toString(counts.getHighPriority()));
+        counts.getByCategory().forEach((category, count) -> {
+            args.add(CATEGORY_PREFIX + category);
+            args.add(Integer.toString(count));
+        });
+        try {
+            redisTemplate.execute(REPLACE_SCRIPT, List.of(key(userId)), args.toArray());
+        } catch (RuntimeException e) {
+            log.warn("Unread counter write failed for user {}: {}", userId, e.getMessage());
+        }
+    }
+
+    private static UnreadCountDto fromHash(Map<Object, Object> hash) {
+        UnreadCountDto dto = empty();
+        hash.forEach((field, value) -> {
+            String name = field.toString();
+            // Concurrent deltas can briefly undershoot; never show negative badges
+            int count = Math.max(0, Integer.parseInt(value.toString()));
+            if (TOTAL.equals(name)) {
+                dto.setTotal(count);
+            } else if (HIGH.equals(name)) {
+                dto.setHighPriority(count);
+            } else if (name.startsWith(CATEGORY_PREFIX) && count > 0) {
+                dto.getByCategory().put(name.substring(CATEGORY_PREFIX.length()), count);
+            }
+        });
+        return dto;
+    }
+
+    private static UnreadCountDto empty() {
+        return UnreadCountDto.builder()
+                .byCategory(new HashMap<>())
+                .build();
+    }
+
+    private static String key(UUID userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,30 @@
+package com.cvibe.notification.service;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Recipients of a broadcast, expressed as user references (no User entities are loaded)
+ */
+public sealed interface UserSelector {
+
+    /**
+     * Every enabled user
+     */
+    record AllActiveUsers() implements UserSelector {
+    }
+
+    /**
+     * An explicit set of users; unknown or disabled ids are skipped
+     */
+    record Users(List<UUID> userIds) implements UserSelector {
+    }
+
+    static UserSelector allActiveUsers() {
+        return new AllActiveUsers();
+    }
+
+    static UserSelector users(List<UUID> userIds) {
+        return new Users(List.copyOf(userIds));
+    }
+}
@@ -22,6 +22,7 @@ public class ProfileDto {
     private String headline;
     private String summary;
     private String location;
+    private Integer expectedSalary;
     private List<ExperienceDto> experiences;
     private List<EducationDto> educations;
     private List<SkillDto> skills;
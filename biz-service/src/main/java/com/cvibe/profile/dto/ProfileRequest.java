@@ -1,5 +1,6 @@
 package com.cvibe.profile.dto;
 
+import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -22,4 +23,7 @@ public class ProfileRequest {
 
     @Size(max = 100, message = "Location must be at most 100 characters")
     private String location;
+
+    @PositiveOrZero(message = "Expected salary must not be negative")
+    private Integer expectedSalary;
 }
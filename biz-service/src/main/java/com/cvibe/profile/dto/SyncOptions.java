@@ -0,0 +1,20 @@
+package com.cvibe.profile.dto;
+
+import lombok.*;
+
+/**
+ * Which resume sections to import into the profile
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncOptions {
+    private boolean syncBasicInfo = true;
+    private boolean syncExperiences = true;
+    private boolean syncEducations = true;
+    private boolean syncSkills = true;
+    private boolean syncProjects = true;
+    private boolean syncLanguages = true;
+    private boolean syncCertifications = true;
+}
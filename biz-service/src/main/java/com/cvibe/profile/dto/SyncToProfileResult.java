@@ -0,0 +1,19 @@
+package com.cvibe.profile.dto;
+
+import lombok.*;
+
+/**
+ * Outcome of importing resume sections into the profile
+ */
+@Data
+public class SyncToProfileResult {
+    private boolean success;
+    private String errorMessage;
+    private boolean basicInfoSynced;
+    private int experiencesSynced;
+    private int educationsSynced;
+    private int skillsSynced;
+    private int projectsSynced;
+    private int languagesSynced;
+    private int certificationsSynced;
+}
@@ -42,6 +42,12 @@ public class UserProfile {
     @Column(length = 100)
     private String location;
 
+    /**
+     * Expected salary, in the unit of the job salary ranges; used for match scoring
+     */
+    @Column(name = "expected_salary")
+    private Integer expectedSalary;
+
     @OneToMany(mappedBy = "profile", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @OrderBy("startDate DESC")
     @Builder.Default
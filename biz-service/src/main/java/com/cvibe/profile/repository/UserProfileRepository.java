@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -37,4 +38,42 @@ public interface UserProfileRepository extends JpaRepository<UserProfile, UUID>
      */
     @Query("SELECT p FROM UserProfile p LEFT JOIN FETCH p.skills WHERE p.user.id = :userId")
     Optional<UserProfile> findByUserIdWithSkills(@Param("userId") UUID userId);
+
+    /**
+     * All child sections of a profile in one round trip, as rows of a common shape:
+     * kind, id, text1..text7, date1, date2, isCurrent.
+     * Kinds: X experience, E education, S skill, P project, L language, C certification.
+     * Within a kind rows are ordered like the per-section repository queries (date DESC, then name).
+     */
+    @Query(value = """
+            SELECT 'X' AS kind, id, company AS t1, title AS t2, location AS t3, employment_type AS t4,
+                   description AS t5, achievements AS t6, technologies AS t7,
+                   start_date AS d1, end_date AS d2, is_current AS cur
+              FROM profile_experiences WHERE profile_id = :profileId
+            UNION ALL
+            SELECT 'E', id, school, degree, field_of_study, location, gpa, description, activities,
+                   start_date, end_date, is_current
+              FROM profile_educations WHERE profile_id = :profileId
+            UNION ALL
+            SELECT 'S', id, name, level, CAST(NULL AS VARCHAR), CAST(NULL AS VARCHAR),
+                   CAST(NULL AS VARCHAR), CAST(NULL AS VARCHAR), CAST(NULL AS VARCHAR),
+                   CAST(NULL AS DATE), CAST(NULL AS DATE), CAST(NULL AS BOOLEAN)
+              FROM profile_skills WHERE profile_id = :profileId
+            UNION ALL
+            SELECT 'P', id, name, description, url, repo_url, technologies, highlights,
+                   CAST(NULL AS VARCHAR), start_date, end_date, is_current
+              FROM profile_projects WHERE profile_id = :profileId
+            UNION ALL
+            SELECT 'L', id, language, proficiency, CAST(NULL AS VARCHAR), CAST(NULL AS VARCHAR),
+                   CAST(NULL AS VARCHAR), CAST(NULL AS VARCHAR), CAST(NULL AS VARCHAR),
+                   CAST(NULL AS DATE), CAST(NULL AS DATE), CAST(NULL AS BOOLEAN)
+              FROM profile_languages WHERE profile_id = :profileId
+            UNION ALL
+            SELECT 'C', id, name, issuing_organization, credential_id, credential_url,
+                   CAST(NULL AS VARCHAR), CAST(NULL AS VARCHAR), CAST(NULL AS VARCHAR),
+                   issue_date, expiration_date, CAST(NULL AS BOOLEAN)
+              FROM profile_certifications WHERE profile_id = :profileId
+            ORDER BY kind, d1 DESC, t1
+            """, nativeQuery = true)
+    List<Object[]> findSectionRows(@Param("profileId") UUID profileId);
 }
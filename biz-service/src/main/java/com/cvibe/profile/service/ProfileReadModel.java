@@ -0,0 +1,301 @@
+package com.cvibe.profile.service;
+
+import com.cvibe.common.util.CrossNodeInvalidation;
+import com.cvibe.common.util.LruMaps;
+import com.cvibe.profile.dto.CertificationDto;
+import com.cvibe.profile.dto.EducationDto;
+import com.cvibe.profile.dto.ExperienceDto;
+import com.cvibe.profile.dto.LanguageDto;
+import com.cvibe.profile.dto.ProfileDto;
+import com.cvibe.profile.dto.ProjectDto;
+import com.cvibe.profile.dto.SkillDto;
+import com.cvibe.profile.entity.UserProfile;
+import com.cvibe.profile.repository.UserProfileRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read path for the assembled {@link ProfileDto}.
+ *
+ * - The profile row and all six child sections are loaded in two queries
+ *   (see {@link UserProfileRepository#findSectionRows}) and mapped straight to DTOs
+ * - JSON-array columns are parsed through a bounded cache keyed by the raw JSON
+ * - Assembled profiles are cached per user; every profile mutation must call
+ *   {@link #invalidate(UUID)}, which other nodes apply too (see {@link CrossNodeInvalidation})
+ *
+ * Cached DTOs are shared between callers and must be treated as read-only.
+ */
+@Slf4j
+@Component
+public class ProfileReadModel {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {};
+    private static final int MAX_CACHED_JSON_ARRAYS = 10_000;
+    private static final String CHANNEL = "profile:read-cache";
+
+    private final UserProfileRepository profileRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readTransaction;
+    private final boolean cacheEnabled;
+    private final long ttlNanos;
+
+    private final Map<UUID, CachedProfile> profiles;
+    private final Map<String, List<String>> jsonArrays;
+    private final CrossNodeInvalidation<UUID> invalidation;
+
+    public ProfileReadModel(
+            UserProfileRepository profileRepository,
+            ObjectMapper objectMapper,
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            PlatformTransactionManager transactionManager,
+            @Value("${profile.read-cache.enabled:true}") boolean cacheEnabled,
+            @Value("${profile.read-cache.redis-enabled:true}") boolean redisEnabled,
+            @Value("${profile.read-cache.max-size:5000}") int maxSize,
+            @Value("${profile.read-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.profileRepository = profileRepository;
+        this.objectMapper = objectMapper;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.cacheEnabled = cacheEnabled;
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.profiles = LruMaps.create(maxSize);
+        this.jsonArrays = LruMaps.create(MAX_CACHED_JSON_ARRAYS);
+        this.invalidation = new CrossNodeInvalidation<>(CHANNEL, UUID.class, this::evict,
+                objectMapper, redisTemplate, listenerContainer, cacheEnabled && redisEnabled);
+    }
+
+    /**
+     * Assembled profile for the user, or empty if the user has no profile yet
+     */
+    public Optional<ProfileDto> find(UUID userId) {
+        long now = System.nanoTime();
+        if (cacheEnabled) {
+            synchronized (profiles) {
+                CachedProfile cached = profiles.get(userId);
+                if (cached != null && now - cached.loadedAt < ttlNanos) {
+                    return Optional.of(cached.profile);
+                }
+            }
+        }
+
+        if (!cacheEnabled) {
+            return Optional.ofNullable(load(userId));
+        }
+
+        return Optional.ofNullable(invalidation.load(userId, () -> load(userId), profile -> {
+            if (profile != null) {
+                synchronized (profiles) {
+                    profiles.put(userId, new CachedProfile(profile, now));
+                }
+            }
+        }));
+    }
+
+    private ProfileDto load(UUID userId) {
+        return readTransaction.execute(status ->
+                profileRepository.findByUserId(userId).map(this::assemble).orElse(null));
+    }
+
+    /**
+     * Build the DTO for an already loaded profile (one query for all sections)
+     */
+    public ProfileDto assemble(UserProfile profile) {
+        List<ExperienceDto> experiences = new ArrayList<>();
+        List<EducationDto> educations = new ArrayList<>();
+        List<SkillDto> skills = new ArrayList<>();
+        List<ProjectDto> projects = new ArrayList<>();
+        List<LanguageDto> languages = new ArrayList<>();
+        List<CertificationDto> certifications = new ArrayList<>();
+
+        for (Object[] row : profileRepository.findSectionRows(profile.getId())) {
+            String kind = (String) row[0];
+            switch (kind) {
+                case "X" -> experiences.add(toExperienceDto(row));
+                case "E" -> educations.add(toEducationDto(row));
+                case "S" -> skills.add(toSkillDto(row));
+                case "P" -> projects.add(toProjectDto(row));
+                case "L" -> languages.add(toLanguageDto(row));
+                case "C" -> certifications.add(toCertificationDto(row));
+                default -> log.warn("Unknown profile section kind: {}", kind);
+            }
+        }
+
+        return ProfileDto.builder()
+                .id(profile.getId().toString())
+                .userId(profile.getUser().getId().toString())
+                .headline(profile.getHeadline())
+                .summary(profile.getSummary())
+                .location(profile.getLocation())
+                .expectedSalary(profile.getExpectedSalary())
+                .experiences(experiences)
+                .educations(educations)
+                .skills(skills)
+                .projects(projects)
+                .languages(languages)
+                .certifications(certifications)
+                .createdAt(profile.getCreatedAt() != null ? profile.getCreatedAt().toString() : null)
+                .updatedAt(profile.getUpdatedAt() != null ? profile.getUpdatedAt().toString() : null)
+                .build();
+    }
+
+    /**
+     * Drop the cached profile once the current transaction commits (immediately if there is none)
+     * and tell the other nodes to drop theirs
+     */
+    public void invalidate(UUID userId) {
+        if (!cacheEnabled) {
+            return;
+        }
+        invalidation.invalidateAfterCommit(userId);
+    }
+
+    private void evict(UUID userId) {
+        synchronized (profiles) {
+            profiles.remove(userId);
+        }
+    }
+
+    /**
+     * Parse a JSON string array column; results are immutable and shared between callers
+     */
+    public List<String> parseJsonArray(String json) {
+        if (json == null || json.isBlank()) {
+            return Collections.emptyList();
+        }
+        synchronized (jsonArrays) {
+            List<String> cached = jsonArrays.get(json);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        try {
+            List<String> values = objectMapper.readValue(json, STRING_LIST);
+            List<String> parsed = values != null
+                    ? Collections.unmodifiableList(new ArrayList<>(values))
+                    : Collections.emptyList();
+            synchronized (jsonArrays) {
+                jsonArrays.put(json, parsed);
+            }
+            return parsed;
+        } catch (JsonProcessingException e) {
+            log.error("Failed to parse JSON array", e);
+            return Collections.emptyList();
+        }
+    }
+
+    // ==================== Row Mapping ====================
+
+    private ExperienceDto toExperienceDto(Object[] row) {
+        return ExperienceDto.builder()
+                .id(row[1].toString())
+                .company((String) row[2])
+                .title((String) row[3])
+                .location((String) row[4])
+                .employmentType((String) row[5])
+                .description((String) row[6])
+                .achievements(parseJsonArray((String) row[7]))
+                .technologies(parseJsonArray((String) row[8]))
+                .startDate(formatDate(row[9]))
+                .endDate(formatDate(row[10]))
+                .isCurrent((Boolean) row[11])
+                .build();
+    }
+
+    private EducationDto toEducationDto(Object[] row) {
+        return EducationDto.builder()
+                .id(row[1].toString())
+                .school((String) row[2])
+                .degree((String) row[3])
+                .fieldOfStudy((String) row[4])
+                .location((String) row[5])
+                .gpa((String) row[6])
+                .description((String) row[7])
+                .activities(parseJsonArray((String) row[8]))
+                .startDate(formatDate(row[9]))
+                .endDate(formatDate(row[10]))
+                .isCurrent((Boolean) row[11])
+                .build();
+    }
+
+    private SkillDto toSkillDto(Object[] row) {
+        return SkillDto.builder()
+                .id(row[1].toString())
+                .name((String) row[2])
+                .level((String) row[3])
+                .build();
+    }
+
+    private ProjectDto toProjectDto(Object[] row) {
+        return ProjectDto.builder()
+                .id(row[1].toString())
+                .name((String) row[2])
+                .description((String) row[3])
+                .url((String) row[4])
+                .repoUrl((String) row[5])
+                .technologies(parseJsonArray((String) row[6]))
+                .highlights(parseJsonArray((String) row[7]))
+                .startDate(formatDate(row[9]))
+                .endDate(formatDate(row[10]))
+                .isCurrent((Boolean) row[11])
+                .build();
+    }
+
+    private LanguageDto toLanguageDto(Object[] row) {
+        return LanguageDto.builder()
+                .id(toUuid(row[1]))
+                .language((String) row[2])
+                .proficiency((String) row[3])
+                .build();
+    }
+
+    private CertificationDto toCertificationDto(Object[] row) {
+        return CertificationDto.builder()
+                .id(toUuid(row[1]))
+                .name((String) row[2])
+                .issuer((String) row[3])
+                .credentialId((String) row[4])
+                .credentialUrl((String) row[5])
+                .issueDate(toLocalDate(row[9]))
+                .expirationDate(toLocalDate(row[10]))
+                .build();
+    }
+
+    private static UUID toUuid(Object value) {
+        return value instanceof UUID uuid ? uuid : UUID.fromString(value.toString());
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        if (value == null) {
+            return null;
+        }
+        return value instanceof Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+
+    private static String formatDate(Object value) {
+        LocalDate date = toLocalDate(value);
+        return date != null ? date.format(DATE_FORMATTER) : null;
+    }
+
+    private record CachedProfile(ProfileDto profile, long loadedAt) {
+    }
+}
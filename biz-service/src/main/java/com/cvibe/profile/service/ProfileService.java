@@ -12,6 +12,8 @@ import com.cvibe.profile.dto.ProfileDto;
 import com.cvibe.profile.dto.ProfileRequest;
 import com.cvibe.profile.dto.ProjectDto;
 import com.cvibe.profile.dto.SkillDto;
+import com.cvibe.profile.dto.SyncOptions;
+import com.cvibe.profile.dto.SyncToProfileResult;
 import com.cvibe.profile.entity.EmploymentType;
 import com.cvibe.profile.entity.ProfileCertification;
 import com.cvibe.profile.entity.ProfileEducation;
@@ -27,8 +29,8 @@ import com.cvibe.profile.repository.ProfileLanguageRepository;
 import com.cvibe.profile.repository.ProfileProjectRepository;
 import com.cvibe.profile.repository.ProfileSkillRepository;
 import com.cvibe.profile.repository.UserProfileRepository;
+import com.cvibe.resume.dto.ParsedContent;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -37,14 +39,19 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Service for managing user profiles.
+ * Reads of the full profile go through {@link ProfileReadModel}; every mutation invalidates its cache.
  */
 @Service
 @Slf4j
@@ -60,18 +67,16 @@ public class ProfileService {
     private final ProfileCertificationRepository certificationRepository;
     private final UserRepository userRepository;
     private final ObjectMapper objectMapper;
+    private final ProfileReadModel readModel;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
 
     /**
      * Get or create a profile for the user.
      */
-    @Transactional
     public ProfileDto getOrCreateProfile(UUID userId) {
-        UserProfile profile = profileRepository.findByUserId(userId)
-                .orElseGet(() -> createEmptyProfile(userId));
-        
-        return toProfileDto(profile);
+        return readModel.find(userId)
+                .orElseGet(() -> readModel.assemble(createEmptyProfile(userId)));
     }
 
     /**
@@ -79,6 +84,7 @@ public class ProfileService {
      */
     @Transactional
     public ProfileDto updateProfile(UUID userId, ProfileRequest request) {
+        readModel.invalidate(userId);
         UserProfile profile = getOrCreateProfileEntity(userId);
         
         if (request.getHeadline() != null) {
@@ -90,9 +96,12 @@ public class ProfileService {
         if (request.getLocation() != null) {
             profile.setLocation(request.getLocation());
         }
+        if (request.getExpectedSalary() != null) {
+            profile.setExpectedSalary(request.getExpectedSalary());
+        }
         
         profile = profileRepository.save(profile);
-        return toProfileDto(profile);
+        return readModel.assemble(profile);
     }
 
     /**
@@ -113,6 +122,7 @@ public class ProfileService {
      */
     @Transactional
     public ExperienceDto addExperience(UUID userId, ExperienceDto dto) {
+        readModel.invalidate(userId);
         UserProfile profile = getOrCreateProfileEntity(userId);
         
         ProfileExperience experience = ProfileExperience.builder()
@@ -139,6 +149,7 @@ public class ProfileService {
      */
     @Transactional
     public ExperienceDto updateExperience(UUID userId, UUID experienceId, ExperienceDto dto) {
+        readModel.invalidate(userId);
         UserProfile profile = profileRepository.findByUserIdWithExperiences(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.PROFILE_NOT_FOUND));
         
@@ -167,6 +178,7 @@ public class ProfileService {
      */
     @Transactional
     public void deleteExperience(UUID userId, UUID experienceId) {
+        readModel.invalidate(userId);
         UserProfile profile = profileRepository.findByUserIdWithExperiences(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.PROFILE_NOT_FOUND));
         
@@ -197,6 +209,7 @@ public class ProfileService {
      */
     @Transactional
     public SkillDto addSkill(UUID userId, SkillDto dto) {
+        readModel.invalidate(userId);
         UserProfile profile = getOrCreateProfileEntity(userId);
         
         // Check for duplicate skill
@@ -220,6 +233,7 @@ public class ProfileService {
      */
     @Transactional
     public void deleteSkill(UUID userId, UUID skillId) {
+        readModel.invalidate(userId);
         UserProfile profile = profileRepository.findByUserIdWithSkills(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.PROFILE_NOT_FOUND));
         
@@ -251,6 +265,7 @@ public class ProfileService {
      */
     @Transactional
     public EducationDto addEducation(UUID userId, EducationDto dto) {
+        readModel.invalidate(userId);
         UserProfile profile = getOrCreateProfileEntity(userId);
         
         ProfileEducation education = ProfileEducation.builder()
@@ -276,6 +291,7 @@ public class ProfileService {
      */
     @Transactional
     public EducationDto updateEducation(UUID userId, UUID educationId, EducationDto dto) {
+        readModel.invalidate(userId);
         UserProfile profile = getOrCreateProfileEntity(userId);
         
         ProfileEducation education = educationRepository.findById(educationId)
@@ -306,6 +322,7 @@ public class ProfileService {
      */
     @Transactional
     public void deleteEducation(UUID userId, UUID educationId) {
+        readModel.invalidate(userId);
         UserProfile profile = getOrCreateProfileEntity(userId);
         
         ProfileEducation education = educationRepository.findById(educationId)
@@ -338,6 +355,7 @@ public class ProfileService {
      */
     @Transactional
     public ProjectDto addProject(UUID userId, ProjectDto dto) {
+        readModel.invalidate(userId);
         UserProfile profile = getOrCreateProfileEntity(userId);
         
         ProfileProject project = ProfileProject.builder()
@@ -362,6 +380,7 @@ public class ProfileService {
      */
     @Transactional
     public ProjectDto updateProject(UUID userId, UUID projectId, ProjectDto dto) {
+        readModel.invalidate(userId);
         UserProfile profile = getOrCreateProfileEntity(userId);
         
         ProfileProject project = projectRepository.findById(projectId)
@@ -391,6 +410,7 @@ public class ProfileService {
      */
     @Transactional
     public void deleteProject(UUID userId, UUID projectId) {
+        readModel.invalidate(userId);
         UserProfile profile = getOrCreateProfileEntity(userId);
         
         ProfileProject project = projectRepository.findById(projectId)
@@ -422,42 +442,6 @@ public class ProfileService {
         return profileRepository.save(profile);
     }
 
-    private ProfileDto toProfileDto(UserProfile profile) {
-        // Fetch related entities via repositories since they're not mapped in UserProfile
-        List<ProfileEducation> educations = educationRepository.findByProfileOrderByStartDateDesc(profile);
-        List<ProfileProject> projects = projectRepository.findByProfileOrderByStartDateDesc(profile);
-        List<ProfileLanguage> languages = languageRepository.findByProfileIdOrderByLanguage(profile.getId());
-        List<ProfileCertification> certifications = certificationRepository.findByProfileIdOrderByIssueDateDesc(profile.getId());
-
-        return ProfileDto.builder()
-                .id(profile.getId().toString())
-                .userId(profile.getUser().getId().toString())
-                .headline(profile.getHeadline())
-                .summary(profile.getSummary())
-                .location(profile.getLocation())
-                .experiences(profile.getExperiences().stream()
-                        .map(this::toExperienceDto)
-                        .collect(Collectors.toList()))
-                .educations(educations.stream()
-                        .map(this::toEducationDto)
-                        .collect(Collectors.toList()))
-                .skills(profile.getSkills().stream()
-                        .map(this::toSkillDto)
-                        .collect(Collectors.toList()))
-                .projects(projects.stream()
-                        .map(this::toProjectDto)
-                        .collect(Collectors.toList()))
-                .languages(languages.stream()
-                        .map(this::toLanguageDto)
-                        .collect(Collectors.toList()))
-                .certifications(certifications.stream()
-                        .map(this::toCertificationDto)
-                        .collect(Collectors.toList()))
-                .createdAt(profile.getCreatedAt() != null ? profile.getCreatedAt().toString() : null)
-                .updatedAt(profile.getUpdatedAt() != null ? profile.getUpdatedAt().toString() : null)
-                .build();
-    }
-
     private ExperienceDto toExperienceDto(ProfileExperience experience) {
         return ExperienceDto.builder()
                 .id(experience.getId().toString())
@@ -550,15 +534,7 @@ public class ProfileService {
     }
 
     private List<String> parseJsonArray(String json) {
-        if (json == null || json.isBlank()) {
-            return Collections.emptyList();
-        }
-        try {
-            return objectMapper.readValue(json, new TypeReference<List<String>>() {});
-        } catch (JsonProcessingException e) {
-            log.error("Failed to parse JSON array", e);
-            return Collections.emptyList();
-        }
+        return readModel.parseJsonArray(json);
     }
 
     // ==================== Language Methods ====================
@@ -580,6 +556,7 @@ public class ProfileService {
      */
     @Transactional
     public LanguageDto addLanguage(UUID userId, LanguageDto dto) {
+        readModel.invalidate(userId);
         UserProfile profile = getOrCreateProfileEntity(userId);
         
         // Check for duplicate language
@@ -602,6 +579,7 @@ public class ProfileService {
      */
     @Transactional
     public LanguageDto updateLanguage(UUID userId, UUID languageId, LanguageDto dto) {
+        readModel.invalidate(userId);
         UserProfile profile = getOrCreateProfileEntity(userId);
         
         ProfileLanguage language = languageRepository.findById(languageId)
@@ -624,6 +602,7 @@ public class ProfileService {
      */
     @Transactional
     public void deleteLanguage(UUID userId, UUID languageId) {
+        readModel.invalidate(userId);
         UserProfile profile = getOrCreateProfileEntity(userId);
         
         ProfileLanguage language = languageRepository.findById(languageId)
@@ -664,6 +643,7 @@ public class ProfileService {
      */
     @Transactional
     public CertificationDto addCertification(UUID userId, CertificationDto dto) {
+        readModel.invalidate(userId);
         UserProfile profile = getOrCreateProfileEntity(userId);
         
         ProfileCertification certification = ProfileCertification.builder()
@@ -685,6 +665,7 @@ public class ProfileService {
      */
     @Transactional
     public CertificationDto updateCertification(UUID userId, UUID certificationId, CertificationDto dto) {
+        readModel.invalidate(userId);
         UserProfile profile = getOrCreateProfileEntity(userId);
         
         ProfileCertification certification = certificationRepository.findById(certificationId)
@@ -711,6 +692,7 @@ public class ProfileService {
      */
     @Transactional
     public void deleteCertification(UUID userId, UUID certificationId) {
+        readModel.invalidate(userId);
         UserProfile profile = getOrCreateProfileEntity(userId);
         
         ProfileCertification certification = certificationRepository.findById(certificationId)
@@ -736,16 +718,233 @@ public class ProfileService {
                 .build();
     }
 
+    // ==================== Bulk Import ====================
+
+    /**
+     * Import parsed resume sections into the profile in a single transaction.
+     * The profile is resolved once, skills and languages are deduplicated in memory against
+     * existing rows (case-insensitive), and each section is written with one saveAll, which
+     * Hibernate sends as JDBC batches (hibernate.jdbc.batch_size). Entries missing required
+     * fields or with unparseable dates are skipped; any write failure rolls back the whole import.
+     */
+    @Transactional
+    public SyncToProfileResult importSections(UUID userId, ParsedContent content, SyncOptions options) {
+        readModel.invalidate(userId);
+        UserProfile profile = getOrCreateProfileEntity(userId);
+        SyncToProfileResult result = new SyncToProfileResult();
+
+        // Basic info is edited through updateProfile; importing only ensures the profile exists
+        result.setBasicInfoSynced(options.isSyncBasicInfo() && content.getPersonalInfo() != null);
+
+        if (options.isSyncExperiences()) {
+            List<ProfileExperience> experiences = mapImported(content.getExperiences(), "experience",
+                    exp -> toImportedExperience(profile, exp));
+            experienceRepository.saveAll(experiences);
+            result.setExperiencesSynced(experiences.size());
+        }
+
+        if (options.isSyncEducations()) {
+            List<ProfileEducation> educations = mapImported(content.getEducation(), "education",
+                    edu -> toImportedEducation(profile, edu));
+            educationRepository.saveAll(educations);
+            result.setEducationsSynced(educations.size());
+        }
+
+        if (options.isSyncSkills()) {
+            Set<String> seen = skillRepository.findByProfileId(profile.getId()).stream()
+                    .map(skill -> skill.getName().toLowerCase(Locale.ROOT))
+                    .collect(Collectors.toCollection(HashSet::new));
+            List<ProfileSkill> skills = mapImported(content.getSkills(), "skill", skill -> {
+                String name = clip(skill.getName(), 50);
+                if (name == null || !seen.add(name.toLowerCase(Locale.ROOT))) {
+                    return null;
+                }
+                return ProfileSkill.builder()
+                        .profile(profile)
+                        .name(name)
+                        .level(clip(skill.getLevel(), 20))
+                        .build();
+            });
+            skillRepository.saveAll(skills);
+            result.setSkillsSynced(skills.size());
+        }
+
+        if (options.isSyncProjects()) {
+            List<ProfileProject> projects = mapImported(content.getProjects(), "project",
+                    proj -> toImportedProject(profile, proj));
+            projectRepository.saveAll(projects);
+            result.setProjectsSynced(projects.size());
+        }
+
+        if (options.isSyncLanguages()) {
+            Set<String> seen = languageRepository.findByProfileIdOrderByLanguage(profile.getId()).stream()
+                    .map(language -> language.getLanguage().toLowerCase(Locale.ROOT))
+                    .collect(Collectors.toCollection(HashSet::new));
+            List<ProfileLanguage> languages = mapImported(content.getLanguages(), "language", lang -> {
+                String language = clip(lang.getLanguage(), 50);
+                if (language == null || !seen.add(language.toLowerCase(Locale.ROOT))) {
+                    return null;
+                }
+                return ProfileLanguage.builder()
+                        .profile(profile)
+                        .language(language)
+                        .proficiency(clip(lang.getProficiency(), 30))
+                        .build();
+            });
+            languageRepository.saveAll(languages);
+            result.setLanguagesSynced(languages.size());
+        }
+
+        if (options.isSyncCertifications()) {
+            List<ProfileCertification> certifications = mapImported(content.getCertifications(), "certification",
+                    cert -> {
+                        String name = clip(cert.getName(), 150);
+                        if (name == null) {
+                            return null;
+                        }
+                        return ProfileCertification.builder()
+                                .profile(profile)
+                                .name(name)
+                                .issuer(clip(cert.getIssuer(), 100))
+                                .issueDate(parseDateLenient(normalizeImportedDate(cert.getDate())))
+                                .credentialUrl(clip(cert.getUrl(), 255))
+                                .build();
+                    });
+            certificationRepository.saveAll(certifications);
+            result.setCertificationsSynced(certifications.size());
+        }
+
+        log.info("Imported resume sections for user {}: {}", userId, result);
+        return result;
+    }
+
+    private ProfileExperience toImportedExperience(UserProfile profile, ParsedContent.WorkExperience exp) {
+        String company = clip(exp.getCompany(), 100);
+        String title = clip(exp.getTitle(), 100);
+        LocalDate startDate = parseDate(normalizeImportedDate(exp.getStartDate()));
+        if (company == null || title == null || startDate == null) {
+            return null;
+        }
+        return ProfileExperience.builder()
+                .profile(profile)
+                .company(company)
+                .title(title)
+                .location(clip(exp.getLocation(), 100))
+                .employmentType(parseEmploymentType(exp.getEmploymentType()))
+                .startDate(startDate)
+                .endDate(parseDate(normalizeImportedDate(exp.getEndDate())))
+                .isCurrent(Boolean.TRUE.equals(exp.getIsCurrent()))
+                .description(exp.getDescription())
+                .achievements(toJsonArray(exp.getAchievements()))
+                .technologies(toJsonArray(exp.getTechnologies()))
+                .build();
+    }
+
+    private ProfileEducation toImportedEducation(UserProfile profile, ParsedContent.Education edu) {
+        String school = clip(edu.getSchool(), 200);
+        if (school == null) {
+            return null;
+        }
+        String endDate = edu.getEndDate() != null ? edu.getEndDate() : edu.getGraduationDate();
+        return ProfileEducation.builder()
+                .profile(profile)
+                .school(school)
+                .degree(clip(edu.getDegree(), 100))
+                .fieldOfStudy(clip(edu.getField(), 100))
+                .location(clip(edu.getLocation(), 100))
+                .startDate(parseDate(normalizeImportedDate(edu.getStartDate())))
+                .endDate(parseDate(normalizeImportedDate(endDate)))
+                .isCurrent(false)
+                .gpa(clip(edu.getGpa(), 20))
+                .description(edu.getDescription())
+                .activities(toJsonArray(edu.getActivities()))
+                .build();
+    }
+
+    private ProfileProject toImportedProject(UserProfile profile, ParsedContent.Project proj) {
+        String name = clip(proj.getName(), 200);
+        if (name == null) {
+            return null;
+        }
+        return ProfileProject.builder()
+                .profile(profile)
+                .name(name)
+                .description(proj.getDescription())
+                .url(clip(proj.getUrl(), 500))
+                .repoUrl(clip(proj.getRepoUrl(), 500))
+                .technologies(toJsonArray(proj.getTechnologies()))
+                .startDate(parseDate(normalizeImportedDate(proj.getStartDate())))
+                .endDate(parseDate(normalizeImportedDate(proj.getEndDate())))
+                .isCurrent(false)
+                .highlights(toJsonArray(proj.getHighlights()))
+                .build();
+    }
+
+    /**
+     * Map parsed entries to entities, skipping entries the mapper rejects (null) or fails on
+     */
+    private <S, E> List<E> mapImported(List<S> source, String section, Function<S, E> mapper) {
+        List<E> entities = new ArrayList<>();
+        if (source == null) {
+            return entities;
+        }
+        for (S item : source) {
+            try {
+                E entity = mapper.apply(item);
+                if (entity != null) {
+                    entities.add(entity);
+                }
+            } catch (Exception e) {
+                log.warn("Skipping {} entry during import: {}", section, e.getMessage());
+            }
+        }
+        return entities;
+    }
+
+    /**
+     * Normalize a parsed resume date to YYYY-MM-DD; "present" means no date
+     */
+    private String normalizeImportedDate(String dateStr) {
+        if (dateStr == null || dateStr.isBlank()) {
+            return null;
+        }
+        dateStr = dateStr.trim();
+        if (dateStr.equalsIgnoreCase("present") || dateStr.equals("至今")) {
+            return null;
+        }
+        if (dateStr.matches("\\d{4}-\\d{2}")) {
+            return dateStr + "-01";
+        }
+        return dateStr;
+    }
+
+    private LocalDate parseDateLenient(String dateStr) {
+        try {
+            return parseDate(dateStr);
+        } catch (Exception e) {
+            log.warn("Failed to parse date: {}", dateStr);
+            return null;
+        }
+    }
+
+    /**
+     * Trim and cut a value to its column length; blank values become null
+     */
+    private String clip(String value, int maxLength) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        value = value.trim();
+        return value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
     // ==================== Interview Sync Methods ====================
 
     /**
      * Get profile for a user (returns null if not exists).
      */
-    @Transactional(readOnly = true)
     public ProfileDto getProfile(UUID userId) {
-        return profileRepository.findByUserId(userId)
-                .map(this::toProfileDto)
-                .orElse(null);
+        return readModel.find(userId).orElse(null);
     }
 
     /**
@@ -758,6 +957,7 @@ public class ProfileService {
     @Transactional
     @SuppressWarnings("unchecked")
     public void syncFromInterview(UUID userId, Map<String, Object> extractedProfile) {
+        readModel.invalidate(userId);
         log.info("Syncing profile from interview for user {}", userId);
 
         UserProfile profile = getOrCreateProfileEntity(userId);
@@ -2,7 +2,10 @@ package com.cvibe.resume.controller;
 
 import com.cvibe.common.dto.ApiResponse;
 import com.cvibe.common.security.UserPrincipal;
+import com.cvibe.profile.dto.SyncOptions;
+import com.cvibe.profile.dto.SyncToProfileResult;
 import com.cvibe.resume.dto.ResumeDto;
+import com.cvibe.resume.dto.ResumeParseStatusDto;
 import com.cvibe.resume.dto.ResumeUploadResponse;
 import com.cvibe.resume.service.ResumeService;
 import lombok.RequiredArgsConstructor;
@@ -32,7 +35,8 @@ public class ResumeController {
      * POST /api/resumes
      * Content-Type: multipart/form-data
      * 
-     * 上传后会自动调用 AI Engine 进行解析
+     * 上传后立即返回 PROCESSING 状态，AI Engine 解析在后台进行，
+     * 完成后通过通知推送结果，也可轮询 GET /api/resumes/{resumeId}/status
      */
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ApiResponse<ResumeUploadResponse>> uploadResume(
@@ -69,6 +73,19 @@ public class ResumeController {
         return ResponseEntity.ok(ApiResponse.success(resume));
     }
 
+    /**
+     * 查询简历解析状态
+     * 
+     * GET /api/resumes/{resumeId}/status
+     */
+    @GetMapping("/{resumeId}/status")
+    public ResponseEntity<ApiResponse<ResumeParseStatusDto>> getParseStatus(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable UUID resumeId) {
+        ResumeParseStatusDto status = resumeService.getParseStatus(principal.getUserId(), resumeId);
+        return ResponseEntity.ok(ApiResponse.success(status));
+    }
+
     /**
      * 获取主简历
      * 
@@ -102,13 +119,17 @@ public class ResumeController {
      * 重新调用 AI Engine 解析已上传的简历，用于：
      * - AI 服务恢复后重新解析失败的简历
      * - 使用新版本的 AI 模型重新解析
+     * 
+     * 解析异步进行，接口立即返回 PROCESSING 状态。
+     * 相同文件内容已解析过时复用缓存结果；force=true 时跳过缓存，强制重新调用 AI Engine
      */
     @PostMapping("/{resumeId}/reparse")
     public ResponseEntity<ApiResponse<ResumeDto>> reparseResume(
             @AuthenticationPrincipal UserPrincipal principal,
-            @PathVariable UUID resumeId) {
-        ResumeDto resume = resumeService.reparseResume(principal.getUserId(), resumeId);
-        return ResponseEntity.ok(ApiResponse.success(resume, "简历重新解析成功"));
+            @PathVariable UUID resumeId,
+            @RequestParam(defaultValue = "false") boolean force) {
+        ResumeDto resume = resumeService.reparseResume(principal.getUserId(), resumeId, force);
+        return ResponseEntity.ok(ApiResponse.success(resume, "已提交重新解析"));
     }
 
     /**
@@ -132,14 +153,14 @@ public class ResumeController {
      * - 项目经历
      */
     @PostMapping("/{resumeId}/sync-to-profile")
-    public ResponseEntity<ApiResponse<ResumeService.SyncToProfileResult>> syncToProfile(
+    public ResponseEntity<ApiResponse<SyncToProfileResult>> syncToProfile(
             @AuthenticationPrincipal UserPrincipal principal,
             @PathVariable UUID resumeId,
-            @RequestBody(required = false) ResumeService.SyncOptions options) {
+            @RequestBody(required = false) SyncOptions options) {
         
         // 默认同步所有内容
         if (options == null) {
-            options = ResumeService.SyncOptions.builder()
+            options = SyncOptions.builder()
                     .syncBasicInfo(true)
                     .syncExperiences(true)
                     .syncEducations(true)
@@ -148,7 +169,7 @@ public class ResumeController {
                     .build();
         }
         
-        ResumeService.SyncToProfileResult result = resumeService.syncToProfile(
+        SyncToProfileResult result = resumeService.syncToProfile(
                 principal.getUserId(), resumeId, options);
         
         String message = String.format(
@@ -0,0 +1,78 @@
+package com.cvibe.resume.controller;
+
+import com.cvibe.common.dto.ApiResponse;
+import com.cvibe.common.security.UserPrincipal;
+import com.cvibe.resume.dto.ResumeImportBatchDto;
+import com.cvibe.resume.service.ResumeImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 简历批量导入控制器
+ * 一次上传多份简历（ZIP 或多个文件），后台以有限并发解析
+ */
+@RestController
+@RequestMapping("/api/resumes/imports")
+@RequiredArgsConstructor
+public class ResumeImportController {
+
+    private final ResumeImportService importService;
+
+    /**
+     * 批量导入简历
+     *
+     * POST /api/resumes/imports
+     * Content-Type: multipart/form-data
+     *
+     * 上传一个 ZIP（archive）或多个文件（files），受全局 multipart 大小限制。文件写入 MinIO 后立即返回批次，
+     * 解析在后台进行，全部结束后推送一条汇总通知，也可轮询 GET /api/resumes/imports/{batchId}
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<ResumeImportBatchDto>> importResumes(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(value = "archive", required = false) MultipartFile archive,
+            @RequestParam(value = "files", required = false) List<MultipartFile> files) {
+        ResumeImportBatchDto batch = importService.importResumes(principal.getUserId(), archive, files);
+        return ResponseEntity.ok(ApiResponse.success(batch));
+    }
+
+    /**
+     * 批量导入简历（ZIP 作为请求体流式上传）
+     *
+     * POST /api/resumes/imports?fileName=resumes.zip
+     * Content-Type: application/zip
+     *
+     * 大压缩包不走 multipart（受全局上传大小限制），请求体直接按条目读取，大小上限为 resume.import.max-archive-size
+     */
+    @PostMapping(consumes = {"application/zip", "application/x-zip-compressed", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<ApiResponse<ResumeImportBatchDto>> importArchive(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(value = "fileName", required = false) String fileName,
+            HttpServletRequest request) throws IOException {
+        ResumeImportBatchDto batch = importService.importArchive(
+                principal.getUserId(), request.getInputStream(), request.getContentLengthLong(), fileName);
+        return ResponseEntity.ok(ApiResponse.success(batch));
+    }
+
+    /**
+     * 查询导入批次进度
+     *
+     * GET /api/resumes/imports/{batchId}
+     */
+    @GetMapping("/{batchId}")
+    public ResponseEntity<ApiResponse<ResumeImportBatchDto>> getBatch(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @PathVariable UUID batchId) {
+        ResumeImportBatchDto batch = importService.getBatch(principal.getUserId(), batchId);
+        return ResponseEntity.ok(ApiResponse.success(batch));
+    }
+}
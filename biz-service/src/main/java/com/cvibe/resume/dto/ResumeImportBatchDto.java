@@ -0,0 +1,93 @@
+package com.cvibe.resume.dto;
+
+import com.cvibe.resume.entity.ResumeImportBatch;
+import com.cvibe.resume.entity.ResumeImportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 简历批量导入批次 DTO
+ * 用于前端轮询导入进度，包含每个文件的解析状态
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeImportBatchDto {
+
+    private String batchId;
+
+    /**
+     * 批次状态: PROCESSING, COMPLETED
+     */
+    private String status;
+
+    /**
+     * 是否已结束（所有文件解析完成或失败）
+     */
+    private boolean finished;
+
+    /**
+     * 已接收并提交解析的文件数
+     */
+    private int totalFiles;
+
+    private int parsedFiles;
+
+    private int failedFiles;
+
+    /**
+     * 进度百分比（0-100）
+     */
+    private int progress;
+
+    /**
+     * 每个已接收文件的解析状态（按导入顺序）
+     */
+    private List<ResumeParseStatusDto> files;
+
+    /**
+     * 未导入的文件及原因
+     */
+    private List<SkippedFile> skippedFiles;
+
+    private String createdAt;
+
+    private String completedAt;
+
+    public static ResumeImportBatchDto fromEntity(ResumeImportBatch batch, List<ResumeParseStatusDto> files,
+                                                  List<SkippedFile> skippedFiles) {
+        int total = batch.getTotalFiles() != null ? batch.getTotalFiles() : 0;
+        int parsed = batch.getParsedFiles() != null ? batch.getParsedFiles() : 0;
+        int failed = batch.getFailedFiles() != null ? batch.getFailedFiles() : 0;
+        return ResumeImportBatchDto.builder()
+                .batchId(batch.getId().toString())
+                .status(batch.getStatus().name())
+                .finished(batch.getStatus() == ResumeImportStatus.COMPLETED)
+                .totalFiles(total)
+                .parsedFiles(parsed)
+                .failedFiles(failed)
+                .progress(total > 0 ? Math.min(100, (int) ((parsed + failed) * 100L / total)) : 100)
+                .files(files)
+                .skippedFiles(skippedFiles)
+                .createdAt(batch.getCreatedAt() != null ? batch.getCreatedAt().toString() : null)
+                .completedAt(batch.getCompletedAt() != null ? batch.getCompletedAt().toString() : null)
+                .build();
+    }
+
+    /**
+     * 未导入的文件
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SkippedFile {
+        private String fileName;
+        private String reason;
+    }
+}
@@ -0,0 +1,63 @@
+package com.cvibe.resume.dto;
+
+import com.cvibe.resume.entity.ResumeHistory;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 简历解析状态 DTO
+ * 用于前端轮询解析进度，不包含解析内容和下载链接
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeParseStatusDto {
+
+    private String resumeId;
+
+    /**
+     * 原始文件名
+     */
+    private String fileName;
+
+    /**
+     * 处理状态: PENDING, PROCESSING, COMPLETED, FAILED
+     */
+    private String status;
+
+    /**
+     * 是否已结束（COMPLETED 或 FAILED）
+     */
+    private boolean finished;
+
+    /**
+     * 错误信息（解析失败时）
+     */
+    private String errorMessage;
+
+    /**
+     * 分页并行解析时的总页数与已完成页数（整份文件一次解析时为空）
+     */
+    private Integer pagesTotal;
+
+    private Integer pagesParsed;
+
+    private String updatedAt;
+
+    public static ResumeParseStatusDto fromEntity(ResumeHistory resume) {
+        String status = resume.getStatus().name();
+        return ResumeParseStatusDto.builder()
+                .resumeId(resume.getId().toString())
+                .fileName(resume.getOriginalName())
+                .status(status)
+                .finished("COMPLETED".equals(status) || "FAILED".equals(status))
+                .errorMessage(resume.getErrorMessage())
+                .pagesTotal(resume.getPagesTotal())
+                .pagesParsed(resume.getPagesParsed())
+                .updatedAt(resume.getUpdatedAt() != null ? resume.getUpdatedAt().toString() : null)
+                .build();
+    }
+}
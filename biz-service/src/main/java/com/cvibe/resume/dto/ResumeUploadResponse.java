@@ -20,7 +20,7 @@ public class ResumeUploadResponse {
     private ResumeDto resume;
 
     /**
-     * 解析状态: SUCCESS, PARTIAL, FAILED
+     * 解析状态: PROCESSING, SUCCESS, PARTIAL, FAILED
      */
     private String parseStatus;
 
@@ -29,6 +29,17 @@ public class ResumeUploadResponse {
      */
     private String message;
 
+    /**
+     * 创建处理中响应（文件上传成功，解析在后台进行）
+     */
+    public static ResumeUploadResponse processing(ResumeDto resume) {
+        return ResumeUploadResponse.builder()
+                .resume(resume)
+                .parseStatus("PROCESSING")
+                .message("简历上传成功，正在解析中")
+                .build();
+    }
+
     /**
      * 创建成功响应
      */
@@ -17,7 +17,9 @@ import java.util.UUID;
 @Entity
 @Table(name = "resume_history", indexes = {
     @Index(name = "idx_resume_user_id", columnList = "user_id"),
-    @Index(name = "idx_resume_is_primary", columnList = "user_id, is_primary")
+    @Index(name = "idx_resume_is_primary", columnList = "user_id, is_primary"),
+    @Index(name = "idx_resume_content_hash", columnList = "content_hash"),
+    @Index(name = "idx_resume_import_batch_id", columnList = "import_batch_id")
 })
 @EntityListeners(AuditingEntityListener.class)
 @Getter
@@ -65,6 +67,12 @@ public class ResumeHistory {
     @Column(name = "content_type", length = 100)
     private String contentType;
 
+    /**
+     * 文件内容的 SHA-256（小写十六进制），上传时计算，用于命中解析缓存
+     */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     /**
      * 处理状态
      */
@@ -105,6 +113,36 @@ public class ResumeHistory {
     @Column(name = "error_message", length = 500)
     private String errorMessage;
 
+    /**
+     * 分页并行解析时的总页数（整份文件一次解析时为空）
+     */
+    @Column(name = "pages_total")
+    private Integer pagesTotal;
+
+    /**
+     * 分页并行解析时已完成的页数
+     */
+    @Column(name = "pages_parsed")
+    private Integer pagesParsed;
+
+    /**
+     * 批量导入时所属的批次（单独上传时为空）
+     */
+    @Column(name = "import_batch_id")
+    private UUID importBatchId;
+
+    /**
+     * 解析认领时间：排队或解析中的节点定期刷新，长时间未刷新说明节点已停止，由其他节点重新认领
+     */
+    @Column(name = "parse_claimed_at")
+    private Instant parseClaimedAt;
+
+    /**
+     * 解析认领令牌：每次认领重新生成，只有仍持有该令牌的节点才能写回解析结果
+     */
+    @Column(name = "parse_claim_token")
+    private UUID parseClaimToken;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
@@ -0,0 +1,68 @@
+package com.cvibe.resume.entity;
+
+import com.cvibe.auth.entity.User;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 简历批量导入批次实体
+ * 一次 ZIP / 多文件上传对应一个批次，导入的每个文件是一条关联该批次的 ResumeHistory
+ */
+@Entity
+@Table(name = "resume_import_batch", indexes = {
+    @Index(name = "idx_resume_import_batch_user", columnList = "user_id, created_at")
+})
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResumeImportBatch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private ResumeImportStatus status = ResumeImportStatus.PROCESSING;
+
+    /**
+     * 已接收并提交解析的文件数（不含跳过的文件）
+     */
+    @Column(name = "total_files", nullable = false)
+    @Builder.Default
+    private Integer totalFiles = 0;
+
+    @Column(name = "parsed_files", nullable = false)
+    @Builder.Default
+    private Integer parsedFiles = 0;
+
+    @Column(name = "failed_files", nullable = false)
+    @Builder.Default
+    private Integer failedFiles = 0;
+
+    /**
+     * 未导入的文件及原因（JSON 数组，如类型不支持、超出大小）
+     */
+    @Column(name = "skipped_json", columnDefinition = "TEXT")
+    private String skippedJson;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+}
@@ -0,0 +1,16 @@
+package com.cvibe.resume.entity;
+
+/**
+ * 批量导入状态枚举
+ */
+public enum ResumeImportStatus {
+    /**
+     * 处理中（仍有文件在排队或解析）
+     */
+    PROCESSING,
+
+    /**
+     * 全部文件已处理完成（成功或失败）
+     */
+    COMPLETED
+}
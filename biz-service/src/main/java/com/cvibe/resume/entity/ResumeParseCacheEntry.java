@@ -0,0 +1,52 @@
+package com.cvibe.resume.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 简历解析结果缓存实体
+ * 以（文件内容哈希, 解析器版本）为键保存 AI 解析结果，同一文件再次上传或重新解析时直接复用
+ */
+@Entity
+@Table(name = "resume_parse_cache", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_resume_parse_cache_key", columnNames = {"content_hash", "parser_version"})
+})
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResumeParseCacheEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    /**
+     * 文件内容的 SHA-256（小写十六进制）
+     */
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    /**
+     * 产生该结果的解析器（模型/提示词）版本
+     */
+    @Column(name = "parser_version", nullable = false, length = 100)
+    private String parserVersion;
+
+    /**
+     * 解析结果（ParsedContent JSON）
+     */
+    @Column(name = "parsed_data", nullable = false, columnDefinition = "TEXT")
+    private String parsedData;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+}
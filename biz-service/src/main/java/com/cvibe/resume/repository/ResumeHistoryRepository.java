@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -58,6 +60,126 @@ public interface ResumeHistoryRepository extends JpaRepository<ResumeHistory, UU
     @Query("UPDATE ResumeHistory r SET r.isPrimary = false WHERE r.user.id = :userId")
     void clearPrimaryByUserId(@Param("userId") UUID userId);
 
+    /**
+     * 查询批量导入批次中的文件（按导入顺序）
+     */
+    List<ResumeHistory> findByImportBatchIdOrderByCreatedAtAsc(UUID importBatchId);
+
+    /**
+     * 开始分页解析，重置页级进度
+     */
+    @Modifying
+    @Query("UPDATE ResumeHistory r SET r.pagesTotal = :pagesTotal, r.pagesParsed = 0 WHERE r.id = :id")
+    int startPageProgress(@Param("id") UUID id, @Param("pagesTotal") int pagesTotal);
+
+    /**
+     * 清除页级进度（分页解析放弃、改为整份解析时）
+     */
+    @Modifying
+    @Query("UPDATE ResumeHistory r SET r.pagesTotal = NULL, r.pagesParsed = NULL WHERE r.id = :id")
+    int clearPageProgress(@Param("id") UUID id);
+
+    /**
+     * 累加已解析页数（多个页组并发完成时原子递增）
+     */
+    @Modifying
+    @Query("UPDATE ResumeHistory r SET r.pagesParsed = COALESCE(r.pagesParsed, 0) + :pages WHERE r.id = :id")
+    int addPagesParsed(@Param("id") UUID id, @Param("pages") int pages);
+
+    /**
+     * 认领解析任务：只认领 PROCESSING 且未被认领（或认领已过期）的记录，多个节点同时认领时只有一个成功
+     *
+     * @param token 本次认领的令牌，写回结果时校验
+     * @return 1 表示认领成功
+     */
+    @Modifying
+    @Query("UPDATE ResumeHistory r SET r.parseClaimedAt = :now, r.parseClaimToken = :token " +
+           "WHERE r.id = :id AND r.status = com.cvibe.resume.entity.ResumeStatus.PROCESSING " +
+           "AND (r.parseClaimedAt IS NULL OR r.parseClaimedAt < :staleBefore)")
+    int claimParse(@Param("id") UUID id, @Param("token") UUID token,
+                   @Param("now") Instant now, @Param("staleBefore") Instant staleBefore);
+
+    /**
+     * 刷新本节点持有的解析认领（按认领令牌，已被其他节点接管的记录不会被刷新）
+     */
+    @Modifying
+    @Query("UPDATE ResumeHistory r SET r.parseClaimedAt = :now " +
+           "WHERE r.parseClaimToken IN :tokens AND r.status = com.cvibe.resume.entity.ResumeStatus.PROCESSING")
+    int renewParseClaims(@Param("tokens") Collection<UUID> tokens, @Param("now") Instant now);
+
+    /**
+     * 写回解析结果：只在记录仍为 PROCESSING 且仍由该令牌认领时写入
+     *
+     * @return 0 表示认领已丢失（已被其他节点接管、已重新提交解析或简历已删除）
+     */
+    @Modifying
+    @Query("UPDATE ResumeHistory r SET r.parsedData = :parsedData, r.skills = :skills, " +
+           "r.status = com.cvibe.resume.entity.ResumeStatus.COMPLETED, r.errorMessage = NULL, " +
+           "r.parseClaimToken = NULL, r.updatedAt = :now " +
+           "WHERE r.id = :id AND r.status = com.cvibe.resume.entity.ResumeStatus.PROCESSING " +
+           "AND r.parseClaimToken = :token")
+    int completeParse(@Param("id") UUID id, @Param("token") UUID token, @Param("parsedData") String parsedData,
+                      @Param("skills") String skills, @Param("now") Instant now);
+
+    /**
+     * 写回解析失败，条件同 {@link #completeParse}
+     *
+     * @return 0 表示认领已丢失
+     */
+    @Modifying
+    @Query("UPDATE ResumeHistory r SET r.status = com.cvibe.resume.entity.ResumeStatus.FAILED, " +
+           "r.errorMessage = :errorMessage, r.parseClaimToken = NULL, r.updatedAt = :now " +
+           "WHERE r.id = :id AND r.status = com.cvibe.resume.entity.ResumeStatus.PROCESSING " +
+           "AND r.parseClaimToken = :token")
+    int failParse(@Param("id") UUID id, @Param("token") UUID token,
+                  @Param("errorMessage") String errorMessage, @Param("now") Instant now);
+
+    /**
+     * 查询解析已中断的记录：认领过期，或落库后一直没有被认领（提交任务前节点停止）
+     *
+     * 仍在处理中的导入批次里的记录由导入服务按批次接管；批次已完成后重新解析的记录和单份上传一样在这里接管
+     */
+    @Query("SELECT r.id FROM ResumeHistory r WHERE r.status = com.cvibe.resume.entity.ResumeStatus.PROCESSING " +
+           "AND (r.importBatchId IS NULL OR NOT EXISTS (SELECT b.id FROM ResumeImportBatch b " +
+           "WHERE b.id = r.importBatchId AND b.status = com.cvibe.resume.entity.ResumeImportStatus.PROCESSING)) " +
+           "AND (r.parseClaimedAt < :staleBefore OR (r.parseClaimedAt IS NULL AND r.updatedAt < :staleBefore)) " +
+           "ORDER BY r.updatedAt ASC")
+    List<UUID> findStaleParses(@Param("staleBefore") Instant staleBefore);
+
+    /**
+     * 导入批次已落库的文件数
+     */
+    long countByImportBatchId(UUID importBatchId);
+
+    /**
+     * 导入批次最近一个文件的落库时间，没有文件时返回 null
+     */
+    @Query("SELECT MAX(r.createdAt) FROM ResumeHistory r WHERE r.importBatchId = :batchId")
+    Instant findLastImportedAt(@Param("batchId") UUID batchId);
+
+    /**
+     * 查询导入批次中解析已中断的记录，条件同 {@link #findStaleParses}
+     */
+    @Query("SELECT r.id FROM ResumeHistory r WHERE r.importBatchId = :batchId " +
+           "AND r.status = com.cvibe.resume.entity.ResumeStatus.PROCESSING " +
+           "AND (r.parseClaimedAt < :staleBefore OR (r.parseClaimedAt IS NULL AND r.updatedAt < :staleBefore)) " +
+           "ORDER BY r.createdAt ASC")
+    List<UUID> findStaleBatchParses(@Param("batchId") UUID batchId, @Param("staleBefore") Instant staleBefore);
+
+    /**
+     * 将简历置为 PROCESSING 以重新解析；正在解析（认领未过期或尚未认领）的记录不会重复提交
+     *
+     * @return 1 表示已置为 PROCESSING
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ResumeHistory r SET r.status = com.cvibe.resume.entity.ResumeStatus.PROCESSING, " +
+           "r.errorMessage = NULL, r.pagesTotal = NULL, r.pagesParsed = NULL, r.parseClaimedAt = NULL, " +
+           "r.parseClaimToken = NULL, " +
+           "r.updatedAt = :now " +
+           "WHERE r.id = :id AND (r.status <> com.cvibe.resume.entity.ResumeStatus.PROCESSING " +
+           "OR r.parseClaimedAt < :staleBefore)")
+    int markReparsing(@Param("id") UUID id, @Param("now") Instant now, @Param("staleBefore") Instant staleBefore);
+
     /**
      * 检查简历是否属于用户
      */
@@ -0,0 +1,73 @@
+package com.cvibe.resume.repository;
+
+import com.cvibe.resume.entity.ResumeImportBatch;
+import com.cvibe.resume.entity.ResumeImportStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 简历批量导入批次 Repository
+ */
+@Repository
+public interface ResumeImportBatchRepository extends JpaRepository<ResumeImportBatch, UUID> {
+
+    /**
+     * 累加解析成功数（同一批次的多个文件并发完成时原子递增）
+     */
+    @Modifying
+    @Query("UPDATE ResumeImportBatch b SET b.parsedFiles = b.parsedFiles + 1 WHERE b.id = :id")
+    int incrementParsed(@Param("id") UUID id);
+
+    /**
+     * 累加解析失败数
+     */
+    @Modifying
+    @Query("UPDATE ResumeImportBatch b SET b.failedFiles = b.failedFiles + 1 WHERE b.id = :id")
+    int incrementFailed(@Param("id") UUID id);
+
+    /**
+     * 标记批次结束：只在批次仍为 PROCESSING 且所有文件都已结束时更新，
+     * 多个节点分别接管同一批次的文件时只有一个会标记成功
+     *
+     * @return 1 表示本次标记成功
+     */
+    @Modifying
+    @Query("UPDATE ResumeImportBatch b SET b.status = :status, b.completedAt = :completedAt " +
+           "WHERE b.id = :id AND b.status = com.cvibe.resume.entity.ResumeImportStatus.PROCESSING " +
+           "AND NOT EXISTS (SELECT r.id FROM ResumeHistory r WHERE r.importBatchId = :id " +
+           "AND r.status = com.cvibe.resume.entity.ResumeStatus.PROCESSING)")
+    int markFinished(@Param("id") UUID id,
+                     @Param("status") ResumeImportStatus status,
+                     @Param("completedAt") Instant completedAt);
+
+    /**
+     * 为接收请求中途失败的批次补写文件数：只在文件数仍为 0 时更新，多个节点同时接管时只有一个成功
+     *
+     * @return 1 表示本次补写成功
+     */
+    @Modifying
+    @Query("UPDATE ResumeImportBatch b SET b.totalFiles = :totalFiles " +
+           "WHERE b.id = :id AND b.totalFiles = 0 " +
+           "AND b.status = com.cvibe.resume.entity.ResumeImportStatus.PROCESSING")
+    int recordTotalFiles(@Param("id") UUID id, @Param("totalFiles") int totalFiles);
+
+    /**
+     * 删除接收请求中途失败且没有落库任何文件的批次
+     */
+    @Modifying
+    @Query("DELETE FROM ResumeImportBatch b WHERE b.id = :id AND b.totalFiles = 0 " +
+           "AND NOT EXISTS (SELECT r.id FROM ResumeHistory r WHERE r.importBatchId = :id)")
+    int deleteAbandonedIntake(@Param("id") UUID id);
+
+    /**
+     * 查询指定状态的批次
+     */
+    List<ResumeImportBatch> findByStatus(ResumeImportStatus status);
+}
@@ -0,0 +1,50 @@
+package com.cvibe.resume.repository;
+
+import com.cvibe.resume.entity.ResumeParseCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 简历解析结果缓存数据访问层
+ */
+@Repository
+public interface ResumeParseCacheRepository extends JpaRepository<ResumeParseCacheEntry, UUID> {
+
+    /**
+     * 查询缓存的解析结果 JSON
+     */
+    @Query("SELECT e.parsedData FROM ResumeParseCacheEntry e " +
+           "WHERE e.contentHash = :contentHash AND e.parserVersion = :parserVersion")
+    Optional<String> findParsedData(@Param("contentHash") String contentHash,
+                                    @Param("parserVersion") String parserVersion);
+
+    /**
+     * 删除缓存的解析结果
+     */
+    @Modifying
+    @Query("DELETE FROM ResumeParseCacheEntry e " +
+           "WHERE e.contentHash = :contentHash AND e.parserVersion = :parserVersion")
+    int deleteEntry(@Param("contentHash") String contentHash,
+                    @Param("parserVersion") String parserVersion);
+
+    /**
+     * 写入解析结果，同一键已存在时忽略（并发解析同一文件时先写入者生效）
+     * 不指定冲突目标，以便在 H2 的 PostgreSQL 模式下同样可用；除主键外唯一约束只有 (content_hash, parser_version)
+     *
+     * @return 1 表示写入，0 表示已存在
+     */
+    @Modifying
+    @Query(value = "INSERT INTO resume_parse_cache (id, content_hash, parser_version, parsed_data, created_at) " +
+                   "VALUES (:id, :contentHash, :parserVersion, :parsedData, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id,
+                       @Param("contentHash") String contentHash,
+                       @Param("parserVersion") String parserVersion,
+                       @Param("parsedData") String parsedData);
+}
@@ -0,0 +1,212 @@
+package com.cvibe.resume.service;
+
+import com.cvibe.resume.dto.ParsedContent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
+
+/**
+ * 合并分页解析的部分结果
+ *
+ * 按页组顺序合并，结果只取决于输入顺序，与各页组的完成先后无关：
+ * - 个人信息、头衔、简介逐字段取第一个非空值
+ * - 列表按页码顺序拼接；同一条目跨页被拆开时（如同一段工作经历出现在两个页组）合并为一条，
+ *   标量字段取第一个非空值，描述拼接，列表字段去重合并
+ */
+final class ParsedContentMerger {
+
+    private ParsedContentMerger() {
+    }
+
+    static ParsedContent merge(List<ParsedContent> parts) {
+        ParsedContent.PersonalInfo personalInfo = new ParsedContent.PersonalInfo();
+        String headline = null;
+        String summary = null;
+        List<ParsedContent.WorkExperience> experiences = new ArrayList<>();
+        List<ParsedContent.Education> education = new ArrayList<>();
+        List<ParsedContent.Project> projects = new ArrayList<>();
+        List<ParsedContent.Skill> skills = new ArrayList<>();
+        List<ParsedContent.Certification> certifications = new ArrayList<>();
+        List<ParsedContent.Language> languages = new ArrayList<>();
+        List<String> achievements = new ArrayList<>();
+
+        for (ParsedContent part : parts) {
+            ParsedContent.PersonalInfo info = part.getPersonalInfo();
+            if (info != null) {
+                personalInfo.setName(first(personalInfo.getName(), info.getName()));
+                personalInfo.setEmail(first(personalInfo.getEmail(), info.getEmail()));
+                personalInfo.setPhone(first(personalInfo.getPhone(), info.getPhone()));
+                personalInfo.setLocation(first(personalInfo.getLocation(), info.getLocation()));
+                personalInfo.setLinkedin(first(personalInfo.getLinkedin(), info.getLinkedin()));
+                personalInfo.setGithub(first(personalInfo.getGithub(), info.getGithub()));
+                personalInfo.setWebsite(first(personalInfo.getWebsite(), info.getWebsite()));
+            }
+            headline = first(headline, part.getHeadline());
+            summary = first(summary, part.getSummary());
+
+            mergeInto(experiences, part.getExperiences(),
+                    (a, b) -> same(a.getCompany(), b.getCompany()) && same(a.getTitle(), b.getTitle())
+                            && compatible(a.getStartDate(), b.getStartDate()),
+                    ParsedContentMerger::mergeExperience);
+            mergeInto(education, part.getEducation(),
+                    (a, b) -> same(a.getSchool(), b.getSchool()) && compatible(a.getDegree(), b.getDegree())
+                            && compatible(a.getStartDate(), b.getStartDate()),
+                    ParsedContentMerger::mergeEducation);
+            mergeInto(projects, part.getProjects(),
+                    (a, b) -> same(a.getName(), b.getName()),
+                    ParsedContentMerger::mergeProject);
+            mergeInto(skills, part.getSkills(),
+                    (a, b) -> same(a.getName(), b.getName()),
+                    (a, b) -> {
+                        a.setLevel(first(a.getLevel(), b.getLevel()));
+                        a.setCategory(first(a.getCategory(), b.getCategory()));
+                        return a;
+                    });
+            mergeInto(certifications, part.getCertifications(),
+                    (a, b) -> same(a.getName(), b.getName()),
+                    (a, b) -> {
+                        a.setIssuer(first(a.getIssuer(), b.getIssuer()));
+                        a.setDate(first(a.getDate(), b.getDate()));
+                        a.setUrl(first(a.getUrl(), b.getUrl()));
+                        return a;
+                    });
+            mergeInto(languages, part.getLanguages(),
+                    (a, b) -> same(a.getLanguage(), b.getLanguage()),
+                    (a, b) -> {
+                        a.setProficiency(first(a.getProficiency(), b.getProficiency()));
+                        return a;
+                    });
+            achievements = union(achievements, part.getAchievements());
+        }
+
+        return ParsedContent.builder()
+                .personalInfo(personalInfo)
+                .headline(headline)
+                .summary(summary)
+                .experiences(experiences)
+                .education(education)
+                .projects(projects)
+                .skills(skills)
+                .certifications(certifications)
+                .languages(languages)
+                .achievements(achievements)
+                .build();
+    }
+
+    private static ParsedContent.WorkExperience mergeExperience(ParsedContent.WorkExperience a,
+                                                                ParsedContent.WorkExperience b) {
+        a.setLocation(first(a.getLocation(), b.getLocation()));
+        a.setEmploymentType(first(a.getEmploymentType(), b.getEmploymentType()));
+        a.setStartDate(first(a.getStartDate(), b.getStartDate()));
+        a.setEndDate(first(a.getEndDate(), b.getEndDate()));
+        a.setIsCurrent(a.getIsCurrent() != null ? a.getIsCurrent() : b.getIsCurrent());
+        a.setDescription(join(a.getDescription(), b.getDescription()));
+        a.setAchievements(union(a.getAchievements(), b.getAchievements()));
+        a.setTechnologies(union(a.getTechnologies(), b.getTechnologies()));
+        return a;
+    }
+
+    private static ParsedContent.Education mergeEducation(ParsedContent.Education a, ParsedContent.Education b) {
+        a.setDegree(first(a.getDegree(), b.getDegree()));
+        a.setField(first(a.getField(), b.getField()));
+        a.setLocation(first(a.getLocation(), b.getLocation()));
+        a.setStartDate(first(a.getStartDate(), b.getStartDate()));
+        a.setEndDate(first(a.getEndDate(), b.getEndDate()));
+        a.setGraduationDate(first(a.getGraduationDate(), b.getGraduationDate()));
+        a.setGpa(first(a.getGpa(), b.getGpa()));
+        a.setDescription(join(a.getDescription(), b.getDescription()));
+        a.setActivities(union(a.getActivities(), b.getActivities()));
+        a.setHonors(union(a.getHonors(), b.getHonors()));
+        return a;
+    }
+
+    private static ParsedContent.Project mergeProject(ParsedContent.Project a, ParsedContent.Project b) {
+        a.setDescription(join(a.getDescription(), b.getDescription()));
+        a.setUrl(first(a.getUrl(), b.getUrl()));
+        a.setRepoUrl(first(a.getRepoUrl(), b.getRepoUrl()));
+        a.setStartDate(first(a.getStartDate(), b.getStartDate()));
+        a.setEndDate(first(a.getEndDate(), b.getEndDate()));
+        a.setTechnologies(union(a.getTechnologies(), b.getTechnologies()));
+        a.setHighlights(union(a.getHighlights(), b.getHighlights()));
+        return a;
+    }
+
+    /**
+     * 逐条并入：与已有条目匹配时合并到已有条目，否则追加到末尾
+     */
+    private static <T> void mergeInto(List<T> target, List<T> items, BiPredicate<T, T> sameEntry,
+                                      BinaryOperator<T> combine) {
+        if (items == null) {
+            return;
+        }
+        for (T item : items) {
+            if (item == null) {
+                continue;
+            }
+            int index = indexOf(target, item, sameEntry);
+            if (index >= 0) {
+                target.set(index, combine.apply(target.get(index), item));
+            } else {
+                target.add(item);
+            }
+        }
+    }
+
+    private static <T> int indexOf(List<T> list, T item, BiPredicate<T, T> sameEntry) {
+        for (int i = 0; i < list.size(); i++) {
+            if (sameEntry.test(list.get(i), item)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static List<String> union(List<String> a, List<String> b) {
+        List<String> result = a != null ? new ArrayList<>(a) : new ArrayList<>();
+        if (b != null) {
+            for (String value : b) {
+                if (value != null && result.stream().noneMatch(existing -> same(existing, value))) {
+                    result.add(value);
+                }
+            }
+        }
+        return result;
+    }
+
+    // 同一条目跨页时两段描述各自只有一部分，拼接保留完整内容
+    private static String join(String a, String b) {
+        if (isBlank(a)) {
+            return b;
+        }
+        if (isBlank(b) || a.contains(b.strip())) {
+            return a;
+        }
+        return a + "\n" + b;
+    }
+
+    private static String first(String current, String candidate) {
+        return isBlank(current) ? candidate : current;
+    }
+
+    // 键字段都非空且忽略大小写、空白后相同才视为同一条目
+    private static boolean same(String a, String b) {
+        return !isBlank(a) && !isBlank(b) && Objects.equals(normalize(a), normalize(b));
+    }
+
+    // 任一侧缺失时不作为区分依据（跨页的后半段条目常常缺少起止时间）
+    private static boolean compatible(String a, String b) {
+        return isBlank(a) || isBlank(b) || Objects.equals(normalize(a), normalize(b));
+    }
+
+    private static String normalize(String value) {
+        return value.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
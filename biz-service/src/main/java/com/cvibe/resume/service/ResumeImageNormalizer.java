@@ -0,0 +1,294 @@
+package com.cvibe.resume.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.w3c.dom.Node;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 图片简历预处理
+ *
+ * 手机拍摄/扫描的简历图片在发送给视觉模型前统一处理：
+ * 按 EXIF 方向摆正 -> 缩放到目标长边 -> 转灰度 -> 重新编码为 JPEG（不写入 EXIF）。
+ * 解码时按比例降采样，不会完整展开千万像素的原图；
+ * 编解码在固定大小的平台线程池中执行，限制同时占用的 CPU 与堆内存。
+ * 处理前后的字节数以 resume.image.normalize.bytes（stage=original/normalized）指标导出。
+ */
+@Slf4j
+@Component
+public class ResumeImageNormalizer {
+
+    private static final String JPEG = "image/jpeg";
+    private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+    private static final int APP1_MARKER = 0xE1;
+    private static final int EXIF_ORIENTATION_TAG = 0x0112;
+
+    private final boolean enabled;
+    private final int targetLongEdge;
+    private final float jpegQuality;
+    private final ExecutorService pool;
+
+    private final Counter originalBytes;
+    private final Counter normalizedBytes;
+
+    public ResumeImageNormalizer(
+            MeterRegistry meterRegistry,
+            @Value("${resume.image.enabled:true}") boolean enabled,
+            @Value("${resume.image.target-long-edge:1600}") int targetLongEdge,
+            @Value("${resume.image.jpeg-quality:0.8}") float jpegQuality,
+            @Value("${resume.image.max-threads:2}") int maxThreads) {
+        this.enabled = enabled;
+        this.targetLongEdge = targetLongEdge;
+        this.jpegQuality = jpegQuality;
+        this.pool = Executors.newFixedThreadPool(maxThreads,
+                Thread.ofPlatform().name("resume-image-", 0).daemon(true).factory());
+
+        this.originalBytes = Counter.builder("resume.image.normalize.bytes")
+                .tag("stage", "original")
+                .description("Resume image bytes before and after normalization")
+                .register(meterRegistry);
+        this.normalizedBytes = Counter.builder("resume.image.normalize.bytes")
+                .tag("stage", "normalized")
+                .description("Resume image bytes before and after normalization")
+                .register(meterRegistry);
+        log.info("Resume image normalizer initialized: enabled={}, targetLongEdge={}, maxThreads={}",
+                enabled, targetLongEdge, maxThreads);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(10, TimeUnit.SECONDS)) {
+                pool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 是否为需要预处理的图片
+     */
+    public boolean supports(String contentType, String fileName) {
+        if (!enabled) {
+            return false;
+        }
+        String type = contentType != null ? contentType.toLowerCase() : "";
+        String name = fileName != null ? fileName.toLowerCase() : "";
+        return type.startsWith("image/")
+                || name.endsWith(".png") || name.endsWith(".jpg") || name.endsWith(".jpeg") || name.endsWith(".webp");
+    }
+
+    /**
+     * 预处理图片
+     *
+     * 无法解码（如 JDK 不支持的 WebP）、处理失败或结果不比原图小时返回 empty，调用方应发送原文件。
+     *
+     * @param content 图片内容，由调用方关闭
+     */
+    public Optional<NormalizedImage> normalize(InputStream content, String contentType, String fileName) {
+        if (!supports(contentType, fileName)) {
+            return Optional.empty();
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            // 读取在调用线程完成，线程池只做编解码
+            byte[] original = content.readAllBytes();
+            byte[] normalized = pool.submit(() -> process(original)).get();
+            if (normalized == null) {
+                log.info("图片格式不支持预处理，发送原图: file={}, type={}", fileName, contentType);
+                return Optional.empty();
+            }
+
+            originalBytes.increment(original.length);
+            if (normalized.length >= original.length) {
+                normalizedBytes.increment(original.length);
+                log.info("图片预处理后未变小，发送原图: file={}, bytes={}", fileName, original.length);
+                return Optional.empty();
+            }
+            normalizedBytes.increment(normalized.length);
+            log.info("图片预处理完成: file={}, bytes={} -> {}, elapsed={}ms",
+                    fileName, original.length, normalized.length, System.currentTimeMillis() - start);
+            return Optional.of(new NormalizedImage(normalized, JPEG));
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (ExecutionException | IOException e) {
+            Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+            log.warn("图片预处理失败，发送原图: file={}, error={}", fileName, cause.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 解码 -> 摆正、缩放、灰度 -> JPEG 编码；没有可用解码器时返回 null
+     */
+    private byte[] process(byte[] original) throws IOException {
+        try (ImageInputStream input = new MemoryCacheImageInputStream(new ByteArrayInputStream(original))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, false);
+                int orientation = readOrientation(reader);
+
+                // 按整数倍降采样解码，解码结果的长边仍不小于目标长边，再做一次平滑缩放
+                int longEdge = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int step = Math.max(1, longEdge / targetLongEdge);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                BufferedImage decoded = reader.read(0, param);
+
+                return encodeJpeg(toGrayscale(decoded, orientation));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage toGrayscale(BufferedImage source, int orientation) {
+        double scale = Math.min(1.0, (double) targetLongEdge / Math.max(source.getWidth(), source.getHeight()));
+        int scaledWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int scaledHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        boolean rotated = orientation == 6 || orientation == 8;
+        int width = rotated ? scaledHeight : scaledWidth;
+        int height = rotated ? scaledWidth : scaledHeight;
+
+        AffineTransform transform = new AffineTransform();
+        switch (orientation) {
+            case 3 -> {
+                transform.translate(width, height);
+                transform.rotate(Math.PI);
+            }
+            case 6 -> {
+                transform.translate(width, 0);
+                transform.rotate(Math.PI / 2);
+            }
+            case 8 -> {
+                transform.translate(0, height);
+                transform.rotate(-Math.PI / 2);
+            }
+            default -> {
+            }
+        }
+        transform.scale(scale, scale);
+
+        BufferedImage gray = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D g = gray.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            // 透明背景（PNG 截图）按白纸处理
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(source, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return gray;
+    }
+
+    // 只写入像素数据，原图的 EXIF 等元数据不会保留
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (MemoryCacheImageOutputStream output = new MemoryCacheImageOutputStream(buffer)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * 读取 JPEG 的 EXIF 方向（1=正常，3=旋转 180°，6=顺时针 90°，8=逆时针 90°），其他格式或读取失败时返回 1
+     */
+    private int readOrientation(ImageReader reader) {
+        try {
+            IIOMetadata metadata = reader.getImageMetadata(0);
+            if (metadata == null || !JPEG_METADATA_FORMAT.equals(metadata.getNativeMetadataFormatName())) {
+                return 1;
+            }
+            Node markers = metadata.getAsTree(JPEG_METADATA_FORMAT).getLastChild();
+            for (Node node = markers.getFirstChild(); node != null; node = node.getNextSibling()) {
+                if ("unknown".equals(node.getNodeName()) && node instanceof IIOMetadataNode marker
+                        && String.valueOf(APP1_MARKER).equals(marker.getAttribute("MarkerTag"))
+                        && marker.getUserObject() instanceof byte[] app1) {
+                    return exifOrientation(app1);
+                }
+            }
+        } catch (Exception e) {
+            log.debug("读取 EXIF 方向失败: {}", e.getMessage());
+        }
+        return 1;
+    }
+
+    // APP1 段: "Exif\0\0" + TIFF 头 + IFD0，在 IFD0 中查找 Orientation 标签
+    private static int exifOrientation(byte[] app1) {
+        if (app1.length < 14 || app1[0] != 'E' || app1[1] != 'x' || app1[2] != 'i' || app1[3] != 'f') {
+            return 1;
+        }
+        ByteBuffer tiff = ByteBuffer.wrap(app1, 6, app1.length - 6).slice();
+        tiff.order(tiff.get(0) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        int ifd = tiff.getInt(4);
+        int entries = tiff.getShort(ifd) & 0xFFFF;
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > tiff.limit()) {
+                break;
+            }
+            if ((tiff.getShort(entry) & 0xFFFF) == EXIF_ORIENTATION_TAG) {
+                return tiff.getShort(entry + 8) & 0xFFFF;
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * 预处理后的图片
+     */
+    public record NormalizedImage(byte[] data, String contentType) {
+    }
+}
@@ -0,0 +1,579 @@
+package com.cvibe.resume.service;
+
+import com.cvibe.auth.entity.User;
+import com.cvibe.auth.repository.UserRepository;
+import com.cvibe.common.exception.BusinessException;
+import com.cvibe.common.exception.ErrorCode;
+import com.cvibe.notification.service.NotificationService;
+import com.cvibe.resume.dto.ResumeImportBatchDto;
+import com.cvibe.resume.dto.ResumeParseStatusDto;
+import com.cvibe.resume.entity.ResumeHistory;
+import com.cvibe.resume.entity.ResumeImportBatch;
+import com.cvibe.resume.entity.ResumeImportStatus;
+import com.cvibe.resume.entity.ResumeStatus;
+import com.cvibe.resume.repository.ResumeHistoryRepository;
+import com.cvibe.resume.repository.ResumeImportBatchRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 简历批量导入服务
+ *
+ * 一次请求接收一个 ZIP 或多个文件：
+ * - ZIP 逐条目流式写入 MinIO，不缓冲整个压缩包，单个条目超过大小限制即中止该条目
+ * - 每个文件落库一条关联批次的 PROCESSING 记录，类型不支持、超限等文件记为跳过，不影响其他文件
+ * - 解析交给 {@link ResumeParseService#submitBatch}，同一批次并发数受限，不逐份通知
+ * - 每份解析结束时原子累加批次计数，全部结束后标记批次完成并推送一条汇总通知
+ * - 节点停止时中断的文件由定时扫描按批次重新提交，批次完成的标记只会成功一次
+ * - 接收过程中出现意外异常时停止接收，已落库的文件照常提交解析；请求在写入文件数之前失败的批次
+ *   （例如节点停止），在最后一个文件落库超过认领过期时长后由定时扫描按已落库的文件补做收尾
+ */
+@Service
+@Slf4j
+public class ResumeImportService {
+
+    // 压缩包条目没有 Content-Type，按扩展名确定（与单文件上传允许的类型一致）
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "pdf", "application/pdf",
+            "doc", "application/msword",
+            "docx", "application/vnd.openxmlformats-officedocument.wordprocessingml.document",
+            "png", "image/png",
+            "jpg", "image/jpeg",
+            "jpeg", "image/jpeg",
+            "webp", "image/webp"
+    );
+
+    // 没有 UTF-8 标志位的条目名逐条判断编码：macOS 归档实用工具等按 UTF-8 编码但不设置标志位，
+    // Windows 资源管理器等按系统代码页（中文系统为 GBK）编码；先按 UTF-8 严格解码，失败再按 GBK
+    private static final Charset ZIP_NAME_FALLBACK_CHARSET = Charset.forName("GBK");
+
+    private static final TypeReference<List<ResumeImportBatchDto.SkippedFile>> SKIPPED_LIST =
+            new TypeReference<>() {};
+
+    private final ResumeImportBatchRepository batchRepository;
+    private final ResumeHistoryRepository resumeRepository;
+    private final UserRepository userRepository;
+    private final ResumeStorageService storageService;
+    private final ResumeService resumeService;
+    private final ResumeParseService parseService;
+    private final NotificationService notificationService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    // 单批最多接收的文件数
+    private final int maxFiles;
+
+    // 单批同时解析的文件数上限
+    private final int parallelism;
+
+    // 以请求体流式上传的压缩包大小上限
+    private final long maxArchiveBytes;
+
+    public ResumeImportService(
+            ResumeImportBatchRepository batchRepository,
+            ResumeHistoryRepository resumeRepository,
+            UserRepository userRepository,
+            ResumeStorageService storageService,
+            ResumeService resumeService,
+            ResumeParseService parseService,
+            NotificationService notificationService,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${resume.import.max-files:500}") int maxFiles,
+            @Value("${resume.import.max-concurrency:4}") int parallelism,
+            @Value("${resume.import.max-archive-size:200MB}") DataSize maxArchiveSize) {
+        this.batchRepository = batchRepository;
+        this.resumeRepository = resumeRepository;
+        this.userRepository = userRepository;
+        this.storageService = storageService;
+        this.resumeService = resumeService;
+        this.parseService = parseService;
+        this.notificationService = notificationService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxFiles = maxFiles;
+        this.parallelism = parallelism;
+        this.maxArchiveBytes = maxArchiveSize.toBytes();
+    }
+
+    /**
+     * 批量导入简历：提供 archive 时导入 ZIP 中的文件，否则导入 files 中的各个文件
+     */
+    public ResumeImportBatchDto importResumes(UUID userId, MultipartFile archive, List<MultipartFile> files) {
+        if (archive != null && !archive.isEmpty()) {
+            return importArchive(userId, archive);
+        }
+        if (files == null || files.stream().allMatch(file -> file == null || file.isEmpty())) {
+            throw new BusinessException(ErrorCode.FILE_EMPTY);
+        }
+        return importFiles(userId, files);
+    }
+
+    /**
+     * 批量导入以请求体流式上传的 ZIP：不经过 multipart 缓冲，读取超过 max-archive-size 时停止接收
+     *
+     * @param contentLength 请求体字节数，未知时为 -1
+     */
+    public ResumeImportBatchDto importArchive(UUID userId, InputStream content, long contentLength, String archiveName) {
+        if (contentLength > maxArchiveBytes) {
+            throw new BusinessException(ErrorCode.FILE_TOO_LARGE,
+                    "压缩包超过 " + DataSize.ofBytes(maxArchiveBytes).toMegabytes() + "MB");
+        }
+        return importArchive(userId, new BoundedEntryStream(content, maxArchiveBytes),
+                archiveName != null && !archiveName.isBlank() ? archiveName : "archive.zip");
+    }
+
+    /**
+     * 查询批次进度及每个文件的解析状态
+     */
+    public ResumeImportBatchDto getBatch(UUID userId, UUID batchId) {
+        ResumeImportBatch batch = batchRepository.findById(batchId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESUME_IMPORT_NOT_FOUND));
+
+        if (!batch.getUser().getId().equals(userId)) {
+            throw new BusinessException(ErrorCode.FORBIDDEN, "无权访问此导入批次");
+        }
+
+        List<ResumeParseStatusDto> files = resumeRepository.findByImportBatchIdOrderByCreatedAtAsc(batchId).stream()
+                .map(ResumeParseStatusDto::fromEntity)
+                .toList();
+        return ResumeImportBatchDto.fromEntity(batch, files, parseSkipped(batch.getSkippedJson()));
+    }
+
+    /**
+     * 接管中断的批次：重新提交认领已过期的文件；文件都已结束但未标记完成的批次补做完成；
+     * 接收中途失败的批次先补写文件数
+     */
+    @Scheduled(fixedDelayString = "${resume.parse.recover-interval-ms:60000}", initialDelay = 45000)
+    public void recoverStaleBatches() {
+        Instant staleBefore = parseService.claimStaleBefore();
+        for (ResumeImportBatch batch : batchRepository.findByStatus(ResumeImportStatus.PROCESSING)) {
+            // 仍在接收文件的批次还没有提交解析
+            if ((batch.getTotalFiles() == null || batch.getTotalFiles() == 0) && !recoverIntake(batch, staleBefore)) {
+                continue;
+            }
+            BatchProgress progress = new BatchProgress(batch.getId(), batch.getUser().getId(),
+                    parseSkipped(batch.getSkippedJson()).size());
+            List<UUID> stale = resumeRepository.findStaleBatchParses(batch.getId(), staleBefore);
+            if (stale.isEmpty()) {
+                progress.onFinished();
+            } else {
+                log.info("重新提交中断的导入批次: batchId={}, count={}", batch.getId(), stale.size());
+                parseService.submitBatch(stale, parallelism, progress);
+            }
+        }
+    }
+
+    /**
+     * 接收请求在写入文件数之前失败的批次：最后一个文件落库已超过认领过期时长时，按已落库的文件补写文件数，
+     * 一个文件都没有时删除批次
+     *
+     * @return 补写成功、可以按普通批次接管时返回 true
+     */
+    private boolean recoverIntake(ResumeImportBatch batch, Instant staleBefore) {
+        if (batch.getCreatedAt() == null || !batch.getCreatedAt().isBefore(staleBefore)) {
+            return false;
+        }
+        UUID batchId = batch.getId();
+        Instant lastImported = resumeRepository.findLastImportedAt(batchId);
+        if (lastImported != null && !lastImported.isBefore(staleBefore)) {
+            return false;
+        }
+
+        long files = resumeRepository.countByImportBatchId(batchId);
+        if (files == 0) {
+            transactionTemplate.executeWithoutResult(status -> batchRepository.deleteAbandonedIntake(batchId));
+            log.warn("删除接收中断且没有文件的导入批次: batchId={}", batchId);
+            return false;
+        }
+        Integer updated = transactionTemplate.execute(status ->
+                batchRepository.recordTotalFiles(batchId, (int) files));
+        if (updated == null || updated == 0) {
+            return false;
+        }
+        log.warn("导入批次接收中断，按已落库的文件补做收尾: batchId={}, files={}", batchId, files);
+        return true;
+    }
+
+    private ResumeImportBatchDto importArchive(UUID userId, MultipartFile archive) {
+        try (InputStream content = archive.getInputStream()) {
+            return importArchive(userId, content, archive.getOriginalFilename());
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "读取压缩包失败: " + e.getMessage());
+        }
+    }
+
+    private ResumeImportBatchDto importArchive(UUID userId, InputStream archive, String archiveName) {
+        Intake intake = startIntake(userId);
+
+        try (ZipArchiveInputStream zip = new ZipArchiveInputStream(
+                archive, StandardCharsets.UTF_8.name(), true, true)) {
+            ZipArchiveEntry entry;
+            while ((entry = zip.getNextZipEntry()) != null) {
+                if (entry.isDirectory()) {
+                    continue;
+                }
+                String entryName = entryName(entry);
+                if (entryName == null) {
+                    // 只跳过这一个条目，其余条目照常导入
+                    intake.skip(baseName(new String(entry.getRawName(), StandardCharsets.UTF_8)), "文件名编码无法识别");
+                    continue;
+                }
+                if (isHiddenEntry(entryName)) {
+                    continue;
+                }
+                String fileName = baseName(entryName);
+                if (intake.isFull()) {
+                    intake.skip(fileName, "超出单批最多 " + maxFiles + " 份的限制，之后的文件未导入");
+                    break;
+                }
+                if (!zip.canReadEntryData(entry)) {
+                    intake.skip(fileName, "文件已加密或使用了不支持的压缩方式");
+                    continue;
+                }
+                importEntry(intake, zip, fileName);
+            }
+        } catch (IOException e) {
+            // 压缩包损坏：已读取的文件照常解析，读取中断记为跳过
+            log.warn("读取导入压缩包中断: userId={}, file={}, error={}", userId, archiveName, e.getMessage());
+            intake.skip(archiveName, "压缩包读取中断: " + e.getMessage());
+        } catch (RuntimeException e) {
+            // 存储或数据库异常：停止接收，已落库的文件照常提交解析
+            log.error("导入压缩包中断: userId={}, file={}", userId, archiveName, e);
+            intake.skip(archiveName, "导入中断，之后的文件未导入: " + e.getMessage());
+        }
+
+        return finishIntake(intake);
+    }
+
+    private ResumeImportBatchDto importFiles(UUID userId, List<MultipartFile> files) {
+        Intake intake = startIntake(userId);
+
+        for (MultipartFile file : files) {
+            if (file == null || file.isEmpty()) {
+                continue;
+            }
+            String fileName = file.getOriginalFilename();
+            if (intake.isFull()) {
+                intake.skip(fileName, "超出单批最多 " + maxFiles + " 份的限制，之后的文件未导入");
+                break;
+            }
+            try {
+                resumeService.validateFile(file);
+                ResumeStorageService.StoredFile stored = storageService.uploadFile(file, userId);
+                intake.accept(stored, fileName, file.getSize(), file.getContentType());
+            } catch (BusinessException e) {
+                intake.skip(fileName, e.getMessage());
+            } catch (RuntimeException e) {
+                // 存储或数据库异常：停止接收，已落库的文件照常提交解析
+                log.error("导入文件中断: userId={}, file={}", userId, fileName, e);
+                intake.skip(fileName, "导入中断，之后的文件未导入: " + e.getMessage());
+                break;
+            }
+        }
+
+        return finishIntake(intake);
+    }
+
+    /**
+     * 将当前 ZIP 条目流式写入 MinIO
+     *
+     * 大小未知时 MinIO 客户端先读满第一个分块再决定单次上传还是分块上传；存储服务的分块大于单个文件上限，
+     * 所以条目要么以单次 PUT 写入，要么在读第一个分块时就被 BoundedEntryStream 中止，
+     * 超限或读取失败的条目不会在 MinIO 留下未完成的分块上传。
+     */
+    private void importEntry(Intake intake, ZipArchiveInputStream zip, String fileName) {
+        String contentType = CONTENT_TYPES.get(extension(fileName));
+        if (contentType == null) {
+            intake.skip(fileName, "仅支持 PDF、DOC、DOCX、PNG、JPG、WEBP 格式的文件");
+            return;
+        }
+
+        BoundedEntryStream content = new BoundedEntryStream(zip, ResumeService.MAX_FILE_SIZE);
+        ResumeStorageService.StoredFile stored;
+        try {
+            stored = storageService.uploadStream(content, -1, fileName, contentType, intake.user.getId());
+        } catch (BusinessException e) {
+            intake.skip(fileName, content.exceeded ? "文件超过 10MB" : e.getMessage());
+            return;
+        }
+
+        if (content.count == 0) {
+            storageService.deleteFile(stored.objectName());
+            intake.skip(fileName, "文件为空");
+            return;
+        }
+        intake.accept(stored, fileName, content.count, contentType);
+    }
+
+    private Intake startIntake(UUID userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+        ResumeImportBatch batch = batchRepository.save(ResumeImportBatch.builder().user(user).build());
+        return new Intake(user, batch);
+    }
+
+    /**
+     * 写入批次汇总并提交解析；一个文件都没有接收时删除批次并报错
+     */
+    private ResumeImportBatchDto finishIntake(Intake intake) {
+        ResumeImportBatch batch = intake.batch;
+        if (intake.accepted.isEmpty()) {
+            batchRepository.delete(batch);
+            String reasons = intake.skipped.stream()
+                    .limit(5)
+                    .map(s -> s.getFileName() + ": " + s.getReason())
+                    .reduce((a, b) -> a + "; " + b)
+                    .orElse("未找到文件");
+            throw new BusinessException(ErrorCode.RESUME_IMPORT_EMPTY, "没有可导入的简历文件（" + reasons + "）");
+        }
+
+        batch.setTotalFiles(intake.accepted.size());
+        batch.setSkippedJson(intake.skipped.isEmpty() ? null : toJson(intake.skipped));
+        batch = batchRepository.save(batch);
+
+        UUID userId = intake.user.getId();
+        List<UUID> resumeIds = intake.accepted.stream().map(ResumeHistory::getId).toList();
+        parseService.submitBatch(resumeIds, parallelism,
+                new BatchProgress(batch.getId(), userId, intake.skipped.size()));
+        log.info("简历批量导入已提交解析: userId={}, batchId={}, accepted={}, skipped={}",
+                userId, batch.getId(), resumeIds.size(), intake.skipped.size());
+
+        List<ResumeParseStatusDto> files = intake.accepted.stream()
+                .map(ResumeParseStatusDto::fromEntity)
+                .toList();
+        return ResumeImportBatchDto.fromEntity(batch, files, intake.skipped);
+    }
+
+    /**
+     * 批次的解析进度回调：逐份累加计数，整批结束后标记完成并推送一条汇总通知
+     */
+    private class BatchProgress implements ResumeParseService.BatchListener {
+
+        private final UUID batchId;
+        private final UUID userId;
+        private final int skipped;
+
+        BatchProgress(UUID batchId, UUID userId, int skipped) {
+            this.batchId = batchId;
+            this.userId = userId;
+            this.skipped = skipped;
+        }
+
+        @Override
+        public void onParsed(UUID resumeId, boolean success) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (success) {
+                        batchRepository.incrementParsed(batchId);
+                    } else {
+                        batchRepository.incrementFailed(batchId);
+                    }
+                });
+            } catch (Exception e) {
+                log.warn("更新导入批次进度失败: batchId={}, resumeId={}, error={}", batchId, resumeId, e.getMessage());
+            }
+        }
+
+        @Override
+        public void onFinished() {
+            try {
+                Integer finished = transactionTemplate.execute(status ->
+                        batchRepository.markFinished(batchId, ResumeImportStatus.COMPLETED, Instant.now()));
+                // 还有文件在其他节点解析，或批次已由其他节点标记完成
+                if (finished == null || finished == 0) {
+                    return;
+                }
+                ResumeImportBatch batch = batchRepository.findById(batchId).orElse(null);
+                if (batch == null) {
+                    return;
+                }
+                log.info("简历批量导入完成: userId={}, batchId={}, parsed={}, failed={}, skipped={}",
+                        userId, batchId, batch.getParsedFiles(), batch.getFailedFiles(), skipped);
+                notificationService.sendResumeImportNotification(
+                        userId, batchId, batch.getParsedFiles(), batch.getFailedFiles(), skipped);
+            } catch (Exception e) {
+                log.warn("完成导入批次失败: batchId={}, error={}", batchId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 一次导入请求中已接收和跳过的文件
+     */
+    private class Intake {
+
+        private final User user;
+        private final ResumeImportBatch batch;
+        private final List<ResumeHistory> accepted = new ArrayList<>();
+        private final List<ResumeImportBatchDto.SkippedFile> skipped = new ArrayList<>();
+
+        Intake(User user, ResumeImportBatch batch) {
+            this.user = user;
+            this.batch = batch;
+        }
+
+        boolean isFull() {
+            return accepted.size() >= maxFiles;
+        }
+
+        void accept(ResumeStorageService.StoredFile stored, String fileName, long size, String contentType) {
+            ResumeHistory resume = ResumeHistory.builder()
+                    .user(user)
+                    .fileName(baseName(stored.objectName()))
+                    .originalName(fileName)
+                    .filePath(stored.objectName())
+                    .fileSize(size)
+                    .contentType(contentType)
+                    .contentHash(stored.contentHash())
+                    .status(ResumeStatus.PROCESSING)
+                    .isPrimary(false)
+                    .importBatchId(batch.getId())
+                    .build();
+            accepted.add(resumeRepository.save(resume));
+        }
+
+        void skip(String fileName, String reason) {
+            skipped.add(ResumeImportBatchDto.SkippedFile.builder()
+                    .fileName(fileName)
+                    .reason(reason)
+                    .build());
+        }
+    }
+
+    /**
+     * 限制字节数的输入流（ZIP 条目、流式上传的压缩包）：统计字节数，超过上限时抛出 IOException；
+     * 关闭时不关闭底层输入流，由读取方关闭
+     */
+    private static final class BoundedEntryStream extends FilterInputStream {
+
+        private final long limit;
+        private long count;
+        private boolean exceeded;
+
+        BoundedEntryStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                advance(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                advance(n);
+            }
+            return n;
+        }
+
+        @Override
+        public void close() {
+            // 由读取压缩包的一方关闭
+        }
+
+        private void advance(int n) throws IOException {
+            count += n;
+            if (count > limit) {
+                exceeded = true;
+                throw new IOException("文件超过大小限制");
+            }
+        }
+    }
+
+    /**
+     * 条目文件名：带 Unicode 扩展字段或 UTF-8 标志位时按 UTF-8，否则先按 UTF-8 再按 GBK 严格解码；都无法解码时返回 null
+     */
+    static String entryName(ZipArchiveEntry entry) {
+        if (entry.getNameSource() == ZipArchiveEntry.NameSource.UNICODE_EXTRA_FIELD) {
+            return entry.getName();
+        }
+        byte[] raw = entry.getRawName();
+        String name = decodeStrict(raw, StandardCharsets.UTF_8);
+        if (name == null && !entry.getGeneralPurposeBit().usesUTF8ForNames()) {
+            name = decodeStrict(raw, ZIP_NAME_FALLBACK_CHARSET);
+        }
+        return name;
+    }
+
+    private static String decodeStrict(byte[] bytes, Charset charset) {
+        try {
+            return charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(ByteBuffer.wrap(bytes))
+                    .toString();
+        } catch (CharacterCodingException e) {
+            return null;
+        }
+    }
+
+    // macOS 压缩时附带的 __MACOSX/ 与 ._ 文件、隐藏文件不导入
+    private static boolean isHiddenEntry(String entryName) {
+        return entryName.startsWith("__MACOSX/") || baseName(entryName).startsWith(".");
+    }
+
+    private static String baseName(String path) {
+        int lastSlash = Math.max(path.lastIndexOf('/'), path.lastIndexOf('\\'));
+        return lastSlash >= 0 ? path.substring(lastSlash + 1) : path;
+    }
+
+    private static String extension(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot >= 0 ? fileName.substring(dot + 1).toLowerCase() : "";
+    }
+
+    private String toJson(Object obj) {
+        try {
+            return objectMapper.writeValueAsString(obj);
+        } catch (JsonProcessingException e) {
+            log.error("序列化 JSON 失败", e);
+            return null;
+        }
+    }
+
+    private List<ResumeImportBatchDto.SkippedFile> parseSkipped(String json) {
+        if (json == null || json.isBlank()) {
+            return Collections.emptyList();
+        }
+        try {
+            return objectMapper.readValue(json, SKIPPED_LIST);
+        } catch (JsonProcessingException e) {
+            log.warn("解析导入批次跳过列表失败: {}", e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.cvibe.resume.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.multipdf.Splitter;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 多页 PDF 简历拆分
+ *
+ * 页数达到阈值的 PDF 按固定页数拆成若干页组，每个页组是一份独立的 PDF，
+ * 由解析服务并发发送给 AI Engine，解析耗时不再随页数线性增长，单个慢页也只拖慢所在页组。
+ */
+@Slf4j
+@Component
+public class ResumePageSplitter {
+
+    private final boolean enabled;
+    private final int minPages;
+    private final int pagesPerGroup;
+
+    public ResumePageSplitter(
+            @Value("${resume.split.enabled:true}") boolean enabled,
+            @Value("${resume.split.min-pages:3}") int minPages,
+            @Value("${resume.split.pages-per-group:2}") int pagesPerGroup) {
+        this.enabled = enabled;
+        this.minPages = minPages;
+        this.pagesPerGroup = Math.max(1, pagesPerGroup);
+    }
+
+    /**
+     * 是否可能拆分该文件（只支持 PDF）
+     */
+    public boolean supports(String contentType, String fileName) {
+        if (!enabled) {
+            return false;
+        }
+        String type = contentType != null ? contentType.toLowerCase() : "";
+        String name = fileName != null ? fileName.toLowerCase() : "";
+        return type.equals("application/pdf") || name.endsWith(".pdf");
+    }
+
+    /**
+     * 拆分 PDF，页数不足阈值或拆分失败时返回空列表（调用方应整份解析）
+     *
+     * @param content PDF 内容，由调用方关闭
+     * @return 按页码顺序排列的页组
+     */
+    public List<PageGroup> split(InputStream content, String fileName) {
+        if (!enabled) {
+            return List.of();
+        }
+
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile("resume-split-", ".pdf");
+            Files.copy(content, tempFile, StandardCopyOption.REPLACE_EXISTING);
+
+            try (PDDocument document = Loader.loadPDF(tempFile.toFile(), null, null, null,
+                    IOUtils.createTempFileOnlyStreamCache())) {
+                int pages = document.getNumberOfPages();
+                if (pages < minPages) {
+                    return List.of();
+                }
+
+                Splitter splitter = new Splitter();
+                splitter.setSplitAtPage(pagesPerGroup);
+                List<PDDocument> parts = splitter.split(document);
+
+                List<PageGroup> groups = new ArrayList<>(parts.size());
+                int firstPage = 1;
+                for (PDDocument part : parts) {
+                    try (part) {
+                        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+                        part.save(buffer);
+                        groups.add(new PageGroup(firstPage, part.getNumberOfPages(), buffer.toByteArray()));
+                        firstPage += part.getNumberOfPages();
+                    }
+                }
+                log.info("PDF 简历拆分完成: file={}, pages={}, groups={}", fileName, pages, groups.size());
+                return groups;
+            }
+
+        } catch (Exception e) {
+            log.warn("PDF 简历拆分失败，整份解析: file={}, error={}", fileName, e.getMessage());
+            return List.of();
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException e) {
+                    log.warn("删除临时文件失败: {}", tempFile);
+                }
+            }
+        }
+    }
+
+    /**
+     * 页组
+     *
+     * @param firstPage 起始页码（从 1 开始）
+     * @param pageCount 页数
+     * @param data 只包含这些页的 PDF
+     */
+    public record PageGroup(int firstPage, int pageCount, byte[] data) {
+
+        public int lastPage() {
+            return firstPage + pageCount - 1;
+        }
+    }
+}
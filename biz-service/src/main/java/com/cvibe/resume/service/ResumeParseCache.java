@@ -0,0 +1,151 @@
+package com.cvibe.resume.service;
+
+import com.cvibe.common.util.LruMaps;
+import com.cvibe.resume.dto.ParsedContent;
+import com.cvibe.resume.repository.ResumeParseCacheRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 简历解析结果缓存
+ *
+ * 以（文件内容 SHA-256, 解析器版本）为键：
+ * - 进程内 LRU 保存最近使用的结果，命中时不访问数据库
+ * - resume_parse_cache 表持久保存所有结果，跨实例、跨重启共享
+ * AI Engine 的模型或提示词变化时调整 resume.parse.cache.parser-version，旧结果不再被读取。
+ * 命中率以 resume.parse.cache.requests（result=hit/miss）和 resume.parse.cache.hit.ratio 指标导出。
+ * 缓存中的对象在调用方之间共享，只能读取。
+ */
+@Slf4j
+@Component
+public class ResumeParseCache {
+
+    private final ResumeParseCacheRepository cacheRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final String parserVersion;
+    private final Map<String, ParsedContent> recent;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public ResumeParseCache(
+            ResumeParseCacheRepository cacheRepository,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${resume.parse.cache.enabled:true}") boolean enabled,
+            @Value("${resume.parse.cache.parser-version:v1}") String parserVersion,
+            @Value("${resume.parse.cache.max-entries:1000}") int maxEntries) {
+        this.cacheRepository = cacheRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.parserVersion = parserVersion;
+        this.recent = LruMaps.create(maxEntries);
+
+        FunctionCounter.builder("resume.parse.cache.requests", hits, AtomicLong::get)
+                .tag("result", "hit")
+                .description("Resume parse cache lookups")
+                .register(meterRegistry);
+        FunctionCounter.builder("resume.parse.cache.requests", misses, AtomicLong::get)
+                .tag("result", "miss")
+                .description("Resume parse cache lookups")
+                .register(meterRegistry);
+        Gauge.builder("resume.parse.cache.hit.ratio", this, cache -> cache.getStats().hitRatio())
+                .description("Share of resume parse cache lookups served without calling the AI Engine")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 查询该文件内容在当前解析器版本下的解析结果
+     */
+    public Optional<ParsedContent> get(String contentHash) {
+        if (!enabled || contentHash == null) {
+            return Optional.empty();
+        }
+        synchronized (recent) {
+            ParsedContent cached = recent.get(contentHash);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return Optional.of(cached);
+            }
+        }
+
+        Optional<ParsedContent> stored = cacheRepository.findParsedData(contentHash, parserVersion)
+                .map(this::fromJson);
+        if (stored.isPresent()) {
+            hits.incrementAndGet();
+            synchronized (recent) {
+                recent.put(contentHash, stored.get());
+            }
+        } else {
+            misses.incrementAndGet();
+        }
+        return stored;
+    }
+
+    /**
+     * 保存一次 AI 解析的结果（替换已有结果，强制重新解析时用新结果覆盖）；
+     * 写入失败只记录日志，不影响解析流程
+     */
+    public void put(String contentHash, ParsedContent parsedContent) {
+        if (!enabled || contentHash == null) {
+            return;
+        }
+        try {
+            String json = objectMapper.writeValueAsString(parsedContent);
+            transactionTemplate.executeWithoutResult(status -> {
+                cacheRepository.deleteEntry(contentHash, parserVersion);
+                cacheRepository.insertIfAbsent(UUID.randomUUID(), contentHash, parserVersion, json);
+            });
+            synchronized (recent) {
+                recent.put(contentHash, parsedContent);
+            }
+        } catch (Exception e) {
+            log.warn("写入简历解析缓存失败: hash={}, error={}", contentHash, e.getMessage());
+        }
+    }
+
+    public Stats getStats() {
+        int size;
+        synchronized (recent) {
+            size = recent.size();
+        }
+        return new Stats(hits.get(), misses.get(), size);
+    }
+
+    // 无法反序列化的记录视为未命中，由新的解析结果覆盖使用
+    private ParsedContent fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, ParsedContent.class);
+        } catch (JsonProcessingException e) {
+            log.warn("简历解析缓存记录无法反序列化，按未命中处理: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 启动以来的命中/未命中次数
+     */
+    public record Stats(long hits, long misses, int size) {
+        public double hitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+}
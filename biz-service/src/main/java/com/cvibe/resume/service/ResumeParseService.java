@@ -0,0 +1,768 @@
+package com.cvibe.resume.service;
+
+import com.cvibe.common.grpc.AIEngineClient;
+import com.cvibe.common.util.TransactionUtils;
+import com.cvibe.notification.service.NotificationService;
+import com.cvibe.resume.dto.ParsedContent;
+import com.cvibe.resume.entity.ResumeHistory;
+import com.cvibe.resume.repository.ResumeHistoryRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 简历异步解析服务
+ *
+ * 上传/重新解析只负责落库一条 PROCESSING 记录并提交解析任务，
+ * AI Engine 调用在后台虚拟线程中执行，不占用数据库连接；
+ * 解析结果在一个短事务中写回，完成后向用户推送通知。
+ *
+ * 多节点部署时，提交任务的节点先以条件 UPDATE 认领记录，排队和解析期间定期刷新认领时间；
+ * 节点停止后认领过期，由任一节点的定时扫描重新认领并解析，同一记录不会被多个节点同时解析。
+ * 每次认领生成新的令牌，结果只在记录仍为 PROCESSING 且仍持有该令牌时写回，
+ * 认领过期后被接管（或期间被重新提交解析）的旧任务不会覆盖新的结果。
+ */
+@Service
+@Slf4j
+public class ResumeParseService {
+
+    private final ResumeHistoryRepository resumeRepository;
+    private final ResumeStorageService storageService;
+    private final ResumeParseCache parseCache;
+    private final ResumeTextExtractor textExtractor;
+    private final ResumeImageNormalizer imageNormalizer;
+    private final ResumePageSplitter pageSplitter;
+    private final AIEngineClient aiEngineClient;
+    private final NotificationService notificationService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    // 同时进行中的解析任务上限（超出的任务在虚拟线程中排队等待）
+    private final int maxConcurrency;
+
+    // 单份简历分页解析时同时进行中的页组请求上限
+    private final int pageConcurrency;
+
+    // 认领超过该时长未刷新视为节点已停止
+    private final Duration claimStaleAfter;
+
+    // 本节点已认领（排队或解析中）的简历及其认领令牌，定期刷新认领时间
+    private final Map<UUID, UUID> claimed = new ConcurrentHashMap<>();
+
+    private ExecutorService executor;
+    private Semaphore permits;
+
+    public ResumeParseService(
+            ResumeHistoryRepository resumeRepository,
+            ResumeStorageService storageService,
+            ResumeParseCache parseCache,
+            ResumeTextExtractor textExtractor,
+            ResumeImageNormalizer imageNormalizer,
+            ResumePageSplitter pageSplitter,
+            AIEngineClient aiEngineClient,
+            NotificationService notificationService,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${resume.parse.max-concurrency:8}") int maxConcurrency,
+            @Value("${resume.split.max-concurrency:3}") int pageConcurrency,
+            @Value("${resume.parse.stale-after-seconds:120}") long claimStaleAfterSeconds) {
+        this.resumeRepository = resumeRepository;
+        this.storageService = storageService;
+        this.parseCache = parseCache;
+        this.textExtractor = textExtractor;
+        this.imageNormalizer = imageNormalizer;
+        this.pageSplitter = pageSplitter;
+        this.aiEngineClient = aiEngineClient;
+        this.notificationService = notificationService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxConcurrency = maxConcurrency;
+        this.pageConcurrency = pageConcurrency;
+        this.claimStaleAfter = Duration.ofSeconds(claimStaleAfterSeconds);
+    }
+
+    @PostConstruct
+    public void init() {
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.permits = new Semaphore(maxConcurrency);
+        log.info("Resume parse worker pool initialized: maxConcurrency={}", maxConcurrency);
+    }
+
+    // 被中断的解析不写回结果，记录保持 PROCESSING 和已认领状态，认领过期后由其他节点接管
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 提交解析任务
+     *
+     * 如果当前处于事务中，则在事务提交后再提交任务，
+     * 保证后台线程能读到刚写入的 PROCESSING 记录。
+     */
+    public void submit(UUID resumeId) {
+        submit(resumeId, false);
+    }
+
+    /**
+     * 提交解析任务
+     *
+     * @param force 为 true 时跳过解析缓存，强制调用 AI Engine
+     */
+    public void submit(UUID resumeId, boolean force) {
+        TransactionUtils.afterCommit(() -> dispatch(resumeId, force));
+    }
+
+    /**
+     * 提交一批解析任务（批量导入）
+     *
+     * 同一批次最多 parallelism 份同时解析，且仍受全局并发上限约束，大批次不会占满解析能力；
+     * 不逐份推送通知，每份结束时回调 {@link BatchListener#onParsed}，全部结束后回调一次 {@link BatchListener#onFinished}。
+     */
+    public void submitBatch(List<UUID> resumeIds, int parallelism, BatchListener listener) {
+        TransactionUtils.afterCommit(() -> dispatchBatch(resumeIds, parallelism, listener));
+    }
+
+    /**
+     * 将简历置为 PROCESSING 以重新解析（需在调用方事务中执行，提交后再 {@link #submit}）
+     *
+     * @return false 表示该简历正在排队或解析中，不重复提交
+     */
+    public boolean markReparsing(UUID resumeId) {
+        Instant now = Instant.now();
+        return resumeRepository.markReparsing(resumeId, now, now.minus(claimStaleAfter)) == 1;
+    }
+
+    /**
+     * 认领过期的时间点：早于该时间的认领视为已中断
+     */
+    public Instant claimStaleBefore() {
+        return Instant.now().minus(claimStaleAfter);
+    }
+
+    /**
+     * 刷新本节点持有的认领
+     */
+    @Scheduled(fixedRateString = "${resume.parse.claim-renew-interval-ms:30000}")
+    public void renewClaims() {
+        if (claimed.isEmpty()) {
+            return;
+        }
+        try {
+            List<UUID> tokens = List.copyOf(claimed.values());
+            transactionTemplate.executeWithoutResult(status ->
+                    resumeRepository.renewParseClaims(tokens, Instant.now()));
+        } catch (Exception e) {
+            log.warn("刷新简历解析认领失败: count={}, error={}", claimed.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 重新提交中断的解析（节点停止时正在排队或解析的单份上传、重新解析）；
+     * 处理中的导入批次里的记录由导入服务按批次接管，批次完成后重新解析的记录在这里接管
+     */
+    @Scheduled(fixedDelayString = "${resume.parse.recover-interval-ms:60000}", initialDelay = 30000)
+    public void recoverStale() {
+        List<UUID> stale = resumeRepository.findStaleParses(claimStaleBefore());
+        if (!stale.isEmpty()) {
+            log.info("重新提交中断的简历解析: count={}", stale.size());
+            stale.forEach(resumeId -> dispatch(resumeId, false));
+        }
+    }
+
+    private void dispatch(UUID resumeId, boolean force) {
+        executor.submit(() -> {
+            UUID token = claim(resumeId);
+            if (token == null) {
+                return;
+            }
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                runParse(resumeId, token, force, true);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ClaimLostException e) {
+                log.warn("简历解析认领已丢失，丢弃本次结果: resumeId={}", resumeId);
+            } finally {
+                permits.release();
+                claimed.remove(resumeId);
+            }
+        });
+    }
+
+    /**
+     * 认领一条 PROCESSING 记录
+     *
+     * @return 认领令牌；已被其他节点认领或已不在 PROCESSING 时返回 null
+     */
+    private UUID claim(UUID resumeId) {
+        UUID token = UUID.randomUUID();
+        Instant now = Instant.now();
+        try {
+            Integer updated = transactionTemplate.execute(status ->
+                    resumeRepository.claimParse(resumeId, token, now, now.minus(claimStaleAfter)));
+            if (updated == null || updated == 0) {
+                log.debug("简历解析已被认领或已结束，跳过: resumeId={}", resumeId);
+                return null;
+            }
+        } catch (Exception e) {
+            // 认领失败时保持未认领，认领过期扫描会再次提交
+            log.warn("认领简历解析失败: resumeId={}, error={}", resumeId, e.getMessage());
+            return null;
+        }
+        claimed.put(resumeId, token);
+        return token;
+    }
+
+    // 先认领整批记录，再启动 parallelism 个工作线程从同一队列取任务，队列取空后最后一个退出的线程触发 onFinished；
+    // 线程被中断（服务关闭）时未解析的文件留在 PROCESSING，批次不标记完成
+    private void dispatchBatch(List<UUID> resumeIds, int parallelism, BatchListener listener) {
+        executor.submit(() -> {
+            Queue<UUID> pending = new ConcurrentLinkedQueue<>();
+            for (UUID resumeId : resumeIds) {
+                if (claim(resumeId) != null) {
+                    pending.add(resumeId);
+                }
+            }
+            if (pending.isEmpty()) {
+                listener.onFinished();
+                return;
+            }
+            startBatchWorkers(pending, parallelism, listener);
+        });
+    }
+
+    private void startBatchWorkers(Queue<UUID> pending, int parallelism, BatchListener listener) {
+        int workers = Math.max(1, Math.min(parallelism, pending.size()));
+        AtomicInteger running = new AtomicInteger(workers);
+        for (int i = 0; i < workers; i++) {
+            executor.submit(() -> {
+                UUID resumeId = null;
+                try {
+                    while ((resumeId = pending.poll()) != null) {
+                        permits.acquire();
+                        boolean success;
+                        try {
+                            success = runParse(resumeId, claimed.get(resumeId), false, false);
+                        } catch (ClaimLostException e) {
+                            // 接管该文件的节点会计入它的结果，这里不再计数
+                            log.warn("简历解析认领已丢失，丢弃本次结果: resumeId={}", resumeId);
+                            continue;
+                        } finally {
+                            permits.release();
+                            claimed.remove(resumeId);
+                        }
+                        listener.onParsed(resumeId, success);
+                        resumeId = null;
+                    }
+                } catch (InterruptedException e) {
+                    // 已取出但还没解析完的文件放回队列
+                    pending.add(resumeId);
+                    Thread.currentThread().interrupt();
+                } finally {
+                    if (running.decrementAndGet() == 0 && pending.isEmpty()) {
+                        listener.onFinished();
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * 执行一次解析：查缓存 / 提取文本层 / 图片预处理 / 读取文件 -> 调用 AI Engine -> 短事务写回 -> 推送通知
+     *
+     * AI Engine 不可用（占位数据）或调用失败时记为 FAILED，占位数据不会写回也不会缓存。
+     *
+     * @param token  本节点的认领令牌，写回时校验
+     * @param notify 为 false 时不推送单份通知（批量导入只在整批结束时通知一次）
+     * @return 解析成功并已写回时返回 true
+     * @throws ClaimLostException 写回时认领已丢失，结果已丢弃，不推送通知
+     * @throws InterruptedException 解析线程被中断（服务关闭），记录不做任何写回，保持 PROCESSING 等待认领过期后重新解析
+     */
+    private boolean runParse(UUID resumeId, UUID token, boolean force, boolean notify) throws InterruptedException {
+        ResumeHistory resume = resumeRepository.findById(resumeId).orElse(null);
+        if (resume == null) {
+            log.warn("解析任务对应的简历已不存在: resumeId={}", resumeId);
+            return false;
+        }
+        UUID userId = resume.getUser().getId();
+        String displayName = resume.getOriginalName() != null ? resume.getOriginalName() : resume.getFileName();
+
+        long start = System.currentTimeMillis();
+        try {
+            // 同一文件内容已解析过时直接复用结果，不调用 AI Engine
+            if (!force) {
+                ParsedContent cached = parseCache.get(resume.getContentHash()).orElse(null);
+                if (cached != null) {
+                    applyResult(resumeId, token, cached);
+                    log.info("简历解析命中缓存: userId={}, resumeId={}, elapsed={}ms",
+                            userId, resumeId, System.currentTimeMillis() - start);
+                    if (notify) {
+                        notifyQuietly(userId, resumeId, displayName, true, null);
+                    }
+                    return true;
+                }
+            }
+
+            // 有可用文本层的 PDF / DOCX 只发送文本，走文本 LLM；
+            // 图片先缩放、转灰度后再发送；其余文件（扫描件等）从 MinIO 分块流式发送给 AI Engine，由视觉模型解析
+            String extractedText = extractText(resume);
+            ResumeImageNormalizer.NormalizedImage image = extractedText == null ? normalizeImage(resume) : null;
+            ParseOutcome outcome;
+            if (extractedText != null) {
+                outcome = toOutcome(aiEngineClient.parseResumeText(
+                        extractedText, resume.getOriginalName(), resume.getContentType()), "text");
+            } else if (image != null) {
+                outcome = toOutcome(aiEngineClient.parseResume(
+                        new ByteArrayInputStream(image.data()),
+                        image.data().length,
+                        resume.getOriginalName(),
+                        image.contentType()
+                ), "image");
+            } else {
+                // 多页 PDF 按页组并发解析，页数不足或有页组失败时整份解析
+                outcome = parseByPages(resume);
+                if (outcome == null) {
+                    try (InputStream content = storageService.openFile(resume.getFilePath())) {
+                        outcome = toOutcome(aiEngineClient.parseResume(
+                                content,
+                                resume.getFileSize() != null ? resume.getFileSize() : 0,
+                                resume.getOriginalName(),
+                                resume.getContentType()
+                        ), "vision");
+                    }
+                }
+            }
+
+            ParsedContent parsedContent = outcome.content();
+            parseCache.put(resume.getContentHash(), parsedContent);
+            applyResult(resumeId, token, parsedContent);
+
+            log.info("简历解析成功: userId={}, resumeId={}, name={}, path={}, elapsed={}ms",
+                    userId, resumeId, parsedContent.getPersonalInfo().getName(), outcome.path(),
+                    System.currentTimeMillis() - start);
+            if (notify) {
+                notifyQuietly(userId, resumeId, displayName, true, null);
+            }
+            return true;
+
+        } catch (InterruptedException e) {
+            log.info("简历解析被中断，保留认领等待重新解析: resumeId={}", resumeId);
+            throw e;
+        } catch (ClaimLostException e) {
+            throw e;
+        } catch (Exception e) {
+            // 读取文件等阻塞 IO 被中断时以其他异常返回，同样按中断处理，不记为失败
+            if (Thread.interrupted()) {
+                log.info("简历解析被中断，保留认领等待重新解析: resumeId={}", resumeId);
+                throw new InterruptedException("简历解析被中断: " + resumeId);
+            }
+            log.error("简历解析失败: resumeId={}", resumeId, e);
+            applyFailure(resumeId, token, "解析失败: " + e.getMessage());
+            if (notify) {
+                notifyQuietly(userId, resumeId, displayName, false, e.getMessage());
+            }
+            return false;
+        }
+    }
+
+    private ParseOutcome toOutcome(AIEngineClient.ResumeParseResult parseResult, String path) {
+        if (!parseResult.isSuccess()) {
+            throw new RuntimeException(parseResult.getErrorMessage());
+        }
+        // 占位数据不是解析结果，不能写回
+        if (parseResult.isMock()) {
+            throw new RuntimeException("AI Engine 不可用");
+        }
+        return new ParseOutcome(convertToParseContent(parseResult), path);
+    }
+
+    /**
+     * 多页 PDF 分页并行解析
+     *
+     * 页组并发发送给 AI Engine（每份简历最多 pageConcurrency 个并发请求），每个页组有独立的 deadline；
+     * 每个页组请求同样占用一个全局 permits，AI Engine 的总并发不超过 maxConcurrency。
+     * 调用线程在等待页组期间让出自己持有的 permit，否则所有解析线程都在等页组时页组拿不到 permit 会死锁；
+     * 页组结束后重新取回，调用方 finally 中照常释放。
+     * 每完成一个页组累加已解析页数，供前端轮询进度。页组按完成先后检查，任一页组失败立即放弃其余页组，
+     * 不必等前面较慢的页组返回；结果按页码顺序合并，与完成先后无关。
+     * 放弃时中断其余页组，客户端会先取消进行中的 gRPC 调用再释放 permit，被放弃的调用不会继续占用 AI Engine。
+     *
+     * @return 合并后的结果；不是 PDF、页数不足阈值或任一页组失败（调用异常、解析失败或 AI Engine 不可用返回的占位数据）时
+     *         返回 null，由调用方整份解析，此时已写入的页级进度会被清除
+     */
+    private ParseOutcome parseByPages(ResumeHistory resume) throws Exception {
+        if (!pageSplitter.supports(resume.getContentType(), resume.getOriginalName())) {
+            return null;
+        }
+        List<ResumePageSplitter.PageGroup> groups;
+        try (InputStream content = storageService.openFile(resume.getFilePath())) {
+            groups = pageSplitter.split(content, resume.getOriginalName());
+        }
+        if (groups.size() < 2) {
+            return null;
+        }
+
+        int pagesTotal = groups.get(groups.size() - 1).lastPage();
+        updateProgressQuietly(resume.getId(), () -> resumeRepository.startPageProgress(resume.getId(), pagesTotal));
+
+        Semaphore groupPermits = new Semaphore(pageConcurrency);
+        CompletionService<GroupResult> completion = new ExecutorCompletionService<>(executor);
+        List<Future<GroupResult>> futures = new ArrayList<>(groups.size());
+        boolean merged = false;
+        permits.release();
+        try {
+            for (int i = 0; i < groups.size(); i++) {
+                int index = i;
+                ResumePageSplitter.PageGroup group = groups.get(i);
+                futures.add(completion.submit(() -> new GroupResult(index, parsePageGroup(resume, group, groupPermits))));
+            }
+
+            ParsedContent[] parts = new ParsedContent[groups.size()];
+            for (int done = 0; done < groups.size(); done++) {
+                GroupResult completed;
+                try {
+                    completed = completion.take().get();
+                } catch (ExecutionException e) {
+                    log.warn("简历页组解析失败，改为整份解析: resumeId={}, error={}",
+                            resume.getId(), e.getCause().getMessage());
+                    return null;
+                }
+                AIEngineClient.ResumeParseResult result = completed.result();
+                // 占位数据按失败处理，不能和其他页组的真实结果合并
+                if (!result.isSuccess() || result.isMock()) {
+                    ResumePageSplitter.PageGroup group = groups.get(completed.index());
+                    log.warn("简历页组解析失败，改为整份解析: resumeId={}, pages={}-{}, error={}",
+                            resume.getId(), group.firstPage(), group.lastPage(),
+                            result.isMock() ? "AI Engine 不可用" : result.getErrorMessage());
+                    return null;
+                }
+                parts[completed.index()] = convertToParseContent(result);
+            }
+            merged = true;
+            return new ParseOutcome(ParsedContentMerger.merge(Arrays.asList(parts)), "vision-pages");
+        } finally {
+            // 提前返回时取消尚未完成的页组，并清除页级进度，避免整份解析期间前端显示停滞的页数
+            futures.forEach(future -> future.cancel(true));
+            // 不可中断：调用方 finally 会释放一个 permit，这里必须确实持有
+            permits.acquireUninterruptibly();
+            if (!merged) {
+                updateProgressQuietly(resume.getId(), () -> resumeRepository.clearPageProgress(resume.getId()));
+            }
+        }
+    }
+
+    private AIEngineClient.ResumeParseResult parsePageGroup(ResumeHistory resume,
+                                                            ResumePageSplitter.PageGroup group,
+                                                            Semaphore groupPermits) throws InterruptedException {
+        groupPermits.acquire();
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            groupPermits.release();
+            throw e;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            AIEngineClient.ResumeParseResult result = aiEngineClient.parseResume(
+                    new ByteArrayInputStream(group.data()),
+                    group.data().length,
+                    resume.getOriginalName(),
+                    "application/pdf"
+            );
+            if (result.isSuccess() && !result.isMock()) {
+                updateProgressQuietly(resume.getId(),
+                        () -> resumeRepository.addPagesParsed(resume.getId(), group.pageCount()));
+                log.info("简历页组解析完成: resumeId={}, pages={}-{}, elapsed={}ms",
+                        resume.getId(), group.firstPage(), group.lastPage(), System.currentTimeMillis() - start);
+            }
+            return result;
+        } finally {
+            permits.release();
+            groupPermits.release();
+        }
+    }
+
+    // 进度只用于展示，写入失败不影响解析
+    private void updateProgressQuietly(UUID resumeId, Runnable update) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> update.run());
+        } catch (Exception e) {
+            log.warn("更新简历解析进度失败: resumeId={}, error={}", resumeId, e.getMessage());
+        }
+    }
+
+    /**
+     * 提取文件的文本层，不支持的类型或文本不可用时返回 null
+     */
+    private String extractText(ResumeHistory resume) {
+        if (!textExtractor.supports(resume.getContentType(), resume.getOriginalName())) {
+            return null;
+        }
+        try (InputStream content = storageService.openFile(resume.getFilePath())) {
+            return textExtractor.extract(content, resume.getContentType(), resume.getOriginalName()).orElse(null);
+        } catch (Exception e) {
+            log.warn("读取简历文件以提取文本失败: resumeId={}, error={}", resume.getId(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 预处理图片简历，非图片或预处理不可用时返回 null
+     */
+    private ResumeImageNormalizer.NormalizedImage normalizeImage(ResumeHistory resume) {
+        if (!imageNormalizer.supports(resume.getContentType(), resume.getOriginalName())) {
+            return null;
+        }
+        try (InputStream content = storageService.openFile(resume.getFilePath())) {
+            return imageNormalizer.normalize(content, resume.getContentType(), resume.getOriginalName()).orElse(null);
+        } catch (Exception e) {
+            log.warn("读取简历图片以预处理失败: resumeId={}, error={}", resume.getId(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 在短事务中以条件 UPDATE 写回解析结果，只在记录仍为 PROCESSING 且仍持有本次认领令牌时写入
+     *
+     * @throws ClaimLostException 认领已丢失（已被其他节点接管、已重新提交解析或简历已删除）
+     */
+    private void applyResult(UUID resumeId, UUID token, ParsedContent parsedContent) {
+        String parsedData = toJson(parsedContent);
+        String skills = toJson(parsedContent.getSkillNames());
+        Integer updated = transactionTemplate.execute(status ->
+                resumeRepository.completeParse(resumeId, token, parsedData, skills, Instant.now()));
+        if (updated == null || updated == 0) {
+            throw new ClaimLostException();
+        }
+    }
+
+    private void applyFailure(UUID resumeId, UUID token, String errorMessage) {
+        String truncated = errorMessage.length() > 500 ? errorMessage.substring(0, 500) : errorMessage;
+        Integer updated = transactionTemplate.execute(status ->
+                resumeRepository.failParse(resumeId, token, truncated, Instant.now()));
+        if (updated == null || updated == 0) {
+            throw new ClaimLostException();
+        }
+    }
+
+    private void notifyQuietly(UUID userId, UUID resumeId, String fileName, boolean success, String errorMessage) {
+        try {
+            notificationService.sendResumeParsedNotification(userId, resumeId, fileName, success, errorMessage);
+        } catch (Exception e) {
+            log.warn("发送简历解析通知失败: resumeId={}, error={}", resumeId, e.getMessage());
+        }
+    }
+
+    /**
+     * 将 AI Engine 解析结果转换为 ParsedContent
+     */
+    ParsedContent convertToParseContent(AIEngineClient.ResumeParseResult parseResult) {
+        ParsedContent.PersonalInfo personalInfo = ParsedContent.PersonalInfo.builder()
+                .name(parseResult.getName())
+                .email(parseResult.getEmail())
+                .phone(parseResult.getPhone())
+                .location(parseResult.getLocation())
+                .linkedin(parseResult.getLinkedin())
+                .github(parseResult.getGithub())
+                .website(parseResult.getWebsite())
+                .build();
+
+        // 转换工作经历
+        List<ParsedContent.WorkExperience> experiences = new ArrayList<>();
+        if (parseResult.getExperiences() != null) {
+            for (AIEngineClient.ExperienceData exp : parseResult.getExperiences()) {
+                experiences.add(ParsedContent.WorkExperience.builder()
+                        .company(exp.getCompany())
+                        .title(exp.getTitle())
+                        .location(exp.getLocation())
+                        .employmentType(exp.getEmploymentType())
+                        .startDate(exp.getStartDate())
+                        .endDate(exp.getEndDate())
+                        .isCurrent(exp.isCurrent())
+                        .description(exp.getDescription())
+                        .achievements(exp.getAchievements())
+                        .technologies(exp.getTechnologies())
+                        .build());
+            }
+        }
+
+        // 转换教育经历
+        List<ParsedContent.Education> education = new ArrayList<>();
+        if (parseResult.getEducations() != null) {
+            for (AIEngineClient.EducationData edu : parseResult.getEducations()) {
+                education.add(ParsedContent.Education.builder()
+                        .school(edu.getSchool())
+                        .degree(edu.getDegree())
+                        .field(edu.getField())
+                        .location(edu.getLocation())
+                        .startDate(edu.getStartDate())
+                        .endDate(edu.getEndDate())
+                        .gpa(edu.getGpa())
+                        .description(edu.getDescription())
+                        .activities(edu.getActivities())
+                        .honors(edu.getHonors())
+                        .build());
+            }
+        }
+
+        // 转换项目
+        List<ParsedContent.Project> projects = new ArrayList<>();
+        if (parseResult.getProjects() != null) {
+            for (AIEngineClient.ProjectData proj : parseResult.getProjects()) {
+                projects.add(ParsedContent.Project.builder()
+                        .name(proj.getName())
+                        .description(proj.getDescription())
+                        .url(proj.getUrl())
+                        .repoUrl(proj.getRepoUrl())
+                        .technologies(proj.getTechnologies())
+                        .startDate(proj.getStartDate())
+                        .endDate(proj.getEndDate())
+                        .highlights(proj.getHighlights())
+                        .build());
+            }
+        }
+
+        // 转换技能
+        List<ParsedContent.Skill> skills = new ArrayList<>();
+        if (parseResult.getSkills() != null) {
+            for (AIEngineClient.SkillData skill : parseResult.getSkills()) {
+                skills.add(ParsedContent.Skill.builder()
+                        .name(skill.getName())
+                        .level(skill.getLevel())
+                        .category(skill.getCategory())
+                        .build());
+            }
+        }
+
+        // 转换证书
+        List<ParsedContent.Certification> certifications = new ArrayList<>();
+        if (parseResult.getCertifications() != null) {
+            for (AIEngineClient.CertificationData cert : parseResult.getCertifications()) {
+                certifications.add(ParsedContent.Certification.builder()
+                        .name(cert.getName())
+                        .issuer(cert.getIssuer())
+                        .date(cert.getDate())
+                        .url(cert.getUrl())
+                        .build());
+            }
+        }
+
+        // 转换语言
+        List<ParsedContent.Language> languages = new ArrayList<>();
+        if (parseResult.getLanguages() != null) {
+            for (AIEngineClient.LanguageData lang : parseResult.getLanguages()) {
+                languages.add(ParsedContent.Language.builder()
+                        .language(lang.getLanguage())
+                        .proficiency(lang.getProficiency())
+                        .build());
+            }
+        }
+
+        return ParsedContent.builder()
+                .personalInfo(personalInfo)
+                .headline(parseResult.getHeadline())
+                .summary(parseResult.getSummary())
+                .experiences(experiences)
+                .education(education)
+                .projects(projects)
+                .skills(skills)
+                .certifications(certifications)
+                .languages(languages)
+                .achievements(parseResult.getAchievements())
+                .build();
+    }
+
+    /**
+     * 批量解析的进度回调（在解析线程中调用）
+     */
+    public interface BatchListener {
+
+        /**
+         * 一份简历解析结束
+         */
+        void onParsed(UUID resumeId, boolean success);
+
+        /**
+         * 整批解析结束
+         */
+        void onFinished();
+    }
+
+    /**
+     * 一次解析的结果
+     *
+     * @param path 解析路径（text / image / vision / vision-pages），用于日志
+     */
+    private record ParseOutcome(ParsedContent content, String path) {
+    }
+
+    /**
+     * 一个页组的解析结果
+     *
+     * @param index 页组序号，用于按页码顺序合并
+     */
+    private record GroupResult(int index, AIEngineClient.ResumeParseResult result) {
+    }
+
+    /**
+     * 写回时认领已丢失
+     */
+    private static final class ClaimLostException extends RuntimeException {
+    }
+
+    /**
+     * 对象转 JSON
+     */
+    private String toJson(Object obj) {
+        if (obj == null) return null;
+        try {
+            return objectMapper.writeValueAsString(obj);
+        } catch (JsonProcessingException e) {
+            log.error("序列化 JSON 失败", e);
+            return null;
+        }
+    }
+}
@@ -4,16 +4,12 @@ import com.cvibe.auth.entity.User;
 import com.cvibe.auth.repository.UserRepository;
 import com.cvibe.common.exception.BusinessException;
 import com.cvibe.common.exception.ErrorCode;
-import com.cvibe.common.grpc.AIEngineClient;
-import com.cvibe.profile.dto.CertificationDto;
-import com.cvibe.profile.dto.EducationDto;
-import com.cvibe.profile.dto.ExperienceDto;
-import com.cvibe.profile.dto.LanguageDto;
-import com.cvibe.profile.dto.ProjectDto;
-import com.cvibe.profile.dto.SkillDto;
+import com.cvibe.profile.dto.SyncOptions;
+import com.cvibe.profile.dto.SyncToProfileResult;
 import com.cvibe.profile.service.ProfileService;
 import com.cvibe.resume.dto.ParsedContent;
 import com.cvibe.resume.dto.ResumeDto;
+import com.cvibe.resume.dto.ResumeParseStatusDto;
 import com.cvibe.resume.dto.ResumeUploadResponse;
 import com.cvibe.resume.entity.ResumeHistory;
 import com.cvibe.resume.entity.ResumeStatus;
@@ -27,7 +23,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -47,7 +42,7 @@ public class ResumeService {
     private final ResumeStorageService storageService;
     private final UserRepository userRepository;
     private final ObjectMapper objectMapper;
-    private final AIEngineClient aiEngineClient;
+    private final ResumeParseService parseService;
     private final ProfileService profileService;
 
     // 允许的文件类型
@@ -67,15 +62,17 @@ public class ResumeService {
     );
 
     // 最大文件大小（10MB）
-    private static final long MAX_FILE_SIZE = 10 * 1024 * 1024;
+    static final long MAX_FILE_SIZE = 10 * 1024 * 1024;
 
     // 预签名 URL 有效期（分钟）
     private static final int PRESIGNED_URL_EXPIRE_MINUTES = 60;
 
     /**
-     * 上传并解析简历
+     * 上传简历并提交异步解析
+     *
+     * 文件写入 MinIO 后只落库一条 PROCESSING 记录即返回，
+     * AI 解析由 {@link ResumeParseService} 在后台完成，不在请求事务中等待 AI Engine。
      */
-    @Transactional
     public ResumeUploadResponse uploadResume(UUID userId, MultipartFile file, String notes) {
         // 1. 验证文件
         validateFile(file);
@@ -85,7 +82,8 @@ public class ResumeService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
 
         // 3. 上传文件到 MinIO
-        String filePath = storageService.uploadFile(file, userId);
+        ResumeStorageService.StoredFile stored = storageService.uploadFile(file, userId);
+        String filePath = stored.objectName();
 
         // 4. 判断是否为第一份简历（自动设为主简历）
         boolean isFirst = resumeRepository.countByUserId(userId) == 0;
@@ -98,6 +96,7 @@ public class ResumeService {
                 .filePath(filePath)
                 .fileSize(file.getSize())
                 .contentType(file.getContentType())
+                .contentHash(stored.contentHash())
                 .status(ResumeStatus.PROCESSING)
                 .isPrimary(isFirst)
                 .notes(notes)
@@ -105,88 +104,43 @@ public class ResumeService {
 
         resume = resumeRepository.save(resume);
 
-        // 6. 调用 AI Engine 解析简历
-        try {
-            byte[] fileBytes = file.getBytes();
-            AIEngineClient.ResumeParseResult parseResult = aiEngineClient.parseResume(
-                    fileBytes,
-                    file.getOriginalFilename(),
-                    file.getContentType()
-            );
-
-            if (!parseResult.isSuccess()) {
-                throw new RuntimeException(parseResult.getErrorMessage());
-            }
-
-            // 转换为 ParsedContent
-            ParsedContent parsedContent = convertToParseContent(parseResult);
-            
-            resume.setParsedData(toJson(parsedContent));
-            resume.setSkills(toJson(parsedContent.getSkillNames()));
-            resume.setStatus(ResumeStatus.COMPLETED);
-            resume = resumeRepository.save(resume);
-
-            log.info("简历解析成功: userId={}, resumeId={}, name={}", 
-                    userId, resume.getId(), parseResult.getName());
-
-            return ResumeUploadResponse.success(toResumeDto(resume));
+        // 6. 提交后台解析任务
+        parseService.submit(resume.getId());
+        log.info("简历上传成功，已提交解析: userId={}, resumeId={}", userId, resume.getId());
 
-        } catch (Exception e) {
-            log.error("简历解析失败", e);
-            
-            resume.setStatus(ResumeStatus.FAILED);
-            resume.setErrorMessage("解析失败: " + e.getMessage());
-            resumeRepository.save(resume);
-
-            // 文件上传成功，但解析失败
-            return ResumeUploadResponse.failed(toResumeDto(resume), 
-                    "文件上传成功，但解析失败: " + e.getMessage());
-        }
+        return ResumeUploadResponse.processing(toResumeDto(resume));
     }
 
     /**
-     * 重新解析简历
+     * 重新解析简历（异步）
+     *
+     * @param force 为 true 时跳过解析缓存，强制调用 AI Engine
      */
     @Transactional
-    public ResumeDto reparseResume(UUID userId, UUID resumeId) {
-        ResumeHistory resume = getResumeWithOwnershipCheck(userId, resumeId);
+    public ResumeDto reparseResume(UUID userId, UUID resumeId, boolean force) {
+        getResumeWithOwnershipCheck(userId, resumeId);
 
-        try {
-            // 从 MinIO 获取文件内容
-            byte[] fileBytes = storageService.getFileContent(resume.getFilePath());
-            
-            resume.setStatus(ResumeStatus.PROCESSING);
-            resumeRepository.save(resume);
-
-            // 调用 AI Engine 解析
-            AIEngineClient.ResumeParseResult parseResult = aiEngineClient.parseResume(
-                    fileBytes,
-                    resume.getOriginalName(),
-                    resume.getContentType()
-            );
-
-            if (!parseResult.isSuccess()) {
-                throw new RuntimeException(parseResult.getErrorMessage());
-            }
-
-            ParsedContent parsedContent = convertToParseContent(parseResult);
-            
-            resume.setParsedData(toJson(parsedContent));
-            resume.setSkills(toJson(parsedContent.getSkillNames()));
-            resume.setStatus(ResumeStatus.COMPLETED);
-            resume.setErrorMessage(null);
-            resume = resumeRepository.save(resume);
-
-            log.info("简历重新解析成功: userId={}, resumeId={}", userId, resumeId);
-            return toResumeDto(resume);
-
-        } catch (Exception e) {
-            log.error("简历重新解析失败", e);
-            resume.setStatus(ResumeStatus.FAILED);
-            resume.setErrorMessage("重新解析失败: " + e.getMessage());
-            resumeRepository.save(resume);
-            throw new BusinessException(ErrorCode.RESUME_PARSE_FAILED, e.getMessage());
+        // 条件更新：正在排队或解析中的简历不重复提交（认领已过期的中断解析允许重新提交）
+        if (!parseService.markReparsing(resumeId)) {
+            throw new BusinessException(ErrorCode.RESUME_PARSE_IN_PROGRESS, "简历正在解析中，请稍后再试");
         }
+        ResumeHistory resume = resumeRepository.findById(resumeId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESUME_NOT_FOUND));
+
+        // 事务提交后再开始解析
+        parseService.submit(resumeId, force);
+        log.info("简历已提交重新解析: userId={}, resumeId={}, force={}", userId, resumeId, force);
+
+        return toResumeDto(resume);
+    }
+
+    /**
+     * 查询简历解析状态（供前端轮询）
+     */
+    @Transactional(readOnly = true)
+    public ResumeParseStatusDto getParseStatus(UUID userId, UUID resumeId) {
+        ResumeHistory resume = getResumeWithOwnershipCheck(userId, resumeId);
+        return ResumeParseStatusDto.fromEntity(resume);
     }
 
     /**
@@ -197,7 +151,6 @@ public class ResumeService {
      * @param options 同步选项 (syncExperiences, syncEducations, syncSkills, syncProjects)
      * @return 同步结果摘要
      */
-    @Transactional
     public SyncToProfileResult syncToProfile(UUID userId, UUID resumeId, SyncOptions options) {
         ResumeHistory resume = getResumeWithOwnershipCheck(userId, resumeId);
 
@@ -210,163 +163,15 @@ public class ResumeService {
             throw new BusinessException(ErrorCode.RESUME_NOT_PARSED, "简历解析数据为空");
         }
 
-        SyncToProfileResult result = new SyncToProfileResult();
-
+        // 批量导入在单个事务中完成，失败时整体回滚
+        SyncToProfileResult result;
         try {
-            // 同步基本信息
-            if (options.isSyncBasicInfo() && parsedContent.getPersonalInfo() != null) {
-                // 更新 Profile 基本信息
-                var profile = profileService.getOrCreateProfile(userId);
-                // 基本信息会通过其他接口更新
-                result.setBasicInfoSynced(true);
-            }
-
-            // 同步工作经历
-            if (options.isSyncExperiences() && parsedContent.getExperiences() != null) {
-                int count = 0;
-                for (ParsedContent.WorkExperience exp : parsedContent.getExperiences()) {
-                    try {
-                        ExperienceDto dto = ExperienceDto.builder()
-                                .company(exp.getCompany())
-                                .title(exp.getTitle())
-                                .location(exp.getLocation())
-                                .employmentType(exp.getEmploymentType())
-                                .startDate(normalizeDate(exp.getStartDate()))
-                                .endDate(normalizeDate(exp.getEndDate()))
-                                .isCurrent(exp.getIsCurrent())
-                                .description(exp.getDescription())
-                                .achievements(exp.getAchievements())
-                                .technologies(exp.getTechnologies())
-                                .build();
-                        profileService.addExperience(userId, dto);
-                        count++;
-                    } catch (Exception e) {
-                        log.warn("同步工作经历失败: {}", e.getMessage());
-                    }
-                }
-                result.setExperiencesSynced(count);
-            }
-
-            // 同步教育经历
-            if (options.isSyncEducations() && parsedContent.getEducation() != null) {
-                int count = 0;
-                for (ParsedContent.Education edu : parsedContent.getEducation()) {
-                    try {
-                        EducationDto dto = EducationDto.builder()
-                                .school(edu.getSchool())
-                                .degree(edu.getDegree())
-                                .fieldOfStudy(edu.getField())
-                                .location(edu.getLocation())
-                                .startDate(normalizeDate(edu.getStartDate()))
-                                .endDate(normalizeDate(edu.getEndDate() != null ? edu.getEndDate() : edu.getGraduationDate()))
-                                .gpa(edu.getGpa())
-                                .description(edu.getDescription())
-                                .activities(edu.getActivities())
-                                .build();
-                        profileService.addEducation(userId, dto);
-                        count++;
-                    } catch (Exception e) {
-                        log.warn("同步教育经历失败: {}", e.getMessage());
-                    }
-                }
-                result.setEducationsSynced(count);
-            }
-
-            // 同步技能
-            if (options.isSyncSkills() && parsedContent.getSkills() != null) {
-                int count = 0;
-                for (ParsedContent.Skill skill : parsedContent.getSkills()) {
-                    try {
-                        SkillDto dto = SkillDto.builder()
-                                .name(skill.getName())
-                                .level(skill.getLevel())
-                                .build();
-                        profileService.addSkill(userId, dto);
-                        count++;
-                    } catch (BusinessException e) {
-                        // 技能已存在，忽略
-                        if (e.getErrorCode() != ErrorCode.SKILL_ALREADY_EXISTS) {
-                            log.warn("同步技能失败: {}", e.getMessage());
-                        }
-                    } catch (Exception e) {
-                        log.warn("同步技能失败: {}", e.getMessage());
-                    }
-                }
-                result.setSkillsSynced(count);
-            }
-
-            // 同步项目经历
-            if (options.isSyncProjects() && parsedContent.getProjects() != null) {
-                int count = 0;
-                for (ParsedContent.Project proj : parsedContent.getProjects()) {
-                    try {
-                        ProjectDto dto = ProjectDto.builder()
-                                .name(proj.getName())
-                                .description(proj.getDescription())
-                                .url(proj.getUrl())
-                                .repoUrl(proj.getRepoUrl())
-                                .technologies(proj.getTechnologies())
-                                .startDate(normalizeDate(proj.getStartDate()))
-                                .endDate(normalizeDate(proj.getEndDate()))
-                                .highlights(proj.getHighlights())
-                                .build();
-                        profileService.addProject(userId, dto);
-                        count++;
-                    } catch (Exception e) {
-                        log.warn("同步项目失败: {}", e.getMessage());
-                    }
-                }
-                result.setProjectsSynced(count);
-            }
-
-            // 同步语言能力
-            if (options.isSyncLanguages() && parsedContent.getLanguages() != null) {
-                int count = 0;
-                for (ParsedContent.Language lang : parsedContent.getLanguages()) {
-                    try {
-                        LanguageDto dto = LanguageDto.builder()
-                                .language(lang.getLanguage())
-                                .proficiency(lang.getProficiency())
-                                .build();
-                        profileService.addLanguage(userId, dto);
-                        count++;
-                    } catch (BusinessException e) {
-                        // 语言已存在，忽略
-                        if (e.getErrorCode() != ErrorCode.LANGUAGE_ALREADY_EXISTS) {
-                            log.warn("同步语言失败: {}", e.getMessage());
-                        }
-                    } catch (Exception e) {
-                        log.warn("同步语言失败: {}", e.getMessage());
-                    }
-                }
-                result.setLanguagesSynced(count);
-            }
-
-            // 同步证书
-            if (options.isSyncCertifications() && parsedContent.getCertifications() != null) {
-                int count = 0;
-                for (ParsedContent.Certification cert : parsedContent.getCertifications()) {
-                    try {
-                        CertificationDto dto = CertificationDto.builder()
-                                .name(cert.getName())
-                                .issuer(cert.getIssuer())
-                                .issueDate(parseLocalDate(normalizeDate(cert.getDate())))
-                                .credentialUrl(cert.getUrl())
-                                .build();
-                        profileService.addCertification(userId, dto);
-                        count++;
-                    } catch (Exception e) {
-                        log.warn("同步证书失败: {}", e.getMessage());
-                    }
-                }
-                result.setCertificationsSynced(count);
-            }
-
+            result = profileService.importSections(userId, parsedContent, options);
             result.setSuccess(true);
             log.info("简历同步到 Profile 成功: userId={}, result={}", userId, result);
-
         } catch (Exception e) {
             log.error("简历同步到 Profile 失败", e);
+            result = new SyncToProfileResult();
             result.setSuccess(false);
             result.setErrorMessage(e.getMessage());
         }
@@ -452,165 +257,9 @@ public class ResumeService {
     // ==================== 私有辅助方法 ====================
 
     /**
-     * 将 AI Engine 解析结果转换为 ParsedContent
-     */
-    private ParsedContent convertToParseContent(AIEngineClient.ResumeParseResult parseResult) {
-        ParsedContent.PersonalInfo personalInfo = ParsedContent.PersonalInfo.builder()
-                .name(parseResult.getName())
-                .email(parseResult.getEmail())
-                .phone(parseResult.getPhone())
-                .location(parseResult.getLocation())
-                .linkedin(parseResult.getLinkedin())
-                .github(parseResult.getGithub())
-                .website(parseResult.getWebsite())
-                .build();
-
-        // 转换工作经历
-        List<ParsedContent.WorkExperience> experiences = new ArrayList<>();
-        if (parseResult.getExperiences() != null) {
-            for (AIEngineClient.ExperienceData exp : parseResult.getExperiences()) {
-                experiences.add(ParsedContent.WorkExperience.builder()
-                        .company(exp.getCompany())
-                        .title(exp.getTitle())
-                        .location(exp.getLocation())
-                        .employmentType(exp.getEmploymentType())
-                        .startDate(exp.getStartDate())
-                        .endDate(exp.getEndDate())
-                        .isCurrent(exp.isCurrent())
-                        .description(exp.getDescription())
-                        .achievements(exp.getAchievements())
-                        .technologies(exp.getTechnologies())
-                        .build());
-            }
-        }
-
-        // 转换教育经历
-        List<ParsedContent.Education> education = new ArrayList<>();
-        if (parseResult.getEducations() != null) {
-            for (AIEngineClient.EducationData edu : parseResult.getEducations()) {
-                education.add(ParsedContent.Education.builder()
-                        .school(edu.getSchool())
-                        .degree(edu.getDegree())
-                        .field(edu.getField())
-                        .location(edu.getLocation())
-                        .startDate(edu.getStartDate())
-                        .endDate(edu.getEndDate())
-                        .gpa(edu.getGpa())
-                        .description(edu.getDescription())
-                        .activities(edu.getActivities())
-                        .honors(edu.getHonors())
-                        .build());
-            }
-        }
-
-        // 转换项目
-        List<ParsedContent.Project> projects = new ArrayList<>();
-        if (parseResult.getProjects() != null) {
-            for (AIEngineClient.ProjectData proj : parseResult.getProjects()) {
-                projects.add(ParsedContent.Project.builder()
-                        .name(proj.getName())
-                        .description(proj.getDescription())
-                        .url(proj.getUrl())
-                        .repoUrl(proj.getRepoUrl())
-                        .technologies(proj.getTechnologies())
-                        .startDate(proj.getStartDate())
-                        .endDate(proj.getEndDate())
-                        .highlights(proj.getHighlights())
-                        .build());
-            }
-        }
-
-        // 转换技能
-        List<ParsedContent.Skill> skills = new ArrayList<>();
-        if (parseResult.getSkills() != null) {
-            for (AIEngineClient.SkillData skill : parseResult.getSkills()) {
-                skills.add(ParsedContent.Skill.builder()
-                        .name(skill.getName())
-                        .level(skill.getLevel())
-                        .category(skill.getCategory())
-                        .build());
-            }
-        }
-
-        // 转换证书
-        List<ParsedContent.Certification> certifications = new ArrayList<>();
-        if (parseResult.getCertifications() != null) {
-            for (AIEngineClient.CertificationData cert : parseResult.getCertifications()) {
-                certifications.add(ParsedContent.Certification.builder()
-                        .name(cert.getName())
-                        .issuer(cert.getIssuer())
-                        .date(cert.getDate())
-                        .url(cert.getUrl())
-                        .build());
-            }
-        }
-
-        // 转换语言
-        List<ParsedContent.Language> languages = new ArrayList<>();
-        if (parseResult.getLanguages() != null) {
-            for (AIEngineClient.LanguageData lang : parseResult.getLanguages()) {
-                languages.add(ParsedContent.Language.builder()
-                        .language(lang.getLanguage())
-                        .proficiency(lang.getProficiency())
-                        .build());
-            }
-        }
-
-        return ParsedContent.builder()
-                .personalInfo(personalInfo)
-                .headline(parseResult.getHeadline())
-                .summary(parseResult.getSummary())
-                .experiences(experiences)
-                .education(education)
-                .projects(projects)
-                .skills(skills)
-                .certifications(certifications)
-                .languages(languages)
-                .achievements(parseResult.getAchievements())
-                .build();
-    }
-
-    /**
-     * 标准化日期格式 (确保为 YYYY-MM-DD 格式)
-     */
-    private String normalizeDate(String dateStr) {
-        if (dateStr == null || dateStr.isBlank()) {
-            return null;
-        }
-        dateStr = dateStr.trim();
-        
-        // 如果是 "present"，返回 null
-        if (dateStr.equalsIgnoreCase("present") || dateStr.equals("至今")) {
-            return null;
-        }
-        
-        // 如果是 YYYY-MM 格式，补充为 YYYY-MM-01
-        if (dateStr.matches("\\d{4}-\\d{2}")) {
-            return dateStr + "-01";
-        }
-        
-        return dateStr;
-    }
-
-    /**
-     * 解析日期字符串为 LocalDate
+     * 验证上传的文件（批量导入逐个文件复用）
      */
-    private java.time.LocalDate parseLocalDate(String dateStr) {
-        if (dateStr == null || dateStr.isBlank()) {
-            return null;
-        }
-        try {
-            return java.time.LocalDate.parse(dateStr);
-        } catch (Exception e) {
-            log.warn("无法解析日期: {}", dateStr);
-            return null;
-        }
-    }
-
-    /**
-     * 验证上传的文件
-     */
-    private void validateFile(MultipartFile file) {
+    void validateFile(MultipartFile file) {
         if (file == null || file.isEmpty()) {
             throw new BusinessException(ErrorCode.FILE_EMPTY);
         }
@@ -732,39 +381,4 @@ public class ResumeService {
             return ParsedContent.empty();
         }
     }
-
-    // ==================== DTOs ====================
-
-    /**
-     * 同步选项
-     */
-    @lombok.Data
-    @lombok.Builder
-    @lombok.NoArgsConstructor
-    @lombok.AllArgsConstructor
-    public static class SyncOptions {
-        private boolean syncBasicInfo = true;
-        private boolean syncExperiences = true;
-        private boolean syncEducations = true;
-        private boolean syncSkills = true;
-        private boolean syncProjects = true;
-        private boolean syncLanguages = true;
-        private boolean syncCertifications = true;
-    }
-
-    /**
-     * 同步结果
-     */
-    @lombok.Data
-    public static class SyncToProfileResult {
-        private boolean success;
-        private String errorMessage;
-        private boolean basicInfoSynced;
-        private int experiencesSynced;
-        private int educationsSynced;
-        private int skillsSynced;
-        private int projectsSynced;
-        private int languagesSynced;
-        private int certificationsSynced;
-    }
 }
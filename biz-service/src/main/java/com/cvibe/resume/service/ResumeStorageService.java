@@ -13,6 +13,9 @@ import org.springframework.web.multipart.MultipartFile;
 
 import jakarta.annotation.PostConstruct;
 import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
@@ -25,6 +28,10 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class ResumeStorageService {
 
+    // 大小未知时的上传分块大小（MinIO 要求不小于 5MB）；大于单个简历文件上限，
+    // 不超限的文件只用一次 PUT，超限的文件在读第一个分块时就中止，不会开始分块上传
+    private static final long UNKNOWN_SIZE_PART_SIZE = ResumeService.MAX_FILE_SIZE + 1024 * 1024;
+
     private final MinioClient minioClient;
     private final MinioConfig minioConfig;
 
@@ -49,13 +56,37 @@ public class ResumeStorageService {
     }
 
     /**
-     * 上传文件到 MinIO
+     * 上传文件到 MinIO，上传过程中同时计算内容的 SHA-256
      *
      * @param file 上传的文件
      * @param userId 用户 ID
-     * @return 文件存储路径
+     * @return 文件存储路径及内容哈希
      */
-    public String uploadFile(MultipartFile file, UUID userId) {
+    public StoredFile uploadFile(MultipartFile file, UUID userId) {
+        try (InputStream inputStream = file.getInputStream()) {
+            return uploadStream(inputStream, file.getSize(), file.getOriginalFilename(), file.getContentType(), userId);
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("文件上传失败", e);
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, "文件上传失败: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 从输入流上传文件到 MinIO（用于批量导入的压缩包条目），上传过程中同时计算内容的 SHA-256
+     *
+     * 大小未知时 MinIO 客户端按分块缓冲，内存占用不超过一个分块。输入流由调用方关闭。
+     *
+     * @param content 文件内容
+     * @param size 文件字节数，未知时传 -1
+     * @param originalFilename 原始文件名（用于确定扩展名）
+     * @param contentType 文件 MIME 类型
+     * @param userId 用户 ID
+     * @return 文件存储路径及内容哈希
+     */
+    public StoredFile uploadStream(InputStream content, long size, String originalFilename,
+                                   String contentType, UUID userId) {
         try {
             String bucketName = minioConfig.getBucket().getResumes();
             
@@ -63,24 +94,24 @@ public class ResumeStorageService {
             ensureBucketExists(bucketName);
 
             // 生成文件路径: resumes/{userId}/{uuid}.{extension}
-            String originalFilename = file.getOriginalFilename();
             String extension = getFileExtension(originalFilename);
             String objectName = String.format("resumes/%s/%s.%s", 
                     userId.toString(), UUID.randomUUID().toString(), extension);
 
-            // 上传文件
-            try (InputStream inputStream = file.getInputStream()) {
-                minioClient.putObject(
-                        PutObjectArgs.builder()
-                                .bucket(bucketName)
-                                .object(objectName)
-                                .stream(inputStream, file.getSize(), -1)
-                                .contentType(file.getContentType())
-                                .build());
-            }
+            // 上传文件，哈希在流经 MinIO 客户端时顺带计算，不额外读取文件
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            InputStream inputStream = new DigestInputStream(content, digest);
+            minioClient.putObject(
+                    PutObjectArgs.builder()
+                            .bucket(bucketName)
+                            .object(objectName)
+                            .stream(inputStream, size, size >= 0 ? -1 : UNKNOWN_SIZE_PART_SIZE)
+                            .contentType(contentType)
+                            .build());
+            String contentHash = HexFormat.of().formatHex(digest.digest());
 
-            log.info("文件上传成功: bucket={}, object={}", bucketName, objectName);
-            return objectName;
+            log.info("文件上传成功: bucket={}, object={}, sha256={}", bucketName, objectName, contentHash);
+            return new StoredFile(objectName, contentHash);
 
         } catch (Exception e) {
             log.error("文件上传失败", e);
@@ -142,25 +173,23 @@ public class ResumeStorageService {
     }
 
     /**
-     * 获取文件内容（用于 AI 解析）
+     * 打开文件输入流（用于流式发送给 AI 解析），调用方负责关闭
      *
      * @param objectName 文件路径
-     * @return 文件字节数组
+     * @return 文件输入流
      */
-    public byte[] getFileContent(String objectName) {
+    public InputStream openFile(String objectName) {
         try {
             String bucketName = minioConfig.getBucket().getResumes();
-            
-            try (InputStream stream = minioClient.getObject(
+
+            return minioClient.getObject(
                     GetObjectArgs.builder()
                             .bucket(bucketName)
                             .object(objectName)
-                            .build())) {
-                return stream.readAllBytes();
-            }
+                            .build());
 
         } catch (Exception e) {
-            log.error("获取文件内容失败", e);
+            log.error("打开文件失败", e);
             throw new BusinessException(ErrorCode.RESUME_NOT_FOUND, "文件不存在或无法读取");
         }
     }
@@ -179,6 +208,15 @@ public class ResumeStorageService {
         }
     }
 
+    /**
+     * 已存储的文件
+     *
+     * @param objectName MinIO 对象路径
+     * @param contentHash 文件内容的 SHA-256（小写十六进制）
+     */
+    public record StoredFile(String objectName, String contentHash) {
+    }
+
     /**
      * 获取文件扩展名
      */
@@ -0,0 +1,183 @@
+package com.cvibe.resume.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.xwpf.extractor.XWPFWordExtractor;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * 简历文本层提取
+ *
+ * 在 JVM 内提取 PDF / DOCX 的文本层并判断是否可用：
+ * 可用时只把文本发给 AI Engine 走文本 LLM，扫描件、图片等无可用文本的文件仍走视觉模型。
+ * 文件先落到临时文件再解析，PDFBox 的流缓存也只使用临时文件，堆占用不随文件大小增长。
+ */
+@Slf4j
+@Component
+public class ResumeTextExtractor {
+
+    private static final String PDF = "application/pdf";
+    private static final String DOCX = "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+
+    private final boolean enabled;
+    private final int minChars;
+    private final int minCharsPerPage;
+    private final double maxGarbageRatio;
+    private final int maxChars;
+
+    public ResumeTextExtractor(
+            @Value("${resume.extract.enabled:true}") boolean enabled,
+            @Value("${resume.extract.min-chars:200}") int minChars,
+            @Value("${resume.extract.min-chars-per-page:100}") int minCharsPerPage,
+            @Value("${resume.extract.max-garbage-ratio:0.05}") double maxGarbageRatio,
+            @Value("${resume.extract.max-chars:50000}") int maxChars) {
+        this.enabled = enabled;
+        this.minChars = minChars;
+        this.minCharsPerPage = minCharsPerPage;
+        this.maxGarbageRatio = maxGarbageRatio;
+        this.maxChars = maxChars;
+    }
+
+    /**
+     * 是否支持提取该类型的文件
+     */
+    public boolean supports(String contentType, String fileName) {
+        return enabled && documentType(contentType, fileName) != null;
+    }
+
+    /**
+     * 提取文件的文本层，文本不可用（扫描件、字体编码损坏、内容过少）或提取失败时返回 empty
+     *
+     * @param content 文件内容，由调用方关闭
+     */
+    public Optional<String> extract(InputStream content, String contentType, String fileName) {
+        String type = documentType(contentType, fileName);
+        if (!enabled || type == null) {
+            return Optional.empty();
+        }
+
+        long start = System.currentTimeMillis();
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile("resume-extract-", PDF.equals(type) ? ".pdf" : ".docx");
+            Files.copy(content, tempFile, StandardCopyOption.REPLACE_EXISTING);
+
+            Extracted extracted = PDF.equals(type) ? extractPdf(tempFile) : extractDocx(tempFile);
+            String text = normalize(extracted.text());
+            boolean usable = isUsable(text, extracted.pages());
+            log.info("简历文本提取: file={}, pages={}, chars={}, usable={}, elapsed={}ms",
+                    fileName, extracted.pages(), text.length(), usable, System.currentTimeMillis() - start);
+            if (!usable) {
+                return Optional.empty();
+            }
+            return Optional.of(text.length() > maxChars ? text.substring(0, maxChars) : text);
+
+        } catch (Exception e) {
+            log.warn("简历文本提取失败，改用视觉模型解析: file={}, error={}", fileName, e.getMessage());
+            return Optional.empty();
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException e) {
+                    log.warn("删除临时文件失败: {}", tempFile);
+                }
+            }
+        }
+    }
+
+    private Extracted extractPdf(Path file) throws IOException {
+        try (PDDocument document = Loader.loadPDF(file.toFile(), null, null, null,
+                IOUtils.createTempFileOnlyStreamCache())) {
+            PDFTextStripper stripper = new PDFTextStripper();
+            stripper.setSortByPosition(true);
+            return new Extracted(stripper.getText(document), document.getNumberOfPages());
+        }
+    }
+
+    private Extracted extractDocx(Path file) throws Exception {
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            XWPFWordExtractor extractor = new XWPFWordExtractor(new XWPFDocument(pkg));
+            // DOCX 没有固定分页，按一页计
+            return new Extracted(extractor.getText(), 1);
+        }
+    }
+
+    /**
+     * 判断文本是否可用于文本 LLM 解析：
+     * 总字数与每页平均字数足够（排除只有页眉页脚文字的扫描件），且乱码字符占比低（排除字体编码损坏的 PDF）
+     */
+    boolean isUsable(String text, int pages) {
+        int meaningful = 0;
+        int garbage = 0;
+        // 按码点计数：扩展 B 区汉字、emoji 等补充平面字符占两个 char，不能拆成两个代理项算作乱码
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (Character.isWhitespace(codePoint)) {
+                continue;
+            }
+            if (isGarbage(codePoint)) {
+                garbage++;
+            } else {
+                meaningful++;
+            }
+        }
+        int total = meaningful + garbage;
+        if (meaningful < minChars || meaningful < (long) minCharsPerPage * Math.max(pages, 1)) {
+            return false;
+        }
+        return (double) garbage / total <= maxGarbageRatio;
+    }
+
+    // 成对的代理项已合成为码点，剩下的 SURROGATE 只会是孤立代理项
+    private static boolean isGarbage(int codePoint) {
+        if (codePoint == 0xFFFD) {
+            return true;
+        }
+        return switch (Character.getType(codePoint)) {
+            case Character.CONTROL, Character.PRIVATE_USE, Character.UNASSIGNED, Character.SURROGATE -> true;
+            default -> false;
+        };
+    }
+
+    // 合并多余空白，减少发送给 LLM 的 token
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.replace("\r", "")
+                .replaceAll("[ \\t\\u00A0]+", " ")
+                .replaceAll("\\n{3,}", "\n\n")
+                .strip();
+    }
+
+    private static String documentType(String contentType, String fileName) {
+        String type = contentType != null ? contentType.toLowerCase() : "";
+        String name = fileName != null ? fileName.toLowerCase() : "";
+        if (type.equals(PDF) || name.endsWith(".pdf")) {
+            return PDF;
+        }
+        if (type.equals(DOCX) || name.endsWith(".docx")) {
+            return DOCX;
+        }
+        return null;
+    }
+
+    private record Extracted(String text, int pages) {
+    }
+}
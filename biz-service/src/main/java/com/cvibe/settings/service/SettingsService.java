@@ -4,6 +4,7 @@ import com.cvibe.auth.entity.User;
 import com.cvibe.auth.repository.UserRepository;
 import com.cvibe.common.exception.BusinessException;
 import com.cvibe.common.exception.ErrorCode;
+import com.cvibe.common.security.PrincipalCache;
 import com.cvibe.settings.dto.AiConfigDto;
 import com.cvibe.settings.dto.ChangePasswordRequest;
 import com.cvibe.settings.entity.UserAiConfig;
@@ -34,6 +35,7 @@ public class SettingsService {
     private final UserRepository userRepository;
     private final UserAiConfigRepository aiConfigRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
     private final ObjectMapper objectMapper;
 
     // 有效的语言选项
@@ -76,6 +78,9 @@ public class SettingsService {
         user.setPasswordHash(passwordEncoder.encode(request.getNewPassword()));
         userRepository.save(user);
 
+        // 提交后失效缓存的认证主体
+        principalCache.invalidateAfterCommit(userId);
+
         log.info("用户 {} 成功修改密码", userId);
     }
 
@@ -0,0 +1,18 @@
+-- V17__add_jobs_full_text_search.sql
+-- Full-text search for jobs: replaces the LIKE '%kw%' scan in JobRepository.searchJobs
+
+-- Search vector maintained by Postgres itself (no trigger needed).
+-- 'simple' configuration: no stemming, safe for mixed Chinese/English postings.
+-- Weights: title (A) > company (B) > description (C)
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(company, '')), 'B') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'C')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_jobs_search_vector ON jobs USING GIN (search_vector);
+
+-- Keyset pagination on (posted_at, id)
+UPDATE jobs SET posted_at = created_at WHERE posted_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_jobs_posted_at_id ON jobs (posted_at DESC, id DESC);
@@ -0,0 +1,7 @@
+-- V18__add_notifications_unread_count_index.sql
+-- Unread badge counts: one GROUP BY (category, priority) over unread rows only.
+-- Partial index keeps it small (read rows are the vast majority) and allows index-only scans.
+
+CREATE INDEX IF NOT EXISTS idx_notifications_unread_counts
+    ON notifications (user_id, category, priority)
+    WHERE is_read = FALSE;
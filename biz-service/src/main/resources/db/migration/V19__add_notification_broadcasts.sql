@@ -0,0 +1,29 @@
+-- V19__add_notification_broadcasts.sql
+-- Resumable bulk notification jobs (system announcements, match alerts).
+-- Recipients are processed in user-id order; cursor_user_id is advanced in the same
+-- transaction as each inserted chunk, so a resumed job never sends twice.
+
+CREATE TABLE IF NOT EXISTS notification_broadcasts (
+    id UUID PRIMARY KEY,
+    type VARCHAR(30) NOT NULL,
+    priority VARCHAR(20) NOT NULL,
+    category VARCHAR(50),
+    title VARCHAR(255) NOT NULL,
+    content TEXT,
+    action_url VARCHAR(500),
+    action_text VARCHAR(100),
+    data_json TEXT,
+    audience VARCHAR(20) NOT NULL,
+    user_ids_json TEXT,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    cursor_user_id UUID,
+    total_recipients INTEGER NOT NULL DEFAULT 0,
+    sent_count INTEGER NOT NULL DEFAULT 0,
+    error_message TEXT,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP WITH TIME ZONE,
+    completed_at TIMESTAMP WITH TIME ZONE,
+    updated_at TIMESTAMP WITH TIME ZONE
+);
+
+CREATE INDEX IF NOT EXISTS idx_notification_broadcast_status ON notification_broadcasts(status);
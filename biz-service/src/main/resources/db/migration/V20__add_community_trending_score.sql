@@ -0,0 +1,20 @@
+-- V20__add_community_trending_score.sql
+-- Materialized, time-decayed trending score for community posts:
+--   score = (likes + 2 * comments) / (age_hours + 2) ^ gravity
+-- Updated with every like/comment counter flush and re-decayed periodically for recent posts
+-- (see TrendingPostIndex). The index turns /posts/trending into an index range scan.
+-- The community tables are created from the entities (community_posts); skip if absent.
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.tables WHERE table_name = 'community_posts') THEN
+        ALTER TABLE community_posts ADD COLUMN IF NOT EXISTS trending_score DOUBLE PRECISION NOT NULL DEFAULT 0;
+
+        UPDATE community_posts
+        SET trending_score = (likes_count + 2 * comments_count)
+            / POWER(GREATEST(EXTRACT(EPOCH FROM (CURRENT_TIMESTAMP - created_at)), 0) / 3600.0 + 2, 1.8);
+
+        CREATE INDEX IF NOT EXISTS idx_post_trending
+            ON community_posts (trending_score DESC, created_at DESC);
+    END IF;
+END $$;
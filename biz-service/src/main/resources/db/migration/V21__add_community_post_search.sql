@@ -0,0 +1,36 @@
+-- V21__add_community_post_search.sql
+-- Full-text search for community posts and normalized tags:
+-- replaces the LIKE '%kw%' scan over content and the JSON tags string in PostRepository.searchByKeyword.
+-- The community tables are created from the entities (community_posts); skip if absent.
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.tables WHERE table_name = 'community_posts') THEN
+        -- Search vector maintained by Postgres itself; 'simple' configuration as for jobs (V17)
+        ALTER TABLE community_posts ADD COLUMN IF NOT EXISTS search_vector tsvector
+            GENERATED ALWAYS AS (to_tsvector('simple', coalesce(content, ''))) STORED;
+
+        CREATE INDEX IF NOT EXISTS idx_community_posts_search_vector
+            ON community_posts USING GIN (search_vector);
+
+        -- One row per (post, normalized tag); tag filters and autocomplete are index range scans
+        CREATE TABLE IF NOT EXISTS community_post_tags (
+            post_id UUID NOT NULL REFERENCES community_posts(id) ON DELETE CASCADE,
+            tag VARCHAR(50) NOT NULL,
+            PRIMARY KEY (post_id, tag)
+        );
+
+        CREATE INDEX IF NOT EXISTS idx_post_tag_tag
+            ON community_post_tags (tag text_pattern_ops, post_id);
+
+        -- Backfill from the JSON tags column, normalized like CommunityService.normalizeTag
+        INSERT INTO community_post_tags (post_id, tag)
+        SELECT DISTINCT p.id,
+               left(regexp_replace(lower(trim(ltrim(trim(t.value), '#'))), '\s+', '-', 'g'), 50)
+        FROM community_posts p,
+             jsonb_array_elements_text(p.tags::jsonb) AS t(value)
+        WHERE p.tags LIKE '[%'
+          AND trim(ltrim(trim(t.value), '#')) <> ''
+        ON CONFLICT DO NOTHING;
+    END IF;
+END $$;
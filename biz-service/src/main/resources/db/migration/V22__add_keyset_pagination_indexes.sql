@@ -0,0 +1,39 @@
+-- V22__add_keyset_pagination_indexes.sql
+-- Keyset (cursor) pagination: every listing is ordered by (sort key, id), so a page is one
+-- index range scan starting at the cursor, whatever its depth. Latest jobs reuse idx_jobs_posted_at_id (V17).
+
+-- Notifications, newest first; all, per category, and unread only
+CREATE INDEX IF NOT EXISTS idx_notifications_user_created_id
+    ON notifications (user_id, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_notifications_user_category_created_id
+    ON notifications (user_id, category, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_notifications_user_unread_created_id
+    ON notifications (user_id, created_at DESC, id DESC)
+    WHERE is_read = FALSE;
+
+-- Superseded by the keyset index above
+DROP INDEX IF EXISTS idx_notifications_user_created;
+
+-- Remote jobs, newest first
+CREATE INDEX IF NOT EXISTS idx_jobs_remote_posted_at_id
+    ON jobs (posted_at DESC, id DESC)
+    WHERE is_remote = TRUE;
+
+-- Job matches of a user, best first
+CREATE INDEX IF NOT EXISTS idx_job_matches_user_score_id
+    ON job_matches (user_id, match_score DESC, id DESC);
+
+-- Community feed, all and per category.
+-- The community tables are created from the entities (community_posts); skip if absent.
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.tables WHERE table_name = 'community_posts') THEN
+        CREATE INDEX IF NOT EXISTS idx_community_posts_created_id
+            ON community_posts (created_at DESC, id DESC);
+
+        CREATE INDEX IF NOT EXISTS idx_community_posts_category_created_id
+            ON community_posts (category, created_at DESC, id DESC);
+    END IF;
+END $$;
@@ -0,0 +1,19 @@
+-- V23__add_resume_parse_cache.sql
+-- Content-hash parse cache: a re-uploaded or re-parsed file with the same SHA-256 reuses the
+-- previous AI parse result instead of calling the VLM again.
+
+ALTER TABLE resume_history
+    ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+
+CREATE INDEX IF NOT EXISTS idx_resume_content_hash ON resume_history (content_hash);
+
+-- One parse result per (file content, parser version); bumping resume.parse.cache.parser-version
+-- starts a fresh keyspace, old rows are simply never read again
+CREATE TABLE IF NOT EXISTS resume_parse_cache (
+    id UUID PRIMARY KEY,
+    content_hash VARCHAR(64) NOT NULL,
+    parser_version VARCHAR(100) NOT NULL,
+    parsed_data TEXT NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_resume_parse_cache_key UNIQUE (content_hash, parser_version)
+);
@@ -0,0 +1,7 @@
+-- V24__add_resume_parse_progress.sql
+-- Page-level progress for multi-page resumes that are parsed as parallel page groups.
+-- Both columns stay NULL for files parsed in a single call.
+
+ALTER TABLE resume_history
+    ADD COLUMN IF NOT EXISTS pages_total INTEGER,
+    ADD COLUMN IF NOT EXISTS pages_parsed INTEGER;
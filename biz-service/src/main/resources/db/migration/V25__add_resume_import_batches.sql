@@ -0,0 +1,22 @@
+-- V25__add_resume_import_batches.sql
+-- Bulk resume import: one batch row per ZIP / multi-file upload, each imported file is an
+-- ordinary resume_history row pointing back at its batch.
+
+CREATE TABLE IF NOT EXISTS resume_import_batch (
+    id UUID PRIMARY KEY,
+    user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    status VARCHAR(20) NOT NULL,
+    total_files INTEGER NOT NULL DEFAULT 0,
+    parsed_files INTEGER NOT NULL DEFAULT 0,
+    failed_files INTEGER NOT NULL DEFAULT 0,
+    skipped_json TEXT,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMPTZ
+);
+
+CREATE INDEX IF NOT EXISTS idx_resume_import_batch_user ON resume_import_batch (user_id, created_at DESC);
+
+ALTER TABLE resume_history
+    ADD COLUMN IF NOT EXISTS import_batch_id UUID REFERENCES resume_import_batch(id) ON DELETE SET NULL;
+
+CREATE INDEX IF NOT EXISTS idx_resume_import_batch_id ON resume_history (import_batch_id);
@@ -0,0 +1,11 @@
+-- V26__add_resume_parse_claim.sql
+-- Parse claim for PROCESSING resumes. The node that queues a parse claims the row and keeps the
+-- claim fresh while the parse is queued or running; rows whose claim went stale (the node stopped)
+-- are claimed again by a periodic scan on any node.
+
+ALTER TABLE resume_history
+    ADD COLUMN IF NOT EXISTS parse_claimed_at TIMESTAMPTZ;
+
+CREATE INDEX IF NOT EXISTS idx_resume_history_processing
+    ON resume_history (parse_claimed_at)
+    WHERE status = 'PROCESSING';
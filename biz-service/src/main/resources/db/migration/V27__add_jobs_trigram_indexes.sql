@@ -0,0 +1,10 @@
+-- V27__add_jobs_trigram_indexes.sql
+-- The 'simple' tsvector from V17 does not segment Chinese/Japanese/Korean text: a CJK run is one
+-- token, so CJK keywords rarely match it. JobService sends CJK keywords to the LIKE query instead;
+-- these trigram indexes on the lower-cased columns it filters on keep that query off a full scan.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_jobs_title_trgm ON jobs USING GIN (lower(title) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_jobs_company_trgm ON jobs USING GIN (lower(company) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_jobs_description_trgm ON jobs USING GIN (lower(description) gin_trgm_ops);
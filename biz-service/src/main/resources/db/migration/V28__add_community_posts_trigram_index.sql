@@ -0,0 +1,14 @@
+-- V28__add_community_posts_trigram_index.sql
+-- As for jobs (V27): the 'simple' tsvector from V21 does not segment CJK text, so CommunityService
+-- sends CJK keywords to the LIKE query over lower(content); this trigram index serves it.
+-- The community tables are created from the entities (community_posts); skip if absent.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.tables WHERE table_name = 'community_posts') THEN
+        CREATE INDEX IF NOT EXISTS idx_community_posts_content_trgm
+            ON community_posts USING GIN (lower(content) gin_trgm_ops);
+    END IF;
+END $$;
@@ -0,0 +1,4 @@
+-- V29__add_profile_expected_salary.sql
+-- Salary expectation of the user, compared with jobs.salary_min / salary_max by the match scoring engine
+
+ALTER TABLE user_profiles ADD COLUMN IF NOT EXISTS expected_salary INTEGER;
@@ -0,0 +1,44 @@
+-- V30__add_jobs_cjk_search.sql
+-- The 'simple' tsvector from V17 does not segment Chinese/Japanese/Korean text: a CJK run is one
+-- token, so CJK keywords rarely match it. The V27 trigram indexes do not help either: most CJK job
+-- keywords are two characters (前端, 后端, 产品), and pg_trgm extracts no usable trigram from those.
+--
+-- cjk_grams() returns the distinct CJK characters and adjacent CJK character pairs of a text.
+-- A keyword's grams must all be contained in a job's grams, which the GIN index answers;
+-- JobRepository re-checks the candidates with LIKE, so gram matches across fields are discarded.
+-- Used by community_posts too (V31).
+
+CREATE OR REPLACE FUNCTION cjk_grams(input TEXT) RETURNS TEXT[]
+    LANGUAGE plpgsql IMMUTABLE STRICT PARALLEL SAFE AS $$
+DECLARE
+    grams TEXT[] := '{}';
+    prev TEXT := NULL;
+    c TEXT;
+BEGIN
+    FOREACH c IN ARRAY regexp_split_to_array(lower(input), '') LOOP
+        -- Kana, CJK ideographs (incl. extension A and compatibility), Hangul syllables, extensions B-G
+        IF c ~ '[\u3040-\u30ff\u3400-\u4dbf\u4e00-\u9fff\uac00-\ud7af\uf900-\ufaff\U00020000-\U0003134f]' THEN
+            grams := grams || c;
+            IF prev IS NOT NULL THEN
+                grams := grams || (prev || c);
+            END IF;
+            prev := c;
+        ELSE
+            prev := NULL;
+        END IF;
+    END LOOP;
+    RETURN ARRAY(SELECT DISTINCT g FROM unnest(grams) AS g);
+END $$;
+
+-- Fields are joined with a space so no pair spans two fields
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS cjk_grams TEXT[]
+    GENERATED ALWAYS AS (
+        cjk_grams(coalesce(title, '') || ' ' || coalesce(company, '') || ' ' || coalesce(description, ''))
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_jobs_cjk_grams ON jobs USING GIN (cjk_grams);
+
+-- The substring query now only re-checks gram candidates; the V27 trigram indexes are unused
+DROP INDEX IF EXISTS idx_jobs_title_trgm;
+DROP INDEX IF EXISTS idx_jobs_company_trgm;
+DROP INDEX IF EXISTS idx_jobs_description_trgm;
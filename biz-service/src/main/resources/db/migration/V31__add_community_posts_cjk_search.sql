@@ -0,0 +1,19 @@
+-- V31__add_community_posts_cjk_search.sql
+-- As for jobs (V30): the 'simple' tsvector from V21 does not segment CJK text and the V28 trigram
+-- index cannot serve two-character keywords, so CJK keywords are matched through the CJK
+-- character/pair grams of the content, then re-checked with LIKE by PostRepository.
+-- The community tables are created from the entities (community_posts); skip if absent.
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.tables WHERE table_name = 'community_posts') THEN
+        ALTER TABLE community_posts ADD COLUMN IF NOT EXISTS cjk_grams TEXT[]
+            GENERATED ALWAYS AS (cjk_grams(coalesce(content, ''))) STORED;
+
+        CREATE INDEX IF NOT EXISTS idx_community_posts_cjk_grams
+            ON community_posts USING GIN (cjk_grams);
+
+        -- Unused once the substring query only re-checks gram candidates
+        DROP INDEX IF EXISTS idx_community_posts_content_trgm;
+    END IF;
+END $$;
@@ -0,0 +1,8 @@
+-- V32__add_resume_parse_claim_token.sql
+-- Token of the current parse claim (V26). Renewals move parse_claimed_at, so the node that claimed a
+-- row identifies its claim by this token instead; the parse result is only written back while the
+-- row still carries it, so a node whose claim went stale and was taken over cannot overwrite the
+-- new owner's result or a later reparse.
+
+ALTER TABLE resume_history
+    ADD COLUMN IF NOT EXISTS parse_claim_token UUID;
@@ -0,0 +1,94 @@
+package com.cvibe.common.dto;
+
+import com.cvibe.common.exception.BusinessException;
+import com.cvibe.common.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorTest {
+
+    private static final UUID ID = UUID.fromString("3f2c1a9e-5b7d-4e8f-9a0b-1c2d3e4f5a6b");
+
+    @Test
+    void roundTripsSortKeysAndId() {
+        Instant createdAt = Instant.parse("2024-03-01T12:34:56.789Z");
+
+        Cursor cursor = Cursor.decode(Cursor.encode(ID, createdAt, 0.75, 3), 3);
+
+        assertThat(cursor.id()).isEqualTo(ID);
+        assertThat(cursor.instantKey(0)).isEqualTo(createdAt);
+        assertThat(cursor.doubleKey(1)).isEqualTo(0.75);
+        assertThat(cursor.intKey(2)).isEqualTo(3);
+    }
+
+    @Test
+    void roundTripsFloatKeysExactly() {
+        float score = 0.1f + 0.2f;
+
+        Cursor cursor = Cursor.decode(Cursor.encode(ID, score), 1);
+
+        assertThat(cursor.floatKey(0)).isEqualTo(score);
+    }
+
+    @Test
+    void encodesUrlSafeWithoutPadding() {
+        String encoded = Cursor.encode(Cursor.MAX_ID, Cursor.MAX_INSTANT);
+
+        assertThat(encoded).doesNotContain("+", "/", "=");
+        assertThat(Cursor.decode(encoded, 1).instantKey(0)).isEqualTo(Cursor.MAX_INSTANT);
+    }
+
+    @Test
+    void acceptsSurroundingWhitespace() {
+        String encoded = Cursor.encode(ID, Instant.EPOCH);
+
+        assertThat(Cursor.decode("  " + encoded + "\n", 1).id()).isEqualTo(ID);
+    }
+
+    @Test
+    void returnsNullWhenNoCursorWasSent() {
+        assertThat(Cursor.decode(null, 1)).isNull();
+        assertThat(Cursor.decode(" ", 1)).isNull();
+    }
+
+    @Test
+    void rejectsWrongNumberOfSortKeys() {
+        String encoded = Cursor.encode(ID, Instant.EPOCH);
+
+        assertInvalid(() -> Cursor.decode(encoded, 2));
+        assertInvalid(() -> Cursor.decode(encoded, 0));
+    }
+
+    @Test
+    void rejectsMalformedInput() {
+        assertInvalid(() -> Cursor.decode("not base64!", 1));
+        assertInvalid(() -> Cursor.decode(raw(Instant.EPOCH + "|not-a-uuid"), 1));
+    }
+
+    @Test
+    void rejectsSortKeyOfTheWrongType() {
+        Cursor cursor = Cursor.decode(raw("yesterday|" + ID), 1);
+
+        assertInvalid(() -> cursor.instantKey(0));
+        assertInvalid(() -> cursor.doubleKey(0));
+        assertInvalid(() -> cursor.intKey(1));
+    }
+
+    private static String raw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertInvalid(Runnable decode) {
+        assertThatThrownBy(decode::run)
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_REQUEST);
+    }
+}
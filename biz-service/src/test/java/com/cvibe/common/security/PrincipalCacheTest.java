@@ -0,0 +1,122 @@
+package com.cvibe.common.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrincipalCacheTest {
+
+    private static final UUID USER = UUID.randomUUID();
+    private static final UUID OTHER = UUID.randomUUID();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void servesCachedPrincipalsWithinTheTtl() {
+        PrincipalCache cache = new PrincipalCache(meterRegistry, 60, 100);
+
+        UserPrincipal first = cache.get(USER, this::load);
+        UserPrincipal second = cache.get(USER, this::load);
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(cache.getStats()).isEqualTo(new PrincipalCache.Stats(1, 1, 0, 1));
+        assertThat(meterRegistry.get("principal.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    void reloadsExpiredPrincipals() {
+        PrincipalCache cache = new PrincipalCache(meterRegistry, 0, 100);
+
+        cache.get(USER, this::load);
+        cache.get(USER, this::load);
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.getStats().hits()).isZero();
+    }
+
+    @Test
+    void reloadsAfterAnInvalidation() {
+        PrincipalCache cache = new PrincipalCache(meterRegistry, 60, 100);
+        cache.get(USER, this::load);
+
+        cache.invalidate(USER);
+        cache.get(USER, this::load);
+
+        assertThat(loads).hasValue(2);
+        assertThat(meterRegistry.get("principal.cache.invalidations").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotCacheALoadThatRacedWithAnInvalidation() {
+        PrincipalCache cache = new PrincipalCache(meterRegistry, 60, 100);
+
+        // The password changes while the request is still loading the old principal
+        cache.get(USER, racing(cache, USER));
+        cache.get(USER, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void discardsRacingLoadsWhicheverUserWasInvalidated() {
+        PrincipalCache cache = new PrincipalCache(meterRegistry, 60, 100);
+
+        // The epoch is global, so the guard errs towards reloading
+        cache.get(USER, racing(cache, OTHER));
+        cache.get(USER, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void doesNotCacheMissingUsers() {
+        PrincipalCache cache = new PrincipalCache(meterRegistry, 60, 100);
+
+        assertThat(cache.get(USER, id -> null)).isNull();
+        cache.get(USER, this::load);
+
+        assertThat(loads).hasValue(1);
+        assertThat(cache.getStats().misses()).isEqualTo(2);
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedPrincipal() {
+        PrincipalCache cache = new PrincipalCache(meterRegistry, 60, 2);
+        UUID third = UUID.randomUUID();
+
+        cache.get(USER, this::load);
+        cache.get(OTHER, this::load);
+        cache.get(USER, this::load);
+        cache.get(third, this::load);
+        cache.get(USER, this::load);
+        cache.get(OTHER, this::load);
+
+        assertThat(cache.getStats().size()).isEqualTo(2);
+        assertThat(loads).hasValue(4);
+    }
+
+    private UserPrincipal load(UUID userId) {
+        loads.incrementAndGet();
+        return UserPrincipal.builder()
+                .id(userId)
+                .email(userId + "@example.com")
+                .role("USER")
+                .enabled(true)
+                .build();
+    }
+
+    private Function<UUID, UserPrincipal> racing(PrincipalCache cache, UUID invalidated) {
+        return userId -> {
+            UserPrincipal principal = load(userId);
+            cache.invalidate(invalidated);
+            return principal;
+        };
+    }
+}
@@ -0,0 +1,124 @@
+package com.cvibe.community.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class TrendingPostIndexTest {
+
+    private static final String UPDATE = "UPDATE community_posts SET trending_score = ";
+
+    private JdbcTemplate jdbcTemplate;
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private ZSetOperations<String, String> zSetOperations;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        zSetOperations = mock(ZSetOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    }
+
+    @Test
+    void decaysByAgeWithTheConfiguredWeights() {
+        assertThat(index(false).scoreExpression("likes_count", "comments_count")).isEqualTo(
+                "((likes_count) + 2.0 * (comments_count)) / "
+                        + "POWER(GREATEST(EXTRACT(EPOCH FROM (CURRENT_TIMESTAMP - created_at)), 0) / 3600.0 + 2, 1.8)");
+    }
+
+    @Test
+    void redecaysTheWindowPlusOneDay() {
+        Instant before = Instant.now();
+        index(false).redecay();
+        Instant after = Instant.now();
+
+        ArgumentCaptor<Timestamp> since = ArgumentCaptor.forClass(Timestamp.class);
+        verify(jdbcTemplate).update(startsWith(UPDATE), since.capture());
+        Duration reach = Duration.ofHours(168).plusDays(1);
+        assertThat(since.getValue().toInstant()).isBetween(before.minus(reach), after.minus(reach));
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void skipsTheRedecayWhileAnotherNodeHoldsTheLock() {
+        when(valueOperations.setIfAbsent(eq("community:trending:lock"), anyString(), eq(Duration.ofMillis(540_000))))
+                .thenReturn(false);
+
+        index(true).redecay();
+
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    void redecaysWhenTheLockIsUnavailable() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        index(true).redecay();
+
+        verify(jdbcTemplate).update(startsWith(UPDATE), any(Timestamp.class));
+    }
+
+    @Test
+    void servesPagesInsideTheTopNFromRedis() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(valueOperations.get("community:trending:total")).thenReturn("42");
+        when(redisTemplate.hasKey("community:trending")).thenReturn(true);
+        when(zSetOperations.reverseRange("community:trending", 10, 19))
+                .thenReturn(new LinkedHashSet<>(List.of(first.toString(), second.toString())));
+
+        TrendingPostIndex.TrendingPage page = index(true).findPage(PageRequest.of(1, 10)).orElseThrow();
+
+        assertThat(page.postIds()).containsExactly(first, second);
+        assertThat(page.total()).isEqualTo(42);
+    }
+
+    @Test
+    void readsPagesPastTheTopNFromTheTable() {
+        assertThat(index(true).findPage(PageRequest.of(50, 10))).isEmpty();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void readsFromTheTableUntilTheTopNIsBuilt() {
+        when(valueOperations.get("community:trending:total")).thenReturn(null);
+
+        assertThat(index(true).findPage(PageRequest.of(0, 10))).isEmpty();
+    }
+
+    private TrendingPostIndex index(boolean redisEnabled) {
+        return new TrendingPostIndex(jdbcTemplate, mock(NamedParameterJdbcTemplate.class), redisTemplate,
+                redisEnabled, 1.8, 2, 500, 168, 540_000);
+    }
+}
@@ -0,0 +1,79 @@
+package com.cvibe.job.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactUuidSetTest {
+
+    @Test
+    void containsOnlyAddedIds() {
+        JobMatchGenerator.CompactUuidSet set = new JobMatchGenerator.CompactUuidSet(4);
+        UUID added = UUID.randomUUID();
+
+        set.add(added);
+
+        assertThat(set.contains(added)).isTrue();
+        assertThat(set.contains(new UUID(added.getMostSignificantBits(), added.getLeastSignificantBits()))).isTrue();
+        assertThat(set.contains(UUID.randomUUID())).isFalse();
+        assertThat(set.size()).isEqualTo(1);
+    }
+
+    @Test
+    void ignoresDuplicates() {
+        JobMatchGenerator.CompactUuidSet set = new JobMatchGenerator.CompactUuidSet(4);
+        UUID id = UUID.randomUUID();
+
+        set.add(id);
+        set.add(id);
+
+        assertThat(set.size()).isEqualTo(1);
+    }
+
+    @Test
+    void growsPastTheExpectedSize() {
+        JobMatchGenerator.CompactUuidSet set = new JobMatchGenerator.CompactUuidSet(0);
+        Set<UUID> expected = new HashSet<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            UUID id = new UUID(random.nextLong(), random.nextLong());
+            expected.add(id);
+            set.add(id);
+        }
+
+        assertThat(set.size()).isEqualTo(expected.size());
+        assertThat(expected).allMatch(set::contains);
+        assertThat(set.contains(new UUID(random.nextLong(), random.nextLong()))).isFalse();
+    }
+
+    @Test
+    void distinguishesIdsThatHashToTheSameSlot() {
+        // Swapping the halves keeps hi ^ lo, so both land in the same slot
+        UUID first = new UUID(0x1234L, 0x5678L);
+        UUID swapped = new UUID(0x5678L, 0x1234L);
+        JobMatchGenerator.CompactUuidSet set = new JobMatchGenerator.CompactUuidSet(4);
+
+        set.add(first);
+
+        assertThat(set.contains(swapped)).isFalse();
+        set.add(swapped);
+        assertThat(set.size()).isEqualTo(2);
+        assertThat(set.contains(first)).isTrue();
+        assertThat(set.contains(swapped)).isTrue();
+    }
+
+    @Test
+    void handlesTheZeroId() {
+        JobMatchGenerator.CompactUuidSet set = new JobMatchGenerator.CompactUuidSet(4);
+        UUID zero = new UUID(0L, 0L);
+
+        assertThat(set.contains(zero)).isFalse();
+        set.add(zero);
+        assertThat(set.contains(zero)).isTrue();
+    }
+}
@@ -0,0 +1,139 @@
+package com.cvibe.job.service;
+
+import com.cvibe.job.entity.ExperienceLevel;
+import com.cvibe.job.entity.Job;
+import com.cvibe.job.repository.JobRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scoring one profile against a synthetic job corpus, without database access or JSON parsing
+ * in the measured loop (except vectorizeAndScoreParallel, which goes through the vector cache
+ * like JobMatchGenerator does).
+ *
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark=MatchScoringEngine
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MatchScoringEngineBenchmark {
+
+    private static final int VOCABULARY_SIZE = 2000;
+    private static final int SKILLS_PER_JOB = 8;
+    private static final int CANDIDATE_SKILLS = 15;
+    private static final String[] CITIES = {
+            "beijing", "shanghai", "shenzhen", "hangzhou", "guangzhou", "chengdu", "berlin", "london", "remote", "tokyo"
+    };
+
+    @Param({"10000", "100000"})
+    private int jobCount;
+
+    private MatchScoringEngine engine;
+    private MatchScoringEngine.Candidate candidate;
+    private MatchScoringEngine.JobVector[] vectors;
+    private List<Job> jobs;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JsonProcessingException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Random random = new Random(42);
+
+        jobs = new ArrayList<>(jobCount);
+        List<String> skillLists = new ArrayList<>(jobCount);
+        ExperienceLevel[] levels = ExperienceLevel.values();
+        for (int i = 0; i < jobCount; i++) {
+            String skills = objectMapper.writeValueAsString(randomSkills(random, SKILLS_PER_JOB));
+            skillLists.add(skills);
+            int salaryMin = 10_000 + random.nextInt(40) * 1_000;
+            jobs.add(Job.builder()
+                    .id(UUID.randomUUID())
+                    .title("Job " + i)
+                    .skills(skills)
+                    .requirements(objectMapper.writeValueAsString(List.of(
+                            "Experience with " + skillName(zipf(random)) + " and " + skillName(zipf(random)))))
+                    .experienceLevel(levels[random.nextInt(levels.length)])
+                    .location(CITIES[random.nextInt(CITIES.length)])
+                    .isRemote(random.nextInt(10) == 0)
+                    .salaryMin(salaryMin)
+                    .salaryMax(salaryMin + 10_000)
+                    .build());
+        }
+
+        engine = new MatchScoringEngine(jobRepository(skillLists), objectMapper, jobCount * 2, VOCABULARY_SIZE);
+        engine.refreshVocabulary();
+
+        vectors = jobs.stream().map(engine::vectorize).toArray(MatchScoringEngine.JobVector[]::new);
+        candidate = engine.candidate(randomSkills(random, CANDIDATE_SKILLS), 6, List.of("shanghai"), 30_000);
+    }
+
+    @Benchmark
+    public void scoreSequential(Blackhole blackhole) {
+        for (MatchScoringEngine.JobVector vector : vectors) {
+            blackhole.consume(engine.score(candidate, vector));
+        }
+    }
+
+    @Benchmark
+    public long scoreParallel() {
+        return Arrays.stream(vectors)
+                .parallel()
+                .mapToLong(vector -> engine.score(candidate, vector).overall())
+                .sum();
+    }
+
+    @Benchmark
+    public long vectorizeAndScoreParallel() {
+        return jobs.parallelStream()
+                .mapToLong(job -> engine.score(candidate, engine.vectorize(job)).overall())
+                .sum();
+    }
+
+    // ==================== Data ====================
+
+    private static Set<String> randomSkills(Random random, int count) {
+        Set<String> skills = new LinkedHashSet<>();
+        while (skills.size() < count) {
+            skills.add(skillName(zipf(random)));
+        }
+        return skills;
+    }
+
+    // Skewed like real listings: a few skills appear in most jobs, most skills in few
+    private static int zipf(Random random) {
+        return (int) Math.min(VOCABULARY_SIZE - 1, Math.floor(Math.pow(VOCABULARY_SIZE, random.nextDouble())) - 1);
+    }
+
+    private static String skillName(int id) {
+        return "Skill " + id;
+    }
+
+    /**
+     * JobRepository that only serves the vocabulary corpus
+     */
+    private static JobRepository jobRepository(List<String> skillLists) {
+        return (JobRepository) Proxy.newProxyInstance(
+                JobRepository.class.getClassLoader(),
+                new Class<?>[]{JobRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAllSkillLists")) {
+                        return skillLists;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,166 @@
+package com.cvibe.job.service;
+
+import com.cvibe.job.entity.ExperienceLevel;
+import com.cvibe.job.repository.JobRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchScoringEngineTest {
+
+    private MatchScoringEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new MatchScoringEngine(jobRepository(List.of(
+                "[\"Java\", \"Spring Boot\"]",
+                "[\"Java\", \"Kotlin\"]")), new ObjectMapper(), 100, 10);
+        engine.refreshVocabulary();
+    }
+
+    @Test
+    void buildsTheVocabularyFromTheJobCorpus() {
+        assertThat(engine.vocabulary().version()).isEqualTo(1);
+        assertThat(engine.vocabulary().size()).isEqualTo(3);
+
+        engine.refreshVocabulary();
+        assertThat(engine.vocabulary().version()).isEqualTo(1);
+    }
+
+    @Test
+    void countsListedSkillsInsideAndOutsideTheVocabulary() {
+        MatchScoringEngine.JobVector job = engine.vectorize(List.of("Java", "Rust"),
+                List.of("Experience with Spring Boot."), ExperienceLevel.ENTRY, null, true, null, null);
+
+        MatchScoringEngine.Score score = engine.score(candidate(List.of("java", " RUST "), 0), job);
+
+        assertThat(score.requiredSkills()).isEqualTo(3);
+        assertThat(score.skillMatch()).isEqualTo(67);
+        assertThat(score.matchingSkills()).containsExactly("Java", "Rust");
+    }
+
+    @Test
+    void takesOnlyVocabularySkillsFromRequirements() {
+        MatchScoringEngine.JobVector job = engine.vectorize(List.of(),
+                List.of("Spring Boot and Haskell wanted"), ExperienceLevel.ENTRY, null, true, null, null);
+
+        assertThat(job.skillCount()).isEqualTo(1);
+        assertThat(engine.score(candidate(List.of("Spring Boot"), 0), job).skillMatch()).isEqualTo(100);
+    }
+
+    @Test
+    void scoresJobsWithoutSkillsAsNeutral() {
+        MatchScoringEngine.JobVector job = engine.vectorize(List.of(), List.of(), ExperienceLevel.ENTRY,
+                null, true, null, null);
+
+        assertThat(engine.score(candidate(List.of("Java"), 0), job).skillMatch()).isEqualTo(50);
+    }
+
+    @Test
+    void matchesCandidatesBuiltBeforeAVocabularyRefresh() {
+        MatchScoringEngine fresh = new MatchScoringEngine(jobRepository(List.of("[\"Java\"]")),
+                new ObjectMapper(), 100, 10);
+        MatchScoringEngine.Candidate before = fresh.candidate(List.of("Java"), 0, List.of(), null);
+        fresh.refreshVocabulary();
+
+        MatchScoringEngine.JobVector job = fresh.vectorize(List.of("Java"), List.of(), ExperienceLevel.ENTRY,
+                null, true, null, null);
+
+        assertThat(fresh.score(before, job).skillMatch()).isEqualTo(100);
+        assertThat(fresh.score(before, job).matchingSkills()).containsExactly("Java");
+    }
+
+    @Test
+    void mapsYearsToLevels() {
+        assertThat(MatchScoringEngine.levelFor(1)).isEqualTo(ExperienceLevel.ENTRY);
+        assertThat(MatchScoringEngine.levelFor(2)).isEqualTo(ExperienceLevel.MID);
+        assertThat(MatchScoringEngine.levelFor(5)).isEqualTo(ExperienceLevel.SENIOR);
+        assertThat(MatchScoringEngine.levelFor(8)).isEqualTo(ExperienceLevel.LEAD);
+        assertThat(MatchScoringEngine.levelFor(12)).isEqualTo(ExperienceLevel.EXECUTIVE);
+    }
+
+    @Test
+    void penalizesUnderQualificationHarderThanOverQualification() {
+        assertThat(experienceMatch(3, ExperienceLevel.MID)).isEqualTo(100);
+        assertThat(experienceMatch(3, ExperienceLevel.SENIOR)).isEqualTo(70);
+        assertThat(experienceMatch(3, ExperienceLevel.ENTRY)).isEqualTo(85);
+        assertThat(experienceMatch(0, ExperienceLevel.EXECUTIVE)).isEqualTo(0);
+        assertThat(experienceMatch(15, ExperienceLevel.ENTRY)).isEqualTo(40);
+        assertThat(experienceMatch(3, null)).isEqualTo(70);
+    }
+
+    @Test
+    void fitsLocations() {
+        assertThat(locationMatch(List.of("Berlin"), "Shanghai", true)).isEqualTo(100);
+        assertThat(locationMatch(List.of("Shanghai"), "Shanghai, China", false)).isEqualTo(100);
+        assertThat(locationMatch(List.of("Pudong, Shanghai"), "shanghai", false)).isEqualTo(100);
+        assertThat(locationMatch(List.of("Berlin"), "Shanghai", false)).isEqualTo(30);
+        assertThat(locationMatch(List.of(), "Shanghai", false)).isEqualTo(70);
+        assertThat(locationMatch(List.of("Berlin"), null, false)).isEqualTo(70);
+    }
+
+    @Test
+    void fitsSalaries() {
+        assertThat(salaryMatch(null, 10_000, 20_000)).isNull();
+        assertThat(salaryMatch(30_000, null, null)).isNull();
+        assertThat(salaryMatch(20_000, 10_000, 20_000)).isEqualTo(100);
+        assertThat(salaryMatch(30_000, 10_000, 20_000)).isEqualTo(50);
+        assertThat(salaryMatch(30_000, 25_000, null)).isEqualTo(80);
+        assertThat(salaryMatch(100_000, 10_000, 20_000)).isEqualTo(0);
+    }
+
+    @Test
+    void weighsSalaryOnlyWhenBothSidesProvideIt() {
+        MatchScoringEngine.JobVector withoutSalary = engine.vectorize(List.of("Java", "Rust"), List.of(),
+                ExperienceLevel.ENTRY, null, true, null, null);
+        MatchScoringEngine.JobVector withSalary = engine.vectorize(List.of("Java", "Rust"), List.of(),
+                ExperienceLevel.ENTRY, null, true, 10_000, 20_000);
+        MatchScoringEngine.Candidate candidate = engine.candidate(List.of("Java"), 0, List.of(), 30_000);
+
+        // skill 50, experience 100, location 100: (25 + 25 + 15) / 0.9
+        assertThat(engine.score(candidate, withoutSalary).overall()).isEqualTo(72);
+        // plus salary 50 at 0.1: (65 + 5) / 1.0
+        assertThat(engine.score(candidate, withSalary).overall()).isEqualTo(70);
+    }
+
+    private MatchScoringEngine.Candidate candidate(List<String> skills, int years) {
+        return engine.candidate(skills, years, List.of(), null);
+    }
+
+    private int experienceMatch(int years, ExperienceLevel required) {
+        MatchScoringEngine.JobVector job = engine.vectorize(List.of(), List.of(), required, null, true, null, null);
+        return engine.score(candidate(List.of(), years), job).experienceMatch();
+    }
+
+    private int locationMatch(List<String> locations, String jobLocation, boolean remote) {
+        MatchScoringEngine.JobVector job = engine.vectorize(List.of(), List.of(), ExperienceLevel.ENTRY,
+                jobLocation, remote, null, null);
+        return engine.score(engine.candidate(List.of(), 0, locations, null), job).locationMatch();
+    }
+
+    private Integer salaryMatch(Integer expected, Integer salaryMin, Integer salaryMax) {
+        MatchScoringEngine.JobVector job = engine.vectorize(List.of(), List.of(), ExperienceLevel.ENTRY,
+                null, true, salaryMin, salaryMax);
+        return engine.score(engine.candidate(List.of(), 0, List.of(), expected), job).salaryMatch();
+    }
+
+    /**
+     * JobRepository that only serves the vocabulary corpus
+     */
+    private static JobRepository jobRepository(List<String> skillLists) {
+        return (JobRepository) Proxy.newProxyInstance(
+                JobRepository.class.getClassLoader(),
+                new Class<?>[]{JobRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAllSkillLists")) {
+                        return skillLists;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
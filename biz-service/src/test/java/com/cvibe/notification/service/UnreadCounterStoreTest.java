@@ -0,0 +1,137 @@
+package com.cvibe.notification.service;
+
+import com.cvibe.notification.dto.UnreadCountDto;
+import com.cvibe.notification.entity.NotificationPriority;
+import com.cvibe.notification.repository.NotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class UnreadCounterStoreTest {
+
+    private static final UUID USER = UUID.fromString("8d4f2b6a-1c3e-4a5b-9d7f-0e1a2b3c4d5e");
+    private static final String KEY = "notification:unread:" + USER;
+
+    private NotificationRepository notificationRepository;
+    private StringRedisTemplate redisTemplate;
+    private HashOperations<String, Object, Object> hashOperations;
+    private UnreadCounterStore store;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        notificationRepository = mock(NotificationRepository.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        hashOperations = mock(HashOperations.class);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        store = new UnreadCounterStore(notificationRepository, redisTemplate, true, 3600, 100);
+    }
+
+    @Test
+    void incrementsTotalPriorityAndCategoryOfTheLoadedHash() {
+        store.adjust(USER, "system", NotificationPriority.HIGH, -1);
+
+        verify(redisTemplate).execute(script("HINCRBY"), eq(List.of(KEY)),
+                eq("total"), eq("-1"), eq("high"), eq("-1"), eq("c:system"), eq("-1"));
+    }
+
+    @Test
+    void leavesHighUntouchedForOtherPriorities() {
+        store.adjust(USER, null, NotificationPriority.NORMAL, 1);
+
+        verify(redisTemplate).execute(script("HINCRBY"), eq(List.of(KEY)), eq("total"), eq("1"));
+    }
+
+    @Test
+    void skipsZeroDeltas() {
+        store.adjust(USER, "system", NotificationPriority.HIGH, 0);
+        store.adjustAll(List.of(USER), "system", NotificationPriority.HIGH, 0);
+
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void loadsAMissingHashFromTheAggregateAndStoresItWithTheTtl() {
+        when(hashOperations.entries(KEY)).thenReturn(Map.of());
+        when(notificationRepository.countUnreadGrouped(List.of(USER))).thenReturn(List.of(
+                new Object[]{USER, "system", NotificationPriority.HIGH, 2L},
+                new Object[]{USER, "system", NotificationPriority.NORMAL, 3L},
+                new Object[]{USER, null, NotificationPriority.LOW, 1L}));
+
+        UnreadCountDto counts = store.get(USER);
+
+        assertThat(counts.getTotal()).isEqualTo(6);
+        assertThat(counts.getHighPriority()).isEqualTo(2);
+        assertThat(counts.getByCategory()).containsExactlyEntriesOf(Map.of("system", 5));
+        verify(redisTemplate).execute(script("HSET"), eq(List.of(KEY)),
+                eq("3600"), eq("total"), eq("6"), eq("high"), eq("2"), eq("c:system"), eq("5"));
+    }
+
+    @Test
+    void readsLoadedHashWithoutNegativeOrEmptyCounts() {
+        when(hashOperations.entries(KEY)).thenReturn(Map.<Object, Object>of(
+                "total", "-1",
+                "high", "2",
+                "c:system", "0",
+                "c:social", "4"));
+
+        UnreadCountDto counts = store.get(USER);
+
+        assertThat(counts.getTotal()).isZero();
+        assertThat(counts.getHighPriority()).isEqualTo(2);
+        assertThat(counts.getByCategory()).containsExactlyEntriesOf(Map.of("social", 4));
+        verify(notificationRepository, never()).countUnreadGrouped(anyList());
+    }
+
+    @Test
+    void fallsBackToTheDatabaseWhenRedisFails() {
+        when(hashOperations.entries(KEY)).thenThrow(new RedisConnectionFailureException("down"));
+        when(notificationRepository.countUnreadGrouped(List.of(USER))).thenReturn(List.<Object[]>of(
+                new Object[]{USER, "system", NotificationPriority.NORMAL, 1L}));
+
+        assertThat(store.get(USER).getTotal()).isEqualTo(1);
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    void resetReplacesTheHashWithZeros() {
+        store.reset(USER);
+
+        verify(redisTemplate).execute(script("DEL"), eq(List.of(KEY)),
+                eq("3600"), eq("total"), eq("0"), eq("high"), eq("0"));
+    }
+
+    @Test
+    void usesOnlyTheDatabaseWhenRedisIsDisabled() {
+        UnreadCounterStore local = new UnreadCounterStore(notificationRepository, redisTemplate, false, 3600, 100);
+        when(notificationRepository.countUnreadGrouped(List.of(USER))).thenReturn(List.of());
+
+        assertThat(local.get(USER).getTotal()).isZero();
+        local.adjust(USER, "system", NotificationPriority.HIGH, 1);
+        local.reset(USER);
+
+        verifyNoInteractions(redisTemplate);
+    }
+
+    private static RedisScript<Long> script(String command) {
+        return argThat(script -> script != null && script.getScriptAsString().contains(command));
+    }
+}
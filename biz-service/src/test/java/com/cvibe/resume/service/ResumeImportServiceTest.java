@@ -0,0 +1,92 @@
+package com.cvibe.resume.service;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 压缩包条目文件名的解码（{@link ResumeImportService#entryName}），覆盖各种压缩工具写出的文件名
+ */
+class ResumeImportServiceTest {
+
+    private static final String NAME = "简历/张三-后端工程师.pdf";
+
+    @Test
+    void decodesUtf8NamesFlaggedAsUtf8() throws IOException {
+        ZipArchiveEntry entry = roundTrip(NAME, "UTF-8", true, ZipArchiveOutputStream.UnicodeExtraFieldPolicy.NEVER);
+
+        assertThat(entry.getGeneralPurposeBit().usesUTF8ForNames()).isTrue();
+        assertThat(ResumeImportService.entryName(entry)).isEqualTo(NAME);
+    }
+
+    @Test
+    void decodesUnflaggedUtf8Names() throws IOException {
+        ZipArchiveEntry entry = roundTrip(NAME, "UTF-8", false, ZipArchiveOutputStream.UnicodeExtraFieldPolicy.NEVER);
+
+        assertThat(entry.getGeneralPurposeBit().usesUTF8ForNames()).isFalse();
+        assertThat(ResumeImportService.entryName(entry)).isEqualTo(NAME);
+    }
+
+    @Test
+    void fallsBackToGbkForNamesThatAreNotUtf8() throws IOException {
+        // Windows 中文系统自带的压缩工具按 GBK 写文件名，且不设置 UTF-8 标志位
+        ZipArchiveEntry entry = roundTrip(NAME, "GBK", false, ZipArchiveOutputStream.UnicodeExtraFieldPolicy.NEVER);
+
+        assertThat(ResumeImportService.entryName(entry)).isEqualTo(NAME);
+    }
+
+    @Test
+    void prefersTheUnicodeExtraField() throws IOException {
+        ZipArchiveEntry entry = roundTrip(NAME, "GBK", false, ZipArchiveOutputStream.UnicodeExtraFieldPolicy.ALWAYS);
+
+        assertThat(entry.getNameSource()).isEqualTo(ZipArchiveEntry.NameSource.UNICODE_EXTRA_FIELD);
+        assertThat(ResumeImportService.entryName(entry)).isEqualTo(NAME);
+    }
+
+    @Test
+    void keepsAsciiNames() throws IOException {
+        ZipArchiveEntry entry = roundTrip("resumes/john-doe.docx", "GBK", false,
+                ZipArchiveOutputStream.UnicodeExtraFieldPolicy.NEVER);
+
+        assertThat(ResumeImportService.entryName(entry)).isEqualTo("resumes/john-doe.docx");
+    }
+
+    @Test
+    void returnsNullForNamesInNeitherEncoding() throws IOException {
+        // 0xFF 既不是合法的 UTF-8 字节，也不是 GBK 的首字节
+        ZipArchiveEntry entry = roundTrip("\u00ff\u00ff.pdf", "ISO-8859-1", false,
+                ZipArchiveOutputStream.UnicodeExtraFieldPolicy.NEVER);
+
+        assertThat(entry.getRawName()).startsWith((byte) 0xff, (byte) 0xff);
+        assertThat(ResumeImportService.entryName(entry)).isNull();
+    }
+
+    /**
+     * 按给定编码写出只含一个条目的压缩包，再按导入服务的方式读回该条目
+     */
+    private static ZipArchiveEntry roundTrip(String name, String encoding, boolean utf8Flag,
+                                             ZipArchiveOutputStream.UnicodeExtraFieldPolicy unicodeExtraFields)
+            throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipArchiveOutputStream zip = new ZipArchiveOutputStream(bytes)) {
+            zip.setEncoding(encoding);
+            zip.setUseLanguageEncodingFlag(utf8Flag);
+            zip.setCreateUnicodeExtraFields(unicodeExtraFields);
+            zip.putArchiveEntry(new ZipArchiveEntry(name));
+            zip.write("%PDF-1.4".getBytes(StandardCharsets.US_ASCII));
+            zip.closeArchiveEntry();
+        }
+        try (ZipArchiveInputStream zip = new ZipArchiveInputStream(
+                new ByteArrayInputStream(bytes.toByteArray()), StandardCharsets.UTF_8.name(), true, true)) {
+            return zip.getNextZipEntry();
+        }
+    }
+}